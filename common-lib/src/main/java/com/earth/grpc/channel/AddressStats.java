@@ -0,0 +1,116 @@
+package com.earth.grpc.channel;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 服务实例地址的运行时统计
+ * <p>
+ * 由该地址下全部 channel 共享，负载均衡时读取
+ * <p>
+ * 除了本地统计的进行中调用数，还记录服务端在响应 trailer 中上报的负载（CPU、进行中调用数、队列长度），
+ * 据此计算动态权重：权重 = 1 / (CPU 使用率 + 队列惩罚)，以 EWMA 平滑，热点实例的权重在几秒内下降
+ */
+public class AddressStats {
+
+    /**
+     * 同一地址两次负载报告的最小处理间隔，避免每个响应都解析
+     */
+    private static final long MIN_REPORT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * 负载报告过期时间，超过后权重恢复为默认值
+     */
+    private static final long REPORT_EXPIRE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * 最低 CPU 使用率，避免空闲实例权重无限大
+     */
+    private static final double MIN_UTILIZATION = 0.05D;
+
+    /**
+     * 每个排队请求折算的 CPU 使用率
+     */
+    private static final double QUEUE_PENALTY = 0.01D;
+
+    /**
+     * EWMA 平滑系数，报告间隔 100ms 时约 1 秒收敛 90%
+     */
+    private static final double EWMA_ALPHA = 0.2D;
+
+    /**
+     * 没有负载报告时的默认权重，相当于 50% CPU 使用率
+     */
+    private static final double DEFAULT_WEIGHT = 2D;
+
+    /**
+     * 正在进行中的调用数
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double weight = DEFAULT_WEIGHT;
+
+    private volatile long lastReportNanos;
+
+    private volatile double cpuUtilization;
+
+    private volatile int serverInFlight;
+
+    private volatile int serverQueueLength;
+
+    void callStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void callClosed() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 距离上次处理负载报告是否已经超过最小间隔
+     */
+    boolean acceptReport(long nowNanos) {
+        return lastReportNanos == 0L || nowNanos - lastReportNanos >= MIN_REPORT_INTERVAL_NANOS;
+    }
+
+    /**
+     * 处理一次服务端负载报告，多个线程并发更新时允许丢失其中一次
+     */
+    void onLoadReport(double cpu, int serverInFlight, int serverQueueLength, long nowNanos) {
+        double utilization = Math.max(cpu, MIN_UTILIZATION) + serverQueueLength * QUEUE_PENALTY;
+        double target = 1D / utilization;
+        boolean fresh = lastReportNanos != 0L && nowNanos - lastReportNanos < REPORT_EXPIRE_NANOS;
+        this.weight = fresh ? weight + EWMA_ALPHA * (target - weight) : target;
+        this.cpuUtilization = cpu;
+        this.serverInFlight = serverInFlight;
+        this.serverQueueLength = serverQueueLength;
+        this.lastReportNanos = nowNanos;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 当前权重，负载报告过期后返回默认权重
+     */
+    public double getWeight() {
+        long last = lastReportNanos;
+        if (last == 0L || System.nanoTime() - last >= REPORT_EXPIRE_NANOS) {
+            return DEFAULT_WEIGHT;
+        }
+        return weight;
+    }
+
+    public double getCpuUtilization() {
+        return cpuUtilization;
+    }
+
+    public int getServerInFlight() {
+        return serverInFlight;
+    }
+
+    public int getServerQueueLength() {
+        return serverQueueLength;
+    }
+}
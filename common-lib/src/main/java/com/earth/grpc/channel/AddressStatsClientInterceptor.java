@@ -0,0 +1,96 @@
+package com.earth.grpc.channel;
+
+import io.grpc.*;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 地址统计拦截器
+ * <p>
+ * 创建池化 channel 时为每个地址挂载一个：调用发起时进行中调用数 +1，调用结束时 -1，
+ * 并读取服务端 trailer 中的负载报告 endpoint-load-metrics，更新地址权重
+ */
+@Slf4j
+class AddressStatsClientInterceptor implements ClientInterceptor {
+
+    static final Metadata.Key<String> LOAD_METRICS_KEY = Metadata.Key.of("endpoint-load-metrics", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String TEXT_PREFIX = "TEXT ";
+
+    private final AddressStats stats;
+
+    AddressStatsClientInterceptor(AddressStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                stats.callStarted();
+                boolean started = false;
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            stats.callClosed();
+                            onTrailers(trailers);
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                    started = true;
+                } finally {
+                    if (!started) {
+                        stats.callClosed();
+                    }
+                }
+            }
+        };
+    }
+
+    private void onTrailers(Metadata trailers) {
+        long now = System.nanoTime();
+        if (trailers == null || !stats.acceptReport(now)) {
+            return;
+        }
+        String report = trailers.get(LOAD_METRICS_KEY);
+        if (report == null || !report.startsWith(TEXT_PREFIX)) {
+            return;
+        }
+        try {
+            double cpu = 0D;
+            int inFlight = 0;
+            int queueLength = 0;
+            int start = TEXT_PREFIX.length();
+            while (start < report.length()) {
+                int end = report.indexOf(',', start);
+                if (end < 0) {
+                    end = report.length();
+                }
+                int eq = report.indexOf('=', start);
+                if (eq > start && eq < end) {
+                    String name = report.substring(start, eq).trim();
+                    String value = report.substring(eq + 1, end).trim();
+                    switch (name) {
+                        case "cpu_utilization":
+                            cpu = Double.parseDouble(value);
+                            break;
+                        case "named_metrics.in_flight":
+                            inFlight = Integer.parseInt(value);
+                            break;
+                        case "named_metrics.queue_length":
+                            queueLength = Integer.parseInt(value);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                start = end + 1;
+            }
+            stats.onLoadReport(cpu, inFlight, queueLength, now);
+        } catch (NumberFormatException e) {
+            log.debug("[GRPC] invalid load report: {}", report);
+        }
+    }
+}
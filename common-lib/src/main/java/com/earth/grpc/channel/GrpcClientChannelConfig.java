@@ -2,10 +2,43 @@ package com.earth.grpc.channel;
 
 import lombok.Data;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Data
 public class GrpcClientChannelConfig {
 
 
     // 是否启动 channel 健康检查 默认 true
     private boolean enableHealthCheck = Boolean.TRUE;
+
+    // 实例下线后，进行中的调用最多等待多少秒，超时强制关闭 channel 默认 30 秒，与服务端 shutdown-grace-period 保持一致
+    private int drainGracePeriodSeconds = 30;
+
+    // 本机所在可用区，与注册中心实例元数据 zone 比较，为空时不区分可用区
+    private String localZone;
+
+    // 单个地址进行中的调用数达到该值视为饱和，本区实例饱和后溢出到其他可用区，0 表示不做饱和判断
+    private int zoneSpilloverInFlight = 200;
+
+    // 跨可用区流量占比的统计日志间隔（秒），配置了本机可用区时输出，0 表示不输出
+    private int zoneTrafficLogIntervalSeconds = 60;
+
+    // 打了 tag 的实例（灰度实例）是否只接收带对应 tag 的请求，默认 true；false 时不带 tag 的请求也可能路由到灰度实例
+    // 全部实例都打了 tag 时不做隔离
+    private boolean tagIsolation = Boolean.TRUE;
+
+    // 远程服务，key=应用名称。启用注册中心时实例取自 nacos 推送，否则直接连接 host:port（如 k8s svc）
+    private Map<String, Shortcut> shortcuts = new LinkedHashMap<>();
+
+    @Data
+    public static class Shortcut {
+
+        private String host;
+
+        private int port;
+
+        // 是否从注册中心获取实例
+        private boolean discoveryEnabled = Boolean.TRUE;
+    }
 }
@@ -1,5 +1,7 @@
 package com.earth.grpc.channel;
 
+import com.earth.grpc.context.GrpcHeader;
+import com.earth.grpc.context.GrpcHeaderContext;
 import io.grpc.ClientInterceptor;
 import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
@@ -16,6 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,6 +36,21 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
      */
     private static final int WAIT_TIME_IN_SEC_TO_KILL_CHANNEL = 2;
 
+    /**
+     * 实例元数据中 grpc 端口的 key
+     */
+    private static final String METADATA_GRPC_PORT = "gRPC.port";
+
+    /**
+     * 实例元数据中版本标签的 key，与 GrpcHeader.tag 对应
+     */
+    private static final String METADATA_TAG = "tag";
+
+    /**
+     * 实例元数据中可用区的 key
+     */
+    private static final String METADATA_ZONE = "zone";
+
 
     private LoadBalancerClient loadBalancerClient;
 
@@ -64,6 +82,18 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
      */
     private static final Map<String, Map<Address, List<ManagedChannel>>> POOLED_CHANNEL_MAP = new ConcurrentHashMap<>();
 
+    /**
+     * 路由表，key=应用名称 val=该应用全部实例及 tag 索引
+     * <p>
+     * 注册中心实例变更时整体重建替换，请求路径上只读
+     */
+    private static final Map<String, ServiceRouteTable> ROUTE_TABLE_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * 可用区流量统计，key=应用名称 val=[本区选择次数, 跨区选择次数]，每个日志周期输出后清零
+     */
+    private static final Map<String, LongAdder[]> ZONE_TRAFFIC_MAP = new ConcurrentHashMap<>();
+
     /**
      * 每个 address 最大的缓存 channel 对象
      */
@@ -81,6 +111,18 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
 
     public GrpcClientPoolImpl(ScheduledExecutorService destroyChannelScheduler) {this.destroyChannelScheduler = destroyChannelScheduler;}
 
+    public GrpcClientPoolImpl(ScheduledExecutorService destroyChannelScheduler,
+                              LoadBalancerClient loadBalancerClient,
+                              GrpcClientChannelConfig grpcClientChannelConfig) {
+        this.destroyChannelScheduler = destroyChannelScheduler;
+        this.loadBalancerClient = loadBalancerClient;
+        this.grpcClientChannelConfig = grpcClientChannelConfig;
+        int interval = grpcClientChannelConfig.getZoneTrafficLogIntervalSeconds();
+        if (!ObjectUtils.isEmpty(grpcClientChannelConfig.getLocalZone()) && interval > 0) {
+            destroyChannelScheduler.scheduleWithFixedDelay(this::logZoneTraffic, interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
     @Override
     public ManagedChannel borrowChannel(String host, int port) {
 
@@ -127,7 +169,14 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
 
     @Override
     public void setShortcut(String applicationName, String host, int port, boolean discoverEnabled) {
-
+        staticServerNameMap.put(applicationName, new Address.AddressBuilder()
+                .channelName(applicationName)
+                .host(host)
+                .port(port)
+                .discoveryEnabled(discoverEnabled)
+                .enableHealthCheck(this.grpcClientChannelConfig.isEnableHealthCheck())
+                .status(Address.AddressStatusEnum.Health)
+                .build());
     }
 
     @Override
@@ -142,27 +191,104 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
 
     @Override
     public Address addressOf(String shortcut) {
-        return null;
+        return staticServerNameMap.get(shortcut);
     }
 
     @Override
     public void clearPooledObject(String shortcut) {
-
+        ROUTE_TABLE_MAP.remove(shortcut);
+        Map<Address, List<ManagedChannel>> addressMap = POOLED_CHANNEL_MAP.remove(shortcut);
+        if (ObjectUtils.isEmpty(addressMap)) {
+            return;
+        }
+        addressMap.forEach((address, channels) -> {
+            address.setStatus(Address.AddressStatusEnum.NotAvailable);
+            shutdownNow(channels);
+        });
+        log.info("[GRPC] pooled channels cleared, service: {}, addresses: {}", shortcut, addressMap.keySet());
     }
 
     @Override
     public void clearPooledObject(Address address) {
-
+        List<ManagedChannel> channels = removePool(address);
+        if (channels != null) {
+            shutdownNow(channels);
+            log.info("[GRPC] pooled channels cleared, address: {}", address);
+        }
     }
 
+    /**
+     * 优雅下线实例的连接池
+     * <p>
+     * 1、地址立即标记不可用并移出池，新的请求不会再选到该地址，也不会为它补充新连接
+     * 2、等待 WAIT_TIME_IN_SEC_TO_KILL_CHANNEL 秒，让已经借出 channel 但尚未发起调用的请求完成发起
+     * 3、对全部 channel 执行 shutdown，进行中的调用继续执行直到完成，新调用被拒绝
+     * 4、超过宽限期仍未结束的调用 shutdownNow 强制终止
+     * <p>
+     * 全程在调度线程中异步执行，不阻塞注册中心通知线程
+     */
     @Override
     public void delayClearPooledObject(Address address) {
+        List<ManagedChannel> channels = removePool(address);
+        if (channels == null) {
+            return;
+        }
+        long deadline = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(WAIT_TIME_IN_SEC_TO_KILL_CHANNEL + this.grpcClientChannelConfig.getDrainGracePeriodSeconds());
+        log.info("[GRPC] draining pooled channels, address: {}, channels: {}", address, channels.size());
+        destroyChannelScheduler.schedule(new DrainPoolTask(address, channels, deadline),
+                WAIT_TIME_IN_SEC_TO_KILL_CHANNEL,
+                TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void refreshInstances(String serverName, List<ServiceInstance> instances) {
+        ServiceRouteTable oldTable = ROUTE_TABLE_MAP.getOrDefault(serverName, ServiceRouteTable.EMPTY);
+        // 仍在线的实例沿用原 Address 对象，保留其健康状态和 AddressStats，也保证与池中的 key 是同一个对象：
+        // 池中 channel 的统计拦截器、下线排空任务都挂在原对象上，换成新对象后负载均衡读到的统计不再更新
+        Map<Address, Address> oldAddressMap = new HashMap<>();
+        for (Address address : oldTable.addresses()) {
+            oldAddressMap.put(address, address);
+        }
 
+        List<Address> addresses = new ArrayList<>(instances == null ? 0 : instances.size());
+        if (instances != null) {
+            for (ServiceInstance instance : instances) {
+                Address address = toAddress(serverName, instance);
+                if (address == null) {
+                    continue;
+                }
+                Address oldAddress = oldAddressMap.remove(address);
+                if (oldAddress != null) {
+                    // 元数据变化时原地更新，路由表随后按新值重建
+                    oldAddress.setTag(address.getTag());
+                    oldAddress.setZone(address.getZone());
+                    addresses.add(oldAddress);
+                } else {
+                    address.setStatus(Address.AddressStatusEnum.Health);
+                    addresses.add(address);
+                }
+            }
+        }
+        ROUTE_TABLE_MAP.put(serverName, ServiceRouteTable.build(addresses,
+                this.grpcClientChannelConfig.getLocalZone(),
+                this.grpcClientChannelConfig.getZoneSpilloverInFlight(),
+                this.grpcClientChannelConfig.isTagIsolation()));
+        log.info("[GRPC] route table refreshed, service: {}, instances: {}, removed: {}", serverName, addresses.size(), oldAddressMap.size());
+
+        // 新上线的实例提前建好连接池，请求路径上不再创建连接
+        for (Address address : addresses) {
+            createPoolChannel(address);
+        }
+        // 已下线的实例，连接池延迟回收
+        for (Address removed : oldAddressMap.keySet()) {
+            delayClearPooledObject(removed);
+        }
     }
 
     @Override
     public Set<String> shortcuts() {
-        return Set.of();
+        return Collections.unmodifiableSet(staticServerNameMap.keySet());
     }
 
     @Override
@@ -323,6 +449,7 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
                             log.error("[GRPC] pooledChannelMap createPoolChannel error", e);
                         }
                     }
+                    POOLED_CHANNEL_MAP.get(address.getChannelName()).put(address, managedChannels);
                 }
             }
 
@@ -331,31 +458,66 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
     }
 
     private Address getLBAddress(String serverName) {
+        // 灰度路由：请求头带有 tag 时，从预先建立的 tag 索引中选择对应版本的实例
+        GrpcHeader grpcHeader = GrpcHeaderContext.getHeader();
+        if (!ObjectUtils.isEmpty(grpcHeader) && !ObjectUtils.isEmpty(grpcHeader.getTag())) {
+            ServiceRouteTable routeTable = ROUTE_TABLE_MAP.get(serverName);
+            Address tagAddress = routeTable == null ? null : routeTable.choose(grpcHeader.getTag());
+            if (tagAddress != null) {
+                return tagAddress;
+            }
+            // 没有该版本的实例，走默认路由
+            log.debug("[GRPC] no instance for tag {}, fallback to default route, service: {}", grpcHeader.getTag(), serverName);
+        }
+
+        // 已订阅注册中心推送的服务，直接从本地路由表选择，请求路径上不访问注册中心
+        ServiceRouteTable routeTable = ROUTE_TABLE_MAP.get(serverName);
+        if (routeTable != null && !routeTable.isEmpty()) {
+            Address address = routeTable.choose();
+            if (address != null) {
+                LongAdder[] zoneTraffic = ZONE_TRAFFIC_MAP.computeIfAbsent(serverName, k -> new LongAdder[]{new LongAdder(), new LongAdder()});
+                zoneTraffic[routeTable.isRemote(address) ? 1 : 0].increment();
+                return address;
+            }
+            // 路由表中的实例都不可用，退回注册中心负载均衡
+            log.debug("[GRPC] no available instance in route table, fallback to load balancer, service: {}", serverName);
+        }
+
         // 如果使用注册中心， 通过 loadBalancerClient 从注册中心获取 ServiceInstance 信息 choose 方法可自定义路由灰度逻辑
         ServiceInstance serviceInstance = loadBalancerClient.choose(serverName);
         if (ObjectUtils.isEmpty(serviceInstance)) {
             log.warn("[GRPC] service instance not found, service: {}", serverName);
             return null;
         }
+        return toAddress(serverName, serviceInstance);
+    }
+
+    /**
+     * 注册中心实例转换为 Address
+     */
+    private Address toAddress(String serverName, ServiceInstance serviceInstance) {
         // 获取服务元数据信息，并检查是否存在 gRPC.port 参数
         Map<String, String> metadata = serviceInstance.getMetadata();
-        if (ObjectUtils.isEmpty(metadata.get("gRPC.port"))) {
+        if (ObjectUtils.isEmpty(metadata.get(METADATA_GRPC_PORT))) {
             log.error("[GRPC] gRPC.port metadata not set, service: {}", serverName);
             return null;
         }
 
         // 根据元数据获取grpc端口
-        int port = Integer.parseInt(metadata.get("gRPC.port"));
+        int port = Integer.parseInt(metadata.get(METADATA_GRPC_PORT));
 
         // 构建 Address
         return new Address.AddressBuilder()
                 .channelName(serverName)
                 .host(serviceInstance.getHost())
                 .port(port)
+                .tag(metadata.get(METADATA_TAG))
+                .zone(metadata.get(METADATA_ZONE))
                 .discoveryEnabled(Boolean.TRUE)
                 .enableHealthCheck(this.grpcClientChannelConfig.isEnableHealthCheck())
                 .build();
     }
+
     /**
      * 创建 channel 链接
      * <p>
@@ -364,9 +526,107 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
     private ManagedChannel createChannel(Address address, List<ClientInterceptor> interceptors) {
 
         ManagedChannelBuilder<?> channel = GrpcClientProvider.createChannel(address.getHost(), address.getPort(), interceptors, 10);
+        // 统计该地址进行中的调用数并读取服务端负载报告，供负载均衡计算权重、判断饱和
+        channel.intercept(new AddressStatsClientInterceptor(address.getStats()));
         return channel.build();
     }
 
+    /**
+     * 输出各服务上一个统计周期内本区、跨区的选择次数和跨区占比，统计的是本地路由表的选择次数
+     */
+    private void logZoneTraffic() {
+        ZONE_TRAFFIC_MAP.forEach((serverName, zoneTraffic) -> {
+            long local = zoneTraffic[0].sumThenReset();
+            long remote = zoneTraffic[1].sumThenReset();
+            if (local + remote > 0) {
+                log.info("[GRPC] zone traffic, service: {}, local: {}, remote: {}, cross-zone ratio: {}",
+                        serverName, local, remote, String.format("%.4f", (double) remote / (local + remote)));
+            }
+        });
+    }
+
+    /**
+     * 将地址移出连接池并标记不可用，返回其下的 channel
+     */
+    private List<ManagedChannel> removePool(Address address) {
+        if (ObjectUtils.isEmpty(address)) {
+            return null;
+        }
+        address.setStatus(Address.AddressStatusEnum.NotAvailable);
+        Map<Address, List<ManagedChannel>> addressMap = POOLED_CHANNEL_MAP.get(address.getChannelName());
+        if (ObjectUtils.isEmpty(addressMap)) {
+            return null;
+        }
+        // map 中的 key 可能与传入的不是同一个对象，一并标记
+        for (Address pooledAddress : addressMap.keySet()) {
+            if (pooledAddress.equals(address)) {
+                pooledAddress.setStatus(Address.AddressStatusEnum.NotAvailable);
+            }
+        }
+        return addressMap.remove(address);
+    }
+
+    private static void shutdownNow(List<ManagedChannel> channels) {
+        for (ManagedChannel channel : channels) {
+            if (channel != null && !channel.isTerminated()) {
+                channel.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 下线地址的连接池排空任务
+     * <p>
+     * 首次执行时对全部 channel 发起 shutdown，之后每秒检查一次，全部终止或超过截止时间后结束；
+     * 不调用 awaitTermination，避免长时间占用调度线程
+     */
+    class DrainPoolTask implements Runnable {
+
+        private final Address address;
+        private final List<ManagedChannel> channels;
+        private final long deadlineNanos;
+        private boolean shutdownIssued;
+
+        DrainPoolTask(Address address, List<ManagedChannel> channels, long deadlineNanos) {
+            this.address = address;
+            this.channels = channels;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!shutdownIssued) {
+                    for (ManagedChannel channel : channels) {
+                        if (channel != null) {
+                            channel.shutdown();
+                        }
+                    }
+                    shutdownIssued = true;
+                }
+                int alive = 0;
+                for (ManagedChannel channel : channels) {
+                    if (channel != null && !channel.isTerminated()) {
+                        alive++;
+                    }
+                }
+                if (alive == 0) {
+                    log.info("[GRPC] pooled channels drained, address: {}", address);
+                    return;
+                }
+                if (System.nanoTime() - deadlineNanos >= 0) {
+                    log.warn("[GRPC] drain grace period exceeded, force shutdown {} channels, address: {}", alive, address);
+                    shutdownNow(channels);
+                    return;
+                }
+                destroyChannelScheduler.schedule(this, 1, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.error("[GRPC] drain pooled channels error, address: {}", address, e);
+                shutdownNow(channels);
+            }
+        }
+    }
+
     /**
      * 销毁掉有问题的 channel 通道
      * <p>
@@ -405,7 +665,9 @@ public class GrpcClientPoolImpl implements IGrpcClientPool{
 
             try {
                 // 创建新 channel  从池中替换 ，注意要替换 而不是 先 remove 再 add
-                if (!ObjectUtils.isEmpty(POOLED_CHANNEL_MAP.get(address.getChannelName()).get(address))) {
+                // 地址已被移出池（实例下线排空中）则不再补充新连接
+                Map<Address, List<ManagedChannel>> addressMap = POOLED_CHANNEL_MAP.get(address.getChannelName());
+                if (!ObjectUtils.isEmpty(addressMap) && !ObjectUtils.isEmpty(addressMap.get(address))) {
                     ManagedChannel managedChannel = POOLED_CHANNEL_MAP.get(address.getChannelName()).get(address).get(index);
                     if (!ObjectUtils.isEmpty(managedChannel)) {
                         if (managedChannel.isShutdown()) {
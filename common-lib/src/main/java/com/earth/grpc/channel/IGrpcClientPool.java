@@ -5,8 +5,10 @@ import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import lombok.*;
+import org.springframework.cloud.client.ServiceInstance;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -121,6 +123,14 @@ public interface IGrpcClientPool {
      */
     void delayClearPooledObject(Address address);
 
+    /**
+     * 注册中心实例变更通知，按最新实例列表重建该服务的路由表
+     *
+     * @param serverName 远程调用服务应用名称
+     * @param instances  注册中心返回的全部实例
+     */
+    void refreshInstances(String serverName, List<ServiceInstance> instances);
+
     /**
      * 返回当前pool中已经支持的shortcut列表
      */
@@ -132,10 +142,17 @@ public interface IGrpcClientPool {
     void shutdown();
 
 
+    interface ClientConfigCallback {
+
+        void customClientConfig(ManagedChannelBuilder<?> builder);
+
+    }
+
+
     @Builder
     @EqualsAndHashCode(of = {"channelName", "host", "port"})
     @Getter
-    @ToString
+    @ToString(exclude = "stats")
     class Address {
 
         /**
@@ -161,7 +178,27 @@ public interface IGrpcClientPool {
          */
         int port;
 
+        /**
+         * 实例版本标签，取自注册中心实例元数据 tag
+         * <p>
+         * 请求头 GrpcHeader.tag 与之相同时，路由到该实例。注册中心推送元数据变化时原地更新
+         */
+        @Setter
+        String tag;
+
+        /**
+         * 实例所在可用区，取自注册中心实例元数据 zone
+         * <p>
+         * 与本机可用区相同的实例优先被选择。注册中心推送元数据变化时原地更新
+         */
+        @Setter
+        String zone;
 
+        /**
+         * 运行时统计，同一地址下全部 channel 共享
+         */
+        @Builder.Default
+        AddressStats stats = new AddressStats();
 
         /**
          * 是否开启健康检查地址存活
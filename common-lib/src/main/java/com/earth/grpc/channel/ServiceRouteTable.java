@@ -0,0 +1,234 @@
+package com.earth.grpc.channel;
+
+import com.earth.grpc.channel.IGrpcClientPool.Address;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 服务路由表
+ * <p>
+ * 一个远程应用程序的全部实例地址，以及按实例 tag（版本）预先建立的索引 tag -> Address[]
+ * <p>
+ * 路由表不可变，注册中心实例变更时整体重建后替换引用（copy-on-write），请求路径上无锁，
+ * 灰度路由只需要一次 map 查找加一次数组随机下标，不再每次请求遍历全部实例
+ * <p>
+ * 配置了本机可用区时，实例按可用区拆分为本区、跨区两组，优先选择本区实例，
+ * 本区实例不可用或进行中调用数达到溢出阈值时才溢出到跨区实例
+ */
+final class ServiceRouteTable {
+
+    static final ServiceRouteTable EMPTY = new ServiceRouteTable(new Address[0], new Address[0], new Address[0], Collections.emptyMap(), null, 0);
+
+    private static final Address[] NO_ADDRESS = new Address[0];
+
+    /**
+     * 全部实例地址
+     */
+    private final Address[] addresses;
+
+    /**
+     * 本可用区实例地址（不带 tag 的请求使用），未配置本机可用区时即全部默认实例
+     */
+    private final Address[] localAddresses;
+
+    /**
+     * 其他可用区实例地址
+     */
+    private final Address[] remoteAddresses;
+
+    /**
+     * key = tag, val = 打上该 tag 的实例地址
+     */
+    private final Map<String, Address[]> tagIndex;
+
+    /**
+     * 本机可用区
+     */
+    private final String localZone;
+
+    /**
+     * 单个地址进行中调用数达到该值视为饱和，0 表示不做饱和判断
+     */
+    private final int spilloverInFlight;
+
+    private ServiceRouteTable(Address[] addresses, Address[] localAddresses, Address[] remoteAddresses,
+                              Map<String, Address[]> tagIndex, String localZone, int spilloverInFlight) {
+        this.addresses = addresses;
+        this.localAddresses = localAddresses;
+        this.remoteAddresses = remoteAddresses;
+        this.tagIndex = tagIndex;
+        this.localZone = localZone;
+        this.spilloverInFlight = spilloverInFlight;
+    }
+
+    /**
+     * 根据实例地址重建路由表
+     * <p>
+     * 设置了 tag 的实例进入 tag 索引。tagIsolation 为 true 时，带 tag 的实例（灰度实例）不进入默认列表，
+     * 不带 tag 的请求不会落到灰度实例上；全部实例都带 tag 时没有可以隔离的默认实例，默认列表仍为全部实例
+     *
+     * @param localZone         本机可用区，为空时不区分可用区
+     * @param spilloverInFlight 单个地址饱和阈值
+     * @param tagIsolation      带 tag 的实例是否只接收带对应 tag 的请求
+     */
+    static ServiceRouteTable build(List<Address> addressList, String localZone, int spilloverInFlight, boolean tagIsolation) {
+        if (ObjectUtils.isEmpty(addressList)) {
+            return EMPTY;
+        }
+        Map<String, List<Address>> grouped = new HashMap<>();
+        boolean hasUntagged = false;
+        for (Address address : addressList) {
+            if (ObjectUtils.isEmpty(address.getTag())) {
+                hasUntagged = true;
+            } else {
+                grouped.computeIfAbsent(address.getTag(), k -> new ArrayList<>()).add(address);
+            }
+        }
+        boolean excludeTagged = tagIsolation && hasUntagged;
+        List<Address> local = new ArrayList<>();
+        List<Address> remote = new ArrayList<>();
+        for (Address address : addressList) {
+            if (excludeTagged && !ObjectUtils.isEmpty(address.getTag())) {
+                continue;
+            }
+            if (ObjectUtils.isEmpty(localZone) || localZone.equals(address.getZone())) {
+                local.add(address);
+            } else {
+                remote.add(address);
+            }
+        }
+        Map<String, Address[]> tagIndex = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((tag, list) -> tagIndex.put(tag, list.toArray(NO_ADDRESS)));
+        return new ServiceRouteTable(addressList.toArray(NO_ADDRESS), local.toArray(NO_ADDRESS), remote.toArray(NO_ADDRESS),
+                tagIndex, localZone, spilloverInFlight);
+    }
+
+    /**
+     * 从打上指定 tag 的可用实例中随机选择一个，没有该 tag 的可用实例时返回 null
+     * <p>
+     * 从随机下标开始依次查找第一个可用实例，全部可用时只看一个
+     */
+    Address choose(String tag) {
+        Address[] candidates = tagIndex.get(tag);
+        if (candidates == null || candidates.length == 0) {
+            return null;
+        }
+        int start = ThreadLocalRandom.current().nextInt(candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            Address address = candidates[(start + i) % candidates.length];
+            if (isAvailable(address)) {
+                return address;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 按可用区优先选择一个实例
+     * <p>
+     * 在本区随机取两个实例，选择可用且负载分数较低的一个（power of two choices）；
+     * 两个都不可用或都已饱和时，从随机下标开始依次查找本区第一个可用且未饱和的实例，本区都没有时以同样方式在跨区实例中选择；
+     * 跨区也没有合适实例时，退回已饱和但可用的本区、跨区实例。
+     * 都不可用时返回 null，由调用方退回注册中心负载均衡
+     */
+    Address choose() {
+        if (localAddresses.length == 0 && remoteAddresses.length == 0) {
+            return null;
+        }
+        Address local = pickLessLoaded(localAddresses);
+        if (local != null && isAcceptable(local)) {
+            return local;
+        }
+        local = find(localAddresses, true);
+        if (local != null) {
+            return local;
+        }
+        Address remote = pickLessLoaded(remoteAddresses);
+        if (remote != null && isAcceptable(remote)) {
+            return remote;
+        }
+        remote = find(remoteAddresses, true);
+        if (remote != null) {
+            return remote;
+        }
+        local = find(localAddresses, false);
+        return local != null ? local : find(remoteAddresses, false);
+    }
+
+    /**
+     * 该地址是否为跨区实例
+     */
+    boolean isRemote(Address address) {
+        return !ObjectUtils.isEmpty(localZone) && !localZone.equals(address.getZone());
+    }
+
+    Address[] addresses() {
+        return addresses;
+    }
+
+    boolean isEmpty() {
+        return addresses.length == 0;
+    }
+
+    private Address pickLessLoaded(Address[] candidates) {
+        if (candidates.length == 0) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Address first = candidates[random.nextInt(candidates.length)];
+        if (candidates.length == 1) {
+            return first;
+        }
+        Address second = candidates[random.nextInt(candidates.length)];
+        boolean firstAvailable = isAvailable(first);
+        boolean secondAvailable = isAvailable(second);
+        if (firstAvailable != secondAvailable) {
+            return firstAvailable ? first : second;
+        }
+        return score(first) <= score(second) ? first : second;
+    }
+
+    /**
+     * 从随机下标开始依次查找第一个合适的实例，随机两选都落空时才遍历
+     *
+     * @param acceptable true 时要求可用且未饱和，false 时只要求可用
+     */
+    private Address find(Address[] candidates, boolean acceptable) {
+        if (candidates.length == 0) {
+            return null;
+        }
+        int start = ThreadLocalRandom.current().nextInt(candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            Address address = candidates[(start + i) % candidates.length];
+            if (acceptable ? isAcceptable(address) : isAvailable(address)) {
+                return address;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 负载分数，越小越空闲：(本地进行中调用数 + 1) / 服务端负载报告计算出的权重
+     */
+    private static double score(Address address) {
+        AddressStats stats = address.getStats();
+        return (stats.getInFlight() + 1) / stats.getWeight();
+    }
+
+    private boolean isAcceptable(Address address) {
+        if (!isAvailable(address)) {
+            return false;
+        }
+        return spilloverInFlight <= 0 || address.getStats().getInFlight() < spilloverInFlight;
+    }
+
+    private static boolean isAvailable(Address address) {
+        return address.getStatus() != Address.AddressStatusEnum.NotAvailable;
+    }
+}
@@ -0,0 +1,58 @@
+package com.earth.grpc.discovery;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 服务实例表
+ * <p>
+ * 注册中心推送的某个服务的实例快照，不可变。每次推送内容发生变化时生成新版本整体替换（copy-on-write），
+ * 读方拿到的引用永远是一份完整一致的快照
+ */
+@Getter
+@ToString(of = {"serverName", "version", "instanceKeys"})
+final class InstanceTable {
+
+    /**
+     * 应用名称
+     */
+    private final String serverName;
+
+    /**
+     * 版本号，每次实例变化 +1
+     */
+    private final long version;
+
+    /**
+     * 健康且可用的实例
+     */
+    private final List<ServiceInstance> instances;
+
+    /**
+     * 实例标识 host:port + 元数据，用于判断两次推送内容是否一致
+     */
+    private final Set<String> instanceKeys;
+
+    InstanceTable(String serverName, long version, List<ServiceInstance> instances, Set<String> instanceKeys) {
+        this.serverName = serverName;
+        this.version = version;
+        this.instances = Collections.unmodifiableList(instances);
+        this.instanceKeys = Collections.unmodifiableSet(instanceKeys);
+    }
+
+    static InstanceTable empty(String serverName) {
+        return new InstanceTable(serverName, 0L, Collections.emptyList(), Collections.emptySet());
+    }
+
+    /**
+     * 推送的实例与当前版本是否一致
+     */
+    boolean sameInstances(Set<String> otherKeys) {
+        return instanceKeys.equals(otherKeys);
+    }
+}
@@ -1,40 +1,176 @@
 package com.earth.grpc.discovery;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.listener.Event;
+import com.alibaba.nacos.api.naming.listener.EventListener;
+import com.alibaba.nacos.api.naming.listener.NamingEvent;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.earth.grpc.channel.IGrpcClientPool;
 import io.grpc.ManagedChannel;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
 
-import java.util.Objects;
-
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 
+/**
+ * 基于 nacos 推送的服务发现
+ * <p>
+ * 订阅 nacos 实例变更事件，在本地维护带版本号的实例表（copy-on-write），实例变化时通知 pool 重建路由表，
+ * 并提前创建新实例的连接池、回收下线实例的连接池。请求路径上只读本地实例表，不访问注册中心
+ * <p>
+ * 应用启动时调用 {@link #subscribeAll()} 订阅全部启用注册中心的服务，关闭时调用 {@link #unsubscribeAll()}
+ * <p>
+ * NamingService 通过构造方法注入，可替换为内存实现
+ */
 @Slf4j
 public class NacosServiceDiscovery extends ServiceDiscoveryAst {
 
+    private final NamingService namingService;
 
+    private final String groupName;
 
-    @Override
-    public ManagedChannel borrowChannel(String host, int port) {
-        return null;
+    /**
+     * 本地实例表，key=应用名称
+     */
+    private final Map<String, InstanceTable> instanceTableMap = new ConcurrentHashMap<>();
+
+    /**
+     * 订阅监听器，key=应用名称，取消订阅时使用
+     */
+    private final Map<String, EventListener> listenerMap = new ConcurrentHashMap<>();
+
+    public NacosServiceDiscovery(IGrpcClientPool clientPool, NamingService namingService, String groupName) {
+        super(clientPool);
+        this.namingService = namingService;
+        this.groupName = groupName;
     }
 
+    /**
+     * 只读本地实例表，不订阅、不访问注册中心。服务在启动时订阅，实例表还没有加载时由 pool 退回 LoadBalancerClient 选择
+     */
     @Override
     public ManagedChannel borrowChannel(String serverName) {
-        Address address = STATIC_SERVER_NAME_MAP.get(serverName);
+        IGrpcClientPool.Address address = clientPool.addressOf(serverName);
         if (Objects.isNull(address)) {
             log.info("[GRPC] address not found, service:{}", serverName);
             return null;
         }
-        // 是否通过注册中心获取 channel 如果不是直接连接该地址 一般为 k8s svc
-        if (!address.isDiscoveryEnabled()) {
-            // 直接创建裸连接
-            return borrowChannel(address);
+        if (address.isDiscoveryEnabled() && !instanceTableMap.containsKey(serverName)) {
+            log.debug("[GRPC] instances not loaded, service: {}", serverName);
         }
-        return null;
+        return super.borrowChannel(serverName);
     }
 
-    @Override
-    public void acceptCustomClientConfig(String key, ClientConfigCallback configCallback) {
+    /**
+     * 订阅全部启用注册中心的 shortcut，应用启动时调用
+     */
+    public void subscribeAll() {
+        for (String serverName : clientPool.shortcuts()) {
+            IGrpcClientPool.Address address = clientPool.addressOf(serverName);
+            if (address != null && address.isDiscoveryEnabled()) {
+                subscribe(serverName);
+            }
+        }
+    }
+
+    /**
+     * 取消全部订阅，应用关闭时调用
+     */
+    public void unsubscribeAll() {
+        for (String serverName : new ArrayList<>(listenerMap.keySet())) {
+            unsubscribe(serverName);
+        }
+    }
+
+    /**
+     * 订阅服务实例变更
+     * <p>
+     * 订阅后主动拉取一次全量实例，保证订阅完成时本地实例表即可用
+     */
+    public synchronized void subscribe(String serverName) {
+        if (listenerMap.containsKey(serverName)) {
+            return;
+        }
+        EventListener listener = new EventListener() {
+            @Override
+            public void onEvent(Event event) {
+                if (event instanceof NamingEvent) {
+                    onInstancesChanged(serverName, this, ((NamingEvent) event).getInstances());
+                }
+            }
+        };
+        // 先登记监听器，订阅时 nacos 同步回调的推送才不会被当作过期推送丢弃
+        listenerMap.put(serverName, listener);
+        try {
+            namingService.subscribe(serverName, groupName, listener);
+            onInstancesChanged(serverName, listener, namingService.selectInstances(serverName, groupName, true));
+        } catch (NacosException e) {
+            listenerMap.remove(serverName);
+            log.error("[GRPC] nacos subscribe error, service: {}", serverName, e);
+        }
+    }
+
+    /**
+     * 取消订阅，并回收该服务全部连接池
+     */
+    public synchronized void unsubscribe(String serverName) {
+        EventListener listener = listenerMap.remove(serverName);
+        if (listener == null) {
+            return;
+        }
+        try {
+            namingService.unsubscribe(serverName, groupName, listener);
+        } catch (NacosException e) {
+            log.error("[GRPC] nacos unsubscribe error, service: {}", serverName, e);
+        }
+        instanceTableMap.remove(serverName);
+        clientPool.refreshInstances(serverName, Collections.emptyList());
+    }
+
+    /**
+     * 返回当前本地实例表
+     */
+    InstanceTable instanceTableOf(String serverName) {
+        return instanceTableMap.getOrDefault(serverName, InstanceTable.empty(serverName));
+    }
+
+    /**
+     * nacos 推送实例变更
+     * <p>
+     * nacos 会重复推送相同的实例列表，内容没有变化时直接忽略；有变化时生成新版本实例表并同步给 pool。
+     * 取消订阅后（或重新订阅前的旧监听器）仍可能收到推送，这些推送已经过期，直接忽略
+     */
+    synchronized void onInstancesChanged(String serverName, EventListener listener, List<Instance> instances) {
+        if (listenerMap.get(serverName) != listener) {
+            log.debug("[GRPC] stale nacos push ignored, service: {}", serverName);
+            return;
+        }
+        List<ServiceInstance> serviceInstances = new ArrayList<>(instances == null ? 0 : instances.size());
+        Set<String> instanceKeys = new HashSet<>();
+        if (instances != null) {
+            for (Instance instance : instances) {
+                // 只保留健康且可用的实例，下线中的实例 enabled=false
+                if (!instance.isHealthy() || !instance.isEnabled()) {
+                    continue;
+                }
+                serviceInstances.add(new DefaultServiceInstance(instance.getInstanceId(), serverName,
+                        instance.getIp(), instance.getPort(), false, instance.getMetadata()));
+                instanceKeys.add(instance.getIp() + ":" + instance.getPort() + new TreeMap<>(instance.getMetadata()));
+            }
+        }
+
+        InstanceTable current = instanceTableOf(serverName);
+        if (current.getVersion() > 0 && current.sameInstances(instanceKeys)) {
+            return;
+        }
+        InstanceTable next = new InstanceTable(serverName, current.getVersion() + 1, serviceInstances, instanceKeys);
+        instanceTableMap.put(serverName, next);
+        log.info("[GRPC] nacos instances changed, service: {}, version: {}, instances: {}", serverName, next.getVersion(), instanceKeys);
 
+        clientPool.refreshInstances(serverName, next.getInstances());
     }
 }
@@ -1,21 +1,7 @@
 package com.earth.grpc.discovery;
 
-import com.earth.grpc.channel.GrpcClientPoolImpl;
-import com.earth.grpc.channel.IGrpcClientPool;
-import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
-import lombok.*;
-import org.springframework.util.ObjectUtils;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public interface ServiceDiscovery {
 
@@ -57,64 +43,4 @@ public interface ServiceDiscovery {
     }
 
 
-    @Builder
-    @EqualsAndHashCode(of = {"channelName", "host", "port"})
-    @Getter
-    @ToString
-    class Address {
-
-        /**
-         * 渠道名称
-         */
-        String channelName;
-
-        /**
-         * host
-         */
-        String host;
-
-        /**
-         * port
-         */
-        int port;
-
-        /**
-         * 是否启动nacos注册
-         * <p>
-         * true 使用 nacos
-         * false 使用 k8s svc
-         */
-        boolean discoveryEnabled;
-
-        /**
-         * 是否开启健康检查地址存活
-         * <p>
-         * true 开启后10s检查下面的channel池状态
-         * false 不对channel池连接状态进行检查
-         * <p>
-         * 固有逻辑，grpc请求前都会验证channel连接状态，设置true和false都不会影响这个逻辑
-         */
-        boolean enableHealthCheck;
-
-        /**
-         * 地址健康状态
-         * <p>
-         * 不可用的地址下的连接池将会被销毁掉
-         */
-        @Setter
-        AddressStatusEnum status;
-
-        @Getter
-        @AllArgsConstructor
-        enum AddressStatusEnum {
-
-            Health,
-            NotAvailable
-
-        }
-
-    }
-
-
-
 }
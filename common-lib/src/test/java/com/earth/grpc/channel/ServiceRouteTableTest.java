@@ -0,0 +1,150 @@
+package com.earth.grpc.channel;
+
+import com.earth.grpc.channel.IGrpcClientPool.Address;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ServiceRouteTableTest {
+
+    @Test
+    public void prefersLocalZone() {
+        Address local = address("10.0.0.1", null, "a");
+        Address remote = address("10.0.0.2", null, "b");
+        ServiceRouteTable table = ServiceRouteTable.build(List.of(local, remote), "a", 0, true);
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(local, table.choose());
+        }
+    }
+
+    @Test
+    public void spillsToRemoteWhenLocalUnavailable() {
+        Address local = address("10.0.0.1", null, "a");
+        Address remote = address("10.0.0.2", null, "b");
+        local.setStatus(Address.AddressStatusEnum.NotAvailable);
+        ServiceRouteTable table = ServiceRouteTable.build(List.of(local, remote), "a", 0, true);
+
+        assertSame(remote, table.choose());
+    }
+
+    @Test
+    public void scansLocalZoneBeforeSpilling() {
+        List<Address> addresses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Address local = address("10.0.0." + i, null, "a");
+            local.setStatus(Address.AddressStatusEnum.NotAvailable);
+            addresses.add(local);
+        }
+        Address up = addresses.get(5);
+        up.setStatus(Address.AddressStatusEnum.Health);
+        addresses.add(address("10.0.1.1", null, "b"));
+        ServiceRouteTable table = ServiceRouteTable.build(addresses, "a", 0, true);
+
+        for (int i = 0; i < 1000; i++) {
+            assertSame(up, table.choose());
+        }
+    }
+
+    @Test
+    public void scansLocalZoneForUnsaturatedInstance() {
+        List<Address> addresses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Address local = address("10.0.0." + i, null, "a");
+            if (i != 2) {
+                local.getStats().callStarted();
+            }
+            addresses.add(local);
+        }
+        Address remote = address("10.0.1.1", null, "b");
+        addresses.add(remote);
+        ServiceRouteTable table = ServiceRouteTable.build(addresses, "a", 1, true);
+
+        for (int i = 0; i < 1000; i++) {
+            assertSame(addresses.get(2), table.choose());
+        }
+        // 本区全部饱和时才跨区
+        addresses.get(2).getStats().callStarted();
+        for (int i = 0; i < 1000; i++) {
+            assertSame(remote, table.choose());
+        }
+    }
+
+    @Test
+    public void returnsNullWhenNoInstanceAvailable() {
+        Address local = address("10.0.0.1", null, "a");
+        Address remote = address("10.0.0.2", null, "b");
+        local.setStatus(Address.AddressStatusEnum.NotAvailable);
+        remote.setStatus(Address.AddressStatusEnum.NotAvailable);
+        ServiceRouteTable table = ServiceRouteTable.build(List.of(local, remote), "a", 0, true);
+
+        assertNull(table.choose());
+    }
+
+    @Test
+    public void zoneChangeMovesInstanceAfterRebuild() {
+        Address address = address("10.0.0.1", null, "a");
+        address.setZone("b");
+        ServiceRouteTable table = ServiceRouteTable.build(List.of(address), "a", 0, true);
+
+        assertEquals(true, table.isRemote(table.choose()));
+    }
+
+    @Test
+    public void tagSkipsUnavailableCanary() {
+        Address down = address("10.0.0.1", "canary", null);
+        Address up = address("10.0.0.2", "canary", null);
+        down.setStatus(Address.AddressStatusEnum.NotAvailable);
+        ServiceRouteTable table = ServiceRouteTable.build(List.of(down, up), null, 0, true);
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(up, table.choose("canary"));
+        }
+        up.setStatus(Address.AddressStatusEnum.NotAvailable);
+        assertNull(table.choose("canary"));
+        assertNull(table.choose("unknown"));
+    }
+
+    @Test
+    public void untaggedTrafficSkipsCanaries() {
+        Address stable = address("10.0.0.1", null, null);
+        Address canary = address("10.0.0.2", "canary", null);
+
+        ServiceRouteTable isolated = ServiceRouteTable.build(List.of(stable, canary), null, 0, true);
+        for (int i = 0; i < 100; i++) {
+            assertSame(stable, isolated.choose());
+        }
+
+        ServiceRouteTable shared = ServiceRouteTable.build(List.of(stable, canary), null, 0, false);
+        boolean canaryChosen = false;
+        for (int i = 0; i < 1000 && !canaryChosen; i++) {
+            canaryChosen = shared.choose() == canary;
+        }
+        assertEquals(true, canaryChosen);
+    }
+
+    @Test
+    public void allTaggedInstancesServeUntaggedTraffic() {
+        Address v1 = address("10.0.0.1", "v1", null);
+        ServiceRouteTable table = ServiceRouteTable.build(List.of(v1), null, 0, true);
+
+        assertSame(v1, table.choose());
+    }
+
+    static Address address(String host, String tag, String zone) {
+        return Address.builder()
+                .channelName("grpc-server")
+                .host(host)
+                .port(9090)
+                .tag(tag)
+                .zone(zone)
+                .discoveryEnabled(true)
+                .status(Address.AddressStatusEnum.Health)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.earth.grpc.discovery;
+
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.listener.EventListener;
+import com.alibaba.nacos.api.naming.listener.NamingEvent;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 内存中的 nacos 替身：保存每个服务的实例列表，{@link #push} 模拟服务端推送
+ * <p>
+ * 只实现服务发现用到的 subscribe / unsubscribe / selectInstances，其余方法抛出 UnsupportedOperationException
+ */
+final class InMemoryNamingService {
+
+    private final Map<String, List<Instance>> instances = new HashMap<>();
+
+    private final Map<String, List<EventListener>> listeners = new HashMap<>();
+
+    final AtomicInteger subscribeCalls = new AtomicInteger();
+
+    final AtomicInteger selectCalls = new AtomicInteger();
+
+    final NamingService proxy = (NamingService) Proxy.newProxyInstance(NamingService.class.getClassLoader(),
+            new Class<?>[]{NamingService.class}, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "subscribe":
+                        if (args.length == 3 && args[2] instanceof EventListener) {
+                            subscribeCalls.incrementAndGet();
+                            listeners.computeIfAbsent((String) args[0], k -> new CopyOnWriteArrayList<>()).add((EventListener) args[2]);
+                            return null;
+                        }
+                        break;
+                    case "unsubscribe":
+                        if (args.length == 3 && args[2] instanceof EventListener) {
+                            listeners.getOrDefault((String) args[0], Collections.emptyList()).remove(args[2]);
+                            return null;
+                        }
+                        break;
+                    case "selectInstances":
+                        if (args.length == 3 && args[2] instanceof Boolean) {
+                            selectCalls.incrementAndGet();
+                            return new ArrayList<>(instances.getOrDefault((String) args[0], Collections.emptyList()));
+                        }
+                        break;
+                    case "toString":
+                        return "InMemoryNamingService";
+                    case "hashCode":
+                        return System.identityHashCode(p);
+                    case "equals":
+                        return p == args[0];
+                    default:
+                        break;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+
+    /**
+     * 设置实例列表，不通知监听器（订阅前的初始状态）
+     */
+    void register(String serviceName, Instance... list) {
+        instances.put(serviceName, new ArrayList<>(List.of(list)));
+    }
+
+    /**
+     * 设置实例列表并推送给当前监听器
+     */
+    void push(String serviceName, Instance... list) {
+        register(serviceName, list);
+        for (EventListener listener : listeners.getOrDefault(serviceName, Collections.emptyList())) {
+            listener.onEvent(new NamingEvent(serviceName, new ArrayList<>(List.of(list))));
+        }
+    }
+
+    /**
+     * 向指定监听器推送，模拟取消订阅前已经发出、之后才到达的推送
+     */
+    static void pushTo(EventListener listener, String serviceName, Instance... list) {
+        listener.onEvent(new NamingEvent(serviceName, new ArrayList<>(List.of(list))));
+    }
+
+    List<EventListener> listenersOf(String serviceName) {
+        return listeners.getOrDefault(serviceName, Collections.emptyList());
+    }
+
+    static Instance instance(String ip, int grpcPort, String tag) {
+        Instance instance = new Instance();
+        instance.setInstanceId(ip + "#" + grpcPort);
+        instance.setIp(ip);
+        instance.setPort(8080);
+        instance.setHealthy(true);
+        instance.setEnabled(true);
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("gRPC.port", String.valueOf(grpcPort));
+        if (tag != null) {
+            metadata.put("tag", tag);
+        }
+        instance.setMetadata(metadata);
+        return instance;
+    }
+}
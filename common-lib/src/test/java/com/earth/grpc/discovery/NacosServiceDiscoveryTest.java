@@ -0,0 +1,165 @@
+package com.earth.grpc.discovery;
+
+import com.alibaba.nacos.api.naming.listener.EventListener;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.earth.grpc.channel.IGrpcClientPool;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.earth.grpc.discovery.InMemoryNamingService.instance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NacosServiceDiscoveryTest {
+
+    private static final String SERVICE = "grpc-server";
+
+    private static final String STATIC_SERVICE = "static-server";
+
+    private InMemoryNamingService nacos;
+
+    /**
+     * 每次 refreshInstances 收到的实例 host:port 列表
+     */
+    private List<List<String>> refreshes;
+
+    private NacosServiceDiscovery discovery;
+
+    @Before
+    public void setUp() {
+        nacos = new InMemoryNamingService();
+        refreshes = new ArrayList<>();
+        discovery = new NacosServiceDiscovery(recordingPool(), nacos.proxy, "DEFAULT_GROUP");
+    }
+
+    @Test
+    public void subscribeAllLoadsInitialInstances() {
+        nacos.register(SERVICE, instance("10.0.0.1", 9090, null), instance("10.0.0.2", 9090, "canary"));
+
+        discovery.subscribeAll();
+
+        // 只订阅启用注册中心的服务
+        assertEquals(1, nacos.subscribeCalls.get());
+        assertEquals(1L, discovery.instanceTableOf(SERVICE).getVersion());
+        assertEquals(1, refreshes.size());
+        assertEquals(List.of("10.0.0.1:9090", "10.0.0.2:9090"), refreshes.get(0));
+    }
+
+    @Test
+    public void pushesAddAndRemoveInstances() {
+        nacos.register(SERVICE, instance("10.0.0.1", 9090, null));
+        discovery.subscribeAll();
+
+        nacos.push(SERVICE, instance("10.0.0.1", 9090, null), instance("10.0.0.2", 9090, null));
+        assertEquals(2L, discovery.instanceTableOf(SERVICE).getVersion());
+        assertEquals(List.of("10.0.0.1:9090", "10.0.0.2:9090"), refreshes.get(1));
+
+        nacos.push(SERVICE, instance("10.0.0.2", 9090, null));
+        assertEquals(3L, discovery.instanceTableOf(SERVICE).getVersion());
+        assertEquals(List.of("10.0.0.2:9090"), refreshes.get(2));
+    }
+
+    @Test
+    public void unhealthyAndDisabledInstancesAreDropped() {
+        discovery.subscribeAll();
+        Instance unhealthy = instance("10.0.0.2", 9090, null);
+        unhealthy.setHealthy(false);
+        Instance disabled = instance("10.0.0.3", 9090, null);
+        disabled.setEnabled(false);
+
+        nacos.push(SERVICE, instance("10.0.0.1", 9090, null), unhealthy, disabled);
+
+        assertEquals(List.of("10.0.0.1:9090"), refreshes.get(refreshes.size() - 1));
+    }
+
+    @Test
+    public void duplicatePushIsIgnored() {
+        nacos.register(SERVICE, instance("10.0.0.1", 9090, null));
+        discovery.subscribeAll();
+
+        nacos.push(SERVICE, instance("10.0.0.1", 9090, null));
+        nacos.push(SERVICE, instance("10.0.0.1", 9090, null));
+
+        assertEquals(1L, discovery.instanceTableOf(SERVICE).getVersion());
+        assertEquals(1, refreshes.size());
+    }
+
+    @Test
+    public void metadataChangeIsNotADuplicate() {
+        nacos.register(SERVICE, instance("10.0.0.1", 9090, null));
+        discovery.subscribeAll();
+
+        nacos.push(SERVICE, instance("10.0.0.1", 9090, "canary"));
+
+        assertEquals(2L, discovery.instanceTableOf(SERVICE).getVersion());
+        assertEquals(2, refreshes.size());
+    }
+
+    @Test
+    public void unsubscribeReleasesInstancesAndIgnoresStalePushes() {
+        nacos.register(SERVICE, instance("10.0.0.1", 9090, null));
+        discovery.subscribeAll();
+        EventListener listener = nacos.listenersOf(SERVICE).get(0);
+
+        discovery.unsubscribe(SERVICE);
+
+        assertTrue(nacos.listenersOf(SERVICE).isEmpty());
+        assertEquals(0L, discovery.instanceTableOf(SERVICE).getVersion());
+        assertEquals(Collections.emptyList(), refreshes.get(refreshes.size() - 1));
+
+        // 取消订阅前已经发出的推送晚到，不能重建实例表
+        int refreshCount = refreshes.size();
+        InMemoryNamingService.pushTo(listener, SERVICE, instance("10.0.0.9", 9090, null));
+        assertEquals(0L, discovery.instanceTableOf(SERVICE).getVersion());
+        assertEquals(refreshCount, refreshes.size());
+    }
+
+    @Test
+    public void borrowChannelNeverTouchesNacos() {
+        // 没有订阅时请求路径上也不订阅、不拉取
+        assertNull(discovery.borrowChannel(SERVICE));
+        assertNull(discovery.borrowChannel(SERVICE));
+
+        assertEquals(0, nacos.subscribeCalls.get());
+        assertEquals(0, nacos.selectCalls.get());
+    }
+
+    /**
+     * 记录 refreshInstances 的 pool 替身，borrowChannel 返回 null
+     */
+    private IGrpcClientPool recordingPool() {
+        Map<String, IGrpcClientPool.Address> shortcuts = new HashMap<>();
+        shortcuts.put(SERVICE, IGrpcClientPool.Address.builder().channelName(SERVICE).discoveryEnabled(true).build());
+        shortcuts.put(STATIC_SERVICE, IGrpcClientPool.Address.builder().channelName(STATIC_SERVICE).host("svc").port(9090).build());
+        return (IGrpcClientPool) Proxy.newProxyInstance(IGrpcClientPool.class.getClassLoader(),
+                new Class<?>[]{IGrpcClientPool.class}, (p, method, args) -> {
+                    switch (method.getName()) {
+                        case "addressOf":
+                            return shortcuts.get((String) args[0]);
+                        case "shortcuts":
+                            return new LinkedHashSet<>(shortcuts.keySet());
+                        case "refreshInstances":
+                            @SuppressWarnings("unchecked")
+                            List<ServiceInstance> instances = (List<ServiceInstance>) args[1];
+                            refreshes.add(instances.stream()
+                                    .map(i -> i.getHost() + ":" + i.getMetadata().get("gRPC.port"))
+                                    .sorted()
+                                    .collect(Collectors.toList()));
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
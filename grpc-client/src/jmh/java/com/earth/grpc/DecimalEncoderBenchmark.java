@@ -0,0 +1,90 @@
+package com.earth.grpc;
+
+import com.earth.base.common.Decimal;
+import com.earth.base.order.NewOrderRequest;
+import com.earth.dto.MarketOrder;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 下单请求中 Decimal 不同编码方式的大小和序列化耗时
+ * <p>
+ * STR：旧客户端只填 str；BOTH：str 与 unscaled_value / scale 都填；COMPACT：{@link DecimalEncoder} 的紧凑形式。
+ * 每种编码的请求字节数在 setUp 时打印
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecimalEncoderBenchmark {
+
+    public enum Encoding {
+        STR, BOTH, COMPACT
+    }
+
+    @Param({"STR", "BOTH", "COMPACT"})
+    private Encoding encoding;
+
+    private MarketOrder order;
+
+    private NewOrderRequest request;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        order = new MarketOrder();
+        order.setAccountId(10_000_001L);
+        order.setClientOrderId("c-20260101-000001");
+        order.setSymbolId("BTCUSDT");
+        order.setOrderType("LIMIT");
+        order.setSide("BUY");
+        order.setOrderPrice("27123.45000000");
+        order.setOrderQuantity("0.01500000");
+        order.setOrderAmount("406.85175000");
+        request = build();
+        bytes = request.toByteArray();
+        System.out.printf("# encoding: %s, request bytes: %d, price bytes: %d%n",
+                encoding, bytes.length, request.getPrice().getSerializedSize());
+    }
+
+    @Benchmark
+    public NewOrderRequest build() {
+        if (encoding == Encoding.COMPACT) {
+            return OrderClientService.toRequest(order);
+        }
+        return OrderClientService.toRequest(order).toBuilder()
+                .setPrice(encode(order.getOrderPrice()))
+                .setQuantity(encode(order.getOrderQuantity()))
+                .setAmount(encode(order.getOrderAmount()))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return request.toByteArray();
+    }
+
+    @Benchmark
+    public NewOrderRequest parse() throws InvalidProtocolBufferException {
+        return NewOrderRequest.parseFrom(bytes);
+    }
+
+    private Decimal encode(String value) {
+        Decimal.Builder builder = Decimal.newBuilder().setStr(value);
+        if (encoding == Encoding.BOTH) {
+            BigDecimal decimal = new BigDecimal(value);
+            builder.setUnscaledValue(decimal.unscaledValue().longValueExact()).setScale(decimal.scale());
+        }
+        return builder.build();
+    }
+}
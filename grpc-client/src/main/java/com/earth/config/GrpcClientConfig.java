@@ -1,12 +1,74 @@
 package com.earth.config;
 
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingFactory;
+import com.alibaba.nacos.api.naming.NamingService;
+import com.earth.grpc.channel.GrpcClientChannelConfig;
+import com.earth.grpc.channel.GrpcClientPoolImpl;
+import com.earth.grpc.channel.IGrpcClientPool;
+import com.earth.grpc.discovery.NacosServiceDiscovery;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 池化 grpc 客户端
+ * <p>
+ * 启动时按配置登记远程服务（grpc.pool.shortcuts），再订阅其中启用注册中心的服务，
+ * 订阅完成时本地实例表和连接池已经就绪，请求路径上不访问注册中心
+ */
 @Slf4j
-@Component
+@Configuration
 @ConditionalOnProperty(name = "broker.proxy", havingValue = "false")
 public class GrpcClientConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "grpc.pool")
+    public GrpcClientChannelConfig grpcClientChannelConfig() {
+        return new GrpcClientChannelConfig();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService grpcChannelScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "grpc-channel-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public IGrpcClientPool grpcClientPool(ScheduledExecutorService grpcChannelScheduler,
+                                          ObjectProvider<LoadBalancerClient> loadBalancerClient,
+                                          GrpcClientChannelConfig grpcClientChannelConfig) {
+        GrpcClientPoolImpl pool = new GrpcClientPoolImpl(grpcChannelScheduler, loadBalancerClient.getIfAvailable(), grpcClientChannelConfig);
+        grpcClientChannelConfig.getShortcuts().forEach((serverName, shortcut) ->
+                pool.setShortcut(serverName, shortcut.getHost(), shortcut.getPort(), shortcut.isDiscoveryEnabled()));
+        log.info("[GRPC] client pool initialized, services: {}", pool.shortcuts());
+        return pool;
+    }
+
+    @Bean(destroyMethod = "shutDown")
+    public NamingService grpcNamingService(@Value("${spring.cloud.nacos.discovery.server-addr:127.0.0.1:8848}") String serverAddr)
+            throws NacosException {
+        return NamingFactory.createNamingService(serverAddr);
+    }
+
+    /**
+     * 订阅在 bean 初始化时完成，先于任何请求
+     */
+    @Bean(initMethod = "subscribeAll", destroyMethod = "unsubscribeAll")
+    public NacosServiceDiscovery nacosServiceDiscovery(IGrpcClientPool grpcClientPool, NamingService grpcNamingService,
+                                                       @Value("${spring.cloud.nacos.discovery.group:" + Constants.DEFAULT_GROUP + "}") String groupName) {
+        return new NacosServiceDiscovery(grpcClientPool, grpcNamingService, groupName);
+    }
 }
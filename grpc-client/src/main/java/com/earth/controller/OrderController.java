@@ -1,9 +1,9 @@
 package com.earth.controller;
 
+import com.earth.base.order.NewOrderReply;
 import com.earth.dto.MarketOrder;
 import com.earth.grpc.OrderClientService;
 import lombok.extern.slf4j.Slf4j;
-import net.devh.boot.grpc.server.service.GrpcService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,15 +12,19 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class OrderController {
 
+    private final OrderClientService orderClientService;
 
-    private OrderClientService orderClientService;
+    public OrderController(OrderClientService orderClientService) {
+        this.orderClientService = orderClientService;
+    }
 
     @PostMapping("/create/order")
-    public String  createOrder(@RequestBody MarketOrder order) {
-
-        orderClientService.sendMessage(null);
-        log.info("");
-
-        return order.toString();
+    public MarketOrder createOrder(@RequestBody MarketOrder order) {
+        NewOrderReply reply = orderClientService.createOrder(order);
+        order.setOrderId(Long.toString(reply.getOrderId()));
+        order.setOrderStatus(reply.getStatus().name());
+        log.info("[ORDER] created, accountId: {}, clientOrderId: {}, orderId: {}, status: {}",
+                order.getAccountId(), order.getClientOrderId(), reply.getOrderId(), reply.getStatus());
+        return order;
     }
 }
@@ -1,8 +1,10 @@
 package com.earth.dto;
 
-import com.google.type.DateTime;
 import lombok.Data;
 
+/**
+ * 网关下单参数，价格、数量、金额为十进制字符串，转发时编码为紧凑 Decimal
+ */
 @Data
 public class MarketOrder {
 
@@ -11,4 +13,17 @@ public class MarketOrder {
     private String orderPrice;
     private String orderAmount;
     private String orderStatus;
+
+    private long accountId;
+    private String clientOrderId;
+    private String symbolId;
+    /**
+     * BUY / SELL
+     */
+    private String side;
+    /**
+     * 为空时 GTC
+     */
+    private String timeInForce;
+    private String orderQuantity;
 }
@@ -0,0 +1,65 @@
+package com.earth.grpc;
+
+import com.earth.base.common.Decimal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * common.Decimal 紧凑编码
+ * <p>
+ * 下单请求中的价格、数量只填 unscaled_value + scale，不再附带 str。str 是 UTF-8 字符串，
+ * 与 unscaled_value 表达同一个值，去掉后每个 Decimal 字段减少约一半字节，序列化时也不再编码字符串。
+ * 服务端优先读取 unscaled_value / scale，只有两者都为 0 时才解析 str，因此紧凑形式对新旧服务端都适用
+ * <p>
+ * 末尾的 0 在编码前去掉，scale 尽量小，varint 更短；unscaled_value 超出 int64 时退回 str
+ */
+public final class DecimalEncoder {
+
+    private DecimalEncoder() {
+    }
+
+    /**
+     * 编码为紧凑形式，value 为 null 时返回默认实例（0）
+     */
+    public static Decimal encode(BigDecimal value) {
+        if (value == null || value.signum() == 0) {
+            return Decimal.getDefaultInstance();
+        }
+        BigDecimal normalized = value.stripTrailingZeros();
+        if (normalized.scale() < 0) {
+            normalized = normalized.setScale(0);
+        }
+        BigInteger unscaled = normalized.unscaledValue();
+        if (unscaled.bitLength() >= Long.SIZE) {
+            return Decimal.newBuilder().setStr(normalized.toPlainString()).build();
+        }
+        return encode(unscaled.longValue(), normalized.scale());
+    }
+
+    /**
+     * 十进制字符串编码为紧凑形式，为空时返回默认实例（0）
+     *
+     * @throws NumberFormatException 格式错误
+     */
+    public static Decimal encode(String value) {
+        if (value == null || value.isEmpty()) {
+            return Decimal.getDefaultInstance();
+        }
+        return encode(new BigDecimal(value.trim()));
+    }
+
+    public static Decimal encode(long unscaled, int scale) {
+        return Decimal.newBuilder().setUnscaledValue(unscaled).setScale(scale).build();
+    }
+
+    /**
+     * 解码，紧凑形式和只有 str 的旧形式都接受，与服务端的判断一致
+     */
+    public static BigDecimal decode(Decimal decimal) {
+        if (decimal.getUnscaledValue() == 0L && decimal.getScale() == 0) {
+            return decimal.getStr().isEmpty() ? BigDecimal.ZERO : new BigDecimal(decimal.getStr());
+        }
+        return BigDecimal.valueOf(decimal.getUnscaledValue(), decimal.getScale());
+    }
+}
@@ -1,19 +1,49 @@
 package com.earth.grpc;
 
-import io.grpc.Channel;
+import com.earth.base.common.OrderSideEnum;
+import com.earth.base.common.OrderTimeInForceEnum;
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.base.order.NewOrderReply;
+import com.earth.base.order.NewOrderRequest;
+import com.earth.base.order.OrderServiceGrpc;
+import com.earth.dto.MarketOrder;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
 
+/**
+ * 下单转发，价格、数量、金额经 {@link DecimalEncoder} 编码为紧凑 Decimal，不附带 str
+ */
+@Service
 public class OrderClientService {
 
-
-
     @GrpcClient("grpc-server")
-    private Channel serverChannel;
-
-
-    public String sendMessage(String jsonStr){
+    private OrderServiceGrpc.OrderServiceBlockingStub orderStub;
 
+    public NewOrderReply createOrder(MarketOrder order) {
+        return orderStub.createOrder(toRequest(order));
+    }
 
-        return null;
+    /**
+     * 网关参数转换为下单请求
+     *
+     * @throws IllegalArgumentException 订单类型、方向或 time_in_force 不合法
+     * @throws NumberFormatException    价格、数量、金额格式错误
+     */
+    public static NewOrderRequest toRequest(MarketOrder order) {
+        NewOrderRequest.Builder builder = NewOrderRequest.newBuilder()
+                .setAccountId(order.getAccountId())
+                .setSymbolId(order.getSymbolId())
+                .setOrderType(OrderTypeEnum.valueOf(order.getOrderType()))
+                .setSide(OrderSideEnum.valueOf(order.getSide()))
+                .setTimeInForce(ObjectUtils.isEmpty(order.getTimeInForce())
+                        ? OrderTimeInForceEnum.GTC : OrderTimeInForceEnum.valueOf(order.getTimeInForce()))
+                .setPrice(DecimalEncoder.encode(order.getOrderPrice()))
+                .setQuantity(DecimalEncoder.encode(order.getOrderQuantity()))
+                .setAmount(DecimalEncoder.encode(order.getOrderAmount()));
+        if (!ObjectUtils.isEmpty(order.getClientOrderId())) {
+            builder.setClientOrderId(order.getClientOrderId());
+        }
+        return builder.build();
     }
 }
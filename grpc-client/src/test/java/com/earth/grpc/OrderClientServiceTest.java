@@ -0,0 +1,65 @@
+package com.earth.grpc;
+
+import com.earth.base.common.OrderSideEnum;
+import com.earth.base.common.OrderTimeInForceEnum;
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.base.order.NewOrderRequest;
+import com.earth.dto.MarketOrder;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OrderClientServiceTest {
+
+    @Test
+    public void encodesDecimalsCompactly() {
+        MarketOrder order = order();
+        NewOrderRequest request = OrderClientService.toRequest(order);
+
+        assertEquals(1L, request.getAccountId());
+        assertEquals("c-1", request.getClientOrderId());
+        assertEquals(OrderTypeEnum.LIMIT, request.getOrderType());
+        assertEquals(OrderSideEnum.SELL, request.getSide());
+        assertEquals(OrderTimeInForceEnum.GTC, request.getTimeInForce());
+        // 末尾的 0 去掉，不附带 str
+        assertEquals(2712345L, request.getPrice().getUnscaledValue());
+        assertEquals(2, request.getPrice().getScale());
+        assertEquals("", request.getPrice().getStr());
+        assertEquals(0, new BigDecimal("0.015").compareTo(DecimalEncoder.decode(request.getQuantity())));
+        // 没有金额时为默认实例，不占字节
+        assertEquals(0, request.getAmount().getSerializedSize());
+    }
+
+    @Test
+    public void compactFormIsSmallerThanStr() {
+        NewOrderRequest compact = OrderClientService.toRequest(order());
+        NewOrderRequest str = compact.toBuilder()
+                .setPrice(compact.getPrice().toBuilder().clearUnscaledValue().clearScale().setStr("27123.45000000"))
+                .build();
+
+        assertEquals(0, DecimalEncoder.decode(compact.getPrice()).compareTo(DecimalEncoder.decode(str.getPrice())));
+        assertTrue(compact.getSerializedSize() < str.getSerializedSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownOrderType() {
+        MarketOrder order = order();
+        order.setOrderType("ICEBERG");
+        OrderClientService.toRequest(order);
+    }
+
+    private static MarketOrder order() {
+        MarketOrder order = new MarketOrder();
+        order.setAccountId(1L);
+        order.setClientOrderId("c-1");
+        order.setSymbolId("BTCUSDT");
+        order.setOrderType("LIMIT");
+        order.setSide("SELL");
+        order.setOrderPrice("27123.45000000");
+        order.setOrderQuantity("0.01500000");
+        return order;
+    }
+}
@@ -5,6 +5,12 @@
 package com.earth.base.common;
 
 /**
+ * <pre>
+ *
+ * 定点小数。推荐只填 unscaled_value + scale（紧凑形式），str 留空不占线上字节；
+ * 旧客户端只填 str 仍然可以。两种形式都给出时以 unscaled_value / scale 为准，unscaled_value 超出 int64 时才需要 str
+ * </pre>
+ *
  * Protobuf type {@code com.earth.base.common.Decimal}
  */
 public final class Decimal extends
@@ -45,7 +51,7 @@ private static final long serialVersionUID = 0L;
   private volatile java.lang.Object str_ = "";
   /**
    * <pre>
-   * 原始字符串，比如 "123.45"
+   * 原始字符串，比如 "123.45"；紧凑形式下留空
    * </pre>
    *
    * <code>string str = 1;</code>
@@ -66,7 +72,7 @@ private static final long serialVersionUID = 0L;
   }
   /**
    * <pre>
-   * 原始字符串，比如 "123.45"
+   * 原始字符串，比如 "123.45"；紧凑形式下留空
    * </pre>
    *
    * <code>string str = 1;</code>
@@ -297,6 +303,12 @@ private static final long serialVersionUID = 0L;
     return builder;
   }
   /**
+   * <pre>
+   *
+   * 定点小数。推荐只填 unscaled_value + scale（紧凑形式），str 留空不占线上字节；
+   * 旧客户端只填 str 仍然可以。两种形式都给出时以 unscaled_value / scale 为准，unscaled_value 超出 int64 时才需要 str
+   * </pre>
+   *
    * Protobuf type {@code com.earth.base.common.Decimal}
    */
   public static final class Builder extends
@@ -493,7 +505,7 @@ private static final long serialVersionUID = 0L;
     private java.lang.Object str_ = "";
     /**
      * <pre>
-     * 原始字符串，比如 "123.45"
+     * 原始字符串，比如 "123.45"；紧凑形式下留空
      * </pre>
      *
      * <code>string str = 1;</code>
@@ -513,7 +525,7 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * 原始字符串，比如 "123.45"
+     * 原始字符串，比如 "123.45"；紧凑形式下留空
      * </pre>
      *
      * <code>string str = 1;</code>
@@ -534,7 +546,7 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * 原始字符串，比如 "123.45"
+     * 原始字符串，比如 "123.45"；紧凑形式下留空
      * </pre>
      *
      * <code>string str = 1;</code>
@@ -551,7 +563,7 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * 原始字符串，比如 "123.45"
+     * 原始字符串，比如 "123.45"；紧凑形式下留空
      * </pre>
      *
      * <code>string str = 1;</code>
@@ -565,7 +577,7 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * 原始字符串，比如 "123.45"
+     * 原始字符串，比如 "123.45"；紧凑形式下留空
      * </pre>
      *
      * <code>string str = 1;</code>
@@ -10,7 +10,7 @@ public interface DecimalOrBuilder extends
 
   /**
    * <pre>
-   * 原始字符串，比如 "123.45"
+   * 原始字符串，比如 "123.45"；紧凑形式下留空
    * </pre>
    *
    * <code>string str = 1;</code>
@@ -19,7 +19,7 @@ public interface DecimalOrBuilder extends
   java.lang.String getStr();
   /**
    * <pre>
-   * 原始字符串，比如 "123.45"
+   * 原始字符串，比如 "123.45"；紧凑形式下留空
    * </pre>
    *
    * <code>string str = 1;</code>
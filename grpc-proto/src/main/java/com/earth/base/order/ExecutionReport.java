@@ -0,0 +1,2683 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+/**
+ * <pre>
+ *
+ * 执行回报
+ * 订单每次状态变化（挂单、成交、撤销、拒绝）产生一条回报，同一订单最后一条回报的状态即最终状态。
+ * Decimal 字段只填 unscaled_value/scale
+ * </pre>
+ *
+ * Protobuf type {@code com.earth.base.order.ExecutionReport}
+ */
+public final class ExecutionReport extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.earth.base.order.ExecutionReport)
+    ExecutionReportOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ExecutionReport.newBuilder() to construct.
+  private ExecutionReport(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ExecutionReport() {
+    symbolId_ = "";
+    side_ = 0;
+    status_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ExecutionReport();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReport_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReport_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.earth.base.order.ExecutionReport.class, com.earth.base.order.ExecutionReport.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int SEQUENCE_FIELD_NUMBER = 1;
+  private long sequence_ = 0L;
+  /**
+   * <pre>
+   * 回报序号，单调递增，断线重连时用于判断是否漏收
+   * </pre>
+   *
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  @java.lang.Override
+  public long getSequence() {
+    return sequence_;
+  }
+
+  public static final int ORDER_ID_FIELD_NUMBER = 2;
+  private long orderId_ = 0L;
+  /**
+   * <code>int64 order_id = 2;</code>
+   * @return The orderId.
+   */
+  @java.lang.Override
+  public long getOrderId() {
+    return orderId_;
+  }
+
+  public static final int ACCOUNT_ID_FIELD_NUMBER = 3;
+  private long accountId_ = 0L;
+  /**
+   * <code>int64 account_id = 3;</code>
+   * @return The accountId.
+   */
+  @java.lang.Override
+  public long getAccountId() {
+    return accountId_;
+  }
+
+  public static final int SYMBOL_ID_FIELD_NUMBER = 4;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object symbolId_ = "";
+  /**
+   * <code>string symbol_id = 4;</code>
+   * @return The symbolId.
+   */
+  @java.lang.Override
+  public java.lang.String getSymbolId() {
+    java.lang.Object ref = symbolId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      symbolId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string symbol_id = 4;</code>
+   * @return The bytes for symbolId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getSymbolIdBytes() {
+    java.lang.Object ref = symbolId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      symbolId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SIDE_FIELD_NUMBER = 5;
+  private int side_ = 0;
+  /**
+   * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+   * @return The enum numeric value on the wire for side.
+   */
+  @java.lang.Override public int getSideValue() {
+    return side_;
+  }
+  /**
+   * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+   * @return The side.
+   */
+  @java.lang.Override public com.earth.base.common.OrderSideEnum getSide() {
+    com.earth.base.common.OrderSideEnum result = com.earth.base.common.OrderSideEnum.forNumber(side_);
+    return result == null ? com.earth.base.common.OrderSideEnum.UNRECOGNIZED : result;
+  }
+
+  public static final int STATUS_FIELD_NUMBER = 6;
+  private int status_ = 0;
+  /**
+   * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  @java.lang.Override public int getStatusValue() {
+    return status_;
+  }
+  /**
+   * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+   * @return The status.
+   */
+  @java.lang.Override public com.earth.base.order.OrderStatusEnum getStatus() {
+    com.earth.base.order.OrderStatusEnum result = com.earth.base.order.OrderStatusEnum.forNumber(status_);
+    return result == null ? com.earth.base.order.OrderStatusEnum.UNRECOGNIZED : result;
+  }
+
+  public static final int TRADE_ID_FIELD_NUMBER = 7;
+  private long tradeId_ = 0L;
+  /**
+   * <pre>
+   * 成交编号，非成交回报为 0
+   * </pre>
+   *
+   * <code>int64 trade_id = 7;</code>
+   * @return The tradeId.
+   */
+  @java.lang.Override
+  public long getTradeId() {
+    return tradeId_;
+  }
+
+  public static final int LAST_PRICE_FIELD_NUMBER = 8;
+  private com.earth.base.common.Decimal lastPrice_;
+  /**
+   * <pre>
+   * 本次成交价
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+   * @return Whether the lastPrice field is set.
+   */
+  @java.lang.Override
+  public boolean hasLastPrice() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * 本次成交价
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+   * @return The lastPrice.
+   */
+  @java.lang.Override
+  public com.earth.base.common.Decimal getLastPrice() {
+    return lastPrice_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : lastPrice_;
+  }
+  /**
+   * <pre>
+   * 本次成交价
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.common.DecimalOrBuilder getLastPriceOrBuilder() {
+    return lastPrice_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : lastPrice_;
+  }
+
+  public static final int LAST_QUANTITY_FIELD_NUMBER = 9;
+  private com.earth.base.common.Decimal lastQuantity_;
+  /**
+   * <pre>
+   * 本次成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+   * @return Whether the lastQuantity field is set.
+   */
+  @java.lang.Override
+  public boolean hasLastQuantity() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <pre>
+   * 本次成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+   * @return The lastQuantity.
+   */
+  @java.lang.Override
+  public com.earth.base.common.Decimal getLastQuantity() {
+    return lastQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : lastQuantity_;
+  }
+  /**
+   * <pre>
+   * 本次成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.common.DecimalOrBuilder getLastQuantityOrBuilder() {
+    return lastQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : lastQuantity_;
+  }
+
+  public static final int EXECUTED_QUANTITY_FIELD_NUMBER = 10;
+  private com.earth.base.common.Decimal executedQuantity_;
+  /**
+   * <pre>
+   * 累计成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+   * @return Whether the executedQuantity field is set.
+   */
+  @java.lang.Override
+  public boolean hasExecutedQuantity() {
+    return ((bitField0_ & 0x00000004) != 0);
+  }
+  /**
+   * <pre>
+   * 累计成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+   * @return The executedQuantity.
+   */
+  @java.lang.Override
+  public com.earth.base.common.Decimal getExecutedQuantity() {
+    return executedQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : executedQuantity_;
+  }
+  /**
+   * <pre>
+   * 累计成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.common.DecimalOrBuilder getExecutedQuantityOrBuilder() {
+    return executedQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : executedQuantity_;
+  }
+
+  public static final int EXECUTED_AMOUNT_FIELD_NUMBER = 11;
+  private com.earth.base.common.Decimal executedAmount_;
+  /**
+   * <pre>
+   * 累计成交金额（仅主动方）
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+   * @return Whether the executedAmount field is set.
+   */
+  @java.lang.Override
+  public boolean hasExecutedAmount() {
+    return ((bitField0_ & 0x00000008) != 0);
+  }
+  /**
+   * <pre>
+   * 累计成交金额（仅主动方）
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+   * @return The executedAmount.
+   */
+  @java.lang.Override
+  public com.earth.base.common.Decimal getExecutedAmount() {
+    return executedAmount_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : executedAmount_;
+  }
+  /**
+   * <pre>
+   * 累计成交金额（仅主动方）
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.common.DecimalOrBuilder getExecutedAmountOrBuilder() {
+    return executedAmount_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : executedAmount_;
+  }
+
+  public static final int LEAVES_QUANTITY_FIELD_NUMBER = 12;
+  private com.earth.base.common.Decimal leavesQuantity_;
+  /**
+   * <pre>
+   * 剩余数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+   * @return Whether the leavesQuantity field is set.
+   */
+  @java.lang.Override
+  public boolean hasLeavesQuantity() {
+    return ((bitField0_ & 0x00000010) != 0);
+  }
+  /**
+   * <pre>
+   * 剩余数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+   * @return The leavesQuantity.
+   */
+  @java.lang.Override
+  public com.earth.base.common.Decimal getLeavesQuantity() {
+    return leavesQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : leavesQuantity_;
+  }
+  /**
+   * <pre>
+   * 剩余数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.common.DecimalOrBuilder getLeavesQuantityOrBuilder() {
+    return leavesQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : leavesQuantity_;
+  }
+
+  public static final int IS_MAKER_FIELD_NUMBER = 13;
+  private boolean isMaker_ = false;
+  /**
+   * <code>bool is_maker = 13;</code>
+   * @return The isMaker.
+   */
+  @java.lang.Override
+  public boolean getIsMaker() {
+    return isMaker_;
+  }
+
+  public static final int MATCH_ORDER_ID_FIELD_NUMBER = 14;
+  private long matchOrderId_ = 0L;
+  /**
+   * <pre>
+   * 对手方订单ID
+   * </pre>
+   *
+   * <code>int64 match_order_id = 14;</code>
+   * @return The matchOrderId.
+   */
+  @java.lang.Override
+  public long getMatchOrderId() {
+    return matchOrderId_;
+  }
+
+  public static final int TRANSACT_TIME_FIELD_NUMBER = 15;
+  private long transactTime_ = 0L;
+  /**
+   * <pre>
+   * 撮合时间，毫秒
+   * </pre>
+   *
+   * <code>int64 transact_time = 15;</code>
+   * @return The transactTime.
+   */
+  @java.lang.Override
+  public long getTransactTime() {
+    return transactTime_;
+  }
+
+  public static final int FEE_FIELD_NUMBER = 16;
+  private com.earth.base.common.Decimal fee_;
+  /**
+   * <pre>
+   * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal fee = 16;</code>
+   * @return Whether the fee field is set.
+   */
+  @java.lang.Override
+  public boolean hasFee() {
+    return ((bitField0_ & 0x00000020) != 0);
+  }
+  /**
+   * <pre>
+   * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal fee = 16;</code>
+   * @return The fee.
+   */
+  @java.lang.Override
+  public com.earth.base.common.Decimal getFee() {
+    return fee_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : fee_;
+  }
+  /**
+   * <pre>
+   * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal fee = 16;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.common.DecimalOrBuilder getFeeOrBuilder() {
+    return fee_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : fee_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (sequence_ != 0L) {
+      output.writeInt64(1, sequence_);
+    }
+    if (orderId_ != 0L) {
+      output.writeInt64(2, orderId_);
+    }
+    if (accountId_ != 0L) {
+      output.writeInt64(3, accountId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbolId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, symbolId_);
+    }
+    if (side_ != com.earth.base.common.OrderSideEnum.BUY.getNumber()) {
+      output.writeEnum(5, side_);
+    }
+    if (status_ != com.earth.base.order.OrderStatusEnum.NEW.getNumber()) {
+      output.writeEnum(6, status_);
+    }
+    if (tradeId_ != 0L) {
+      output.writeInt64(7, tradeId_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeMessage(8, getLastPrice());
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeMessage(9, getLastQuantity());
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      output.writeMessage(10, getExecutedQuantity());
+    }
+    if (((bitField0_ & 0x00000008) != 0)) {
+      output.writeMessage(11, getExecutedAmount());
+    }
+    if (((bitField0_ & 0x00000010) != 0)) {
+      output.writeMessage(12, getLeavesQuantity());
+    }
+    if (isMaker_ != false) {
+      output.writeBool(13, isMaker_);
+    }
+    if (matchOrderId_ != 0L) {
+      output.writeInt64(14, matchOrderId_);
+    }
+    if (transactTime_ != 0L) {
+      output.writeInt64(15, transactTime_);
+    }
+    if (((bitField0_ & 0x00000020) != 0)) {
+      output.writeMessage(16, getFee());
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (sequence_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, sequence_);
+    }
+    if (orderId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, orderId_);
+    }
+    if (accountId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, accountId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(symbolId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, symbolId_);
+    }
+    if (side_ != com.earth.base.common.OrderSideEnum.BUY.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(5, side_);
+    }
+    if (status_ != com.earth.base.order.OrderStatusEnum.NEW.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(6, status_);
+    }
+    if (tradeId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, tradeId_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(8, getLastPrice());
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(9, getLastQuantity());
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(10, getExecutedQuantity());
+    }
+    if (((bitField0_ & 0x00000008) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(11, getExecutedAmount());
+    }
+    if (((bitField0_ & 0x00000010) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(12, getLeavesQuantity());
+    }
+    if (isMaker_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(13, isMaker_);
+    }
+    if (matchOrderId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(14, matchOrderId_);
+    }
+    if (transactTime_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(15, transactTime_);
+    }
+    if (((bitField0_ & 0x00000020) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(16, getFee());
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.earth.base.order.ExecutionReport)) {
+      return super.equals(obj);
+    }
+    com.earth.base.order.ExecutionReport other = (com.earth.base.order.ExecutionReport) obj;
+
+    if (getSequence()
+        != other.getSequence()) return false;
+    if (getOrderId()
+        != other.getOrderId()) return false;
+    if (getAccountId()
+        != other.getAccountId()) return false;
+    if (!getSymbolId()
+        .equals(other.getSymbolId())) return false;
+    if (side_ != other.side_) return false;
+    if (status_ != other.status_) return false;
+    if (getTradeId()
+        != other.getTradeId()) return false;
+    if (hasLastPrice() != other.hasLastPrice()) return false;
+    if (hasLastPrice()) {
+      if (!getLastPrice()
+          .equals(other.getLastPrice())) return false;
+    }
+    if (hasLastQuantity() != other.hasLastQuantity()) return false;
+    if (hasLastQuantity()) {
+      if (!getLastQuantity()
+          .equals(other.getLastQuantity())) return false;
+    }
+    if (hasExecutedQuantity() != other.hasExecutedQuantity()) return false;
+    if (hasExecutedQuantity()) {
+      if (!getExecutedQuantity()
+          .equals(other.getExecutedQuantity())) return false;
+    }
+    if (hasExecutedAmount() != other.hasExecutedAmount()) return false;
+    if (hasExecutedAmount()) {
+      if (!getExecutedAmount()
+          .equals(other.getExecutedAmount())) return false;
+    }
+    if (hasLeavesQuantity() != other.hasLeavesQuantity()) return false;
+    if (hasLeavesQuantity()) {
+      if (!getLeavesQuantity()
+          .equals(other.getLeavesQuantity())) return false;
+    }
+    if (getIsMaker()
+        != other.getIsMaker()) return false;
+    if (getMatchOrderId()
+        != other.getMatchOrderId()) return false;
+    if (getTransactTime()
+        != other.getTransactTime()) return false;
+    if (hasFee() != other.hasFee()) return false;
+    if (hasFee()) {
+      if (!getFee()
+          .equals(other.getFee())) return false;
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSequence());
+    hash = (37 * hash) + ORDER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getOrderId());
+    hash = (37 * hash) + ACCOUNT_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAccountId());
+    hash = (37 * hash) + SYMBOL_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getSymbolId().hashCode();
+    hash = (37 * hash) + SIDE_FIELD_NUMBER;
+    hash = (53 * hash) + side_;
+    hash = (37 * hash) + STATUS_FIELD_NUMBER;
+    hash = (53 * hash) + status_;
+    hash = (37 * hash) + TRADE_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTradeId());
+    if (hasLastPrice()) {
+      hash = (37 * hash) + LAST_PRICE_FIELD_NUMBER;
+      hash = (53 * hash) + getLastPrice().hashCode();
+    }
+    if (hasLastQuantity()) {
+      hash = (37 * hash) + LAST_QUANTITY_FIELD_NUMBER;
+      hash = (53 * hash) + getLastQuantity().hashCode();
+    }
+    if (hasExecutedQuantity()) {
+      hash = (37 * hash) + EXECUTED_QUANTITY_FIELD_NUMBER;
+      hash = (53 * hash) + getExecutedQuantity().hashCode();
+    }
+    if (hasExecutedAmount()) {
+      hash = (37 * hash) + EXECUTED_AMOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getExecutedAmount().hashCode();
+    }
+    if (hasLeavesQuantity()) {
+      hash = (37 * hash) + LEAVES_QUANTITY_FIELD_NUMBER;
+      hash = (53 * hash) + getLeavesQuantity().hashCode();
+    }
+    hash = (37 * hash) + IS_MAKER_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getIsMaker());
+    hash = (37 * hash) + MATCH_ORDER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getMatchOrderId());
+    hash = (37 * hash) + TRANSACT_TIME_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTransactTime());
+    if (hasFee()) {
+      hash = (37 * hash) + FEE_FIELD_NUMBER;
+      hash = (53 * hash) + getFee().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.earth.base.order.ExecutionReport parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.earth.base.order.ExecutionReport parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.earth.base.order.ExecutionReport parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.ExecutionReport parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.earth.base.order.ExecutionReport prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   *
+   * 执行回报
+   * 订单每次状态变化（挂单、成交、撤销、拒绝）产生一条回报，同一订单最后一条回报的状态即最终状态。
+   * Decimal 字段只填 unscaled_value/scale
+   * </pre>
+   *
+   * Protobuf type {@code com.earth.base.order.ExecutionReport}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.earth.base.order.ExecutionReport)
+      com.earth.base.order.ExecutionReportOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReport_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReport_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.earth.base.order.ExecutionReport.class, com.earth.base.order.ExecutionReport.Builder.class);
+    }
+
+    // Construct using com.earth.base.order.ExecutionReport.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getLastPriceFieldBuilder();
+        getLastQuantityFieldBuilder();
+        getExecutedQuantityFieldBuilder();
+        getExecutedAmountFieldBuilder();
+        getLeavesQuantityFieldBuilder();
+        getFeeFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      sequence_ = 0L;
+      orderId_ = 0L;
+      accountId_ = 0L;
+      symbolId_ = "";
+      side_ = 0;
+      status_ = 0;
+      tradeId_ = 0L;
+      lastPrice_ = null;
+      if (lastPriceBuilder_ != null) {
+        lastPriceBuilder_.dispose();
+        lastPriceBuilder_ = null;
+      }
+      lastQuantity_ = null;
+      if (lastQuantityBuilder_ != null) {
+        lastQuantityBuilder_.dispose();
+        lastQuantityBuilder_ = null;
+      }
+      executedQuantity_ = null;
+      if (executedQuantityBuilder_ != null) {
+        executedQuantityBuilder_.dispose();
+        executedQuantityBuilder_ = null;
+      }
+      executedAmount_ = null;
+      if (executedAmountBuilder_ != null) {
+        executedAmountBuilder_.dispose();
+        executedAmountBuilder_ = null;
+      }
+      leavesQuantity_ = null;
+      if (leavesQuantityBuilder_ != null) {
+        leavesQuantityBuilder_.dispose();
+        leavesQuantityBuilder_ = null;
+      }
+      isMaker_ = false;
+      matchOrderId_ = 0L;
+      transactTime_ = 0L;
+      fee_ = null;
+      if (feeBuilder_ != null) {
+        feeBuilder_.dispose();
+        feeBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReport_descriptor;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReport getDefaultInstanceForType() {
+      return com.earth.base.order.ExecutionReport.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReport build() {
+      com.earth.base.order.ExecutionReport result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReport buildPartial() {
+      com.earth.base.order.ExecutionReport result = new com.earth.base.order.ExecutionReport(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.earth.base.order.ExecutionReport result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.sequence_ = sequence_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.orderId_ = orderId_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.accountId_ = accountId_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.symbolId_ = symbolId_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.side_ = side_;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.status_ = status_;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.tradeId_ = tradeId_;
+      }
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000080) != 0)) {
+        result.lastPrice_ = lastPriceBuilder_ == null
+            ? lastPrice_
+            : lastPriceBuilder_.build();
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000100) != 0)) {
+        result.lastQuantity_ = lastQuantityBuilder_ == null
+            ? lastQuantity_
+            : lastQuantityBuilder_.build();
+        to_bitField0_ |= 0x00000002;
+      }
+      if (((from_bitField0_ & 0x00000200) != 0)) {
+        result.executedQuantity_ = executedQuantityBuilder_ == null
+            ? executedQuantity_
+            : executedQuantityBuilder_.build();
+        to_bitField0_ |= 0x00000004;
+      }
+      if (((from_bitField0_ & 0x00000400) != 0)) {
+        result.executedAmount_ = executedAmountBuilder_ == null
+            ? executedAmount_
+            : executedAmountBuilder_.build();
+        to_bitField0_ |= 0x00000008;
+      }
+      if (((from_bitField0_ & 0x00000800) != 0)) {
+        result.leavesQuantity_ = leavesQuantityBuilder_ == null
+            ? leavesQuantity_
+            : leavesQuantityBuilder_.build();
+        to_bitField0_ |= 0x00000010;
+      }
+      if (((from_bitField0_ & 0x00001000) != 0)) {
+        result.isMaker_ = isMaker_;
+      }
+      if (((from_bitField0_ & 0x00002000) != 0)) {
+        result.matchOrderId_ = matchOrderId_;
+      }
+      if (((from_bitField0_ & 0x00004000) != 0)) {
+        result.transactTime_ = transactTime_;
+      }
+      if (((from_bitField0_ & 0x00008000) != 0)) {
+        result.fee_ = feeBuilder_ == null
+            ? fee_
+            : feeBuilder_.build();
+        to_bitField0_ |= 0x00000020;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.earth.base.order.ExecutionReport) {
+        return mergeFrom((com.earth.base.order.ExecutionReport)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.earth.base.order.ExecutionReport other) {
+      if (other == com.earth.base.order.ExecutionReport.getDefaultInstance()) return this;
+      if (other.getSequence() != 0L) {
+        setSequence(other.getSequence());
+      }
+      if (other.getOrderId() != 0L) {
+        setOrderId(other.getOrderId());
+      }
+      if (other.getAccountId() != 0L) {
+        setAccountId(other.getAccountId());
+      }
+      if (!other.getSymbolId().isEmpty()) {
+        symbolId_ = other.symbolId_;
+        bitField0_ |= 0x00000008;
+        onChanged();
+      }
+      if (other.side_ != 0) {
+        setSideValue(other.getSideValue());
+      }
+      if (other.status_ != 0) {
+        setStatusValue(other.getStatusValue());
+      }
+      if (other.getTradeId() != 0L) {
+        setTradeId(other.getTradeId());
+      }
+      if (other.hasLastPrice()) {
+        mergeLastPrice(other.getLastPrice());
+      }
+      if (other.hasLastQuantity()) {
+        mergeLastQuantity(other.getLastQuantity());
+      }
+      if (other.hasExecutedQuantity()) {
+        mergeExecutedQuantity(other.getExecutedQuantity());
+      }
+      if (other.hasExecutedAmount()) {
+        mergeExecutedAmount(other.getExecutedAmount());
+      }
+      if (other.hasLeavesQuantity()) {
+        mergeLeavesQuantity(other.getLeavesQuantity());
+      }
+      if (other.getIsMaker() != false) {
+        setIsMaker(other.getIsMaker());
+      }
+      if (other.getMatchOrderId() != 0L) {
+        setMatchOrderId(other.getMatchOrderId());
+      }
+      if (other.getTransactTime() != 0L) {
+        setTransactTime(other.getTransactTime());
+      }
+      if (other.hasFee()) {
+        mergeFee(other.getFee());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              sequence_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              orderId_ = input.readInt64();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 24: {
+              accountId_ = input.readInt64();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 34: {
+              symbolId_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 34
+            case 40: {
+              side_ = input.readEnum();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
+            case 48: {
+              status_ = input.readEnum();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 48
+            case 56: {
+              tradeId_ = input.readInt64();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 56
+            case 66: {
+              input.readMessage(
+                  getLastPriceFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000080;
+              break;
+            } // case 66
+            case 74: {
+              input.readMessage(
+                  getLastQuantityFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000100;
+              break;
+            } // case 74
+            case 82: {
+              input.readMessage(
+                  getExecutedQuantityFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000200;
+              break;
+            } // case 82
+            case 90: {
+              input.readMessage(
+                  getExecutedAmountFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000400;
+              break;
+            } // case 90
+            case 98: {
+              input.readMessage(
+                  getLeavesQuantityFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000800;
+              break;
+            } // case 98
+            case 104: {
+              isMaker_ = input.readBool();
+              bitField0_ |= 0x00001000;
+              break;
+            } // case 104
+            case 112: {
+              matchOrderId_ = input.readInt64();
+              bitField0_ |= 0x00002000;
+              break;
+            } // case 112
+            case 120: {
+              transactTime_ = input.readInt64();
+              bitField0_ |= 0x00004000;
+              break;
+            } // case 120
+            case 130: {
+              input.readMessage(
+                  getFeeFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00008000;
+              break;
+            } // case 130
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long sequence_ ;
+    /**
+     * <pre>
+     * 回报序号，单调递增，断线重连时用于判断是否漏收
+     * </pre>
+     *
+     * <code>int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public long getSequence() {
+      return sequence_;
+    }
+    /**
+     * <pre>
+     * 回报序号，单调递增，断线重连时用于判断是否漏收
+     * </pre>
+     *
+     * <code>int64 sequence = 1;</code>
+     * @param value The sequence to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSequence(long value) {
+
+      sequence_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 回报序号，单调递增，断线重连时用于判断是否漏收
+     * </pre>
+     *
+     * <code>int64 sequence = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSequence() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      sequence_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long orderId_ ;
+    /**
+     * <code>int64 order_id = 2;</code>
+     * @return The orderId.
+     */
+    @java.lang.Override
+    public long getOrderId() {
+      return orderId_;
+    }
+    /**
+     * <code>int64 order_id = 2;</code>
+     * @param value The orderId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOrderId(long value) {
+
+      orderId_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 order_id = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOrderId() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      orderId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long accountId_ ;
+    /**
+     * <code>int64 account_id = 3;</code>
+     * @return The accountId.
+     */
+    @java.lang.Override
+    public long getAccountId() {
+      return accountId_;
+    }
+    /**
+     * <code>int64 account_id = 3;</code>
+     * @param value The accountId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAccountId(long value) {
+
+      accountId_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 account_id = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAccountId() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      accountId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object symbolId_ = "";
+    /**
+     * <code>string symbol_id = 4;</code>
+     * @return The symbolId.
+     */
+    public java.lang.String getSymbolId() {
+      java.lang.Object ref = symbolId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        symbolId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string symbol_id = 4;</code>
+     * @return The bytes for symbolId.
+     */
+    public com.google.protobuf.ByteString
+        getSymbolIdBytes() {
+      java.lang.Object ref = symbolId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        symbolId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string symbol_id = 4;</code>
+     * @param value The symbolId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSymbolId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      symbolId_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string symbol_id = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSymbolId() {
+      symbolId_ = getDefaultInstance().getSymbolId();
+      bitField0_ = (bitField0_ & ~0x00000008);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string symbol_id = 4;</code>
+     * @param value The bytes for symbolId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSymbolIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      symbolId_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+
+    private int side_ = 0;
+    /**
+     * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+     * @return The enum numeric value on the wire for side.
+     */
+    @java.lang.Override public int getSideValue() {
+      return side_;
+    }
+    /**
+     * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+     * @param value The enum numeric value on the wire for side to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSideValue(int value) {
+      side_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+     * @return The side.
+     */
+    @java.lang.Override
+    public com.earth.base.common.OrderSideEnum getSide() {
+      com.earth.base.common.OrderSideEnum result = com.earth.base.common.OrderSideEnum.forNumber(side_);
+      return result == null ? com.earth.base.common.OrderSideEnum.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+     * @param value The side to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSide(com.earth.base.common.OrderSideEnum value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000010;
+      side_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSide() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      side_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int status_ = 0;
+    /**
+     * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+     * @param value The enum numeric value on the wire for status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatusValue(int value) {
+      status_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public com.earth.base.order.OrderStatusEnum getStatus() {
+      com.earth.base.order.OrderStatusEnum result = com.earth.base.order.OrderStatusEnum.forNumber(status_);
+      return result == null ? com.earth.base.order.OrderStatusEnum.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+     * @param value The status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatus(com.earth.base.order.OrderStatusEnum value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000020;
+      status_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStatus() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      status_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long tradeId_ ;
+    /**
+     * <pre>
+     * 成交编号，非成交回报为 0
+     * </pre>
+     *
+     * <code>int64 trade_id = 7;</code>
+     * @return The tradeId.
+     */
+    @java.lang.Override
+    public long getTradeId() {
+      return tradeId_;
+    }
+    /**
+     * <pre>
+     * 成交编号，非成交回报为 0
+     * </pre>
+     *
+     * <code>int64 trade_id = 7;</code>
+     * @param value The tradeId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTradeId(long value) {
+
+      tradeId_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 成交编号，非成交回报为 0
+     * </pre>
+     *
+     * <code>int64 trade_id = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTradeId() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      tradeId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.earth.base.common.Decimal lastPrice_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> lastPriceBuilder_;
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     * @return Whether the lastPrice field is set.
+     */
+    public boolean hasLastPrice() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     * @return The lastPrice.
+     */
+    public com.earth.base.common.Decimal getLastPrice() {
+      if (lastPriceBuilder_ == null) {
+        return lastPrice_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : lastPrice_;
+      } else {
+        return lastPriceBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     */
+    public Builder setLastPrice(com.earth.base.common.Decimal value) {
+      if (lastPriceBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        lastPrice_ = value;
+      } else {
+        lastPriceBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     */
+    public Builder setLastPrice(
+        com.earth.base.common.Decimal.Builder builderForValue) {
+      if (lastPriceBuilder_ == null) {
+        lastPrice_ = builderForValue.build();
+      } else {
+        lastPriceBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     */
+    public Builder mergeLastPrice(com.earth.base.common.Decimal value) {
+      if (lastPriceBuilder_ == null) {
+        if (((bitField0_ & 0x00000080) != 0) &&
+          lastPrice_ != null &&
+          lastPrice_ != com.earth.base.common.Decimal.getDefaultInstance()) {
+          getLastPriceBuilder().mergeFrom(value);
+        } else {
+          lastPrice_ = value;
+        }
+      } else {
+        lastPriceBuilder_.mergeFrom(value);
+      }
+      if (lastPrice_ != null) {
+        bitField0_ |= 0x00000080;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     */
+    public Builder clearLastPrice() {
+      bitField0_ = (bitField0_ & ~0x00000080);
+      lastPrice_ = null;
+      if (lastPriceBuilder_ != null) {
+        lastPriceBuilder_.dispose();
+        lastPriceBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     */
+    public com.earth.base.common.Decimal.Builder getLastPriceBuilder() {
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return getLastPriceFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     */
+    public com.earth.base.common.DecimalOrBuilder getLastPriceOrBuilder() {
+      if (lastPriceBuilder_ != null) {
+        return lastPriceBuilder_.getMessageOrBuilder();
+      } else {
+        return lastPrice_ == null ?
+            com.earth.base.common.Decimal.getDefaultInstance() : lastPrice_;
+      }
+    }
+    /**
+     * <pre>
+     * 本次成交价
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
+        getLastPriceFieldBuilder() {
+      if (lastPriceBuilder_ == null) {
+        lastPriceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder>(
+                getLastPrice(),
+                getParentForChildren(),
+                isClean());
+        lastPrice_ = null;
+      }
+      return lastPriceBuilder_;
+    }
+
+    private com.earth.base.common.Decimal lastQuantity_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> lastQuantityBuilder_;
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     * @return Whether the lastQuantity field is set.
+     */
+    public boolean hasLastQuantity() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     * @return The lastQuantity.
+     */
+    public com.earth.base.common.Decimal getLastQuantity() {
+      if (lastQuantityBuilder_ == null) {
+        return lastQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : lastQuantity_;
+      } else {
+        return lastQuantityBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     */
+    public Builder setLastQuantity(com.earth.base.common.Decimal value) {
+      if (lastQuantityBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        lastQuantity_ = value;
+      } else {
+        lastQuantityBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     */
+    public Builder setLastQuantity(
+        com.earth.base.common.Decimal.Builder builderForValue) {
+      if (lastQuantityBuilder_ == null) {
+        lastQuantity_ = builderForValue.build();
+      } else {
+        lastQuantityBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     */
+    public Builder mergeLastQuantity(com.earth.base.common.Decimal value) {
+      if (lastQuantityBuilder_ == null) {
+        if (((bitField0_ & 0x00000100) != 0) &&
+          lastQuantity_ != null &&
+          lastQuantity_ != com.earth.base.common.Decimal.getDefaultInstance()) {
+          getLastQuantityBuilder().mergeFrom(value);
+        } else {
+          lastQuantity_ = value;
+        }
+      } else {
+        lastQuantityBuilder_.mergeFrom(value);
+      }
+      if (lastQuantity_ != null) {
+        bitField0_ |= 0x00000100;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     */
+    public Builder clearLastQuantity() {
+      bitField0_ = (bitField0_ & ~0x00000100);
+      lastQuantity_ = null;
+      if (lastQuantityBuilder_ != null) {
+        lastQuantityBuilder_.dispose();
+        lastQuantityBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     */
+    public com.earth.base.common.Decimal.Builder getLastQuantityBuilder() {
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return getLastQuantityFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     */
+    public com.earth.base.common.DecimalOrBuilder getLastQuantityOrBuilder() {
+      if (lastQuantityBuilder_ != null) {
+        return lastQuantityBuilder_.getMessageOrBuilder();
+      } else {
+        return lastQuantity_ == null ?
+            com.earth.base.common.Decimal.getDefaultInstance() : lastQuantity_;
+      }
+    }
+    /**
+     * <pre>
+     * 本次成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
+        getLastQuantityFieldBuilder() {
+      if (lastQuantityBuilder_ == null) {
+        lastQuantityBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder>(
+                getLastQuantity(),
+                getParentForChildren(),
+                isClean());
+        lastQuantity_ = null;
+      }
+      return lastQuantityBuilder_;
+    }
+
+    private com.earth.base.common.Decimal executedQuantity_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> executedQuantityBuilder_;
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     * @return Whether the executedQuantity field is set.
+     */
+    public boolean hasExecutedQuantity() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     * @return The executedQuantity.
+     */
+    public com.earth.base.common.Decimal getExecutedQuantity() {
+      if (executedQuantityBuilder_ == null) {
+        return executedQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : executedQuantity_;
+      } else {
+        return executedQuantityBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     */
+    public Builder setExecutedQuantity(com.earth.base.common.Decimal value) {
+      if (executedQuantityBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        executedQuantity_ = value;
+      } else {
+        executedQuantityBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000200;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     */
+    public Builder setExecutedQuantity(
+        com.earth.base.common.Decimal.Builder builderForValue) {
+      if (executedQuantityBuilder_ == null) {
+        executedQuantity_ = builderForValue.build();
+      } else {
+        executedQuantityBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000200;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     */
+    public Builder mergeExecutedQuantity(com.earth.base.common.Decimal value) {
+      if (executedQuantityBuilder_ == null) {
+        if (((bitField0_ & 0x00000200) != 0) &&
+          executedQuantity_ != null &&
+          executedQuantity_ != com.earth.base.common.Decimal.getDefaultInstance()) {
+          getExecutedQuantityBuilder().mergeFrom(value);
+        } else {
+          executedQuantity_ = value;
+        }
+      } else {
+        executedQuantityBuilder_.mergeFrom(value);
+      }
+      if (executedQuantity_ != null) {
+        bitField0_ |= 0x00000200;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     */
+    public Builder clearExecutedQuantity() {
+      bitField0_ = (bitField0_ & ~0x00000200);
+      executedQuantity_ = null;
+      if (executedQuantityBuilder_ != null) {
+        executedQuantityBuilder_.dispose();
+        executedQuantityBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     */
+    public com.earth.base.common.Decimal.Builder getExecutedQuantityBuilder() {
+      bitField0_ |= 0x00000200;
+      onChanged();
+      return getExecutedQuantityFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     */
+    public com.earth.base.common.DecimalOrBuilder getExecutedQuantityOrBuilder() {
+      if (executedQuantityBuilder_ != null) {
+        return executedQuantityBuilder_.getMessageOrBuilder();
+      } else {
+        return executedQuantity_ == null ?
+            com.earth.base.common.Decimal.getDefaultInstance() : executedQuantity_;
+      }
+    }
+    /**
+     * <pre>
+     * 累计成交数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
+        getExecutedQuantityFieldBuilder() {
+      if (executedQuantityBuilder_ == null) {
+        executedQuantityBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder>(
+                getExecutedQuantity(),
+                getParentForChildren(),
+                isClean());
+        executedQuantity_ = null;
+      }
+      return executedQuantityBuilder_;
+    }
+
+    private com.earth.base.common.Decimal executedAmount_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> executedAmountBuilder_;
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     * @return Whether the executedAmount field is set.
+     */
+    public boolean hasExecutedAmount() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     * @return The executedAmount.
+     */
+    public com.earth.base.common.Decimal getExecutedAmount() {
+      if (executedAmountBuilder_ == null) {
+        return executedAmount_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : executedAmount_;
+      } else {
+        return executedAmountBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     */
+    public Builder setExecutedAmount(com.earth.base.common.Decimal value) {
+      if (executedAmountBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        executedAmount_ = value;
+      } else {
+        executedAmountBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000400;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     */
+    public Builder setExecutedAmount(
+        com.earth.base.common.Decimal.Builder builderForValue) {
+      if (executedAmountBuilder_ == null) {
+        executedAmount_ = builderForValue.build();
+      } else {
+        executedAmountBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000400;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     */
+    public Builder mergeExecutedAmount(com.earth.base.common.Decimal value) {
+      if (executedAmountBuilder_ == null) {
+        if (((bitField0_ & 0x00000400) != 0) &&
+          executedAmount_ != null &&
+          executedAmount_ != com.earth.base.common.Decimal.getDefaultInstance()) {
+          getExecutedAmountBuilder().mergeFrom(value);
+        } else {
+          executedAmount_ = value;
+        }
+      } else {
+        executedAmountBuilder_.mergeFrom(value);
+      }
+      if (executedAmount_ != null) {
+        bitField0_ |= 0x00000400;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     */
+    public Builder clearExecutedAmount() {
+      bitField0_ = (bitField0_ & ~0x00000400);
+      executedAmount_ = null;
+      if (executedAmountBuilder_ != null) {
+        executedAmountBuilder_.dispose();
+        executedAmountBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     */
+    public com.earth.base.common.Decimal.Builder getExecutedAmountBuilder() {
+      bitField0_ |= 0x00000400;
+      onChanged();
+      return getExecutedAmountFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     */
+    public com.earth.base.common.DecimalOrBuilder getExecutedAmountOrBuilder() {
+      if (executedAmountBuilder_ != null) {
+        return executedAmountBuilder_.getMessageOrBuilder();
+      } else {
+        return executedAmount_ == null ?
+            com.earth.base.common.Decimal.getDefaultInstance() : executedAmount_;
+      }
+    }
+    /**
+     * <pre>
+     * 累计成交金额（仅主动方）
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
+        getExecutedAmountFieldBuilder() {
+      if (executedAmountBuilder_ == null) {
+        executedAmountBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder>(
+                getExecutedAmount(),
+                getParentForChildren(),
+                isClean());
+        executedAmount_ = null;
+      }
+      return executedAmountBuilder_;
+    }
+
+    private com.earth.base.common.Decimal leavesQuantity_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> leavesQuantityBuilder_;
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     * @return Whether the leavesQuantity field is set.
+     */
+    public boolean hasLeavesQuantity() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     * @return The leavesQuantity.
+     */
+    public com.earth.base.common.Decimal getLeavesQuantity() {
+      if (leavesQuantityBuilder_ == null) {
+        return leavesQuantity_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : leavesQuantity_;
+      } else {
+        return leavesQuantityBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     */
+    public Builder setLeavesQuantity(com.earth.base.common.Decimal value) {
+      if (leavesQuantityBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        leavesQuantity_ = value;
+      } else {
+        leavesQuantityBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000800;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     */
+    public Builder setLeavesQuantity(
+        com.earth.base.common.Decimal.Builder builderForValue) {
+      if (leavesQuantityBuilder_ == null) {
+        leavesQuantity_ = builderForValue.build();
+      } else {
+        leavesQuantityBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000800;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     */
+    public Builder mergeLeavesQuantity(com.earth.base.common.Decimal value) {
+      if (leavesQuantityBuilder_ == null) {
+        if (((bitField0_ & 0x00000800) != 0) &&
+          leavesQuantity_ != null &&
+          leavesQuantity_ != com.earth.base.common.Decimal.getDefaultInstance()) {
+          getLeavesQuantityBuilder().mergeFrom(value);
+        } else {
+          leavesQuantity_ = value;
+        }
+      } else {
+        leavesQuantityBuilder_.mergeFrom(value);
+      }
+      if (leavesQuantity_ != null) {
+        bitField0_ |= 0x00000800;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     */
+    public Builder clearLeavesQuantity() {
+      bitField0_ = (bitField0_ & ~0x00000800);
+      leavesQuantity_ = null;
+      if (leavesQuantityBuilder_ != null) {
+        leavesQuantityBuilder_.dispose();
+        leavesQuantityBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     */
+    public com.earth.base.common.Decimal.Builder getLeavesQuantityBuilder() {
+      bitField0_ |= 0x00000800;
+      onChanged();
+      return getLeavesQuantityFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     */
+    public com.earth.base.common.DecimalOrBuilder getLeavesQuantityOrBuilder() {
+      if (leavesQuantityBuilder_ != null) {
+        return leavesQuantityBuilder_.getMessageOrBuilder();
+      } else {
+        return leavesQuantity_ == null ?
+            com.earth.base.common.Decimal.getDefaultInstance() : leavesQuantity_;
+      }
+    }
+    /**
+     * <pre>
+     * 剩余数量
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
+        getLeavesQuantityFieldBuilder() {
+      if (leavesQuantityBuilder_ == null) {
+        leavesQuantityBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder>(
+                getLeavesQuantity(),
+                getParentForChildren(),
+                isClean());
+        leavesQuantity_ = null;
+      }
+      return leavesQuantityBuilder_;
+    }
+
+    private boolean isMaker_ ;
+    /**
+     * <code>bool is_maker = 13;</code>
+     * @return The isMaker.
+     */
+    @java.lang.Override
+    public boolean getIsMaker() {
+      return isMaker_;
+    }
+    /**
+     * <code>bool is_maker = 13;</code>
+     * @param value The isMaker to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsMaker(boolean value) {
+
+      isMaker_ = value;
+      bitField0_ |= 0x00001000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool is_maker = 13;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIsMaker() {
+      bitField0_ = (bitField0_ & ~0x00001000);
+      isMaker_ = false;
+      onChanged();
+      return this;
+    }
+
+    private long matchOrderId_ ;
+    /**
+     * <pre>
+     * 对手方订单ID
+     * </pre>
+     *
+     * <code>int64 match_order_id = 14;</code>
+     * @return The matchOrderId.
+     */
+    @java.lang.Override
+    public long getMatchOrderId() {
+      return matchOrderId_;
+    }
+    /**
+     * <pre>
+     * 对手方订单ID
+     * </pre>
+     *
+     * <code>int64 match_order_id = 14;</code>
+     * @param value The matchOrderId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMatchOrderId(long value) {
+
+      matchOrderId_ = value;
+      bitField0_ |= 0x00002000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 对手方订单ID
+     * </pre>
+     *
+     * <code>int64 match_order_id = 14;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMatchOrderId() {
+      bitField0_ = (bitField0_ & ~0x00002000);
+      matchOrderId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long transactTime_ ;
+    /**
+     * <pre>
+     * 撮合时间，毫秒
+     * </pre>
+     *
+     * <code>int64 transact_time = 15;</code>
+     * @return The transactTime.
+     */
+    @java.lang.Override
+    public long getTransactTime() {
+      return transactTime_;
+    }
+    /**
+     * <pre>
+     * 撮合时间，毫秒
+     * </pre>
+     *
+     * <code>int64 transact_time = 15;</code>
+     * @param value The transactTime to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTransactTime(long value) {
+
+      transactTime_ = value;
+      bitField0_ |= 0x00004000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 撮合时间，毫秒
+     * </pre>
+     *
+     * <code>int64 transact_time = 15;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTransactTime() {
+      bitField0_ = (bitField0_ & ~0x00004000);
+      transactTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.earth.base.common.Decimal fee_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> feeBuilder_;
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     * @return Whether the fee field is set.
+     */
+    public boolean hasFee() {
+      return ((bitField0_ & 0x00008000) != 0);
+    }
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     * @return The fee.
+     */
+    public com.earth.base.common.Decimal getFee() {
+      if (feeBuilder_ == null) {
+        return fee_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : fee_;
+      } else {
+        return feeBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     */
+    public Builder setFee(com.earth.base.common.Decimal value) {
+      if (feeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        fee_ = value;
+      } else {
+        feeBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00008000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     */
+    public Builder setFee(
+        com.earth.base.common.Decimal.Builder builderForValue) {
+      if (feeBuilder_ == null) {
+        fee_ = builderForValue.build();
+      } else {
+        feeBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00008000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     */
+    public Builder mergeFee(com.earth.base.common.Decimal value) {
+      if (feeBuilder_ == null) {
+        if (((bitField0_ & 0x00008000) != 0) &&
+          fee_ != null &&
+          fee_ != com.earth.base.common.Decimal.getDefaultInstance()) {
+          getFeeBuilder().mergeFrom(value);
+        } else {
+          fee_ = value;
+        }
+      } else {
+        feeBuilder_.mergeFrom(value);
+      }
+      if (fee_ != null) {
+        bitField0_ |= 0x00008000;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     */
+    public Builder clearFee() {
+      bitField0_ = (bitField0_ & ~0x00008000);
+      fee_ = null;
+      if (feeBuilder_ != null) {
+        feeBuilder_.dispose();
+        feeBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     */
+    public com.earth.base.common.Decimal.Builder getFeeBuilder() {
+      bitField0_ |= 0x00008000;
+      onChanged();
+      return getFeeFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     */
+    public com.earth.base.common.DecimalOrBuilder getFeeOrBuilder() {
+      if (feeBuilder_ != null) {
+        return feeBuilder_.getMessageOrBuilder();
+      } else {
+        return fee_ == null ?
+            com.earth.base.common.Decimal.getDefaultInstance() : fee_;
+      }
+    }
+    /**
+     * <pre>
+     * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal fee = 16;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
+        getFeeFieldBuilder() {
+      if (feeBuilder_ == null) {
+        feeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder>(
+                getFee(),
+                getParentForChildren(),
+                isClean());
+        fee_ = null;
+      }
+      return feeBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.earth.base.order.ExecutionReport)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.earth.base.order.ExecutionReport)
+  private static final com.earth.base.order.ExecutionReport DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.earth.base.order.ExecutionReport();
+  }
+
+  public static com.earth.base.order.ExecutionReport getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ExecutionReport>
+      PARSER = new com.google.protobuf.AbstractParser<ExecutionReport>() {
+    @java.lang.Override
+    public ExecutionReport parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ExecutionReport> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ExecutionReport> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReport getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,760 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+/**
+ * Protobuf type {@code com.earth.base.order.ExecutionReportBatch}
+ */
+public final class ExecutionReportBatch extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.earth.base.order.ExecutionReportBatch)
+    ExecutionReportBatchOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ExecutionReportBatch.newBuilder() to construct.
+  private ExecutionReportBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ExecutionReportBatch() {
+    reports_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ExecutionReportBatch();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportBatch_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportBatch_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.earth.base.order.ExecutionReportBatch.class, com.earth.base.order.ExecutionReportBatch.Builder.class);
+  }
+
+  public static final int REPORTS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<com.earth.base.order.ExecutionReport> reports_;
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.earth.base.order.ExecutionReport> getReportsList() {
+    return reports_;
+  }
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.earth.base.order.ExecutionReportOrBuilder> 
+      getReportsOrBuilderList() {
+    return reports_;
+  }
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  @java.lang.Override
+  public int getReportsCount() {
+    return reports_.size();
+  }
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReport getReports(int index) {
+    return reports_.get(index);
+  }
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReportOrBuilder getReportsOrBuilder(
+      int index) {
+    return reports_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < reports_.size(); i++) {
+      output.writeMessage(1, reports_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < reports_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, reports_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.earth.base.order.ExecutionReportBatch)) {
+      return super.equals(obj);
+    }
+    com.earth.base.order.ExecutionReportBatch other = (com.earth.base.order.ExecutionReportBatch) obj;
+
+    if (!getReportsList()
+        .equals(other.getReportsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getReportsCount() > 0) {
+      hash = (37 * hash) + REPORTS_FIELD_NUMBER;
+      hash = (53 * hash) + getReportsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.earth.base.order.ExecutionReportBatch parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.earth.base.order.ExecutionReportBatch parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.ExecutionReportBatch parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.earth.base.order.ExecutionReportBatch prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code com.earth.base.order.ExecutionReportBatch}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.earth.base.order.ExecutionReportBatch)
+      com.earth.base.order.ExecutionReportBatchOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.earth.base.order.ExecutionReportBatch.class, com.earth.base.order.ExecutionReportBatch.Builder.class);
+    }
+
+    // Construct using com.earth.base.order.ExecutionReportBatch.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (reportsBuilder_ == null) {
+        reports_ = java.util.Collections.emptyList();
+      } else {
+        reports_ = null;
+        reportsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportBatch_descriptor;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportBatch getDefaultInstanceForType() {
+      return com.earth.base.order.ExecutionReportBatch.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportBatch build() {
+      com.earth.base.order.ExecutionReportBatch result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportBatch buildPartial() {
+      com.earth.base.order.ExecutionReportBatch result = new com.earth.base.order.ExecutionReportBatch(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(com.earth.base.order.ExecutionReportBatch result) {
+      if (reportsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          reports_ = java.util.Collections.unmodifiableList(reports_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.reports_ = reports_;
+      } else {
+        result.reports_ = reportsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(com.earth.base.order.ExecutionReportBatch result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.earth.base.order.ExecutionReportBatch) {
+        return mergeFrom((com.earth.base.order.ExecutionReportBatch)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.earth.base.order.ExecutionReportBatch other) {
+      if (other == com.earth.base.order.ExecutionReportBatch.getDefaultInstance()) return this;
+      if (reportsBuilder_ == null) {
+        if (!other.reports_.isEmpty()) {
+          if (reports_.isEmpty()) {
+            reports_ = other.reports_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureReportsIsMutable();
+            reports_.addAll(other.reports_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.reports_.isEmpty()) {
+          if (reportsBuilder_.isEmpty()) {
+            reportsBuilder_.dispose();
+            reportsBuilder_ = null;
+            reports_ = other.reports_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            reportsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getReportsFieldBuilder() : null;
+          } else {
+            reportsBuilder_.addAllMessages(other.reports_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.earth.base.order.ExecutionReport m =
+                  input.readMessage(
+                      com.earth.base.order.ExecutionReport.parser(),
+                      extensionRegistry);
+              if (reportsBuilder_ == null) {
+                ensureReportsIsMutable();
+                reports_.add(m);
+              } else {
+                reportsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.earth.base.order.ExecutionReport> reports_ =
+      java.util.Collections.emptyList();
+    private void ensureReportsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        reports_ = new java.util.ArrayList<com.earth.base.order.ExecutionReport>(reports_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.earth.base.order.ExecutionReport, com.earth.base.order.ExecutionReport.Builder, com.earth.base.order.ExecutionReportOrBuilder> reportsBuilder_;
+
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public java.util.List<com.earth.base.order.ExecutionReport> getReportsList() {
+      if (reportsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(reports_);
+      } else {
+        return reportsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public int getReportsCount() {
+      if (reportsBuilder_ == null) {
+        return reports_.size();
+      } else {
+        return reportsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public com.earth.base.order.ExecutionReport getReports(int index) {
+      if (reportsBuilder_ == null) {
+        return reports_.get(index);
+      } else {
+        return reportsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder setReports(
+        int index, com.earth.base.order.ExecutionReport value) {
+      if (reportsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureReportsIsMutable();
+        reports_.set(index, value);
+        onChanged();
+      } else {
+        reportsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder setReports(
+        int index, com.earth.base.order.ExecutionReport.Builder builderForValue) {
+      if (reportsBuilder_ == null) {
+        ensureReportsIsMutable();
+        reports_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        reportsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder addReports(com.earth.base.order.ExecutionReport value) {
+      if (reportsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureReportsIsMutable();
+        reports_.add(value);
+        onChanged();
+      } else {
+        reportsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder addReports(
+        int index, com.earth.base.order.ExecutionReport value) {
+      if (reportsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureReportsIsMutable();
+        reports_.add(index, value);
+        onChanged();
+      } else {
+        reportsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder addReports(
+        com.earth.base.order.ExecutionReport.Builder builderForValue) {
+      if (reportsBuilder_ == null) {
+        ensureReportsIsMutable();
+        reports_.add(builderForValue.build());
+        onChanged();
+      } else {
+        reportsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder addReports(
+        int index, com.earth.base.order.ExecutionReport.Builder builderForValue) {
+      if (reportsBuilder_ == null) {
+        ensureReportsIsMutable();
+        reports_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        reportsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder addAllReports(
+        java.lang.Iterable<? extends com.earth.base.order.ExecutionReport> values) {
+      if (reportsBuilder_ == null) {
+        ensureReportsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, reports_);
+        onChanged();
+      } else {
+        reportsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder clearReports() {
+      if (reportsBuilder_ == null) {
+        reports_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        reportsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public Builder removeReports(int index) {
+      if (reportsBuilder_ == null) {
+        ensureReportsIsMutable();
+        reports_.remove(index);
+        onChanged();
+      } else {
+        reportsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public com.earth.base.order.ExecutionReport.Builder getReportsBuilder(
+        int index) {
+      return getReportsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public com.earth.base.order.ExecutionReportOrBuilder getReportsOrBuilder(
+        int index) {
+      if (reportsBuilder_ == null) {
+        return reports_.get(index);  } else {
+        return reportsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public java.util.List<? extends com.earth.base.order.ExecutionReportOrBuilder> 
+         getReportsOrBuilderList() {
+      if (reportsBuilder_ != null) {
+        return reportsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(reports_);
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public com.earth.base.order.ExecutionReport.Builder addReportsBuilder() {
+      return getReportsFieldBuilder().addBuilder(
+          com.earth.base.order.ExecutionReport.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public com.earth.base.order.ExecutionReport.Builder addReportsBuilder(
+        int index) {
+      return getReportsFieldBuilder().addBuilder(
+          index, com.earth.base.order.ExecutionReport.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+     */
+    public java.util.List<com.earth.base.order.ExecutionReport.Builder> 
+         getReportsBuilderList() {
+      return getReportsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.earth.base.order.ExecutionReport, com.earth.base.order.ExecutionReport.Builder, com.earth.base.order.ExecutionReportOrBuilder> 
+        getReportsFieldBuilder() {
+      if (reportsBuilder_ == null) {
+        reportsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.earth.base.order.ExecutionReport, com.earth.base.order.ExecutionReport.Builder, com.earth.base.order.ExecutionReportOrBuilder>(
+                reports_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        reports_ = null;
+      }
+      return reportsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.earth.base.order.ExecutionReportBatch)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.earth.base.order.ExecutionReportBatch)
+  private static final com.earth.base.order.ExecutionReportBatch DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.earth.base.order.ExecutionReportBatch();
+  }
+
+  public static com.earth.base.order.ExecutionReportBatch getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ExecutionReportBatch>
+      PARSER = new com.google.protobuf.AbstractParser<ExecutionReportBatch>() {
+    @java.lang.Override
+    public ExecutionReportBatch parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ExecutionReportBatch> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ExecutionReportBatch> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReportBatch getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
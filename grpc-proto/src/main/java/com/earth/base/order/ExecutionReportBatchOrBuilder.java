@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+public interface ExecutionReportBatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.earth.base.order.ExecutionReportBatch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  java.util.List<com.earth.base.order.ExecutionReport> 
+      getReportsList();
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  com.earth.base.order.ExecutionReport getReports(int index);
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  int getReportsCount();
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  java.util.List<? extends com.earth.base.order.ExecutionReportOrBuilder> 
+      getReportsOrBuilderList();
+  /**
+   * <code>repeated .com.earth.base.order.ExecutionReport reports = 1;</code>
+   */
+  com.earth.base.order.ExecutionReportOrBuilder getReportsOrBuilder(
+      int index);
+}
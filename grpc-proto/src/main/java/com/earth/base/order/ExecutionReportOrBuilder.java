@@ -0,0 +1,264 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+public interface ExecutionReportOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.earth.base.order.ExecutionReport)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 回报序号，单调递增，断线重连时用于判断是否漏收
+   * </pre>
+   *
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  long getSequence();
+
+  /**
+   * <code>int64 order_id = 2;</code>
+   * @return The orderId.
+   */
+  long getOrderId();
+
+  /**
+   * <code>int64 account_id = 3;</code>
+   * @return The accountId.
+   */
+  long getAccountId();
+
+  /**
+   * <code>string symbol_id = 4;</code>
+   * @return The symbolId.
+   */
+  java.lang.String getSymbolId();
+  /**
+   * <code>string symbol_id = 4;</code>
+   * @return The bytes for symbolId.
+   */
+  com.google.protobuf.ByteString
+      getSymbolIdBytes();
+
+  /**
+   * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+   * @return The enum numeric value on the wire for side.
+   */
+  int getSideValue();
+  /**
+   * <code>.com.earth.base.common.OrderSideEnum side = 5;</code>
+   * @return The side.
+   */
+  com.earth.base.common.OrderSideEnum getSide();
+
+  /**
+   * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  int getStatusValue();
+  /**
+   * <code>.com.earth.base.order.OrderStatusEnum status = 6;</code>
+   * @return The status.
+   */
+  com.earth.base.order.OrderStatusEnum getStatus();
+
+  /**
+   * <pre>
+   * 成交编号，非成交回报为 0
+   * </pre>
+   *
+   * <code>int64 trade_id = 7;</code>
+   * @return The tradeId.
+   */
+  long getTradeId();
+
+  /**
+   * <pre>
+   * 本次成交价
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+   * @return Whether the lastPrice field is set.
+   */
+  boolean hasLastPrice();
+  /**
+   * <pre>
+   * 本次成交价
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+   * @return The lastPrice.
+   */
+  com.earth.base.common.Decimal getLastPrice();
+  /**
+   * <pre>
+   * 本次成交价
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_price = 8;</code>
+   */
+  com.earth.base.common.DecimalOrBuilder getLastPriceOrBuilder();
+
+  /**
+   * <pre>
+   * 本次成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+   * @return Whether the lastQuantity field is set.
+   */
+  boolean hasLastQuantity();
+  /**
+   * <pre>
+   * 本次成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+   * @return The lastQuantity.
+   */
+  com.earth.base.common.Decimal getLastQuantity();
+  /**
+   * <pre>
+   * 本次成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal last_quantity = 9;</code>
+   */
+  com.earth.base.common.DecimalOrBuilder getLastQuantityOrBuilder();
+
+  /**
+   * <pre>
+   * 累计成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+   * @return Whether the executedQuantity field is set.
+   */
+  boolean hasExecutedQuantity();
+  /**
+   * <pre>
+   * 累计成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+   * @return The executedQuantity.
+   */
+  com.earth.base.common.Decimal getExecutedQuantity();
+  /**
+   * <pre>
+   * 累计成交数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_quantity = 10;</code>
+   */
+  com.earth.base.common.DecimalOrBuilder getExecutedQuantityOrBuilder();
+
+  /**
+   * <pre>
+   * 累计成交金额（仅主动方）
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+   * @return Whether the executedAmount field is set.
+   */
+  boolean hasExecutedAmount();
+  /**
+   * <pre>
+   * 累计成交金额（仅主动方）
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+   * @return The executedAmount.
+   */
+  com.earth.base.common.Decimal getExecutedAmount();
+  /**
+   * <pre>
+   * 累计成交金额（仅主动方）
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal executed_amount = 11;</code>
+   */
+  com.earth.base.common.DecimalOrBuilder getExecutedAmountOrBuilder();
+
+  /**
+   * <pre>
+   * 剩余数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+   * @return Whether the leavesQuantity field is set.
+   */
+  boolean hasLeavesQuantity();
+  /**
+   * <pre>
+   * 剩余数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+   * @return The leavesQuantity.
+   */
+  com.earth.base.common.Decimal getLeavesQuantity();
+  /**
+   * <pre>
+   * 剩余数量
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal leaves_quantity = 12;</code>
+   */
+  com.earth.base.common.DecimalOrBuilder getLeavesQuantityOrBuilder();
+
+  /**
+   * <code>bool is_maker = 13;</code>
+   * @return The isMaker.
+   */
+  boolean getIsMaker();
+
+  /**
+   * <pre>
+   * 对手方订单ID
+   * </pre>
+   *
+   * <code>int64 match_order_id = 14;</code>
+   * @return The matchOrderId.
+   */
+  long getMatchOrderId();
+
+  /**
+   * <pre>
+   * 撮合时间，毫秒
+   * </pre>
+   *
+   * <code>int64 transact_time = 15;</code>
+   * @return The transactTime.
+   */
+  long getTransactTime();
+
+  /**
+   * <pre>
+   * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal fee = 16;</code>
+   * @return Whether the fee field is set.
+   */
+  boolean hasFee();
+  /**
+   * <pre>
+   * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal fee = 16;</code>
+   * @return The fee.
+   */
+  com.earth.base.common.Decimal getFee();
+  /**
+   * <pre>
+   * 本次成交手续费，以收到的资产计（买方为基础资产，卖方为计价资产），负数为返佣
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal fee = 16;</code>
+   */
+  com.earth.base.common.DecimalOrBuilder getFeeOrBuilder();
+}
@@ -0,0 +1,499 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+/**
+ * <pre>
+ *
+ * 执行回报订阅请求
+ * </pre>
+ *
+ * Protobuf type {@code com.earth.base.order.ExecutionReportSubscribeRequest}
+ */
+public final class ExecutionReportSubscribeRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.earth.base.order.ExecutionReportSubscribeRequest)
+    ExecutionReportSubscribeRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ExecutionReportSubscribeRequest.newBuilder() to construct.
+  private ExecutionReportSubscribeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ExecutionReportSubscribeRequest() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ExecutionReportSubscribeRequest();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.earth.base.order.ExecutionReportSubscribeRequest.class, com.earth.base.order.ExecutionReportSubscribeRequest.Builder.class);
+  }
+
+  public static final int ACCOUNT_ID_FIELD_NUMBER = 1;
+  private long accountId_ = 0L;
+  /**
+   * <pre>
+   * 只订阅该账户的回报，0 表示全部账户
+   * </pre>
+   *
+   * <code>int64 account_id = 1;</code>
+   * @return The accountId.
+   */
+  @java.lang.Override
+  public long getAccountId() {
+    return accountId_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (accountId_ != 0L) {
+      output.writeInt64(1, accountId_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (accountId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, accountId_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.earth.base.order.ExecutionReportSubscribeRequest)) {
+      return super.equals(obj);
+    }
+    com.earth.base.order.ExecutionReportSubscribeRequest other = (com.earth.base.order.ExecutionReportSubscribeRequest) obj;
+
+    if (getAccountId()
+        != other.getAccountId()) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ACCOUNT_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getAccountId());
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.ExecutionReportSubscribeRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.earth.base.order.ExecutionReportSubscribeRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   *
+   * 执行回报订阅请求
+   * </pre>
+   *
+   * Protobuf type {@code com.earth.base.order.ExecutionReportSubscribeRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.earth.base.order.ExecutionReportSubscribeRequest)
+      com.earth.base.order.ExecutionReportSubscribeRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.earth.base.order.ExecutionReportSubscribeRequest.class, com.earth.base.order.ExecutionReportSubscribeRequest.Builder.class);
+    }
+
+    // Construct using com.earth.base.order.ExecutionReportSubscribeRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      accountId_ = 0L;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportSubscribeRequest getDefaultInstanceForType() {
+      return com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportSubscribeRequest build() {
+      com.earth.base.order.ExecutionReportSubscribeRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportSubscribeRequest buildPartial() {
+      com.earth.base.order.ExecutionReportSubscribeRequest result = new com.earth.base.order.ExecutionReportSubscribeRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.earth.base.order.ExecutionReportSubscribeRequest result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.accountId_ = accountId_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.earth.base.order.ExecutionReportSubscribeRequest) {
+        return mergeFrom((com.earth.base.order.ExecutionReportSubscribeRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.earth.base.order.ExecutionReportSubscribeRequest other) {
+      if (other == com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance()) return this;
+      if (other.getAccountId() != 0L) {
+        setAccountId(other.getAccountId());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              accountId_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long accountId_ ;
+    /**
+     * <pre>
+     * 只订阅该账户的回报，0 表示全部账户
+     * </pre>
+     *
+     * <code>int64 account_id = 1;</code>
+     * @return The accountId.
+     */
+    @java.lang.Override
+    public long getAccountId() {
+      return accountId_;
+    }
+    /**
+     * <pre>
+     * 只订阅该账户的回报，0 表示全部账户
+     * </pre>
+     *
+     * <code>int64 account_id = 1;</code>
+     * @param value The accountId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAccountId(long value) {
+
+      accountId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 只订阅该账户的回报，0 表示全部账户
+     * </pre>
+     *
+     * <code>int64 account_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAccountId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      accountId_ = 0L;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.earth.base.order.ExecutionReportSubscribeRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.earth.base.order.ExecutionReportSubscribeRequest)
+  private static final com.earth.base.order.ExecutionReportSubscribeRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.earth.base.order.ExecutionReportSubscribeRequest();
+  }
+
+  public static com.earth.base.order.ExecutionReportSubscribeRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ExecutionReportSubscribeRequest>
+      PARSER = new com.google.protobuf.AbstractParser<ExecutionReportSubscribeRequest>() {
+    @java.lang.Override
+    public ExecutionReportSubscribeRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ExecutionReportSubscribeRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ExecutionReportSubscribeRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReportSubscribeRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
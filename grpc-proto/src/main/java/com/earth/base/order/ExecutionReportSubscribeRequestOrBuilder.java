@@ -0,0 +1,20 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+public interface ExecutionReportSubscribeRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.earth.base.order.ExecutionReportSubscribeRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 只订阅该账户的回报，0 表示全部账户
+   * </pre>
+   *
+   * <code>int64 account_id = 1;</code>
+   * @return The accountId.
+   */
+  long getAccountId();
+}
@@ -0,0 +1,772 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+/**
+ * <pre>
+ *
+ * 批量下单响应参数，replies 与请求中的 orders 一一对应
+ * 受理的订单 code 为 200；被拒绝的订单 code 为 gRPC 状态码（如 3 INVALID_ARGUMENT），message 为拒绝原因，status 为 REJECTED，order_id 为 0
+ * </pre>
+ *
+ * Protobuf type {@code com.earth.base.order.NewOrderBatchReply}
+ */
+public final class NewOrderBatchReply extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.earth.base.order.NewOrderBatchReply)
+    NewOrderBatchReplyOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use NewOrderBatchReply.newBuilder() to construct.
+  private NewOrderBatchReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private NewOrderBatchReply() {
+    replies_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new NewOrderBatchReply();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchReply_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchReply_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.earth.base.order.NewOrderBatchReply.class, com.earth.base.order.NewOrderBatchReply.Builder.class);
+  }
+
+  public static final int REPLIES_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<com.earth.base.order.NewOrderReply> replies_;
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.earth.base.order.NewOrderReply> getRepliesList() {
+    return replies_;
+  }
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.earth.base.order.NewOrderReplyOrBuilder> 
+      getRepliesOrBuilderList() {
+    return replies_;
+  }
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  @java.lang.Override
+  public int getRepliesCount() {
+    return replies_.size();
+  }
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.NewOrderReply getReplies(int index) {
+    return replies_.get(index);
+  }
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.NewOrderReplyOrBuilder getRepliesOrBuilder(
+      int index) {
+    return replies_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < replies_.size(); i++) {
+      output.writeMessage(1, replies_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < replies_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, replies_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.earth.base.order.NewOrderBatchReply)) {
+      return super.equals(obj);
+    }
+    com.earth.base.order.NewOrderBatchReply other = (com.earth.base.order.NewOrderBatchReply) obj;
+
+    if (!getRepliesList()
+        .equals(other.getRepliesList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getRepliesCount() > 0) {
+      hash = (37 * hash) + REPLIES_FIELD_NUMBER;
+      hash = (53 * hash) + getRepliesList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.earth.base.order.NewOrderBatchReply parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.earth.base.order.NewOrderBatchReply parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.NewOrderBatchReply parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.earth.base.order.NewOrderBatchReply prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   *
+   * 批量下单响应参数，replies 与请求中的 orders 一一对应
+   * 受理的订单 code 为 200；被拒绝的订单 code 为 gRPC 状态码（如 3 INVALID_ARGUMENT），message 为拒绝原因，status 为 REJECTED，order_id 为 0
+   * </pre>
+   *
+   * Protobuf type {@code com.earth.base.order.NewOrderBatchReply}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.earth.base.order.NewOrderBatchReply)
+      com.earth.base.order.NewOrderBatchReplyOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchReply_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchReply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.earth.base.order.NewOrderBatchReply.class, com.earth.base.order.NewOrderBatchReply.Builder.class);
+    }
+
+    // Construct using com.earth.base.order.NewOrderBatchReply.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (repliesBuilder_ == null) {
+        replies_ = java.util.Collections.emptyList();
+      } else {
+        replies_ = null;
+        repliesBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchReply_descriptor;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.NewOrderBatchReply getDefaultInstanceForType() {
+      return com.earth.base.order.NewOrderBatchReply.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.NewOrderBatchReply build() {
+      com.earth.base.order.NewOrderBatchReply result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.NewOrderBatchReply buildPartial() {
+      com.earth.base.order.NewOrderBatchReply result = new com.earth.base.order.NewOrderBatchReply(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(com.earth.base.order.NewOrderBatchReply result) {
+      if (repliesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          replies_ = java.util.Collections.unmodifiableList(replies_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.replies_ = replies_;
+      } else {
+        result.replies_ = repliesBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(com.earth.base.order.NewOrderBatchReply result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.earth.base.order.NewOrderBatchReply) {
+        return mergeFrom((com.earth.base.order.NewOrderBatchReply)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.earth.base.order.NewOrderBatchReply other) {
+      if (other == com.earth.base.order.NewOrderBatchReply.getDefaultInstance()) return this;
+      if (repliesBuilder_ == null) {
+        if (!other.replies_.isEmpty()) {
+          if (replies_.isEmpty()) {
+            replies_ = other.replies_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureRepliesIsMutable();
+            replies_.addAll(other.replies_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.replies_.isEmpty()) {
+          if (repliesBuilder_.isEmpty()) {
+            repliesBuilder_.dispose();
+            repliesBuilder_ = null;
+            replies_ = other.replies_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            repliesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getRepliesFieldBuilder() : null;
+          } else {
+            repliesBuilder_.addAllMessages(other.replies_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.earth.base.order.NewOrderReply m =
+                  input.readMessage(
+                      com.earth.base.order.NewOrderReply.parser(),
+                      extensionRegistry);
+              if (repliesBuilder_ == null) {
+                ensureRepliesIsMutable();
+                replies_.add(m);
+              } else {
+                repliesBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.earth.base.order.NewOrderReply> replies_ =
+      java.util.Collections.emptyList();
+    private void ensureRepliesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        replies_ = new java.util.ArrayList<com.earth.base.order.NewOrderReply>(replies_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.earth.base.order.NewOrderReply, com.earth.base.order.NewOrderReply.Builder, com.earth.base.order.NewOrderReplyOrBuilder> repliesBuilder_;
+
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public java.util.List<com.earth.base.order.NewOrderReply> getRepliesList() {
+      if (repliesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(replies_);
+      } else {
+        return repliesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public int getRepliesCount() {
+      if (repliesBuilder_ == null) {
+        return replies_.size();
+      } else {
+        return repliesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public com.earth.base.order.NewOrderReply getReplies(int index) {
+      if (repliesBuilder_ == null) {
+        return replies_.get(index);
+      } else {
+        return repliesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder setReplies(
+        int index, com.earth.base.order.NewOrderReply value) {
+      if (repliesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRepliesIsMutable();
+        replies_.set(index, value);
+        onChanged();
+      } else {
+        repliesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder setReplies(
+        int index, com.earth.base.order.NewOrderReply.Builder builderForValue) {
+      if (repliesBuilder_ == null) {
+        ensureRepliesIsMutable();
+        replies_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        repliesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder addReplies(com.earth.base.order.NewOrderReply value) {
+      if (repliesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRepliesIsMutable();
+        replies_.add(value);
+        onChanged();
+      } else {
+        repliesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder addReplies(
+        int index, com.earth.base.order.NewOrderReply value) {
+      if (repliesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRepliesIsMutable();
+        replies_.add(index, value);
+        onChanged();
+      } else {
+        repliesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder addReplies(
+        com.earth.base.order.NewOrderReply.Builder builderForValue) {
+      if (repliesBuilder_ == null) {
+        ensureRepliesIsMutable();
+        replies_.add(builderForValue.build());
+        onChanged();
+      } else {
+        repliesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder addReplies(
+        int index, com.earth.base.order.NewOrderReply.Builder builderForValue) {
+      if (repliesBuilder_ == null) {
+        ensureRepliesIsMutable();
+        replies_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        repliesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder addAllReplies(
+        java.lang.Iterable<? extends com.earth.base.order.NewOrderReply> values) {
+      if (repliesBuilder_ == null) {
+        ensureRepliesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, replies_);
+        onChanged();
+      } else {
+        repliesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder clearReplies() {
+      if (repliesBuilder_ == null) {
+        replies_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        repliesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public Builder removeReplies(int index) {
+      if (repliesBuilder_ == null) {
+        ensureRepliesIsMutable();
+        replies_.remove(index);
+        onChanged();
+      } else {
+        repliesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public com.earth.base.order.NewOrderReply.Builder getRepliesBuilder(
+        int index) {
+      return getRepliesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public com.earth.base.order.NewOrderReplyOrBuilder getRepliesOrBuilder(
+        int index) {
+      if (repliesBuilder_ == null) {
+        return replies_.get(index);  } else {
+        return repliesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public java.util.List<? extends com.earth.base.order.NewOrderReplyOrBuilder> 
+         getRepliesOrBuilderList() {
+      if (repliesBuilder_ != null) {
+        return repliesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(replies_);
+      }
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public com.earth.base.order.NewOrderReply.Builder addRepliesBuilder() {
+      return getRepliesFieldBuilder().addBuilder(
+          com.earth.base.order.NewOrderReply.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public com.earth.base.order.NewOrderReply.Builder addRepliesBuilder(
+        int index) {
+      return getRepliesFieldBuilder().addBuilder(
+          index, com.earth.base.order.NewOrderReply.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+     */
+    public java.util.List<com.earth.base.order.NewOrderReply.Builder> 
+         getRepliesBuilderList() {
+      return getRepliesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.earth.base.order.NewOrderReply, com.earth.base.order.NewOrderReply.Builder, com.earth.base.order.NewOrderReplyOrBuilder> 
+        getRepliesFieldBuilder() {
+      if (repliesBuilder_ == null) {
+        repliesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.earth.base.order.NewOrderReply, com.earth.base.order.NewOrderReply.Builder, com.earth.base.order.NewOrderReplyOrBuilder>(
+                replies_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        replies_ = null;
+      }
+      return repliesBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.earth.base.order.NewOrderBatchReply)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.earth.base.order.NewOrderBatchReply)
+  private static final com.earth.base.order.NewOrderBatchReply DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.earth.base.order.NewOrderBatchReply();
+  }
+
+  public static com.earth.base.order.NewOrderBatchReply getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NewOrderBatchReply>
+      PARSER = new com.google.protobuf.AbstractParser<NewOrderBatchReply>() {
+    @java.lang.Override
+    public NewOrderBatchReply parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<NewOrderBatchReply> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NewOrderBatchReply> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.earth.base.order.NewOrderBatchReply getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+public interface NewOrderBatchReplyOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.earth.base.order.NewOrderBatchReply)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  java.util.List<com.earth.base.order.NewOrderReply> 
+      getRepliesList();
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  com.earth.base.order.NewOrderReply getReplies(int index);
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  int getRepliesCount();
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  java.util.List<? extends com.earth.base.order.NewOrderReplyOrBuilder> 
+      getRepliesOrBuilderList();
+  /**
+   * <code>repeated .com.earth.base.order.NewOrderReply replies = 1;</code>
+   */
+  com.earth.base.order.NewOrderReplyOrBuilder getRepliesOrBuilder(
+      int index);
+}
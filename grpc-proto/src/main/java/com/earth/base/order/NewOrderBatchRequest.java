@@ -0,0 +1,862 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+/**
+ * <pre>
+ *
+ * 批量下单请求参数，每个订单独立校验、独立受理，一个订单被拒绝不影响其他订单
+ * </pre>
+ *
+ * Protobuf type {@code com.earth.base.order.NewOrderBatchRequest}
+ */
+public final class NewOrderBatchRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.earth.base.order.NewOrderBatchRequest)
+    NewOrderBatchRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use NewOrderBatchRequest.newBuilder() to construct.
+  private NewOrderBatchRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private NewOrderBatchRequest() {
+    orders_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new NewOrderBatchRequest();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.earth.base.order.NewOrderBatchRequest.class, com.earth.base.order.NewOrderBatchRequest.Builder.class);
+  }
+
+  public static final int ORDERS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<com.earth.base.order.NewOrderRequest> orders_;
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.earth.base.order.NewOrderRequest> getOrdersList() {
+    return orders_;
+  }
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.earth.base.order.NewOrderRequestOrBuilder> 
+      getOrdersOrBuilderList() {
+    return orders_;
+  }
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  @java.lang.Override
+  public int getOrdersCount() {
+    return orders_.size();
+  }
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.NewOrderRequest getOrders(int index) {
+    return orders_.get(index);
+  }
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.NewOrderRequestOrBuilder getOrdersOrBuilder(
+      int index) {
+    return orders_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < orders_.size(); i++) {
+      output.writeMessage(1, orders_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < orders_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, orders_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.earth.base.order.NewOrderBatchRequest)) {
+      return super.equals(obj);
+    }
+    com.earth.base.order.NewOrderBatchRequest other = (com.earth.base.order.NewOrderBatchRequest) obj;
+
+    if (!getOrdersList()
+        .equals(other.getOrdersList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getOrdersCount() > 0) {
+      hash = (37 * hash) + ORDERS_FIELD_NUMBER;
+      hash = (53 * hash) + getOrdersList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.earth.base.order.NewOrderBatchRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.earth.base.order.NewOrderBatchRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.NewOrderBatchRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.earth.base.order.NewOrderBatchRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   *
+   * 批量下单请求参数，每个订单独立校验、独立受理，一个订单被拒绝不影响其他订单
+   * </pre>
+   *
+   * Protobuf type {@code com.earth.base.order.NewOrderBatchRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.earth.base.order.NewOrderBatchRequest)
+      com.earth.base.order.NewOrderBatchRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.earth.base.order.NewOrderBatchRequest.class, com.earth.base.order.NewOrderBatchRequest.Builder.class);
+    }
+
+    // Construct using com.earth.base.order.NewOrderBatchRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (ordersBuilder_ == null) {
+        orders_ = java.util.Collections.emptyList();
+      } else {
+        orders_ = null;
+        ordersBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_NewOrderBatchRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.NewOrderBatchRequest getDefaultInstanceForType() {
+      return com.earth.base.order.NewOrderBatchRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.NewOrderBatchRequest build() {
+      com.earth.base.order.NewOrderBatchRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.NewOrderBatchRequest buildPartial() {
+      com.earth.base.order.NewOrderBatchRequest result = new com.earth.base.order.NewOrderBatchRequest(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(com.earth.base.order.NewOrderBatchRequest result) {
+      if (ordersBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          orders_ = java.util.Collections.unmodifiableList(orders_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.orders_ = orders_;
+      } else {
+        result.orders_ = ordersBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(com.earth.base.order.NewOrderBatchRequest result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.earth.base.order.NewOrderBatchRequest) {
+        return mergeFrom((com.earth.base.order.NewOrderBatchRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.earth.base.order.NewOrderBatchRequest other) {
+      if (other == com.earth.base.order.NewOrderBatchRequest.getDefaultInstance()) return this;
+      if (ordersBuilder_ == null) {
+        if (!other.orders_.isEmpty()) {
+          if (orders_.isEmpty()) {
+            orders_ = other.orders_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureOrdersIsMutable();
+            orders_.addAll(other.orders_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.orders_.isEmpty()) {
+          if (ordersBuilder_.isEmpty()) {
+            ordersBuilder_.dispose();
+            ordersBuilder_ = null;
+            orders_ = other.orders_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            ordersBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getOrdersFieldBuilder() : null;
+          } else {
+            ordersBuilder_.addAllMessages(other.orders_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.earth.base.order.NewOrderRequest m =
+                  input.readMessage(
+                      com.earth.base.order.NewOrderRequest.parser(),
+                      extensionRegistry);
+              if (ordersBuilder_ == null) {
+                ensureOrdersIsMutable();
+                orders_.add(m);
+              } else {
+                ordersBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.earth.base.order.NewOrderRequest> orders_ =
+      java.util.Collections.emptyList();
+    private void ensureOrdersIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        orders_ = new java.util.ArrayList<com.earth.base.order.NewOrderRequest>(orders_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.earth.base.order.NewOrderRequest, com.earth.base.order.NewOrderRequest.Builder, com.earth.base.order.NewOrderRequestOrBuilder> ordersBuilder_;
+
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public java.util.List<com.earth.base.order.NewOrderRequest> getOrdersList() {
+      if (ordersBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(orders_);
+      } else {
+        return ordersBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public int getOrdersCount() {
+      if (ordersBuilder_ == null) {
+        return orders_.size();
+      } else {
+        return ordersBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public com.earth.base.order.NewOrderRequest getOrders(int index) {
+      if (ordersBuilder_ == null) {
+        return orders_.get(index);
+      } else {
+        return ordersBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder setOrders(
+        int index, com.earth.base.order.NewOrderRequest value) {
+      if (ordersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOrdersIsMutable();
+        orders_.set(index, value);
+        onChanged();
+      } else {
+        ordersBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder setOrders(
+        int index, com.earth.base.order.NewOrderRequest.Builder builderForValue) {
+      if (ordersBuilder_ == null) {
+        ensureOrdersIsMutable();
+        orders_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        ordersBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder addOrders(com.earth.base.order.NewOrderRequest value) {
+      if (ordersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOrdersIsMutable();
+        orders_.add(value);
+        onChanged();
+      } else {
+        ordersBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder addOrders(
+        int index, com.earth.base.order.NewOrderRequest value) {
+      if (ordersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOrdersIsMutable();
+        orders_.add(index, value);
+        onChanged();
+      } else {
+        ordersBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder addOrders(
+        com.earth.base.order.NewOrderRequest.Builder builderForValue) {
+      if (ordersBuilder_ == null) {
+        ensureOrdersIsMutable();
+        orders_.add(builderForValue.build());
+        onChanged();
+      } else {
+        ordersBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder addOrders(
+        int index, com.earth.base.order.NewOrderRequest.Builder builderForValue) {
+      if (ordersBuilder_ == null) {
+        ensureOrdersIsMutable();
+        orders_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        ordersBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder addAllOrders(
+        java.lang.Iterable<? extends com.earth.base.order.NewOrderRequest> values) {
+      if (ordersBuilder_ == null) {
+        ensureOrdersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, orders_);
+        onChanged();
+      } else {
+        ordersBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder clearOrders() {
+      if (ordersBuilder_ == null) {
+        orders_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        ordersBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public Builder removeOrders(int index) {
+      if (ordersBuilder_ == null) {
+        ensureOrdersIsMutable();
+        orders_.remove(index);
+        onChanged();
+      } else {
+        ordersBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public com.earth.base.order.NewOrderRequest.Builder getOrdersBuilder(
+        int index) {
+      return getOrdersFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public com.earth.base.order.NewOrderRequestOrBuilder getOrdersOrBuilder(
+        int index) {
+      if (ordersBuilder_ == null) {
+        return orders_.get(index);  } else {
+        return ordersBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public java.util.List<? extends com.earth.base.order.NewOrderRequestOrBuilder> 
+         getOrdersOrBuilderList() {
+      if (ordersBuilder_ != null) {
+        return ordersBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(orders_);
+      }
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public com.earth.base.order.NewOrderRequest.Builder addOrdersBuilder() {
+      return getOrdersFieldBuilder().addBuilder(
+          com.earth.base.order.NewOrderRequest.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public com.earth.base.order.NewOrderRequest.Builder addOrdersBuilder(
+        int index) {
+      return getOrdersFieldBuilder().addBuilder(
+          index, com.earth.base.order.NewOrderRequest.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * 不超过服务端配置的单批上限，超过时整批拒绝
+     * </pre>
+     *
+     * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+     */
+    public java.util.List<com.earth.base.order.NewOrderRequest.Builder> 
+         getOrdersBuilderList() {
+      return getOrdersFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.earth.base.order.NewOrderRequest, com.earth.base.order.NewOrderRequest.Builder, com.earth.base.order.NewOrderRequestOrBuilder> 
+        getOrdersFieldBuilder() {
+      if (ordersBuilder_ == null) {
+        ordersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.earth.base.order.NewOrderRequest, com.earth.base.order.NewOrderRequest.Builder, com.earth.base.order.NewOrderRequestOrBuilder>(
+                orders_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        orders_ = null;
+      }
+      return ordersBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.earth.base.order.NewOrderBatchRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.earth.base.order.NewOrderBatchRequest)
+  private static final com.earth.base.order.NewOrderBatchRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.earth.base.order.NewOrderBatchRequest();
+  }
+
+  public static com.earth.base.order.NewOrderBatchRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NewOrderBatchRequest>
+      PARSER = new com.google.protobuf.AbstractParser<NewOrderBatchRequest>() {
+    @java.lang.Override
+    public NewOrderBatchRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<NewOrderBatchRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NewOrderBatchRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.earth.base.order.NewOrderBatchRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,54 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+public interface NewOrderBatchRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.earth.base.order.NewOrderBatchRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  java.util.List<com.earth.base.order.NewOrderRequest> 
+      getOrdersList();
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  com.earth.base.order.NewOrderRequest getOrders(int index);
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  int getOrdersCount();
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  java.util.List<? extends com.earth.base.order.NewOrderRequestOrBuilder> 
+      getOrdersOrBuilderList();
+  /**
+   * <pre>
+   * 不超过服务端配置的单批上限，超过时整批拒绝
+   * </pre>
+   *
+   * <code>repeated .com.earth.base.order.NewOrderRequest orders = 1;</code>
+   */
+  com.earth.base.order.NewOrderRequestOrBuilder getOrdersOrBuilder(
+      int index);
+}
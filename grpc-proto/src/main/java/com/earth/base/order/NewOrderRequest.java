@@ -680,37 +680,41 @@ private static final long serialVersionUID = 0L;
   private com.earth.base.common.Decimal makerFeeRate_;
   /**
    * <pre>
-   * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+   * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.maker_fee_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=45
    * @return Whether the makerFeeRate field is set.
    */
   @java.lang.Override
-  public boolean hasMakerFeeRate() {
+  @java.lang.Deprecated public boolean hasMakerFeeRate() {
     return ((bitField0_ & 0x00000008) != 0);
   }
   /**
    * <pre>
-   * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+   * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.maker_fee_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=45
    * @return The makerFeeRate.
    */
   @java.lang.Override
-  public com.earth.base.common.Decimal getMakerFeeRate() {
+  @java.lang.Deprecated public com.earth.base.common.Decimal getMakerFeeRate() {
     return makerFeeRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : makerFeeRate_;
   }
   /**
    * <pre>
-   * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+   * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
    */
   @java.lang.Override
-  public com.earth.base.common.DecimalOrBuilder getMakerFeeRateOrBuilder() {
+  @java.lang.Deprecated public com.earth.base.common.DecimalOrBuilder getMakerFeeRateOrBuilder() {
     return makerFeeRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : makerFeeRate_;
   }
 
@@ -718,37 +722,41 @@ private static final long serialVersionUID = 0L;
   private com.earth.base.common.Decimal takerFeeRate_;
   /**
    * <pre>
-   * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+   * taker 适用费率，已废弃，同 maker_fee_rate
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.taker_fee_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=47
    * @return Whether the takerFeeRate field is set.
    */
   @java.lang.Override
-  public boolean hasTakerFeeRate() {
+  @java.lang.Deprecated public boolean hasTakerFeeRate() {
     return ((bitField0_ & 0x00000010) != 0);
   }
   /**
    * <pre>
-   * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+   * taker 适用费率，已废弃，同 maker_fee_rate
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.taker_fee_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=47
    * @return The takerFeeRate.
    */
   @java.lang.Override
-  public com.earth.base.common.Decimal getTakerFeeRate() {
+  @java.lang.Deprecated public com.earth.base.common.Decimal getTakerFeeRate() {
     return takerFeeRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : takerFeeRate_;
   }
   /**
    * <pre>
-   * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+   * taker 适用费率，已废弃，同 maker_fee_rate
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
    */
   @java.lang.Override
-  public com.earth.base.common.DecimalOrBuilder getTakerFeeRateOrBuilder() {
+  @java.lang.Deprecated public com.earth.base.common.DecimalOrBuilder getTakerFeeRateOrBuilder() {
     return takerFeeRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : takerFeeRate_;
   }
 
@@ -1039,26 +1047,42 @@ private static final long serialVersionUID = 0L;
   public static final int MAKER_BONUS_RATE_FIELD_NUMBER = 23;
   private com.earth.base.common.Decimal makerBonusRate_;
   /**
-   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+   * <pre>
+   * 已废弃，同 maker_fee_rate
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.maker_bonus_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=65
    * @return Whether the makerBonusRate field is set.
    */
   @java.lang.Override
-  public boolean hasMakerBonusRate() {
+  @java.lang.Deprecated public boolean hasMakerBonusRate() {
     return ((bitField0_ & 0x00000100) != 0);
   }
   /**
-   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+   * <pre>
+   * 已废弃，同 maker_fee_rate
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.maker_bonus_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=65
    * @return The makerBonusRate.
    */
   @java.lang.Override
-  public com.earth.base.common.Decimal getMakerBonusRate() {
+  @java.lang.Deprecated public com.earth.base.common.Decimal getMakerBonusRate() {
     return makerBonusRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : makerBonusRate_;
   }
   /**
-   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+   * <pre>
+   * 已废弃，同 maker_fee_rate
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
    */
   @java.lang.Override
-  public com.earth.base.common.DecimalOrBuilder getMakerBonusRateOrBuilder() {
+  @java.lang.Deprecated public com.earth.base.common.DecimalOrBuilder getMakerBonusRateOrBuilder() {
     return makerBonusRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : makerBonusRate_;
   }
 
@@ -1244,6 +1268,21 @@ private static final long serialVersionUID = 0L;
     return integralNumRemain_;
   }
 
+  public static final int EXPIRE_TIME_FIELD_NUMBER = 32;
+  private long expireTime_ = 0L;
+  /**
+   * <pre>
+   * GTD 订单的过期时间，UTC 毫秒
+   * </pre>
+   *
+   * <code>int64 expire_time = 32;</code>
+   * @return The expireTime.
+   */
+  @java.lang.Override
+  public long getExpireTime() {
+    return expireTime_;
+  }
+
   public static final int ISCROSS_FIELD_NUMBER = 25;
   private boolean isCross_ = false;
   /**
@@ -1362,6 +1401,9 @@ private static final long serialVersionUID = 0L;
     if (integralNumRemain_ != 0L) {
       output.writeInt64(31, integralNumRemain_);
     }
+    if (expireTime_ != 0L) {
+      output.writeInt64(32, expireTime_);
+    }
     if (((bitField0_ & 0x00000200) != 0)) {
       output.writeMessage(100, getBaseRequest());
     }
@@ -1493,6 +1535,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt64Size(31, integralNumRemain_);
     }
+    if (expireTime_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(32, expireTime_);
+    }
     if (((bitField0_ & 0x00000200) != 0)) {
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(100, getBaseRequest());
@@ -1603,6 +1649,8 @@ private static final long serialVersionUID = 0L;
         != other.getIntegralNumUnfrozen()) return false;
     if (getIntegralNumRemain()
         != other.getIntegralNumRemain()) return false;
+    if (getExpireTime()
+        != other.getExpireTime()) return false;
     if (getIsCross()
         != other.getIsCross()) return false;
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
@@ -1711,6 +1759,9 @@ private static final long serialVersionUID = 0L;
     hash = (37 * hash) + INTEGRAL_NUM_REMAIN_FIELD_NUMBER;
     hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
         getIntegralNumRemain());
+    hash = (37 * hash) + EXPIRE_TIME_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getExpireTime());
     hash = (37 * hash) + ISCROSS_FIELD_NUMBER;
     hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
         getIsCross());
@@ -1866,6 +1917,7 @@ private static final long serialVersionUID = 0L;
     public Builder clear() {
       super.clear();
       bitField0_ = 0;
+      bitField1_ = 0;
       accountId_ = 0L;
       clientOrderId_ = "";
       symbolId_ = "";
@@ -1941,6 +1993,7 @@ private static final long serialVersionUID = 0L;
       integralNumUsed_ = 0L;
       integralNumUnfrozen_ = 0L;
       integralNumRemain_ = 0L;
+      expireTime_ = 0L;
       isCross_ = false;
       return this;
     }
@@ -1969,6 +2022,7 @@ private static final long serialVersionUID = 0L;
     public com.earth.base.order.NewOrderRequest buildPartial() {
       com.earth.base.order.NewOrderRequest result = new com.earth.base.order.NewOrderRequest(this);
       if (bitField0_ != 0) { buildPartial0(result); }
+      if (bitField1_ != 0) { buildPartial1(result); }
       onBuilt();
       return result;
     }
@@ -2103,11 +2157,18 @@ private static final long serialVersionUID = 0L;
         result.integralNumRemain_ = integralNumRemain_;
       }
       if (((from_bitField0_ & 0x80000000) != 0)) {
-        result.isCross_ = isCross_;
+        result.expireTime_ = expireTime_;
       }
       result.bitField0_ |= to_bitField0_;
     }
 
+    private void buildPartial1(com.earth.base.order.NewOrderRequest result) {
+      int from_bitField1_ = bitField1_;
+      if (((from_bitField1_ & 0x00000001) != 0)) {
+        result.isCross_ = isCross_;
+      }
+    }
+
     @java.lang.Override
     public Builder clone() {
       return super.clone();
@@ -2255,6 +2316,9 @@ private static final long serialVersionUID = 0L;
       if (other.getIntegralNumRemain() != 0L) {
         setIntegralNumRemain(other.getIntegralNumRemain());
       }
+      if (other.getExpireTime() != 0L) {
+        setExpireTime(other.getExpireTime());
+      }
       if (other.getIsCross() != false) {
         setIsCross(other.getIsCross());
       }
@@ -2424,7 +2488,7 @@ private static final long serialVersionUID = 0L;
             } // case 192
             case 200: {
               isCross_ = input.readBool();
-              bitField0_ |= 0x80000000;
+              bitField1_ |= 0x00000001;
               break;
             } // case 200
             case 210: {
@@ -2459,6 +2523,11 @@ private static final long serialVersionUID = 0L;
               bitField0_ |= 0x40000000;
               break;
             } // case 248
+            case 256: {
+              expireTime_ = input.readInt64();
+              bitField0_ |= 0x80000000;
+              break;
+            } // case 256
             case 802: {
               input.readMessage(
                   getBaseRequestFieldBuilder().getBuilder(),
@@ -2482,6 +2551,7 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     private int bitField0_;
+    private int bitField1_;
 
     private long accountId_ ;
     /**
@@ -3429,24 +3499,28 @@ private static final long serialVersionUID = 0L;
         com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> makerFeeRateBuilder_;
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
+     * @deprecated com.earth.base.order.NewOrderRequest.maker_fee_rate is deprecated.
+     *     See com/earth/base/order/order.proto;l=45
      * @return Whether the makerFeeRate field is set.
      */
-    public boolean hasMakerFeeRate() {
+    @java.lang.Deprecated public boolean hasMakerFeeRate() {
       return ((bitField0_ & 0x00000400) != 0);
     }
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
+     * @deprecated com.earth.base.order.NewOrderRequest.maker_fee_rate is deprecated.
+     *     See com/earth/base/order/order.proto;l=45
      * @return The makerFeeRate.
      */
-    public com.earth.base.common.Decimal getMakerFeeRate() {
+    @java.lang.Deprecated public com.earth.base.common.Decimal getMakerFeeRate() {
       if (makerFeeRateBuilder_ == null) {
         return makerFeeRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : makerFeeRate_;
       } else {
@@ -3455,12 +3529,12 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
      */
-    public Builder setMakerFeeRate(com.earth.base.common.Decimal value) {
+    @java.lang.Deprecated public Builder setMakerFeeRate(com.earth.base.common.Decimal value) {
       if (makerFeeRateBuilder_ == null) {
         if (value == null) {
           throw new NullPointerException();
@@ -3475,12 +3549,12 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
      */
-    public Builder setMakerFeeRate(
+    @java.lang.Deprecated public Builder setMakerFeeRate(
         com.earth.base.common.Decimal.Builder builderForValue) {
       if (makerFeeRateBuilder_ == null) {
         makerFeeRate_ = builderForValue.build();
@@ -3493,12 +3567,12 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
      */
-    public Builder mergeMakerFeeRate(com.earth.base.common.Decimal value) {
+    @java.lang.Deprecated public Builder mergeMakerFeeRate(com.earth.base.common.Decimal value) {
       if (makerFeeRateBuilder_ == null) {
         if (((bitField0_ & 0x00000400) != 0) &&
           makerFeeRate_ != null &&
@@ -3518,12 +3592,12 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
      */
-    public Builder clearMakerFeeRate() {
+    @java.lang.Deprecated public Builder clearMakerFeeRate() {
       bitField0_ = (bitField0_ & ~0x00000400);
       makerFeeRate_ = null;
       if (makerFeeRateBuilder_ != null) {
@@ -3535,24 +3609,24 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
      */
-    public com.earth.base.common.Decimal.Builder getMakerFeeRateBuilder() {
+    @java.lang.Deprecated public com.earth.base.common.Decimal.Builder getMakerFeeRateBuilder() {
       bitField0_ |= 0x00000400;
       onChanged();
       return getMakerFeeRateFieldBuilder().getBuilder();
     }
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
      */
-    public com.earth.base.common.DecimalOrBuilder getMakerFeeRateOrBuilder() {
+    @java.lang.Deprecated public com.earth.base.common.DecimalOrBuilder getMakerFeeRateOrBuilder() {
       if (makerFeeRateBuilder_ != null) {
         return makerFeeRateBuilder_.getMessageOrBuilder();
       } else {
@@ -3562,10 +3636,10 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+     * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+     * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
      */
     private com.google.protobuf.SingleFieldBuilderV3<
         com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
@@ -3586,24 +3660,28 @@ private static final long serialVersionUID = 0L;
         com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> takerFeeRateBuilder_;
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
+     * @deprecated com.earth.base.order.NewOrderRequest.taker_fee_rate is deprecated.
+     *     See com/earth/base/order/order.proto;l=47
      * @return Whether the takerFeeRate field is set.
      */
-    public boolean hasTakerFeeRate() {
+    @java.lang.Deprecated public boolean hasTakerFeeRate() {
       return ((bitField0_ & 0x00000800) != 0);
     }
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
+     * @deprecated com.earth.base.order.NewOrderRequest.taker_fee_rate is deprecated.
+     *     See com/earth/base/order/order.proto;l=47
      * @return The takerFeeRate.
      */
-    public com.earth.base.common.Decimal getTakerFeeRate() {
+    @java.lang.Deprecated public com.earth.base.common.Decimal getTakerFeeRate() {
       if (takerFeeRateBuilder_ == null) {
         return takerFeeRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : takerFeeRate_;
       } else {
@@ -3612,12 +3690,12 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
      */
-    public Builder setTakerFeeRate(com.earth.base.common.Decimal value) {
+    @java.lang.Deprecated public Builder setTakerFeeRate(com.earth.base.common.Decimal value) {
       if (takerFeeRateBuilder_ == null) {
         if (value == null) {
           throw new NullPointerException();
@@ -3632,12 +3710,12 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
      */
-    public Builder setTakerFeeRate(
+    @java.lang.Deprecated public Builder setTakerFeeRate(
         com.earth.base.common.Decimal.Builder builderForValue) {
       if (takerFeeRateBuilder_ == null) {
         takerFeeRate_ = builderForValue.build();
@@ -3650,12 +3728,12 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
      */
-    public Builder mergeTakerFeeRate(com.earth.base.common.Decimal value) {
+    @java.lang.Deprecated public Builder mergeTakerFeeRate(com.earth.base.common.Decimal value) {
       if (takerFeeRateBuilder_ == null) {
         if (((bitField0_ & 0x00000800) != 0) &&
           takerFeeRate_ != null &&
@@ -3675,12 +3753,12 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
      */
-    public Builder clearTakerFeeRate() {
+    @java.lang.Deprecated public Builder clearTakerFeeRate() {
       bitField0_ = (bitField0_ & ~0x00000800);
       takerFeeRate_ = null;
       if (takerFeeRateBuilder_ != null) {
@@ -3692,24 +3770,24 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
      */
-    public com.earth.base.common.Decimal.Builder getTakerFeeRateBuilder() {
+    @java.lang.Deprecated public com.earth.base.common.Decimal.Builder getTakerFeeRateBuilder() {
       bitField0_ |= 0x00000800;
       onChanged();
       return getTakerFeeRateFieldBuilder().getBuilder();
     }
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
      */
-    public com.earth.base.common.DecimalOrBuilder getTakerFeeRateOrBuilder() {
+    @java.lang.Deprecated public com.earth.base.common.DecimalOrBuilder getTakerFeeRateOrBuilder() {
       if (takerFeeRateBuilder_ != null) {
         return takerFeeRateBuilder_.getMessageOrBuilder();
       } else {
@@ -3719,10 +3797,10 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+     * taker 适用费率，已废弃，同 maker_fee_rate
      * </pre>
      *
-     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+     * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
      */
     private com.google.protobuf.SingleFieldBuilderV3<
         com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
@@ -4619,17 +4697,29 @@ private static final long serialVersionUID = 0L;
     private com.google.protobuf.SingleFieldBuilderV3<
         com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> makerBonusRateBuilder_;
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
+     * @deprecated com.earth.base.order.NewOrderRequest.maker_bonus_rate is deprecated.
+     *     See com/earth/base/order/order.proto;l=65
      * @return Whether the makerBonusRate field is set.
      */
-    public boolean hasMakerBonusRate() {
+    @java.lang.Deprecated public boolean hasMakerBonusRate() {
       return ((bitField0_ & 0x00400000) != 0);
     }
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
+     * @deprecated com.earth.base.order.NewOrderRequest.maker_bonus_rate is deprecated.
+     *     See com/earth/base/order/order.proto;l=65
      * @return The makerBonusRate.
      */
-    public com.earth.base.common.Decimal getMakerBonusRate() {
+    @java.lang.Deprecated public com.earth.base.common.Decimal getMakerBonusRate() {
       if (makerBonusRateBuilder_ == null) {
         return makerBonusRate_ == null ? com.earth.base.common.Decimal.getDefaultInstance() : makerBonusRate_;
       } else {
@@ -4637,9 +4727,13 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
      */
-    public Builder setMakerBonusRate(com.earth.base.common.Decimal value) {
+    @java.lang.Deprecated public Builder setMakerBonusRate(com.earth.base.common.Decimal value) {
       if (makerBonusRateBuilder_ == null) {
         if (value == null) {
           throw new NullPointerException();
@@ -4653,9 +4747,13 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
      */
-    public Builder setMakerBonusRate(
+    @java.lang.Deprecated public Builder setMakerBonusRate(
         com.earth.base.common.Decimal.Builder builderForValue) {
       if (makerBonusRateBuilder_ == null) {
         makerBonusRate_ = builderForValue.build();
@@ -4667,9 +4765,13 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
      */
-    public Builder mergeMakerBonusRate(com.earth.base.common.Decimal value) {
+    @java.lang.Deprecated public Builder mergeMakerBonusRate(com.earth.base.common.Decimal value) {
       if (makerBonusRateBuilder_ == null) {
         if (((bitField0_ & 0x00400000) != 0) &&
           makerBonusRate_ != null &&
@@ -4688,9 +4790,13 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
      */
-    public Builder clearMakerBonusRate() {
+    @java.lang.Deprecated public Builder clearMakerBonusRate() {
       bitField0_ = (bitField0_ & ~0x00400000);
       makerBonusRate_ = null;
       if (makerBonusRateBuilder_ != null) {
@@ -4701,17 +4807,25 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
      */
-    public com.earth.base.common.Decimal.Builder getMakerBonusRateBuilder() {
+    @java.lang.Deprecated public com.earth.base.common.Decimal.Builder getMakerBonusRateBuilder() {
       bitField0_ |= 0x00400000;
       onChanged();
       return getMakerBonusRateFieldBuilder().getBuilder();
     }
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
      */
-    public com.earth.base.common.DecimalOrBuilder getMakerBonusRateOrBuilder() {
+    @java.lang.Deprecated public com.earth.base.common.DecimalOrBuilder getMakerBonusRateOrBuilder() {
       if (makerBonusRateBuilder_ != null) {
         return makerBonusRateBuilder_.getMessageOrBuilder();
       } else {
@@ -4720,7 +4834,11 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+     * <pre>
+     * 已废弃，同 maker_fee_rate
+     * </pre>
+     *
+     * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
      */
     private com.google.protobuf.SingleFieldBuilderV3<
         com.earth.base.common.Decimal, com.earth.base.common.Decimal.Builder, com.earth.base.common.DecimalOrBuilder> 
@@ -5314,6 +5432,50 @@ private static final long serialVersionUID = 0L;
       return this;
     }
 
+    private long expireTime_ ;
+    /**
+     * <pre>
+     * GTD 订单的过期时间，UTC 毫秒
+     * </pre>
+     *
+     * <code>int64 expire_time = 32;</code>
+     * @return The expireTime.
+     */
+    @java.lang.Override
+    public long getExpireTime() {
+      return expireTime_;
+    }
+    /**
+     * <pre>
+     * GTD 订单的过期时间，UTC 毫秒
+     * </pre>
+     *
+     * <code>int64 expire_time = 32;</code>
+     * @param value The expireTime to set.
+     * @return This builder for chaining.
+     */
+    public Builder setExpireTime(long value) {
+
+      expireTime_ = value;
+      bitField0_ |= 0x80000000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * GTD 订单的过期时间，UTC 毫秒
+     * </pre>
+     *
+     * <code>int64 expire_time = 32;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearExpireTime() {
+      bitField0_ = (bitField0_ & ~0x80000000);
+      expireTime_ = 0L;
+      onChanged();
+      return this;
+    }
+
     private boolean isCross_ ;
     /**
      * <code>bool isCross = 25;</code>
@@ -5331,7 +5493,7 @@ private static final long serialVersionUID = 0L;
     public Builder setIsCross(boolean value) {
 
       isCross_ = value;
-      bitField0_ |= 0x80000000;
+      bitField1_ |= 0x00000001;
       onChanged();
       return this;
     }
@@ -5340,7 +5502,7 @@ private static final long serialVersionUID = 0L;
      * @return This builder for chaining.
      */
     public Builder clearIsCross() {
-      bitField0_ = (bitField0_ & ~0x80000000);
+      bitField1_ = (bitField1_ & ~0x00000001);
       isCross_ = false;
       onChanged();
       return this;
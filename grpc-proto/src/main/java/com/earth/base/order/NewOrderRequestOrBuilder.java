@@ -201,57 +201,65 @@ public interface NewOrderRequestOrBuilder extends
 
   /**
    * <pre>
-   * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+   * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.maker_fee_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=45
    * @return Whether the makerFeeRate field is set.
    */
-  boolean hasMakerFeeRate();
+  @java.lang.Deprecated boolean hasMakerFeeRate();
   /**
    * <pre>
-   * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+   * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.maker_fee_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=45
    * @return The makerFeeRate.
    */
-  com.earth.base.common.Decimal getMakerFeeRate();
+  @java.lang.Deprecated com.earth.base.common.Decimal getMakerFeeRate();
   /**
    * <pre>
-   * maker 适用费率， 后期该费率， 由前端设置好后， 再传过来
+   * maker 适用费率，已废弃，服务端按费率表（org_id, account_id, symbol_id）计算，传入的值不再使用
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11;</code>
+   * <code>.com.earth.base.common.Decimal maker_fee_rate = 11 [deprecated = true];</code>
    */
-  com.earth.base.common.DecimalOrBuilder getMakerFeeRateOrBuilder();
+  @java.lang.Deprecated com.earth.base.common.DecimalOrBuilder getMakerFeeRateOrBuilder();
 
   /**
    * <pre>
-   * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+   * taker 适用费率，已废弃，同 maker_fee_rate
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.taker_fee_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=47
    * @return Whether the takerFeeRate field is set.
    */
-  boolean hasTakerFeeRate();
+  @java.lang.Deprecated boolean hasTakerFeeRate();
   /**
    * <pre>
-   * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+   * taker 适用费率，已废弃，同 maker_fee_rate
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.taker_fee_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=47
    * @return The takerFeeRate.
    */
-  com.earth.base.common.Decimal getTakerFeeRate();
+  @java.lang.Deprecated com.earth.base.common.Decimal getTakerFeeRate();
   /**
    * <pre>
-   * taker 适用费率 , 后期该费率， 由前端设置好后， 再传过来
+   * taker 适用费率，已废弃，同 maker_fee_rate
    * </pre>
    *
-   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12;</code>
+   * <code>.com.earth.base.common.Decimal taker_fee_rate = 12 [deprecated = true];</code>
    */
-  com.earth.base.common.DecimalOrBuilder getTakerFeeRateOrBuilder();
+  @java.lang.Deprecated com.earth.base.common.DecimalOrBuilder getTakerFeeRateOrBuilder();
 
   /**
    * <pre>
@@ -424,19 +432,35 @@ public interface NewOrderRequestOrBuilder extends
   com.earth.base.order.NewOrderRequest.ExtraFlagEnum getExtraFlag();
 
   /**
-   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+   * <pre>
+   * 已废弃，同 maker_fee_rate
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.maker_bonus_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=65
    * @return Whether the makerBonusRate field is set.
    */
-  boolean hasMakerBonusRate();
+  @java.lang.Deprecated boolean hasMakerBonusRate();
   /**
-   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+   * <pre>
+   * 已废弃，同 maker_fee_rate
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
+   * @deprecated com.earth.base.order.NewOrderRequest.maker_bonus_rate is deprecated.
+   *     See com/earth/base/order/order.proto;l=65
    * @return The makerBonusRate.
    */
-  com.earth.base.common.Decimal getMakerBonusRate();
+  @java.lang.Deprecated com.earth.base.common.Decimal getMakerBonusRate();
   /**
-   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23;</code>
+   * <pre>
+   * 已废弃，同 maker_fee_rate
+   * </pre>
+   *
+   * <code>.com.earth.base.common.Decimal maker_bonus_rate = 23 [deprecated = true];</code>
    */
-  com.earth.base.common.DecimalOrBuilder getMakerBonusRateOrBuilder();
+  @java.lang.Deprecated com.earth.base.common.DecimalOrBuilder getMakerBonusRateOrBuilder();
 
   /**
    * <code>int64 order_source = 24;</code>
@@ -546,6 +570,16 @@ public interface NewOrderRequestOrBuilder extends
    */
   long getIntegralNumRemain();
 
+  /**
+   * <pre>
+   * GTD 订单的过期时间，UTC 毫秒
+   * </pre>
+   *
+   * <code>int64 expire_time = 32;</code>
+   * @return The expireTime.
+   */
+  long getExpireTime();
+
   /**
    * <code>bool isCross = 25;</code>
    * @return The isCross.
@@ -46,6 +46,99 @@ public final class OrderServiceGrpc {
     return getCreateOrderMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<com.earth.base.order.NewOrderBatchRequest,
+      com.earth.base.order.NewOrderBatchReply> getCreateOrdersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "CreateOrders",
+      requestType = com.earth.base.order.NewOrderBatchRequest.class,
+      responseType = com.earth.base.order.NewOrderBatchReply.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.earth.base.order.NewOrderBatchRequest,
+      com.earth.base.order.NewOrderBatchReply> getCreateOrdersMethod() {
+    io.grpc.MethodDescriptor<com.earth.base.order.NewOrderBatchRequest, com.earth.base.order.NewOrderBatchReply> getCreateOrdersMethod;
+    if ((getCreateOrdersMethod = OrderServiceGrpc.getCreateOrdersMethod) == null) {
+      synchronized (OrderServiceGrpc.class) {
+        if ((getCreateOrdersMethod = OrderServiceGrpc.getCreateOrdersMethod) == null) {
+          OrderServiceGrpc.getCreateOrdersMethod = getCreateOrdersMethod =
+              io.grpc.MethodDescriptor.<com.earth.base.order.NewOrderBatchRequest, com.earth.base.order.NewOrderBatchReply>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "CreateOrders"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.earth.base.order.NewOrderBatchRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.earth.base.order.NewOrderBatchReply.getDefaultInstance()))
+              .setSchemaDescriptor(new OrderServiceMethodDescriptorSupplier("CreateOrders"))
+              .build();
+        }
+      }
+    }
+    return getCreateOrdersMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.earth.base.order.ExecutionReportSubscribeRequest,
+      com.earth.base.order.ExecutionReportBatch> getSubscribeExecutionReportsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SubscribeExecutionReports",
+      requestType = com.earth.base.order.ExecutionReportSubscribeRequest.class,
+      responseType = com.earth.base.order.ExecutionReportBatch.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<com.earth.base.order.ExecutionReportSubscribeRequest,
+      com.earth.base.order.ExecutionReportBatch> getSubscribeExecutionReportsMethod() {
+    io.grpc.MethodDescriptor<com.earth.base.order.ExecutionReportSubscribeRequest, com.earth.base.order.ExecutionReportBatch> getSubscribeExecutionReportsMethod;
+    if ((getSubscribeExecutionReportsMethod = OrderServiceGrpc.getSubscribeExecutionReportsMethod) == null) {
+      synchronized (OrderServiceGrpc.class) {
+        if ((getSubscribeExecutionReportsMethod = OrderServiceGrpc.getSubscribeExecutionReportsMethod) == null) {
+          OrderServiceGrpc.getSubscribeExecutionReportsMethod = getSubscribeExecutionReportsMethod =
+              io.grpc.MethodDescriptor.<com.earth.base.order.ExecutionReportSubscribeRequest, com.earth.base.order.ExecutionReportBatch>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SubscribeExecutionReports"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.earth.base.order.ExecutionReportBatch.getDefaultInstance()))
+              .setSchemaDescriptor(new OrderServiceMethodDescriptorSupplier("SubscribeExecutionReports"))
+              .build();
+        }
+      }
+    }
+    return getSubscribeExecutionReportsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.earth.base.order.OrderSessionRequest,
+      com.earth.base.order.OrderSessionEvent> getOrderSessionMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "OrderSession",
+      requestType = com.earth.base.order.OrderSessionRequest.class,
+      responseType = com.earth.base.order.OrderSessionEvent.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<com.earth.base.order.OrderSessionRequest,
+      com.earth.base.order.OrderSessionEvent> getOrderSessionMethod() {
+    io.grpc.MethodDescriptor<com.earth.base.order.OrderSessionRequest, com.earth.base.order.OrderSessionEvent> getOrderSessionMethod;
+    if ((getOrderSessionMethod = OrderServiceGrpc.getOrderSessionMethod) == null) {
+      synchronized (OrderServiceGrpc.class) {
+        if ((getOrderSessionMethod = OrderServiceGrpc.getOrderSessionMethod) == null) {
+          OrderServiceGrpc.getOrderSessionMethod = getOrderSessionMethod =
+              io.grpc.MethodDescriptor.<com.earth.base.order.OrderSessionRequest, com.earth.base.order.OrderSessionEvent>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "OrderSession"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.earth.base.order.OrderSessionRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.earth.base.order.OrderSessionEvent.getDefaultInstance()))
+              .setSchemaDescriptor(new OrderServiceMethodDescriptorSupplier("OrderSession"))
+              .build();
+        }
+      }
+    }
+    return getOrderSessionMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -103,6 +196,37 @@ public final class OrderServiceGrpc {
         io.grpc.stub.StreamObserver<com.earth.base.order.NewOrderReply> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateOrderMethod(), responseObserver);
     }
+
+    /**
+     * <pre>
+     *批量创建订单，一次调用提交多个订单，按请求中的顺序逐个回复
+     * </pre>
+     */
+    default void createOrders(com.earth.base.order.NewOrderBatchRequest request,
+        io.grpc.stub.StreamObserver<com.earth.base.order.NewOrderBatchReply> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateOrdersMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     *订阅执行回报，服务端按批推送
+     * </pre>
+     */
+    default void subscribeExecutionReports(com.earth.base.order.ExecutionReportSubscribeRequest request,
+        io.grpc.stub.StreamObserver<com.earth.base.order.ExecutionReportBatch> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSubscribeExecutionReportsMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     *下单会话，双向流：客户端在一条长连接上持续下单，服务端在同一条流上按顺序推送下单回复和执行回报。
+     *服务端按未回复的订单数控制读取请求的速度，客户端读得慢时服务端暂停读取，不会无限缓存
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<com.earth.base.order.OrderSessionRequest> orderSession(
+        io.grpc.stub.StreamObserver<com.earth.base.order.OrderSessionEvent> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getOrderSessionMethod(), responseObserver);
+    }
   }
 
   /**
@@ -142,6 +266,40 @@ public final class OrderServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getCreateOrderMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     *批量创建订单，一次调用提交多个订单，按请求中的顺序逐个回复
+     * </pre>
+     */
+    public void createOrders(com.earth.base.order.NewOrderBatchRequest request,
+        io.grpc.stub.StreamObserver<com.earth.base.order.NewOrderBatchReply> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCreateOrdersMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     *订阅执行回报，服务端按批推送
+     * </pre>
+     */
+    public void subscribeExecutionReports(com.earth.base.order.ExecutionReportSubscribeRequest request,
+        io.grpc.stub.StreamObserver<com.earth.base.order.ExecutionReportBatch> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getSubscribeExecutionReportsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     *下单会话，双向流：客户端在一条长连接上持续下单，服务端在同一条流上按顺序推送下单回复和执行回报。
+     *服务端按未回复的订单数控制读取请求的速度，客户端读得慢时服务端暂停读取，不会无限缓存
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<com.earth.base.order.OrderSessionRequest> orderSession(
+        io.grpc.stub.StreamObserver<com.earth.base.order.OrderSessionEvent> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getOrderSessionMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -169,6 +327,27 @@ public final class OrderServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getCreateOrderMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     *批量创建订单，一次调用提交多个订单，按请求中的顺序逐个回复
+     * </pre>
+     */
+    public com.earth.base.order.NewOrderBatchReply createOrders(com.earth.base.order.NewOrderBatchRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCreateOrdersMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     *订阅执行回报，服务端按批推送
+     * </pre>
+     */
+    public java.util.Iterator<com.earth.base.order.ExecutionReportBatch> subscribeExecutionReports(
+        com.earth.base.order.ExecutionReportSubscribeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getSubscribeExecutionReportsMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -197,9 +376,23 @@ public final class OrderServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getCreateOrderMethod(), getCallOptions()), request);
     }
+
+    /**
+     * <pre>
+     *批量创建订单，一次调用提交多个订单，按请求中的顺序逐个回复
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.earth.base.order.NewOrderBatchReply> createOrders(
+        com.earth.base.order.NewOrderBatchRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCreateOrdersMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_CREATE_ORDER = 0;
+  private static final int METHODID_CREATE_ORDERS = 1;
+  private static final int METHODID_SUBSCRIBE_EXECUTION_REPORTS = 2;
+  private static final int METHODID_ORDER_SESSION = 3;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -222,6 +415,14 @@ public final class OrderServiceGrpc {
           serviceImpl.createOrder((com.earth.base.order.NewOrderRequest) request,
               (io.grpc.stub.StreamObserver<com.earth.base.order.NewOrderReply>) responseObserver);
           break;
+        case METHODID_CREATE_ORDERS:
+          serviceImpl.createOrders((com.earth.base.order.NewOrderBatchRequest) request,
+              (io.grpc.stub.StreamObserver<com.earth.base.order.NewOrderBatchReply>) responseObserver);
+          break;
+        case METHODID_SUBSCRIBE_EXECUTION_REPORTS:
+          serviceImpl.subscribeExecutionReports((com.earth.base.order.ExecutionReportSubscribeRequest) request,
+              (io.grpc.stub.StreamObserver<com.earth.base.order.ExecutionReportBatch>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -232,6 +433,9 @@ public final class OrderServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_ORDER_SESSION:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.orderSession(
+              (io.grpc.stub.StreamObserver<com.earth.base.order.OrderSessionEvent>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -247,6 +451,27 @@ public final class OrderServiceGrpc {
               com.earth.base.order.NewOrderRequest,
               com.earth.base.order.NewOrderReply>(
                 service, METHODID_CREATE_ORDER)))
+        .addMethod(
+          getCreateOrdersMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              com.earth.base.order.NewOrderBatchRequest,
+              com.earth.base.order.NewOrderBatchReply>(
+                service, METHODID_CREATE_ORDERS)))
+        .addMethod(
+          getSubscribeExecutionReportsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              com.earth.base.order.ExecutionReportSubscribeRequest,
+              com.earth.base.order.ExecutionReportBatch>(
+                service, METHODID_SUBSCRIBE_EXECUTION_REPORTS)))
+        .addMethod(
+          getOrderSessionMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              com.earth.base.order.OrderSessionRequest,
+              com.earth.base.order.OrderSessionEvent>(
+                service, METHODID_ORDER_SESSION)))
         .build();
   }
 
@@ -296,6 +521,9 @@ public final class OrderServiceGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new OrderServiceFileDescriptorSupplier())
               .addMethod(getCreateOrderMethod())
+              .addMethod(getCreateOrdersMethod())
+              .addMethod(getSubscribeExecutionReportsMethod())
+              .addMethod(getOrderSessionMethod())
               .build();
         }
       }
@@ -25,6 +25,41 @@ public final class OrderServiceProto {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_earth_base_order_NewOrderReply_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_earth_base_order_NewOrderBatchRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_earth_base_order_NewOrderBatchRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_earth_base_order_NewOrderBatchReply_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_earth_base_order_NewOrderBatchReply_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_earth_base_order_ExecutionReport_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_earth_base_order_ExecutionReport_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_earth_base_order_ExecutionReportBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_earth_base_order_ExecutionReportBatch_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_earth_base_order_OrderSessionRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_earth_base_order_OrderSessionRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_earth_base_order_OrderSessionEvent_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_earth_base_order_OrderSessionEvent_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -36,7 +71,7 @@ public final class OrderServiceProto {
     java.lang.String[] descriptorData = {
       "\n com/earth/base/order/order.proto\022\024com." +
       "earth.base.order\032(com/earth/base/common/" +
-      "order_common.proto\"\347\013\n\017NewOrderRequest\022\022" +
+      "order_common.proto\"\216\014\n\017NewOrderRequest\022\022" +
       "\n\naccount_id\030\001 \001(\003\022\027\n\017client_order_id\030\002 " +
       "\001(\t\022\021\n\tsymbol_id\030\003 \001(\t\0228\n\norder_type\030\004 \001" +
       "(\0162$.com.earth.base.common.OrderTypeEnum" +
@@ -47,49 +82,90 @@ public final class OrderServiceProto {
       "Decimal\0220\n\010quantity\030\010 \001(\0132\036.com.earth.ba" +
       "se.common.Decimal\022.\n\006amount\030\t \001(\0132\036.com." +
       "earth.base.common.Decimal\022\023\n\013exchange_id" +
-      "\030\n \001(\003\0226\n\016maker_fee_rate\030\013 \001(\0132\036.com.ear" +
-      "th.base.common.Decimal\0226\n\016taker_fee_rate" +
-      "\030\014 \001(\0132\036.com.earth.base.common.Decimal\0220" +
-      "\n\010leverage\030\r \001(\0132\036.com.earth.base.common" +
-      ".Decimal\022\020\n\010is_close\030\016 \001(\010\022\034\n\024is_liquida" +
-      "tion_order\030\017 \001(\010\022\016\n\006org_id\030\020 \001(\003\022\021\n\tsign" +
-      "_time\030\021 \001(\003\022\022\n\nsign_nonce\030\022 \001(\t\022\023\n\013sign_" +
-      "broker\030\023 \001(\t\0225\n\rtrigger_price\030\024 \001(\0132\036.co" +
-      "m.earth.base.common.Decimal\0226\n\016original_" +
-      "price\030\025 \001(\0132\036.com.earth.base.common.Deci" +
-      "mal\022G\n\nextra_flag\030\026 \001(\01623.com.earth.base" +
-      ".order.NewOrderRequest.ExtraFlagEnum\0228\n\020" +
-      "maker_bonus_rate\030\027 \001(\0132\036.com.earth.base." +
-      "common.Decimal\022\024\n\014order_source\030\030 \001(\003\0228\n\014" +
-      "base_request\030d \001(\0132\".com.earth.base.comm" +
-      "on.BaseRequest\022\021\n\tdeduction\030\032 \001(\t\022\"\n\032int" +
-      "egral_num_expect_frozen\030\033 \001(\003\022A\n\031integra" +
-      "l_num_to_usdt_rate\030\034 \001(\0132\036.com.earth.bas" +
-      "e.common.Decimal\022\031\n\021integral_num_used\030\035 " +
-      "\001(\003\022\035\n\025integral_num_unfrozen\030\036 \001(\003\022\033\n\023in" +
-      "tegral_num_remain\030\037 \001(\003\022\017\n\007isCross\030\031 \001(\010" +
-      "\"\371\001\n\rExtraFlagEnum\022\013\n\007DEFAULT\020\000\022\036\n\032FOR_E" +
-      "XTERNAL_MATCHED_ORDER\020\001\022\023\n\017LIQUI_IOC_ORD" +
-      "ER\020\002\022\023\n\017LIQUI_ADL_ORDER\020\003\022\027\n\023FOR_MATCHED" +
-      "_SUBSIDY\020\004\022\t\n\005INPUT\020h\022\014\n\010OPPONENT\020i\022\t\n\005Q" +
-      "UEUE\020j\022\010\n\004OVER\020k\022\020\n\014MARKET_PRICE\020l\022\021\n\rHE" +
-      "DGE_BINANCE\020\016\022\022\n\016ORDINARY_AGENT\020\017\022\021\n\rSPE" +
-      "CIAL_AGENT\020\020\"\217\001\n\rNewOrderReply\022\020\n\010order_" +
-      "id\030\001 \001(\003\022\014\n\004code\030\002 \001(\003\022\017\n\007message\030\003 \001(\t\022" +
-      "\026\n\016crossAvailable\030\004 \001(\t\0225\n\006status\030\005 \001(\0162" +
-      "%.com.earth.base.order.OrderStatusEnum*\242" +
-      "\002\n\017OrderStatusEnum\022\007\n\003NEW\020\000\022\024\n\020PARTIALLY" +
-      "_FILLED\020\001\022\n\n\006FILLED\020\002\022\020\n\014DONE_FOR_DAY\020\003\022" +
-      "\014\n\010CANCELED\020\004\022\014\n\010REPLACED\020\005\022\022\n\016PENDING_C" +
-      "ANCEL\020\006\022\014\n\010REJECTED\020\010\022\r\n\tSUSPENDED\020\t\022\017\n\013" +
-      "PENDING_NEW\020\n\022\016\n\nCALCULATED\020\013\022\013\n\007EXPIRED" +
-      "\020\014\022\030\n\024ACCEPTED_FOR_BIDDING\020\r\022\023\n\017PENDING_" +
-      "REPLACE\020\016\022\022\n\016ADMIN_REJECTED\020\017\022\024\n\020EXPIRED" +
-      "_CANCELED\020\0202i\n\014OrderService\022Y\n\013CreateOrd" +
-      "er\022%.com.earth.base.order.NewOrderReques" +
-      "t\032#.com.earth.base.order.NewOrderReplyB+" +
-      "\n\024com.earth.base.orderB\021OrderServiceProt" +
-      "oP\001b\006proto3"
+      "\030\n \001(\003\022:\n\016maker_fee_rate\030\013 \001(\0132\036.com.ear" +
+      "th.base.common.DecimalB\002\030\001\022:\n\016taker_fee_" +
+      "rate\030\014 \001(\0132\036.com.earth.base.common.Decim" +
+      "alB\002\030\001\0220\n\010leverage\030\r \001(\0132\036.com.earth.bas" +
+      "e.common.Decimal\022\020\n\010is_close\030\016 \001(\010\022\034\n\024is" +
+      "_liquidation_order\030\017 \001(\010\022\016\n\006org_id\030\020 \001(\003" +
+      "\022\021\n\tsign_time\030\021 \001(\003\022\022\n\nsign_nonce\030\022 \001(\t\022" +
+      "\023\n\013sign_broker\030\023 \001(\t\0225\n\rtrigger_price\030\024 " +
+      "\001(\0132\036.com.earth.base.common.Decimal\0226\n\016o" +
+      "riginal_price\030\025 \001(\0132\036.com.earth.base.com" +
+      "mon.Decimal\022G\n\nextra_flag\030\026 \001(\01623.com.ea" +
+      "rth.base.order.NewOrderRequest.ExtraFlag" +
+      "Enum\022<\n\020maker_bonus_rate\030\027 \001(\0132\036.com.ear" +
+      "th.base.common.DecimalB\002\030\001\022\024\n\014order_sour" +
+      "ce\030\030 \001(\003\0228\n\014base_request\030d \001(\0132\".com.ear" +
+      "th.base.common.BaseRequest\022\021\n\tdeduction\030" +
+      "\032 \001(\t\022\"\n\032integral_num_expect_frozen\030\033 \001(" +
+      "\003\022A\n\031integral_num_to_usdt_rate\030\034 \001(\0132\036.c" +
+      "om.earth.base.common.Decimal\022\031\n\021integral" +
+      "_num_used\030\035 \001(\003\022\035\n\025integral_num_unfrozen" +
+      "\030\036 \001(\003\022\033\n\023integral_num_remain\030\037 \001(\003\022\023\n\013e" +
+      "xpire_time\030  \001(\003\022\017\n\007isCross\030\031 \001(\010\"\371\001\n\rEx" +
+      "traFlagEnum\022\013\n\007DEFAULT\020\000\022\036\n\032FOR_EXTERNAL" +
+      "_MATCHED_ORDER\020\001\022\023\n\017LIQUI_IOC_ORDER\020\002\022\023\n" +
+      "\017LIQUI_ADL_ORDER\020\003\022\027\n\023FOR_MATCHED_SUBSID" +
+      "Y\020\004\022\t\n\005INPUT\020h\022\014\n\010OPPONENT\020i\022\t\n\005QUEUE\020j\022" +
+      "\010\n\004OVER\020k\022\020\n\014MARKET_PRICE\020l\022\021\n\rHEDGE_BIN" +
+      "ANCE\020\016\022\022\n\016ORDINARY_AGENT\020\017\022\021\n\rSPECIAL_AG" +
+      "ENT\020\020J\004\010!\020\"\"\217\001\n\rNewOrderReply\022\020\n\010order_i" +
+      "d\030\001 \001(\003\022\014\n\004code\030\002 \001(\003\022\017\n\007message\030\003 \001(\t\022\026" +
+      "\n\016crossAvailable\030\004 \001(\t\0225\n\006status\030\005 \001(\0162%" +
+      ".com.earth.base.order.OrderStatusEnum\"M\n" +
+      "\024NewOrderBatchRequest\0225\n\006orders\030\001 \003(\0132%." +
+      "com.earth.base.order.NewOrderRequest\"J\n\022" +
+      "NewOrderBatchReply\0224\n\007replies\030\001 \003(\0132#.co" +
+      "m.earth.base.order.NewOrderReply\"5\n\037Exec" +
+      "utionReportSubscribeRequest\022\022\n\naccount_i" +
+      "d\030\001 \001(\003\"\337\004\n\017ExecutionReport\022\020\n\010sequence\030" +
+      "\001 \001(\003\022\020\n\010order_id\030\002 \001(\003\022\022\n\naccount_id\030\003 " +
+      "\001(\003\022\021\n\tsymbol_id\030\004 \001(\t\0222\n\004side\030\005 \001(\0162$.c" +
+      "om.earth.base.common.OrderSideEnum\0225\n\006st" +
+      "atus\030\006 \001(\0162%.com.earth.base.order.OrderS" +
+      "tatusEnum\022\020\n\010trade_id\030\007 \001(\003\0222\n\nlast_pric" +
+      "e\030\010 \001(\0132\036.com.earth.base.common.Decimal\022" +
+      "5\n\rlast_quantity\030\t \001(\0132\036.com.earth.base." +
+      "common.Decimal\0229\n\021executed_quantity\030\n \001(" +
+      "\0132\036.com.earth.base.common.Decimal\0227\n\017exe" +
+      "cuted_amount\030\013 \001(\0132\036.com.earth.base.comm" +
+      "on.Decimal\0227\n\017leaves_quantity\030\014 \001(\0132\036.co" +
+      "m.earth.base.common.Decimal\022\020\n\010is_maker\030" +
+      "\r \001(\010\022\026\n\016match_order_id\030\016 \001(\003\022\025\n\rtransac" +
+      "t_time\030\017 \001(\003\022+\n\003fee\030\020 \001(\0132\036.com.earth.ba" +
+      "se.common.Decimal\"N\n\024ExecutionReportBatc" +
+      "h\0226\n\007reports\030\001 \003(\0132%.com.earth.base.orde" +
+      "r.ExecutionReport\"\270\001\n\023OrderSessionReques" +
+      "t\022\022\n\nrequest_id\030\001 \001(\003\0226\n\005order\030\002 \001(\0132%.c" +
+      "om.earth.base.order.NewOrderRequestH\000\022J\n" +
+      "\tsubscribe\030\003 \001(\01325.com.earth.base.order." +
+      "ExecutionReportSubscribeRequestH\000B\t\n\007pay" +
+      "load\"\271\001\n\021OrderSessionEvent\022\020\n\010sequence\030\001" +
+      " \001(\003\022\022\n\nrequest_id\030\002 \001(\003\0224\n\005reply\030\003 \001(\0132" +
+      "#.com.earth.base.order.NewOrderReplyH\000\022=" +
+      "\n\007reports\030\004 \001(\0132*.com.earth.base.order.E" +
+      "xecutionReportBatchH\000B\t\n\007payload*\242\002\n\017Ord" +
+      "erStatusEnum\022\007\n\003NEW\020\000\022\024\n\020PARTIALLY_FILLE" +
+      "D\020\001\022\n\n\006FILLED\020\002\022\020\n\014DONE_FOR_DAY\020\003\022\014\n\010CAN" +
+      "CELED\020\004\022\014\n\010REPLACED\020\005\022\022\n\016PENDING_CANCEL\020" +
+      "\006\022\014\n\010REJECTED\020\010\022\r\n\tSUSPENDED\020\t\022\017\n\013PENDIN" +
+      "G_NEW\020\n\022\016\n\nCALCULATED\020\013\022\013\n\007EXPIRED\020\014\022\030\n\024" +
+      "ACCEPTED_FOR_BIDDING\020\r\022\023\n\017PENDING_REPLAC" +
+      "E\020\016\022\022\n\016ADMIN_REJECTED\020\017\022\024\n\020EXPIRED_CANCE" +
+      "LED\020\0202\272\003\n\014OrderService\022Y\n\013CreateOrder\022%." +
+      "com.earth.base.order.NewOrderRequest\032#.c" +
+      "om.earth.base.order.NewOrderReply\022d\n\014Cre" +
+      "ateOrders\022*.com.earth.base.order.NewOrde" +
+      "rBatchRequest\032(.com.earth.base.order.New" +
+      "OrderBatchReply\022\200\001\n\031SubscribeExecutionRe" +
+      "ports\0225.com.earth.base.order.ExecutionRe" +
+      "portSubscribeRequest\032*.com.earth.base.or" +
+      "der.ExecutionReportBatch0\001\022f\n\014OrderSessi" +
+      "on\022).com.earth.base.order.OrderSessionRe" +
+      "quest\032\'.com.earth.base.order.OrderSessio" +
+      "nEvent(\0010\001B+\n\024com.earth.base.orderB\021Orde" +
+      "rServiceProtoP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -101,13 +177,55 @@ public final class OrderServiceProto {
     internal_static_com_earth_base_order_NewOrderRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_earth_base_order_NewOrderRequest_descriptor,
-        new java.lang.String[] { "AccountId", "ClientOrderId", "SymbolId", "OrderType", "TimeInForce", "Side", "Price", "Quantity", "Amount", "ExchangeId", "MakerFeeRate", "TakerFeeRate", "Leverage", "IsClose", "IsLiquidationOrder", "OrgId", "SignTime", "SignNonce", "SignBroker", "TriggerPrice", "OriginalPrice", "ExtraFlag", "MakerBonusRate", "OrderSource", "BaseRequest", "Deduction", "IntegralNumExpectFrozen", "IntegralNumToUsdtRate", "IntegralNumUsed", "IntegralNumUnfrozen", "IntegralNumRemain", "IsCross", });
+        new java.lang.String[] { "AccountId", "ClientOrderId", "SymbolId", "OrderType", "TimeInForce", "Side", "Price", "Quantity", "Amount", "ExchangeId", "MakerFeeRate", "TakerFeeRate", "Leverage", "IsClose", "IsLiquidationOrder", "OrgId", "SignTime", "SignNonce", "SignBroker", "TriggerPrice", "OriginalPrice", "ExtraFlag", "MakerBonusRate", "OrderSource", "BaseRequest", "Deduction", "IntegralNumExpectFrozen", "IntegralNumToUsdtRate", "IntegralNumUsed", "IntegralNumUnfrozen", "IntegralNumRemain", "ExpireTime", "IsCross", });
     internal_static_com_earth_base_order_NewOrderReply_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_com_earth_base_order_NewOrderReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_earth_base_order_NewOrderReply_descriptor,
         new java.lang.String[] { "OrderId", "Code", "Message", "CrossAvailable", "Status", });
+    internal_static_com_earth_base_order_NewOrderBatchRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_com_earth_base_order_NewOrderBatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_earth_base_order_NewOrderBatchRequest_descriptor,
+        new java.lang.String[] { "Orders", });
+    internal_static_com_earth_base_order_NewOrderBatchReply_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_com_earth_base_order_NewOrderBatchReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_earth_base_order_NewOrderBatchReply_descriptor,
+        new java.lang.String[] { "Replies", });
+    internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_earth_base_order_ExecutionReportSubscribeRequest_descriptor,
+        new java.lang.String[] { "AccountId", });
+    internal_static_com_earth_base_order_ExecutionReport_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_com_earth_base_order_ExecutionReport_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_earth_base_order_ExecutionReport_descriptor,
+        new java.lang.String[] { "Sequence", "OrderId", "AccountId", "SymbolId", "Side", "Status", "TradeId", "LastPrice", "LastQuantity", "ExecutedQuantity", "ExecutedAmount", "LeavesQuantity", "IsMaker", "MatchOrderId", "TransactTime", "Fee", });
+    internal_static_com_earth_base_order_ExecutionReportBatch_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_com_earth_base_order_ExecutionReportBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_earth_base_order_ExecutionReportBatch_descriptor,
+        new java.lang.String[] { "Reports", });
+    internal_static_com_earth_base_order_OrderSessionRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_com_earth_base_order_OrderSessionRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_earth_base_order_OrderSessionRequest_descriptor,
+        new java.lang.String[] { "RequestId", "Order", "Subscribe", "Payload", });
+    internal_static_com_earth_base_order_OrderSessionEvent_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_com_earth_base_order_OrderSessionEvent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_earth_base_order_OrderSessionEvent_descriptor,
+        new java.lang.String[] { "Sequence", "RequestId", "Reply", "Reports", "Payload", });
     com.earth.base.common.OrderCommonProto.getDescriptor();
   }
 
@@ -0,0 +1,1169 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+/**
+ * <pre>
+ *
+ * 下单会话推送
+ * </pre>
+ *
+ * Protobuf type {@code com.earth.base.order.OrderSessionEvent}
+ */
+public final class OrderSessionEvent extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.earth.base.order.OrderSessionEvent)
+    OrderSessionEventOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use OrderSessionEvent.newBuilder() to construct.
+  private OrderSessionEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private OrderSessionEvent() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new OrderSessionEvent();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionEvent_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionEvent_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.earth.base.order.OrderSessionEvent.class, com.earth.base.order.OrderSessionEvent.Builder.class);
+  }
+
+  private int payloadCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object payload_;
+  public enum PayloadCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    REPLY(3),
+    REPORTS(4),
+    PAYLOAD_NOT_SET(0);
+    private final int value;
+    private PayloadCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static PayloadCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static PayloadCase forNumber(int value) {
+      switch (value) {
+        case 3: return REPLY;
+        case 4: return REPORTS;
+        case 0: return PAYLOAD_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public PayloadCase
+  getPayloadCase() {
+    return PayloadCase.forNumber(
+        payloadCase_);
+  }
+
+  public static final int SEQUENCE_FIELD_NUMBER = 1;
+  private long sequence_ = 0L;
+  /**
+   * <pre>
+   * 会话内序号，从 1 开始连续递增，客户端据此检查是否漏收
+   * </pre>
+   *
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  @java.lang.Override
+  public long getSequence() {
+    return sequence_;
+  }
+
+  public static final int REQUEST_ID_FIELD_NUMBER = 2;
+  private long requestId_ = 0L;
+  /**
+   * <pre>
+   * 下单回复对应的请求编号，执行回报为 0
+   * </pre>
+   *
+   * <code>int64 request_id = 2;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public long getRequestId() {
+    return requestId_;
+  }
+
+  public static final int REPLY_FIELD_NUMBER = 3;
+  /**
+   * <pre>
+   * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+   * @return Whether the reply field is set.
+   */
+  @java.lang.Override
+  public boolean hasReply() {
+    return payloadCase_ == 3;
+  }
+  /**
+   * <pre>
+   * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+   * @return The reply.
+   */
+  @java.lang.Override
+  public com.earth.base.order.NewOrderReply getReply() {
+    if (payloadCase_ == 3) {
+       return (com.earth.base.order.NewOrderReply) payload_;
+    }
+    return com.earth.base.order.NewOrderReply.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.NewOrderReplyOrBuilder getReplyOrBuilder() {
+    if (payloadCase_ == 3) {
+       return (com.earth.base.order.NewOrderReply) payload_;
+    }
+    return com.earth.base.order.NewOrderReply.getDefaultInstance();
+  }
+
+  public static final int REPORTS_FIELD_NUMBER = 4;
+  /**
+   * <pre>
+   * 执行回报，按回报发布的批推送
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+   * @return Whether the reports field is set.
+   */
+  @java.lang.Override
+  public boolean hasReports() {
+    return payloadCase_ == 4;
+  }
+  /**
+   * <pre>
+   * 执行回报，按回报发布的批推送
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+   * @return The reports.
+   */
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReportBatch getReports() {
+    if (payloadCase_ == 4) {
+       return (com.earth.base.order.ExecutionReportBatch) payload_;
+    }
+    return com.earth.base.order.ExecutionReportBatch.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * 执行回报，按回报发布的批推送
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReportBatchOrBuilder getReportsOrBuilder() {
+    if (payloadCase_ == 4) {
+       return (com.earth.base.order.ExecutionReportBatch) payload_;
+    }
+    return com.earth.base.order.ExecutionReportBatch.getDefaultInstance();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (sequence_ != 0L) {
+      output.writeInt64(1, sequence_);
+    }
+    if (requestId_ != 0L) {
+      output.writeInt64(2, requestId_);
+    }
+    if (payloadCase_ == 3) {
+      output.writeMessage(3, (com.earth.base.order.NewOrderReply) payload_);
+    }
+    if (payloadCase_ == 4) {
+      output.writeMessage(4, (com.earth.base.order.ExecutionReportBatch) payload_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (sequence_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, sequence_);
+    }
+    if (requestId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, requestId_);
+    }
+    if (payloadCase_ == 3) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, (com.earth.base.order.NewOrderReply) payload_);
+    }
+    if (payloadCase_ == 4) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, (com.earth.base.order.ExecutionReportBatch) payload_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.earth.base.order.OrderSessionEvent)) {
+      return super.equals(obj);
+    }
+    com.earth.base.order.OrderSessionEvent other = (com.earth.base.order.OrderSessionEvent) obj;
+
+    if (getSequence()
+        != other.getSequence()) return false;
+    if (getRequestId()
+        != other.getRequestId()) return false;
+    if (!getPayloadCase().equals(other.getPayloadCase())) return false;
+    switch (payloadCase_) {
+      case 3:
+        if (!getReply()
+            .equals(other.getReply())) return false;
+        break;
+      case 4:
+        if (!getReports()
+            .equals(other.getReports())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSequence());
+    hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRequestId());
+    switch (payloadCase_) {
+      case 3:
+        hash = (37 * hash) + REPLY_FIELD_NUMBER;
+        hash = (53 * hash) + getReply().hashCode();
+        break;
+      case 4:
+        hash = (37 * hash) + REPORTS_FIELD_NUMBER;
+        hash = (53 * hash) + getReports().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.earth.base.order.OrderSessionEvent parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.earth.base.order.OrderSessionEvent parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.earth.base.order.OrderSessionEvent parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.OrderSessionEvent parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.earth.base.order.OrderSessionEvent prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   *
+   * 下单会话推送
+   * </pre>
+   *
+   * Protobuf type {@code com.earth.base.order.OrderSessionEvent}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.earth.base.order.OrderSessionEvent)
+      com.earth.base.order.OrderSessionEventOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionEvent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionEvent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.earth.base.order.OrderSessionEvent.class, com.earth.base.order.OrderSessionEvent.Builder.class);
+    }
+
+    // Construct using com.earth.base.order.OrderSessionEvent.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      sequence_ = 0L;
+      requestId_ = 0L;
+      if (replyBuilder_ != null) {
+        replyBuilder_.clear();
+      }
+      if (reportsBuilder_ != null) {
+        reportsBuilder_.clear();
+      }
+      payloadCase_ = 0;
+      payload_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionEvent_descriptor;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.OrderSessionEvent getDefaultInstanceForType() {
+      return com.earth.base.order.OrderSessionEvent.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.OrderSessionEvent build() {
+      com.earth.base.order.OrderSessionEvent result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.OrderSessionEvent buildPartial() {
+      com.earth.base.order.OrderSessionEvent result = new com.earth.base.order.OrderSessionEvent(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.earth.base.order.OrderSessionEvent result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.sequence_ = sequence_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.requestId_ = requestId_;
+      }
+    }
+
+    private void buildPartialOneofs(com.earth.base.order.OrderSessionEvent result) {
+      result.payloadCase_ = payloadCase_;
+      result.payload_ = this.payload_;
+      if (payloadCase_ == 3 &&
+          replyBuilder_ != null) {
+        result.payload_ = replyBuilder_.build();
+      }
+      if (payloadCase_ == 4 &&
+          reportsBuilder_ != null) {
+        result.payload_ = reportsBuilder_.build();
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.earth.base.order.OrderSessionEvent) {
+        return mergeFrom((com.earth.base.order.OrderSessionEvent)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.earth.base.order.OrderSessionEvent other) {
+      if (other == com.earth.base.order.OrderSessionEvent.getDefaultInstance()) return this;
+      if (other.getSequence() != 0L) {
+        setSequence(other.getSequence());
+      }
+      if (other.getRequestId() != 0L) {
+        setRequestId(other.getRequestId());
+      }
+      switch (other.getPayloadCase()) {
+        case REPLY: {
+          mergeReply(other.getReply());
+          break;
+        }
+        case REPORTS: {
+          mergeReports(other.getReports());
+          break;
+        }
+        case PAYLOAD_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              sequence_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              requestId_ = input.readInt64();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 26: {
+              input.readMessage(
+                  getReplyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 3;
+              break;
+            } // case 26
+            case 34: {
+              input.readMessage(
+                  getReportsFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 4;
+              break;
+            } // case 34
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int payloadCase_ = 0;
+    private java.lang.Object payload_;
+    public PayloadCase
+        getPayloadCase() {
+      return PayloadCase.forNumber(
+          payloadCase_);
+    }
+
+    public Builder clearPayload() {
+      payloadCase_ = 0;
+      payload_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private long sequence_ ;
+    /**
+     * <pre>
+     * 会话内序号，从 1 开始连续递增，客户端据此检查是否漏收
+     * </pre>
+     *
+     * <code>int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public long getSequence() {
+      return sequence_;
+    }
+    /**
+     * <pre>
+     * 会话内序号，从 1 开始连续递增，客户端据此检查是否漏收
+     * </pre>
+     *
+     * <code>int64 sequence = 1;</code>
+     * @param value The sequence to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSequence(long value) {
+
+      sequence_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 会话内序号，从 1 开始连续递增，客户端据此检查是否漏收
+     * </pre>
+     *
+     * <code>int64 sequence = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSequence() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      sequence_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long requestId_ ;
+    /**
+     * <pre>
+     * 下单回复对应的请求编号，执行回报为 0
+     * </pre>
+     *
+     * <code>int64 request_id = 2;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+    /**
+     * <pre>
+     * 下单回复对应的请求编号，执行回报为 0
+     * </pre>
+     *
+     * <code>int64 request_id = 2;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(long value) {
+
+      requestId_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单回复对应的请求编号，执行回报为 0
+     * </pre>
+     *
+     * <code>int64 request_id = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      requestId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.order.NewOrderReply, com.earth.base.order.NewOrderReply.Builder, com.earth.base.order.NewOrderReplyOrBuilder> replyBuilder_;
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     * @return Whether the reply field is set.
+     */
+    @java.lang.Override
+    public boolean hasReply() {
+      return payloadCase_ == 3;
+    }
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     * @return The reply.
+     */
+    @java.lang.Override
+    public com.earth.base.order.NewOrderReply getReply() {
+      if (replyBuilder_ == null) {
+        if (payloadCase_ == 3) {
+          return (com.earth.base.order.NewOrderReply) payload_;
+        }
+        return com.earth.base.order.NewOrderReply.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 3) {
+          return replyBuilder_.getMessage();
+        }
+        return com.earth.base.order.NewOrderReply.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     */
+    public Builder setReply(com.earth.base.order.NewOrderReply value) {
+      if (replyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        replyBuilder_.setMessage(value);
+      }
+      payloadCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     */
+    public Builder setReply(
+        com.earth.base.order.NewOrderReply.Builder builderForValue) {
+      if (replyBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        replyBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     */
+    public Builder mergeReply(com.earth.base.order.NewOrderReply value) {
+      if (replyBuilder_ == null) {
+        if (payloadCase_ == 3 &&
+            payload_ != com.earth.base.order.NewOrderReply.getDefaultInstance()) {
+          payload_ = com.earth.base.order.NewOrderReply.newBuilder((com.earth.base.order.NewOrderReply) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 3) {
+          replyBuilder_.mergeFrom(value);
+        } else {
+          replyBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     */
+    public Builder clearReply() {
+      if (replyBuilder_ == null) {
+        if (payloadCase_ == 3) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 3) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        replyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     */
+    public com.earth.base.order.NewOrderReply.Builder getReplyBuilder() {
+      return getReplyFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     */
+    @java.lang.Override
+    public com.earth.base.order.NewOrderReplyOrBuilder getReplyOrBuilder() {
+      if ((payloadCase_ == 3) && (replyBuilder_ != null)) {
+        return replyBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 3) {
+          return (com.earth.base.order.NewOrderReply) payload_;
+        }
+        return com.earth.base.order.NewOrderReply.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.order.NewOrderReply, com.earth.base.order.NewOrderReply.Builder, com.earth.base.order.NewOrderReplyOrBuilder> 
+        getReplyFieldBuilder() {
+      if (replyBuilder_ == null) {
+        if (!(payloadCase_ == 3)) {
+          payload_ = com.earth.base.order.NewOrderReply.getDefaultInstance();
+        }
+        replyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.order.NewOrderReply, com.earth.base.order.NewOrderReply.Builder, com.earth.base.order.NewOrderReplyOrBuilder>(
+                (com.earth.base.order.NewOrderReply) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 3;
+      onChanged();
+      return replyBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.order.ExecutionReportBatch, com.earth.base.order.ExecutionReportBatch.Builder, com.earth.base.order.ExecutionReportBatchOrBuilder> reportsBuilder_;
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     * @return Whether the reports field is set.
+     */
+    @java.lang.Override
+    public boolean hasReports() {
+      return payloadCase_ == 4;
+    }
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     * @return The reports.
+     */
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportBatch getReports() {
+      if (reportsBuilder_ == null) {
+        if (payloadCase_ == 4) {
+          return (com.earth.base.order.ExecutionReportBatch) payload_;
+        }
+        return com.earth.base.order.ExecutionReportBatch.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 4) {
+          return reportsBuilder_.getMessage();
+        }
+        return com.earth.base.order.ExecutionReportBatch.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     */
+    public Builder setReports(com.earth.base.order.ExecutionReportBatch value) {
+      if (reportsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        reportsBuilder_.setMessage(value);
+      }
+      payloadCase_ = 4;
+      return this;
+    }
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     */
+    public Builder setReports(
+        com.earth.base.order.ExecutionReportBatch.Builder builderForValue) {
+      if (reportsBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        reportsBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 4;
+      return this;
+    }
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     */
+    public Builder mergeReports(com.earth.base.order.ExecutionReportBatch value) {
+      if (reportsBuilder_ == null) {
+        if (payloadCase_ == 4 &&
+            payload_ != com.earth.base.order.ExecutionReportBatch.getDefaultInstance()) {
+          payload_ = com.earth.base.order.ExecutionReportBatch.newBuilder((com.earth.base.order.ExecutionReportBatch) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 4) {
+          reportsBuilder_.mergeFrom(value);
+        } else {
+          reportsBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 4;
+      return this;
+    }
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     */
+    public Builder clearReports() {
+      if (reportsBuilder_ == null) {
+        if (payloadCase_ == 4) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 4) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        reportsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     */
+    public com.earth.base.order.ExecutionReportBatch.Builder getReportsBuilder() {
+      return getReportsFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     */
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportBatchOrBuilder getReportsOrBuilder() {
+      if ((payloadCase_ == 4) && (reportsBuilder_ != null)) {
+        return reportsBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 4) {
+          return (com.earth.base.order.ExecutionReportBatch) payload_;
+        }
+        return com.earth.base.order.ExecutionReportBatch.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 执行回报，按回报发布的批推送
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.order.ExecutionReportBatch, com.earth.base.order.ExecutionReportBatch.Builder, com.earth.base.order.ExecutionReportBatchOrBuilder> 
+        getReportsFieldBuilder() {
+      if (reportsBuilder_ == null) {
+        if (!(payloadCase_ == 4)) {
+          payload_ = com.earth.base.order.ExecutionReportBatch.getDefaultInstance();
+        }
+        reportsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.order.ExecutionReportBatch, com.earth.base.order.ExecutionReportBatch.Builder, com.earth.base.order.ExecutionReportBatchOrBuilder>(
+                (com.earth.base.order.ExecutionReportBatch) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 4;
+      onChanged();
+      return reportsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.earth.base.order.OrderSessionEvent)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.earth.base.order.OrderSessionEvent)
+  private static final com.earth.base.order.OrderSessionEvent DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.earth.base.order.OrderSessionEvent();
+  }
+
+  public static com.earth.base.order.OrderSessionEvent getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<OrderSessionEvent>
+      PARSER = new com.google.protobuf.AbstractParser<OrderSessionEvent>() {
+    @java.lang.Override
+    public OrderSessionEvent parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<OrderSessionEvent> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<OrderSessionEvent> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.earth.base.order.OrderSessionEvent getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,86 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+public interface OrderSessionEventOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.earth.base.order.OrderSessionEvent)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 会话内序号，从 1 开始连续递增，客户端据此检查是否漏收
+   * </pre>
+   *
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  long getSequence();
+
+  /**
+   * <pre>
+   * 下单回复对应的请求编号，执行回报为 0
+   * </pre>
+   *
+   * <code>int64 request_id = 2;</code>
+   * @return The requestId.
+   */
+  long getRequestId();
+
+  /**
+   * <pre>
+   * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+   * @return Whether the reply field is set.
+   */
+  boolean hasReply();
+  /**
+   * <pre>
+   * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+   * @return The reply.
+   */
+  com.earth.base.order.NewOrderReply getReply();
+  /**
+   * <pre>
+   * 下单回复，被拒绝的订单 code 为 gRPC 状态码，status 为 REJECTED，与批量下单一致
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderReply reply = 3;</code>
+   */
+  com.earth.base.order.NewOrderReplyOrBuilder getReplyOrBuilder();
+
+  /**
+   * <pre>
+   * 执行回报，按回报发布的批推送
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+   * @return Whether the reports field is set.
+   */
+  boolean hasReports();
+  /**
+   * <pre>
+   * 执行回报，按回报发布的批推送
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+   * @return The reports.
+   */
+  com.earth.base.order.ExecutionReportBatch getReports();
+  /**
+   * <pre>
+   * 执行回报，按回报发布的批推送
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportBatch reports = 4;</code>
+   */
+  com.earth.base.order.ExecutionReportBatchOrBuilder getReportsOrBuilder();
+
+  com.earth.base.order.OrderSessionEvent.PayloadCase getPayloadCase();
+}
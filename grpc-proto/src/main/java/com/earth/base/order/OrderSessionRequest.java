@@ -0,0 +1,1086 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+/**
+ * <pre>
+ *
+ * 下单会话请求，order、subscribe 二选一
+ * </pre>
+ *
+ * Protobuf type {@code com.earth.base.order.OrderSessionRequest}
+ */
+public final class OrderSessionRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.earth.base.order.OrderSessionRequest)
+    OrderSessionRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use OrderSessionRequest.newBuilder() to construct.
+  private OrderSessionRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private OrderSessionRequest() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new OrderSessionRequest();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.earth.base.order.OrderSessionRequest.class, com.earth.base.order.OrderSessionRequest.Builder.class);
+  }
+
+  private int payloadCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object payload_;
+  public enum PayloadCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    ORDER(2),
+    SUBSCRIBE(3),
+    PAYLOAD_NOT_SET(0);
+    private final int value;
+    private PayloadCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static PayloadCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static PayloadCase forNumber(int value) {
+      switch (value) {
+        case 2: return ORDER;
+        case 3: return SUBSCRIBE;
+        case 0: return PAYLOAD_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public PayloadCase
+  getPayloadCase() {
+    return PayloadCase.forNumber(
+        payloadCase_);
+  }
+
+  public static final int REQUEST_ID_FIELD_NUMBER = 1;
+  private long requestId_ = 0L;
+  /**
+   * <pre>
+   * 客户端请求编号，服务端在对应的下单回复中原样带回
+   * </pre>
+   *
+   * <code>int64 request_id = 1;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public long getRequestId() {
+    return requestId_;
+  }
+
+  public static final int ORDER_FIELD_NUMBER = 2;
+  /**
+   * <pre>
+   * 下单
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+   * @return Whether the order field is set.
+   */
+  @java.lang.Override
+  public boolean hasOrder() {
+    return payloadCase_ == 2;
+  }
+  /**
+   * <pre>
+   * 下单
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+   * @return The order.
+   */
+  @java.lang.Override
+  public com.earth.base.order.NewOrderRequest getOrder() {
+    if (payloadCase_ == 2) {
+       return (com.earth.base.order.NewOrderRequest) payload_;
+    }
+    return com.earth.base.order.NewOrderRequest.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * 下单
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.NewOrderRequestOrBuilder getOrderOrBuilder() {
+    if (payloadCase_ == 2) {
+       return (com.earth.base.order.NewOrderRequest) payload_;
+    }
+    return com.earth.base.order.NewOrderRequest.getDefaultInstance();
+  }
+
+  public static final int SUBSCRIBE_FIELD_NUMBER = 3;
+  /**
+   * <pre>
+   * 在本会话上订阅执行回报，每个会话只能订阅一次
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+   * @return Whether the subscribe field is set.
+   */
+  @java.lang.Override
+  public boolean hasSubscribe() {
+    return payloadCase_ == 3;
+  }
+  /**
+   * <pre>
+   * 在本会话上订阅执行回报，每个会话只能订阅一次
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+   * @return The subscribe.
+   */
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReportSubscribeRequest getSubscribe() {
+    if (payloadCase_ == 3) {
+       return (com.earth.base.order.ExecutionReportSubscribeRequest) payload_;
+    }
+    return com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * 在本会话上订阅执行回报，每个会话只能订阅一次
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+   */
+  @java.lang.Override
+  public com.earth.base.order.ExecutionReportSubscribeRequestOrBuilder getSubscribeOrBuilder() {
+    if (payloadCase_ == 3) {
+       return (com.earth.base.order.ExecutionReportSubscribeRequest) payload_;
+    }
+    return com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (requestId_ != 0L) {
+      output.writeInt64(1, requestId_);
+    }
+    if (payloadCase_ == 2) {
+      output.writeMessage(2, (com.earth.base.order.NewOrderRequest) payload_);
+    }
+    if (payloadCase_ == 3) {
+      output.writeMessage(3, (com.earth.base.order.ExecutionReportSubscribeRequest) payload_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (requestId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, requestId_);
+    }
+    if (payloadCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, (com.earth.base.order.NewOrderRequest) payload_);
+    }
+    if (payloadCase_ == 3) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, (com.earth.base.order.ExecutionReportSubscribeRequest) payload_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.earth.base.order.OrderSessionRequest)) {
+      return super.equals(obj);
+    }
+    com.earth.base.order.OrderSessionRequest other = (com.earth.base.order.OrderSessionRequest) obj;
+
+    if (getRequestId()
+        != other.getRequestId()) return false;
+    if (!getPayloadCase().equals(other.getPayloadCase())) return false;
+    switch (payloadCase_) {
+      case 2:
+        if (!getOrder()
+            .equals(other.getOrder())) return false;
+        break;
+      case 3:
+        if (!getSubscribe()
+            .equals(other.getSubscribe())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRequestId());
+    switch (payloadCase_) {
+      case 2:
+        hash = (37 * hash) + ORDER_FIELD_NUMBER;
+        hash = (53 * hash) + getOrder().hashCode();
+        break;
+      case 3:
+        hash = (37 * hash) + SUBSCRIBE_FIELD_NUMBER;
+        hash = (53 * hash) + getSubscribe().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.earth.base.order.OrderSessionRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.earth.base.order.OrderSessionRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.earth.base.order.OrderSessionRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.earth.base.order.OrderSessionRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.earth.base.order.OrderSessionRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   *
+   * 下单会话请求，order、subscribe 二选一
+   * </pre>
+   *
+   * Protobuf type {@code com.earth.base.order.OrderSessionRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.earth.base.order.OrderSessionRequest)
+      com.earth.base.order.OrderSessionRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.earth.base.order.OrderSessionRequest.class, com.earth.base.order.OrderSessionRequest.Builder.class);
+    }
+
+    // Construct using com.earth.base.order.OrderSessionRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      requestId_ = 0L;
+      if (orderBuilder_ != null) {
+        orderBuilder_.clear();
+      }
+      if (subscribeBuilder_ != null) {
+        subscribeBuilder_.clear();
+      }
+      payloadCase_ = 0;
+      payload_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.earth.base.order.OrderServiceProto.internal_static_com_earth_base_order_OrderSessionRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.OrderSessionRequest getDefaultInstanceForType() {
+      return com.earth.base.order.OrderSessionRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.OrderSessionRequest build() {
+      com.earth.base.order.OrderSessionRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.earth.base.order.OrderSessionRequest buildPartial() {
+      com.earth.base.order.OrderSessionRequest result = new com.earth.base.order.OrderSessionRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.earth.base.order.OrderSessionRequest result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.requestId_ = requestId_;
+      }
+    }
+
+    private void buildPartialOneofs(com.earth.base.order.OrderSessionRequest result) {
+      result.payloadCase_ = payloadCase_;
+      result.payload_ = this.payload_;
+      if (payloadCase_ == 2 &&
+          orderBuilder_ != null) {
+        result.payload_ = orderBuilder_.build();
+      }
+      if (payloadCase_ == 3 &&
+          subscribeBuilder_ != null) {
+        result.payload_ = subscribeBuilder_.build();
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.earth.base.order.OrderSessionRequest) {
+        return mergeFrom((com.earth.base.order.OrderSessionRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.earth.base.order.OrderSessionRequest other) {
+      if (other == com.earth.base.order.OrderSessionRequest.getDefaultInstance()) return this;
+      if (other.getRequestId() != 0L) {
+        setRequestId(other.getRequestId());
+      }
+      switch (other.getPayloadCase()) {
+        case ORDER: {
+          mergeOrder(other.getOrder());
+          break;
+        }
+        case SUBSCRIBE: {
+          mergeSubscribe(other.getSubscribe());
+          break;
+        }
+        case PAYLOAD_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              requestId_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 18: {
+              input.readMessage(
+                  getOrderFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 2;
+              break;
+            } // case 18
+            case 26: {
+              input.readMessage(
+                  getSubscribeFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 3;
+              break;
+            } // case 26
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int payloadCase_ = 0;
+    private java.lang.Object payload_;
+    public PayloadCase
+        getPayloadCase() {
+      return PayloadCase.forNumber(
+          payloadCase_);
+    }
+
+    public Builder clearPayload() {
+      payloadCase_ = 0;
+      payload_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private long requestId_ ;
+    /**
+     * <pre>
+     * 客户端请求编号，服务端在对应的下单回复中原样带回
+     * </pre>
+     *
+     * <code>int64 request_id = 1;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+    /**
+     * <pre>
+     * 客户端请求编号，服务端在对应的下单回复中原样带回
+     * </pre>
+     *
+     * <code>int64 request_id = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(long value) {
+
+      requestId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 客户端请求编号，服务端在对应的下单回复中原样带回
+     * </pre>
+     *
+     * <code>int64 request_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      requestId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.order.NewOrderRequest, com.earth.base.order.NewOrderRequest.Builder, com.earth.base.order.NewOrderRequestOrBuilder> orderBuilder_;
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     * @return Whether the order field is set.
+     */
+    @java.lang.Override
+    public boolean hasOrder() {
+      return payloadCase_ == 2;
+    }
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     * @return The order.
+     */
+    @java.lang.Override
+    public com.earth.base.order.NewOrderRequest getOrder() {
+      if (orderBuilder_ == null) {
+        if (payloadCase_ == 2) {
+          return (com.earth.base.order.NewOrderRequest) payload_;
+        }
+        return com.earth.base.order.NewOrderRequest.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 2) {
+          return orderBuilder_.getMessage();
+        }
+        return com.earth.base.order.NewOrderRequest.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     */
+    public Builder setOrder(com.earth.base.order.NewOrderRequest value) {
+      if (orderBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        orderBuilder_.setMessage(value);
+      }
+      payloadCase_ = 2;
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     */
+    public Builder setOrder(
+        com.earth.base.order.NewOrderRequest.Builder builderForValue) {
+      if (orderBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        orderBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 2;
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     */
+    public Builder mergeOrder(com.earth.base.order.NewOrderRequest value) {
+      if (orderBuilder_ == null) {
+        if (payloadCase_ == 2 &&
+            payload_ != com.earth.base.order.NewOrderRequest.getDefaultInstance()) {
+          payload_ = com.earth.base.order.NewOrderRequest.newBuilder((com.earth.base.order.NewOrderRequest) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 2) {
+          orderBuilder_.mergeFrom(value);
+        } else {
+          orderBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 2;
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     */
+    public Builder clearOrder() {
+      if (orderBuilder_ == null) {
+        if (payloadCase_ == 2) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 2) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        orderBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     */
+    public com.earth.base.order.NewOrderRequest.Builder getOrderBuilder() {
+      return getOrderFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     */
+    @java.lang.Override
+    public com.earth.base.order.NewOrderRequestOrBuilder getOrderOrBuilder() {
+      if ((payloadCase_ == 2) && (orderBuilder_ != null)) {
+        return orderBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 2) {
+          return (com.earth.base.order.NewOrderRequest) payload_;
+        }
+        return com.earth.base.order.NewOrderRequest.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 下单
+     * </pre>
+     *
+     * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.order.NewOrderRequest, com.earth.base.order.NewOrderRequest.Builder, com.earth.base.order.NewOrderRequestOrBuilder> 
+        getOrderFieldBuilder() {
+      if (orderBuilder_ == null) {
+        if (!(payloadCase_ == 2)) {
+          payload_ = com.earth.base.order.NewOrderRequest.getDefaultInstance();
+        }
+        orderBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.order.NewOrderRequest, com.earth.base.order.NewOrderRequest.Builder, com.earth.base.order.NewOrderRequestOrBuilder>(
+                (com.earth.base.order.NewOrderRequest) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 2;
+      onChanged();
+      return orderBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.order.ExecutionReportSubscribeRequest, com.earth.base.order.ExecutionReportSubscribeRequest.Builder, com.earth.base.order.ExecutionReportSubscribeRequestOrBuilder> subscribeBuilder_;
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     * @return Whether the subscribe field is set.
+     */
+    @java.lang.Override
+    public boolean hasSubscribe() {
+      return payloadCase_ == 3;
+    }
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     * @return The subscribe.
+     */
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportSubscribeRequest getSubscribe() {
+      if (subscribeBuilder_ == null) {
+        if (payloadCase_ == 3) {
+          return (com.earth.base.order.ExecutionReportSubscribeRequest) payload_;
+        }
+        return com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 3) {
+          return subscribeBuilder_.getMessage();
+        }
+        return com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     */
+    public Builder setSubscribe(com.earth.base.order.ExecutionReportSubscribeRequest value) {
+      if (subscribeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        subscribeBuilder_.setMessage(value);
+      }
+      payloadCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     */
+    public Builder setSubscribe(
+        com.earth.base.order.ExecutionReportSubscribeRequest.Builder builderForValue) {
+      if (subscribeBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        subscribeBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     */
+    public Builder mergeSubscribe(com.earth.base.order.ExecutionReportSubscribeRequest value) {
+      if (subscribeBuilder_ == null) {
+        if (payloadCase_ == 3 &&
+            payload_ != com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance()) {
+          payload_ = com.earth.base.order.ExecutionReportSubscribeRequest.newBuilder((com.earth.base.order.ExecutionReportSubscribeRequest) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 3) {
+          subscribeBuilder_.mergeFrom(value);
+        } else {
+          subscribeBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     */
+    public Builder clearSubscribe() {
+      if (subscribeBuilder_ == null) {
+        if (payloadCase_ == 3) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 3) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        subscribeBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     */
+    public com.earth.base.order.ExecutionReportSubscribeRequest.Builder getSubscribeBuilder() {
+      return getSubscribeFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     */
+    @java.lang.Override
+    public com.earth.base.order.ExecutionReportSubscribeRequestOrBuilder getSubscribeOrBuilder() {
+      if ((payloadCase_ == 3) && (subscribeBuilder_ != null)) {
+        return subscribeBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 3) {
+          return (com.earth.base.order.ExecutionReportSubscribeRequest) payload_;
+        }
+        return com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 在本会话上订阅执行回报，每个会话只能订阅一次
+     * </pre>
+     *
+     * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.earth.base.order.ExecutionReportSubscribeRequest, com.earth.base.order.ExecutionReportSubscribeRequest.Builder, com.earth.base.order.ExecutionReportSubscribeRequestOrBuilder> 
+        getSubscribeFieldBuilder() {
+      if (subscribeBuilder_ == null) {
+        if (!(payloadCase_ == 3)) {
+          payload_ = com.earth.base.order.ExecutionReportSubscribeRequest.getDefaultInstance();
+        }
+        subscribeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.earth.base.order.ExecutionReportSubscribeRequest, com.earth.base.order.ExecutionReportSubscribeRequest.Builder, com.earth.base.order.ExecutionReportSubscribeRequestOrBuilder>(
+                (com.earth.base.order.ExecutionReportSubscribeRequest) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 3;
+      onChanged();
+      return subscribeBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.earth.base.order.OrderSessionRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.earth.base.order.OrderSessionRequest)
+  private static final com.earth.base.order.OrderSessionRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.earth.base.order.OrderSessionRequest();
+  }
+
+  public static com.earth.base.order.OrderSessionRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<OrderSessionRequest>
+      PARSER = new com.google.protobuf.AbstractParser<OrderSessionRequest>() {
+    @java.lang.Override
+    public OrderSessionRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<OrderSessionRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<OrderSessionRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.earth.base.order.OrderSessionRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
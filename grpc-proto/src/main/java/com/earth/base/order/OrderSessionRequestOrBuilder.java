@@ -0,0 +1,76 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: com/earth/base/order/order.proto
+
+// Protobuf Java Version: 3.25.3
+package com.earth.base.order;
+
+public interface OrderSessionRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.earth.base.order.OrderSessionRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 客户端请求编号，服务端在对应的下单回复中原样带回
+   * </pre>
+   *
+   * <code>int64 request_id = 1;</code>
+   * @return The requestId.
+   */
+  long getRequestId();
+
+  /**
+   * <pre>
+   * 下单
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+   * @return Whether the order field is set.
+   */
+  boolean hasOrder();
+  /**
+   * <pre>
+   * 下单
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+   * @return The order.
+   */
+  com.earth.base.order.NewOrderRequest getOrder();
+  /**
+   * <pre>
+   * 下单
+   * </pre>
+   *
+   * <code>.com.earth.base.order.NewOrderRequest order = 2;</code>
+   */
+  com.earth.base.order.NewOrderRequestOrBuilder getOrderOrBuilder();
+
+  /**
+   * <pre>
+   * 在本会话上订阅执行回报，每个会话只能订阅一次
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+   * @return Whether the subscribe field is set.
+   */
+  boolean hasSubscribe();
+  /**
+   * <pre>
+   * 在本会话上订阅执行回报，每个会话只能订阅一次
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+   * @return The subscribe.
+   */
+  com.earth.base.order.ExecutionReportSubscribeRequest getSubscribe();
+  /**
+   * <pre>
+   * 在本会话上订阅执行回报，每个会话只能订阅一次
+   * </pre>
+   *
+   * <code>.com.earth.base.order.ExecutionReportSubscribeRequest subscribe = 3;</code>
+   */
+  com.earth.base.order.ExecutionReportSubscribeRequestOrBuilder getSubscribeOrBuilder();
+
+  com.earth.base.order.OrderSessionRequest.PayloadCase getPayloadCase();
+}
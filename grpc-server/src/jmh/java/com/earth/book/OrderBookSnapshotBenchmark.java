@@ -0,0 +1,49 @@
+package com.earth.book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 快照时撮合线程的停顿：拷贝一个有变化的订单簿（{@link OrderBook#snapshot()}），以及没有变化时复用上次的拷贝
+ * <p>
+ * orders 为挂单数，分布在 1000 个价格档位上
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderBookSnapshotBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int orders;
+
+    private OrderBook book;
+
+    @Setup
+    public void setUp() {
+        book = new OrderBook("BTCUSDT", orders);
+        for (int i = 0; i < orders; i++) {
+            int side = i % 2 == 0 ? OrderBook.BUY : OrderBook.SELL;
+            long price = side == OrderBook.BUY ? 100_000L - i % 500 : 100_001L + i % 500;
+            book.add(i + 1L, i % 1000, side, price, 100L);
+        }
+    }
+
+    @Benchmark
+    public BookSnapshot modifiedBook() {
+        book.markModified();
+        return book.snapshot();
+    }
+
+    @Benchmark
+    public BookSnapshot unmodifiedBook() {
+        return book.snapshot();
+    }
+}
@@ -0,0 +1,60 @@
+package com.earth.decimal;
+
+import com.earth.base.common.Decimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DecimalCodec 与 BigDecimal 换算定点 long 的耗时对比
+ * <p>
+ * parse*：旧客户端只填 str 的请求；toLong*：填 unscaled_value / scale 的请求
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecimalCodecBenchmark {
+
+    private static final int SCALE = 8;
+
+    @Param({"0.00012345", "27123.45", "-123456789.12345678"})
+    private String value;
+
+    private Decimal unscaled;
+
+    @Setup
+    public void setUp() {
+        BigDecimal decimal = new BigDecimal(value);
+        unscaled = Decimal.newBuilder().setUnscaledValue(decimal.unscaledValue().longValueExact()).setScale(decimal.scale()).build();
+    }
+
+    @Benchmark
+    public long parse() {
+        return DecimalCodec.parse(value, SCALE);
+    }
+
+    @Benchmark
+    public long parseBigDecimal() {
+        return new BigDecimal(value).setScale(SCALE, RoundingMode.DOWN).unscaledValue().longValueExact();
+    }
+
+    @Benchmark
+    public long toLong() {
+        return DecimalCodec.toLong(unscaled, SCALE);
+    }
+
+    @Benchmark
+    public long toLongBigDecimal() {
+        return BigDecimal.valueOf(unscaled.getUnscaledValue(), unscaled.getScale())
+                .setScale(SCALE, RoundingMode.DOWN).unscaledValue().longValueExact();
+    }
+}
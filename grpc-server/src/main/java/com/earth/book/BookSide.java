@@ -0,0 +1,131 @@
+package com.earth.book;
+
+import java.util.Arrays;
+
+/**
+ * 订单簿单边的价格档位
+ * <p>
+ * 档位按 key 升序存放在原始类型数组中，最优档位在数组末尾：买方 key = price，卖方 key = -price。
+ * 新订单大多落在最优价附近，插入、删除档位时移动的元素很少；查找档位为二分查找
+ * <p>
+ * 每个档位记录 FIFO 链表的头尾订单、订单数和剩余总数量，链表本身由 OrderBook 的 prev/next 数组维护
+ */
+final class BookSide {
+
+    static final int NO_LEVEL = -1;
+
+    private long[] keys;
+
+    private int[] heads;
+
+    private int[] tails;
+
+    private int[] counts;
+
+    private long[] quantities;
+
+    private int size;
+
+    BookSide(int initialLevels) {
+        keys = new long[initialLevels];
+        heads = new int[initialLevels];
+        tails = new int[initialLevels];
+        counts = new int[initialLevels];
+        quantities = new long[initialLevels];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 二分查找档位，不存在时返回 -(插入位置) - 1
+     */
+    int find(long key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * 在 index 处插入一个空档位
+     */
+    void insert(int index, long key) {
+        if (size == keys.length) {
+            grow();
+        }
+        int moved = size - index;
+        if (moved > 0) {
+            System.arraycopy(keys, index, keys, index + 1, moved);
+            System.arraycopy(heads, index, heads, index + 1, moved);
+            System.arraycopy(tails, index, tails, index + 1, moved);
+            System.arraycopy(counts, index, counts, index + 1, moved);
+            System.arraycopy(quantities, index, quantities, index + 1, moved);
+        }
+        keys[index] = key;
+        heads[index] = OrderBook.NO_ORDER;
+        tails[index] = OrderBook.NO_ORDER;
+        counts[index] = 0;
+        quantities[index] = 0L;
+        size++;
+    }
+
+    void remove(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(heads, index + 1, heads, index, moved);
+            System.arraycopy(tails, index + 1, tails, index, moved);
+            System.arraycopy(counts, index + 1, counts, index, moved);
+            System.arraycopy(quantities, index + 1, quantities, index, moved);
+        }
+        size--;
+    }
+
+    /**
+     * 最优档位下标，没有档位时返回 NO_LEVEL
+     */
+    int best() {
+        return size - 1;
+    }
+
+    long key(int index) {
+        return keys[index];
+    }
+
+    int head(int index) {
+        return heads[index];
+    }
+
+    void head(int index, int order) {
+        heads[index] = order;
+    }
+
+    int tail(int index) {
+        return tails[index];
+    }
+
+    void tail(int index, int order) {
+        tails[index] = order;
+    }
+
+    int count(int index) {
+        return counts[index];
+    }
+
+    long quantity(int index) {
+        return quantities[index];
+    }
+
+    void add(int index, int countDelta, long quantityDelta) {
+        counts[index] += countDelta;
+        quantities[index] += quantityDelta;
+    }
+
+    private void grow() {
+        int capacity = keys.length << 1;
+        keys = Arrays.copyOf(keys, capacity);
+        heads = Arrays.copyOf(heads, capacity);
+        tails = Arrays.copyOf(tails, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+    }
+}
@@ -0,0 +1,152 @@
+package com.earth.book;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 订单簿快照
+ * <p>
+ * 撮合线程只做原始类型数组的整块拷贝（{@link OrderBook#snapshot()}），序列化在快照线程中进行，
+ * 撮合线程的停顿时间只与数组长度相关，不做编码和 IO
+ * <p>
+ * 写出格式按价格优先、时间优先排列，读入时依次挂单即可还原档位和队列顺序：
+ * <pre>
+ * | symbolId(UTF) | orderCount(4) | { side(1) | orderId(8) | accountId(8) | price(8) | quantity(8) | remaining(8) | expireTime(8) | flags(1) | orgId(8) } * orderCount |
+ * | lastPrice(8) | stopOrders |
+ * </pre>
+ * 按快照文件版本读取：lastPrice 和未触发的止损单（格式见 {@link StopOrderIndex#writeTo(DataOutput)}）从版本 2 开始写出，
+ * 订单和止损单的过期时间从版本 3 开始写出；止损单冻结的余额从版本 4 开始写出，
+ * 订单的 flags 在版本 3 中只有 dayOrder 一位，编码不变；订单和止损单的 orgId 从版本 5 开始写出
+ */
+public final class BookSnapshot {
+
+    /**
+     * 写出的格式版本
+     */
+    public static final int VERSION = 5;
+
+    private static final int VERSION_STOPS = 2;
+
+    static final int VERSION_EXPIRE_TIME = 3;
+
+    static final int VERSION_FROZEN = 4;
+
+    static final int VERSION_ORG_ID = 5;
+
+    private final String symbolId;
+
+    private final int size;
+
+    private final long[] orderIds;
+
+    private final long[] accountIds;
+
+    private final long[] orgIds;
+
+    private final long[] prices;
+
+    private final long[] quantities;
+
+    private final long[] remainings;
+
+    private final long[] expireTimes;
+
+    private final byte[] flags;
+
+    private final int[] nexts;
+
+    /**
+     * 每边档位从最优到最差的队首订单
+     */
+    private final int[][] levelHeads;
+
+    private final long lastPrice;
+
+    private final StopOrderIndex stops;
+
+    BookSnapshot(String symbolId, int size, int highWater, long[] orderIds, long[] accountIds, long[] orgIds, long[] prices,
+                 long[] quantities, long[] remainings, long[] expireTimes, byte[] flags, int[] nexts, int[][] levelHeads,
+                 long lastPrice, StopOrderIndex stops) {
+        this.symbolId = symbolId;
+        this.size = size;
+        this.orderIds = Arrays.copyOf(orderIds, highWater);
+        this.accountIds = Arrays.copyOf(accountIds, highWater);
+        this.orgIds = Arrays.copyOf(orgIds, highWater);
+        this.prices = Arrays.copyOf(prices, highWater);
+        this.quantities = Arrays.copyOf(quantities, highWater);
+        this.remainings = Arrays.copyOf(remainings, highWater);
+        this.expireTimes = Arrays.copyOf(expireTimes, highWater);
+        this.flags = Arrays.copyOf(flags, highWater);
+        this.nexts = Arrays.copyOf(nexts, highWater);
+        this.levelHeads = levelHeads;
+        this.lastPrice = lastPrice;
+        this.stops = stops;
+    }
+
+    public String getSymbolId() {
+        return symbolId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(symbolId);
+        out.writeInt(size);
+        for (int side = OrderBook.BUY; side <= OrderBook.SELL; side++) {
+            for (int head : levelHeads[side]) {
+                for (int order = head; order != OrderBook.NO_ORDER; order = nexts[order]) {
+                    out.writeByte(side);
+                    out.writeLong(orderIds[order]);
+                    out.writeLong(accountIds[order]);
+                    out.writeLong(prices[order]);
+                    out.writeLong(quantities[order]);
+                    out.writeLong(remainings[order]);
+                    out.writeLong(expireTimes[order]);
+                    out.writeByte(flags[order]);
+                    out.writeLong(orgIds[order]);
+                }
+            }
+        }
+        out.writeLong(lastPrice);
+        stops.writeTo(out);
+    }
+
+    /**
+     * 读入一个订单簿
+     *
+     * @param version 快照文件的格式版本
+     */
+    public static OrderBook readFrom(DataInput in, int expectedOrders, int version) throws IOException {
+        String symbolId = in.readUTF();
+        int size = in.readInt();
+        OrderBook book = new OrderBook(symbolId, Math.max(expectedOrders, size));
+        for (int i = 0; i < size; i++) {
+            int side = in.readByte();
+            long orderId = in.readLong();
+            long accountId = in.readLong();
+            long price = in.readLong();
+            long quantity = in.readLong();
+            long remaining = in.readLong();
+            int order = book.add(orderId, accountId, side, price, quantity, remaining);
+            if (order == OrderBook.NO_ORDER) {
+                throw new IOException("duplicate order in snapshot, symbolId: " + symbolId + ", orderId: " + orderId);
+            }
+            if (version >= VERSION_EXPIRE_TIME) {
+                book.expireAt(order, in.readLong(), false);
+                book.flags(order, in.readByte());
+            }
+            if (version >= VERSION_ORG_ID) {
+                book.orgId(order, in.readLong());
+            }
+        }
+        if (version >= VERSION_STOPS) {
+            book.lastPrice(in.readLong());
+            book.stops().readFrom(in, version);
+        }
+        return book;
+    }
+}
@@ -0,0 +1,509 @@
+package com.earth.book;
+
+import com.earth.collection.LongIntHashMap;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 单个币对的限价订单簿
+ * <p>
+ * 价格、数量均为定点 long（按币对精度放大后的整数），不使用 BigDecimal。
+ * <ul>
+ *     <li>订单：按列存放在原始类型数组中，以 int 下标（handle）引用，释放的下标进入空闲链表复用</li>
+ *     <li>档位：{@link BookSide} 有序数组，每档是一个按时间先后排列的侵入式双向链表（prev/next 数组）</li>
+ *     <li>订单 id 索引：{@link LongIntHashMap}，撤单 O(1) 定位订单</li>
+ *     <li>未触发的止损单：{@link StopOrderIndex}，由最新成交价触发</li>
+ * </ul>
+ * 下单、撤单、查询最优价都不分配对象，只在容量不足时成倍扩容
+ * <p>
+ * 只允许撮合线程访问
+ */
+@NotThreadSafe
+public final class OrderBook {
+
+    public static final int BUY = 0;
+
+    public static final int SELL = 1;
+
+    public static final int NO_ORDER = -1;
+
+    /**
+     * 没有对应档位时返回的价格
+     */
+    public static final long NULL_PRICE = Long.MIN_VALUE;
+
+    /**
+     * 日内订单（Today），过期时回报 DONE_FOR_DAY，否则回报 EXPIRED
+     */
+    static final byte FLAG_DAY_ORDER = 1;
+
+    /**
+     * 挂单冻结了余额，成交、撤单时从冻结中结算；没有该标记的订单（LIMIT_FREE / LIMIT_MAKER_FREE / 强平单，
+     * 或未开启余额风控时下的单）成交时直接从可用余额结算
+     */
+    static final byte FLAG_BALANCE_LOCKED = 2;
+
+    private static final int INITIAL_LEVELS = 256;
+
+    private final String symbolId;
+
+    /**
+     * 币对注册表中的 id，只在本进程内有效，不进入快照
+     */
+    private int symbol = -1;
+
+    private final BookSide[] sides = {new BookSide(INITIAL_LEVELS), new BookSide(INITIAL_LEVELS)};
+
+    private final LongIntHashMap orderIndex;
+
+    private final StopOrderIndex stops;
+
+    /**
+     * 最新成交价，还没有成交时为 NULL_PRICE
+     */
+    private long lastPrice = NULL_PRICE;
+
+    private long[] orderIds;
+
+    private long[] accountIds;
+
+    /**
+     * 机构 id，按机构匹配手续费率
+     */
+    private long[] orgIds;
+
+    private long[] prices;
+
+    private long[] quantities;
+
+    private long[] remainings;
+
+    private byte[] orderSides;
+
+    /**
+     * 过期时间（毫秒），0 表示不过期
+     */
+    private long[] expireTimes;
+
+    /**
+     * 订单标记，FLAG_DAY_ORDER | FLAG_BALANCE_LOCKED
+     */
+    private byte[] flags;
+
+    private int[] prevs;
+
+    private int[] nexts;
+
+    /**
+     * 空闲 handle 链表头，通过 nexts 串联
+     */
+    private int freeHead = NO_ORDER;
+
+    /**
+     * 从未使用过的最小 handle
+     */
+    private int highWater;
+
+    private int size;
+
+    /**
+     * 上一次 snapshot() 的结果，订单簿没有变化时直接复用
+     */
+    private BookSnapshot lastSnapshot;
+
+    /**
+     * 上一次 snapshot() 之后是否有变化
+     */
+    private boolean modified = true;
+
+    public OrderBook(String symbolId, int expectedOrders) {
+        this.symbolId = symbolId;
+        int capacity = Math.max(expectedOrders, 16);
+        this.orderIndex = new LongIntHashMap(capacity, NO_ORDER);
+        this.orderIds = new long[capacity];
+        this.accountIds = new long[capacity];
+        this.orgIds = new long[capacity];
+        this.prices = new long[capacity];
+        this.quantities = new long[capacity];
+        this.remainings = new long[capacity];
+        this.orderSides = new byte[capacity];
+        this.expireTimes = new long[capacity];
+        this.flags = new byte[capacity];
+        this.prevs = new int[capacity];
+        this.nexts = new int[capacity];
+        this.stops = new StopOrderIndex(16);
+    }
+
+    public String getSymbolId() {
+        return symbolId;
+    }
+
+    public int symbol() {
+        return symbol;
+    }
+
+    public void symbol(int symbol) {
+        this.symbol = symbol;
+    }
+
+    public StopOrderIndex stops() {
+        return stops;
+    }
+
+    public long lastPrice() {
+        return lastPrice;
+    }
+
+    public void lastPrice(long lastPrice) {
+        this.lastPrice = lastPrice;
+    }
+
+    /**
+     * 挂单，加入对应价格档位的队尾
+     *
+     * @return 订单 handle，订单 id 已存在时返回 NO_ORDER
+     */
+    public int add(long orderId, long accountId, int side, long price, long quantity) {
+        return add(orderId, accountId, side, price, quantity, quantity);
+    }
+
+    /**
+     * 挂单，已部分成交的订单以剩余数量 remaining 挂出
+     *
+     * @param quantity 原始委托数量
+     * @return 订单 handle，订单 id 已存在时返回 NO_ORDER
+     */
+    public int add(long orderId, long accountId, int side, long price, long quantity, long remaining) {
+        if (orderIndex.containsKey(orderId)) {
+            return NO_ORDER;
+        }
+        int order = allocate();
+        orderIds[order] = orderId;
+        accountIds[order] = accountId;
+        orgIds[order] = 0L;
+        prices[order] = price;
+        quantities[order] = quantity;
+        remainings[order] = remaining;
+        orderSides[order] = (byte) side;
+        expireTimes[order] = 0L;
+        flags[order] = 0;
+
+        BookSide bookSide = sides[side];
+        long key = key(side, price);
+        int level = bookSide.find(key);
+        if (level < 0) {
+            level = -level - 1;
+            bookSide.insert(level, key);
+        }
+        int tail = bookSide.tail(level);
+        prevs[order] = tail;
+        nexts[order] = NO_ORDER;
+        if (tail == NO_ORDER) {
+            bookSide.head(level, order);
+        } else {
+            nexts[tail] = order;
+        }
+        bookSide.tail(level, order);
+        bookSide.add(level, 1, remaining);
+        orderIndex.put(orderId, order);
+        size++;
+        return order;
+    }
+
+    /**
+     * 撤单
+     *
+     * @return 撤销时的剩余数量，订单不存在时返回 -1
+     */
+    public long cancel(long orderId) {
+        int order = orderIndex.get(orderId);
+        if (order == NO_ORDER) {
+            return -1L;
+        }
+        long remaining = remainings[order];
+        remove(order);
+        return remaining;
+    }
+
+    /**
+     * 成交 quantity，剩余数量为 0 时订单离开订单簿，handle 随即失效
+     *
+     * @return 成交后的剩余数量
+     */
+    public long fill(int order, long quantity) {
+        long remaining = remainings[order] - quantity;
+        if (remaining <= 0L) {
+            remove(order);
+            return 0L;
+        }
+        remainings[order] = remaining;
+        int side = orderSides[order];
+        sides[side].add(sides[side].find(key(side, prices[order])), 0, -quantity);
+        return remaining;
+    }
+
+    /**
+     * 按订单 id 查找 handle，不存在时返回 NO_ORDER
+     */
+    public int find(long orderId) {
+        return orderIndex.get(orderId);
+    }
+
+    /**
+     * 最优档位的第一个订单，没有挂单时返回 NO_ORDER
+     */
+    public int bestOrder(int side) {
+        BookSide bookSide = sides[side];
+        return bookSide.size() == 0 ? NO_ORDER : bookSide.head(bookSide.best());
+    }
+
+    /**
+     * 第 depth 档的第一个订单，不存在时返回 NO_ORDER
+     */
+    public int levelHead(int side, int depth) {
+        BookSide bookSide = sides[side];
+        return depth >= bookSide.size() ? NO_ORDER : bookSide.head(bookSide.best() - depth);
+    }
+
+    /**
+     * 同一档位中的下一个订单
+     */
+    public int nextOrder(int order) {
+        return nexts[order];
+    }
+
+    public long bestBid() {
+        return bestPrice(BUY);
+    }
+
+    public long bestAsk() {
+        return bestPrice(SELL);
+    }
+
+    public long bestPrice(int side) {
+        return levelPrice(side, 0);
+    }
+
+    public long bestQuantity(int side) {
+        return levelQuantity(side, 0);
+    }
+
+    /**
+     * 档位数
+     */
+    public int levels(int side) {
+        return sides[side].size();
+    }
+
+    /**
+     * 第 depth 档价格，depth = 0 为最优档，不存在时返回 NULL_PRICE
+     */
+    public long levelPrice(int side, int depth) {
+        BookSide bookSide = sides[side];
+        if (depth >= bookSide.size()) {
+            return NULL_PRICE;
+        }
+        long key = bookSide.key(bookSide.best() - depth);
+        return side == BUY ? key : -key;
+    }
+
+    /**
+     * 第 depth 档剩余总数量，不存在时返回 0
+     */
+    public long levelQuantity(int side, int depth) {
+        BookSide bookSide = sides[side];
+        return depth >= bookSide.size() ? 0L : bookSide.quantity(bookSide.best() - depth);
+    }
+
+    /**
+     * 第 depth 档订单数，不存在时返回 0
+     */
+    public int levelCount(int side, int depth) {
+        BookSide bookSide = sides[side];
+        return depth >= bookSide.size() ? 0 : bookSide.count(bookSide.best() - depth);
+    }
+
+    public long orderId(int order) {
+        return orderIds[order];
+    }
+
+    public long accountId(int order) {
+        return accountIds[order];
+    }
+
+    public long orgId(int order) {
+        return orgIds[order];
+    }
+
+    public void orgId(int order, long orgId) {
+        orgIds[order] = orgId;
+    }
+
+    public int side(int order) {
+        return orderSides[order];
+    }
+
+    public long price(int order) {
+        return prices[order];
+    }
+
+    public long quantity(int order) {
+        return quantities[order];
+    }
+
+    public long remaining(int order) {
+        return remainings[order];
+    }
+
+    /**
+     * 设置挂单的过期时间
+     */
+    public void expireAt(int order, long expireTime, boolean dayOrder) {
+        expireTimes[order] = expireTime;
+        flags[order] = (byte) (dayOrder ? flags[order] | FLAG_DAY_ORDER : flags[order] & ~FLAG_DAY_ORDER);
+    }
+
+    public long expireTime(int order) {
+        return expireTimes[order];
+    }
+
+    public boolean isDayOrder(int order) {
+        return (flags[order] & FLAG_DAY_ORDER) != 0;
+    }
+
+    /**
+     * 标记挂单冻结了余额
+     */
+    public void markBalanceLocked(int order) {
+        flags[order] |= FLAG_BALANCE_LOCKED;
+    }
+
+    /**
+     * 挂单是否冻结了余额
+     */
+    public boolean isBalanceLocked(int order) {
+        return (flags[order] & FLAG_BALANCE_LOCKED) != 0;
+    }
+
+    void flags(int order, byte value) {
+        flags[order] = value;
+    }
+
+    /**
+     * 按价格优先、时间优先遍历全部挂单，遍历中不能修改订单簿
+     */
+    public void forEachOrder(IntConsumer action) {
+        for (int side = BUY; side <= SELL; side++) {
+            BookSide bookSide = sides[side];
+            for (int level = bookSide.best(); level >= 0; level--) {
+                for (int order = bookSide.head(level); order != NO_ORDER; order = nexts[order]) {
+                    action.accept(order);
+                }
+            }
+        }
+    }
+
+    /**
+     * 挂单总数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 标记订单簿（含止损单）有变化，下一次 snapshot() 重新拷贝。撮合线程处理该币对的订单、订单到期时调用
+     */
+    public void markModified() {
+        modified = true;
+    }
+
+    /**
+     * 拷贝当前订单簿，拷贝结果不再随订单簿变化，可以交给其他线程序列化。
+     * 上一次拷贝之后没有 markModified 时返回上一次的结果，不再拷贝
+     */
+    public BookSnapshot snapshot() {
+        if (!modified && lastSnapshot != null) {
+            return lastSnapshot;
+        }
+        int[][] levelHeads = new int[2][];
+        for (int side = BUY; side <= SELL; side++) {
+            BookSide bookSide = sides[side];
+            int[] heads = new int[bookSide.size()];
+            for (int depth = 0; depth < heads.length; depth++) {
+                heads[depth] = bookSide.head(bookSide.best() - depth);
+            }
+            levelHeads[side] = heads;
+        }
+        lastSnapshot = new BookSnapshot(symbolId, size, highWater, orderIds, accountIds, orgIds, prices, quantities, remainings, expireTimes, flags,
+                nexts, levelHeads, lastPrice, stops.copy());
+        modified = false;
+        return lastSnapshot;
+    }
+
+    private void remove(int order) {
+        int side = orderSides[order];
+        BookSide bookSide = sides[side];
+        int level = bookSide.find(key(side, prices[order]));
+        int prev = prevs[order];
+        int next = nexts[order];
+        if (prev == NO_ORDER) {
+            bookSide.head(level, next);
+        } else {
+            nexts[prev] = next;
+        }
+        if (next == NO_ORDER) {
+            bookSide.tail(level, prev);
+        } else {
+            prevs[next] = prev;
+        }
+        bookSide.add(level, -1, -remainings[order]);
+        if (bookSide.count(level) == 0) {
+            bookSide.remove(level);
+        }
+        orderIndex.remove(orderIds[order]);
+        release(order);
+        size--;
+    }
+
+    private int allocate() {
+        if (freeHead != NO_ORDER) {
+            int order = freeHead;
+            freeHead = nexts[order];
+            return order;
+        }
+        if (highWater == orderIds.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void release(int order) {
+        remainings[order] = 0L;
+        nexts[order] = freeHead;
+        freeHead = order;
+    }
+
+    private void grow() {
+        int capacity = orderIds.length << 1;
+        orderIds = Arrays.copyOf(orderIds, capacity);
+        accountIds = Arrays.copyOf(accountIds, capacity);
+        orgIds = Arrays.copyOf(orgIds, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+        remainings = Arrays.copyOf(remainings, capacity);
+        orderSides = Arrays.copyOf(orderSides, capacity);
+        expireTimes = Arrays.copyOf(expireTimes, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        prevs = Arrays.copyOf(prevs, capacity);
+        nexts = Arrays.copyOf(nexts, capacity);
+    }
+
+    /**
+     * 档位 key：买方越高越优、卖方越低越优，统一成 key 越大越优
+     */
+    private static long key(int side, long price) {
+        return side == BUY ? price : -price;
+    }
+}
@@ -0,0 +1,428 @@
+package com.earth.book;
+
+import com.earth.collection.LongIntHashMap;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 止损单触发索引
+ * <p>
+ * 未触发的 STOP / STOP_LIMIT 订单按列存放在原始类型数组中，以 int handle 引用；买、卖各一个二叉堆：
+ * <ul>
+ *     <li>买方：最新成交价涨到触发价及以上时触发，小顶堆，堆顶为最低触发价</li>
+ *     <li>卖方：最新成交价跌到触发价及以下时触发，大顶堆，堆顶为最高触发价</li>
+ * </ul>
+ * 每次成交价变化只需比较两个堆顶，没有订单触发时 O(1)；每触发一个订单出堆 O(log n)。
+ * 触发价相同时订单 id 小（先下单）的先触发。按订单 id 查找、撤下（过期）也是 O(log n)
+ */
+@NotThreadSafe
+public final class StopOrderIndex {
+
+    /**
+     * 空闲 handle 的 side 标记
+     */
+    private static final byte FREE = -1;
+
+    private long[] orderIds;
+
+    private long[] accountIds;
+
+    private long[] orgIds;
+
+    private long[] triggerPrices;
+
+    private long[] prices;
+
+    private long[] quantities;
+
+    private long[] amounts;
+
+    /**
+     * 过期时间（毫秒），0 表示不过期
+     */
+    private long[] expireTimes;
+
+    /**
+     * 下单时冻结的余额，0 表示没有冻结
+     */
+    private long[] frozens;
+
+    private byte[] sides;
+
+    /**
+     * 触发后的订单类型、time_in_force，存放 proto 枚举的 number
+     */
+    private int[] orderTypes;
+
+    private int[] timeInForces;
+
+    private int[] nextFree;
+
+    /**
+     * handle 在所属堆中的下标
+     */
+    private int[] heapIndexes;
+
+    /**
+     * 订单 id -> handle
+     */
+    private final LongIntHashMap byOrderId;
+
+    private int freeHead = OrderBook.NO_ORDER;
+
+    private int highWater;
+
+    private final Heap buyHeap = new Heap(true);
+
+    private final Heap sellHeap = new Heap(false);
+
+    public StopOrderIndex(int expectedOrders) {
+        int capacity = Math.max(expectedOrders, 16);
+        orderIds = new long[capacity];
+        accountIds = new long[capacity];
+        orgIds = new long[capacity];
+        triggerPrices = new long[capacity];
+        prices = new long[capacity];
+        quantities = new long[capacity];
+        amounts = new long[capacity];
+        expireTimes = new long[capacity];
+        frozens = new long[capacity];
+        sides = new byte[capacity];
+        orderTypes = new int[capacity];
+        timeInForces = new int[capacity];
+        nextFree = new int[capacity];
+        heapIndexes = new int[capacity];
+        byOrderId = new LongIntHashMap(capacity, OrderBook.NO_ORDER);
+    }
+
+    /**
+     * 加入一个未触发的止损单
+     *
+     * @param orderType   触发后的订单类型
+     * @param timeInForce 触发后的 time_in_force
+     * @param expireTime  过期时间（毫秒），0 表示不过期
+     * @param frozen      下单时冻结的余额，0 表示没有冻结
+     */
+    public int add(long orderId, long accountId, long orgId, int side, int orderType, int timeInForce,
+                   long triggerPrice, long price, long quantity, long amount, long expireTime, long frozen) {
+        int order = allocate();
+        orderIds[order] = orderId;
+        accountIds[order] = accountId;
+        orgIds[order] = orgId;
+        triggerPrices[order] = triggerPrice;
+        prices[order] = price;
+        quantities[order] = quantity;
+        amounts[order] = amount;
+        expireTimes[order] = expireTime;
+        frozens[order] = frozen;
+        sides[order] = (byte) side;
+        orderTypes[order] = orderType;
+        timeInForces[order] = timeInForce;
+        (side == OrderBook.BUY ? buyHeap : sellHeap).push(order);
+        byOrderId.put(orderId, order);
+        return order;
+    }
+
+    /**
+     * 按订单 id 查找未触发的订单，没有时返回 NO_ORDER
+     */
+    public int find(long orderId) {
+        return byOrderId.get(orderId);
+    }
+
+    /**
+     * 从堆中撤下一个未触发的订单（如过期），读完字段后同样需调用 {@link #release(int)}
+     */
+    public void remove(int order) {
+        (sides[order] == OrderBook.BUY ? buyHeap : sellHeap).removeAt(heapIndexes[order]);
+    }
+
+    /**
+     * 取出一个在 lastPrice 下已触发的订单，没有时返回 NO_ORDER。
+     * 返回的 handle 在读完字段后需调用 {@link #release(int)} 归还
+     */
+    public int pollTriggered(long lastPrice) {
+        if (lastPrice == OrderBook.NULL_PRICE) {
+            return OrderBook.NO_ORDER;
+        }
+        int top = buyHeap.peek();
+        if (top != OrderBook.NO_ORDER && triggerPrices[top] <= lastPrice) {
+            return buyHeap.pop();
+        }
+        top = sellHeap.peek();
+        if (top != OrderBook.NO_ORDER && triggerPrices[top] >= lastPrice) {
+            return sellHeap.pop();
+        }
+        return OrderBook.NO_ORDER;
+    }
+
+    public void release(int order) {
+        byOrderId.remove(orderIds[order]);
+        sides[order] = FREE;
+        nextFree[order] = freeHead;
+        freeHead = order;
+    }
+
+    public int size() {
+        return buyHeap.size + sellHeap.size;
+    }
+
+    public long orderId(int order) {
+        return orderIds[order];
+    }
+
+    public long accountId(int order) {
+        return accountIds[order];
+    }
+
+    public long orgId(int order) {
+        return orgIds[order];
+    }
+
+    public int side(int order) {
+        return sides[order];
+    }
+
+    public int orderType(int order) {
+        return orderTypes[order];
+    }
+
+    public int timeInForce(int order) {
+        return timeInForces[order];
+    }
+
+    public long triggerPrice(int order) {
+        return triggerPrices[order];
+    }
+
+    public long price(int order) {
+        return prices[order];
+    }
+
+    public long quantity(int order) {
+        return quantities[order];
+    }
+
+    public long amount(int order) {
+        return amounts[order];
+    }
+
+    public long frozen(int order) {
+        return frozens[order];
+    }
+
+    public long expireTime(int order) {
+        return expireTimes[order];
+    }
+
+    /**
+     * 遍历全部未触发订单，遍历中不能修改索引
+     */
+    public void forEachOrder(IntConsumer action) {
+        for (int order = 0; order < highWater; order++) {
+            if (sides[order] != FREE) {
+                action.accept(order);
+            }
+        }
+    }
+
+    /**
+     * 拷贝全部未触发订单的字段，不拷贝堆，拷贝结果只用于快照线程序列化
+     */
+    StopOrderIndex copy() {
+        StopOrderIndex copy = new StopOrderIndex(0);
+        copy.orderIds = Arrays.copyOf(orderIds, highWater);
+        copy.accountIds = Arrays.copyOf(accountIds, highWater);
+        copy.orgIds = Arrays.copyOf(orgIds, highWater);
+        copy.triggerPrices = Arrays.copyOf(triggerPrices, highWater);
+        copy.prices = Arrays.copyOf(prices, highWater);
+        copy.quantities = Arrays.copyOf(quantities, highWater);
+        copy.amounts = Arrays.copyOf(amounts, highWater);
+        copy.expireTimes = Arrays.copyOf(expireTimes, highWater);
+        copy.frozens = Arrays.copyOf(frozens, highWater);
+        copy.sides = Arrays.copyOf(sides, highWater);
+        copy.orderTypes = Arrays.copyOf(orderTypes, highWater);
+        copy.timeInForces = Arrays.copyOf(timeInForces, highWater);
+        copy.highWater = highWater;
+        copy.buyHeap.size = buyHeap.size;
+        copy.sellHeap.size = sellHeap.size;
+        return copy;
+    }
+
+    /**
+     * 写出全部未触发订单：
+     * <pre>
+     * | stopCount(4) | { side(1) | orderType(4) | timeInForce(4) | orderId(8) | accountId(8) | triggerPrice(8) | price(8) | quantity(8) | amount(8) | expireTime(8) | frozen(8) | orgId(8) } * stopCount |
+     * </pre>
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size());
+        for (int order = 0; order < highWater; order++) {
+            if (sides[order] == FREE) {
+                continue;
+            }
+            out.writeByte(sides[order]);
+            out.writeInt(orderTypes[order]);
+            out.writeInt(timeInForces[order]);
+            out.writeLong(orderIds[order]);
+            out.writeLong(accountIds[order]);
+            out.writeLong(triggerPrices[order]);
+            out.writeLong(prices[order]);
+            out.writeLong(quantities[order]);
+            out.writeLong(amounts[order]);
+            out.writeLong(expireTimes[order]);
+            out.writeLong(frozens[order]);
+            out.writeLong(orgIds[order]);
+        }
+    }
+
+    /**
+     * 读入 {@link #writeTo(DataOutput)} 写出的订单，堆顺序由触发价和订单 id 决定，与写出顺序无关
+     *
+     * @param version 快照文件的格式版本，旧版本没有 expireTime、frozen、orgId
+     */
+    void readFrom(DataInput in, int version) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int side = in.readByte();
+            int orderType = in.readInt();
+            int timeInForce = in.readInt();
+            long orderId = in.readLong();
+            long accountId = in.readLong();
+            long triggerPrice = in.readLong();
+            long price = in.readLong();
+            long quantity = in.readLong();
+            long amount = in.readLong();
+            long expireTime = version >= BookSnapshot.VERSION_EXPIRE_TIME ? in.readLong() : 0L;
+            long frozen = version >= BookSnapshot.VERSION_FROZEN ? in.readLong() : 0L;
+            long orgId = version >= BookSnapshot.VERSION_ORG_ID ? in.readLong() : 0L;
+            add(orderId, accountId, orgId, side, orderType, timeInForce, triggerPrice, price, quantity, amount, expireTime, frozen);
+        }
+    }
+
+    private int allocate() {
+        if (freeHead != OrderBook.NO_ORDER) {
+            int order = freeHead;
+            freeHead = nextFree[order];
+            return order;
+        }
+        if (highWater == orderIds.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void grow() {
+        int capacity = orderIds.length << 1;
+        orderIds = Arrays.copyOf(orderIds, capacity);
+        accountIds = Arrays.copyOf(accountIds, capacity);
+        orgIds = Arrays.copyOf(orgIds, capacity);
+        triggerPrices = Arrays.copyOf(triggerPrices, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        expireTimes = Arrays.copyOf(expireTimes, capacity);
+        frozens = Arrays.copyOf(frozens, capacity);
+        sides = Arrays.copyOf(sides, capacity);
+        orderTypes = Arrays.copyOf(orderTypes, capacity);
+        timeInForces = Arrays.copyOf(timeInForces, capacity);
+        nextFree = Arrays.copyOf(nextFree, capacity);
+        heapIndexes = Arrays.copyOf(heapIndexes, capacity);
+    }
+
+    /**
+     * handle 的二叉堆，按触发价排序，触发价相同按订单 id
+     */
+    private final class Heap {
+
+        private final boolean minHeap;
+
+        private int[] handles = new int[16];
+
+        private int size;
+
+        private Heap(boolean minHeap) {
+            this.minHeap = minHeap;
+        }
+
+        int peek() {
+            return size == 0 ? OrderBook.NO_ORDER : handles[0];
+        }
+
+        void push(int order) {
+            if (size == handles.length) {
+                handles = Arrays.copyOf(handles, size << 1);
+            }
+            siftUp(size++, order);
+        }
+
+        int pop() {
+            int top = handles[0];
+            removeAt(0);
+            return top;
+        }
+
+        /**
+         * 移除下标 index 处的 handle，用最后一个 handle 填补空位后向上或向下调整
+         */
+        void removeAt(int index) {
+            int last = handles[--size];
+            if (index == size) {
+                return;
+            }
+            if (index > 0 && before(last, handles[(index - 1) >>> 1])) {
+                siftUp(index, last);
+            } else {
+                siftDown(index, last);
+            }
+        }
+
+        private void siftUp(int index, int order) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!before(order, handles[parent])) {
+                    break;
+                }
+                set(index, handles[parent]);
+                index = parent;
+            }
+            set(index, order);
+        }
+
+        private void siftDown(int index, int order) {
+            int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                int right = child + 1;
+                if (right < size && before(handles[right], handles[child])) {
+                    child = right;
+                }
+                if (!before(handles[child], order)) {
+                    break;
+                }
+                set(index, handles[child]);
+                index = child;
+            }
+            set(index, order);
+        }
+
+        private void set(int index, int order) {
+            handles[index] = order;
+            heapIndexes[order] = index;
+        }
+
+        private boolean before(int a, int b) {
+            long pa = triggerPrices[a];
+            long pb = triggerPrices[b];
+            if (pa != pb) {
+                return minHeap ? pa < pb : pa > pb;
+            }
+            return orderIds[a] < orderIds[b];
+        }
+    }
+}
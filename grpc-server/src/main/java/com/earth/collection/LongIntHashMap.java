@@ -0,0 +1,201 @@
+package com.earth.collection;
+
+import java.util.Arrays;
+
+/**
+ * long -> int 开放寻址哈希表
+ * <p>
+ * key、value 存放在两个原始类型数组中，线性探测，删除时回移后续元素而不留墓碑。
+ * get/put/remove 不装箱、不分配对象，只在扩容时分配新数组
+ * <p>
+ * 非线程安全
+ */
+public final class LongIntHashMap {
+
+    /**
+     * 空槽位标记，key 为 0 时单独存放
+     */
+    private static final long EMPTY_KEY = 0L;
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final int missingValue;
+
+    private long[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int resizeThreshold;
+
+    private int size;
+
+    private boolean hasZeroKey;
+
+    private int zeroValue;
+
+    /**
+     * @param expectedSize 预计元素个数，按负载因子预先分配容量，避免运行中扩容
+     * @param missingValue key 不存在时 get/remove 的返回值
+     */
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int get(long key) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+        int index = index(key);
+        long existing;
+        while ((existing = keys[index]) != EMPTY_KEY) {
+            if (existing == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey;
+        }
+        int index = index(key);
+        long existing;
+        while ((existing = keys[index]) != EMPTY_KEY) {
+            if (existing == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 写入，返回旧值，原来不存在时返回 missingValue
+     */
+    public int put(long key, int value) {
+        if (key == EMPTY_KEY) {
+            int old = hasZeroKey ? zeroValue : missingValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        int index = index(key);
+        long existing;
+        while ((existing = keys[index]) != EMPTY_KEY) {
+            if (existing == key) {
+                int old = values[index];
+                values[index] = value;
+                return old;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * 删除，返回旧值，不存在时返回 missingValue
+     */
+    public int remove(long key) {
+        if (key == EMPTY_KEY) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        int index = index(key);
+        long existing;
+        while ((existing = keys[index]) != EMPTY_KEY) {
+            if (existing == key) {
+                int old = values[index];
+                shiftBack(index);
+                size--;
+                return old;
+            }
+            index = (index + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * 删除 index 处元素后，把同一探测链上的后续元素前移，保证查找不会在空槽位提前结束
+     */
+    private void shiftBack(int index) {
+        int gap = index;
+        int next = (index + 1) & mask;
+        long key;
+        while ((key = keys[next]) != EMPTY_KEY) {
+            int home = index(key);
+            // home 不在 (gap, next] 区间内，说明该元素可以前移到 gap
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY_KEY;
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int index = index(key);
+                while (keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = (int) Math.ceil(Math.max(expectedSize, 8) / LOAD_FACTOR);
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
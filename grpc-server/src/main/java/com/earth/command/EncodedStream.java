@@ -0,0 +1,26 @@
+package com.earth.command;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 已编码好的响应，长度已知，gRPC 分帧时 drain 一次写入
+ */
+final class EncodedStream extends ByteArrayInputStream implements KnownLength, Drainable {
+
+    EncodedStream(byte[] bytes) {
+        super(bytes);
+    }
+
+    @Override
+    public int drainTo(OutputStream target) throws IOException {
+        int length = count - pos;
+        target.write(buf, pos, length);
+        pos = count;
+        return length;
+    }
+}
@@ -0,0 +1,179 @@
+package com.earth.command;
+
+import com.earth.base.order.NewOrderReply;
+import com.earth.base.order.OrderStatusEnum;
+import com.google.protobuf.CodedOutputStream;
+import io.grpc.Status;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * 下单回复，CreateOrder 的响应，也是 CreateOrders 中每个订单的回复
+ * <p>
+ * 只有订单 id 和状态随订单变化，code / message / crossAvailable 的几种固定组合（{@link Template}）启动时预先编码为
+ * NewOrderReply 的字节，由 {@link OrderAckMarshaller} 序列化时拼上 order_id 和 status，不创建 NewOrderReply 和 Builder，
+ * 也不逐字段编码字符串
+ * <p>
+ * 被拒绝的订单（{@link #rejected}）带有拒绝原因，单个下单时作为 gRPC 错误返回，批量下单时编码为 code 为状态码的 NewOrderReply
+ */
+@Immutable
+public final class OrderAck {
+
+    /**
+     * 回复中固定部分的组合
+     */
+    public enum Template {
+
+        ACCEPTED(200L, "success", "OK"),
+
+        DUPLICATE(200L, "duplicate", "OK");
+
+        /**
+         * code、message、crossAvailable 三个字段的编码
+         */
+        final byte[] encoded;
+
+        Template(long code, String message, String crossAvailable) {
+            this.encoded = NewOrderReply.newBuilder().setCode(code).setMessage(message).setCrossAvailable(crossAvailable).build().toByteArray();
+        }
+    }
+
+    private static final byte ORDER_ID_TAG = (byte) (NewOrderReply.ORDER_ID_FIELD_NUMBER << 3);
+
+    private static final byte STATUS_TAG = (byte) (NewOrderReply.STATUS_FIELD_NUMBER << 3);
+
+    private final long orderId;
+
+    private final Template template;
+
+    private final OrderStatusEnum status;
+
+    /**
+     * 拒绝原因，受理的订单为 null
+     */
+    private final Status failure;
+
+    /**
+     * 被拒绝订单的完整编码，拒绝原因各不相同，不使用模板
+     */
+    private final byte[] encodedFailure;
+
+    private OrderAck(long orderId, Template template, OrderStatusEnum status) {
+        this.orderId = orderId;
+        this.template = template;
+        this.status = status;
+        this.failure = null;
+        this.encodedFailure = null;
+    }
+
+    private OrderAck(Status failure) {
+        this.orderId = 0L;
+        this.template = null;
+        this.status = OrderStatusEnum.REJECTED;
+        this.failure = failure;
+        this.encodedFailure = NewOrderReply.newBuilder()
+                .setCode(failure.getCode().value())
+                .setMessage(failure.getDescription() == null ? failure.getCode().name() : failure.getDescription())
+                .setStatus(OrderStatusEnum.REJECTED)
+                .build()
+                .toByteArray();
+    }
+
+    public static OrderAck accepted(long orderId) {
+        return new OrderAck(orderId, Template.ACCEPTED, OrderStatusEnum.NEW);
+    }
+
+    /**
+     * 幂等窗口内的重复订单，orderId 为原订单 id
+     */
+    public static OrderAck duplicate(long orderId) {
+        return new OrderAck(orderId, Template.DUPLICATE, OrderStatusEnum.NEW);
+    }
+
+    public static OrderAck rejected(Status failure) {
+        return new OrderAck(failure);
+    }
+
+    public boolean isRejected() {
+        return failure != null;
+    }
+
+    /**
+     * 拒绝原因，受理的订单为 null
+     */
+    public Status failure() {
+        return failure;
+    }
+
+    public long orderId() {
+        return orderId;
+    }
+
+    public Template template() {
+        return template;
+    }
+
+    public OrderStatusEnum status() {
+        return status;
+    }
+
+    /**
+     * 按 NewOrderReply 的格式编码后的字节数
+     */
+    int serializedSize() {
+        if (encodedFailure != null) {
+            return encodedFailure.length;
+        }
+        int size = template.encoded.length;
+        if (orderId != 0L) {
+            size += 1 + CodedOutputStream.computeInt64SizeNoTag(orderId);
+        }
+        if (status.getNumber() != 0) {
+            size += 1 + CodedOutputStream.computeEnumSizeNoTag(status.getNumber());
+        }
+        return size;
+    }
+
+    /**
+     * 按 NewOrderReply 的格式写入 bytes：order_id + 模板 + status，值为 0 的字段与 proto3 一样省略
+     *
+     * @return 写入后的位置
+     */
+    int writeTo(byte[] bytes, int position) {
+        if (encodedFailure != null) {
+            System.arraycopy(encodedFailure, 0, bytes, position, encodedFailure.length);
+            return position + encodedFailure.length;
+        }
+        if (orderId != 0L) {
+            bytes[position++] = ORDER_ID_TAG;
+            position = writeVarint(bytes, position, orderId);
+        }
+        System.arraycopy(template.encoded, 0, bytes, position, template.encoded.length);
+        position += template.encoded.length;
+        if (status.getNumber() != 0) {
+            bytes[position++] = STATUS_TAG;
+            position = writeVarint(bytes, position, status.getNumber());
+        }
+        return position;
+    }
+
+    byte[] encode() {
+        byte[] bytes = new byte[serializedSize()];
+        writeTo(bytes, 0);
+        return bytes;
+    }
+
+    static int writeVarint(byte[] bytes, int position, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderAck{orderId=" + orderId + ", template=" + template + ", status=" + status + ", failure=" + failure + "}";
+    }
+}
@@ -0,0 +1,40 @@
+package com.earth.command;
+
+import com.earth.base.order.NewOrderBatchReply;
+import com.google.protobuf.CodedOutputStream;
+import io.grpc.MethodDescriptor;
+
+import java.io.InputStream;
+
+/**
+ * CreateOrders 响应的 marshaller，按 NewOrderBatchReply 的格式把每个 {@link OrderAck} 编码为一个 replies 元素，
+ * 整批回复一次分配、一次写入
+ * <p>
+ * 只用于服务端，不支持解析
+ */
+public final class OrderAckBatchMarshaller implements MethodDescriptor.Marshaller<OrderAck[]> {
+
+    private static final byte REPLIES_TAG = (byte) ((NewOrderBatchReply.REPLIES_FIELD_NUMBER << 3) | 2);
+
+    @Override
+    public InputStream stream(OrderAck[] acks) {
+        int size = 0;
+        for (OrderAck ack : acks) {
+            int ackSize = ack.serializedSize();
+            size += 1 + CodedOutputStream.computeUInt32SizeNoTag(ackSize) + ackSize;
+        }
+        byte[] bytes = new byte[size];
+        int position = 0;
+        for (OrderAck ack : acks) {
+            bytes[position++] = REPLIES_TAG;
+            position = OrderAck.writeVarint(bytes, position, ack.serializedSize());
+            position = ack.writeTo(bytes, position);
+        }
+        return new EncodedStream(bytes);
+    }
+
+    @Override
+    public OrderAck[] parse(InputStream stream) {
+        throw new UnsupportedOperationException("order ack batch is write only, parse NewOrderBatchReply instead");
+    }
+}
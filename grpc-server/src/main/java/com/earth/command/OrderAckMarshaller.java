@@ -0,0 +1,25 @@
+package com.earth.command;
+
+import io.grpc.MethodDescriptor;
+
+import java.io.InputStream;
+
+/**
+ * CreateOrder 响应的 marshaller，替代生成代码中的 NewOrderReply marshaller
+ * <p>
+ * 返回的流长度已知且可以直接 drain（{@link EncodedStream}），gRPC 分帧时把整个回复一次写入输出缓冲区
+ * <p>
+ * 只用于服务端，不支持解析
+ */
+public final class OrderAckMarshaller implements MethodDescriptor.Marshaller<OrderAck> {
+
+    @Override
+    public InputStream stream(OrderAck ack) {
+        return new EncodedStream(ack.encode());
+    }
+
+    @Override
+    public OrderAck parse(InputStream stream) {
+        throw new UnsupportedOperationException("order ack is write only, parse NewOrderReply instead");
+    }
+}
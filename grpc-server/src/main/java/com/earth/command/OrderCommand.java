@@ -0,0 +1,285 @@
+package com.earth.command;
+
+import com.earth.base.common.OrderSideEnum;
+import com.earth.base.common.OrderTimeInForceEnum;
+import com.earth.base.common.OrderTypeEnum;
+import com.google.protobuf.ByteString;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+
+/**
+ * 下单命令，NewOrderRequest 中撮合用到的字段
+ * <p>
+ * 由 {@link OrderCommandCodec} 从请求的原始字节直接解析：价格、数量、金额已换算为引擎精度的定点 long，
+ * 枚举保留 wire 上的数值，client_order_id / sign_nonce / symbol_id 是指向原始字节的 ByteString（不拷贝、不解码）。
+ * 撮合不使用的字段（BaseRequest、已废弃的费率等）直接跳过，不创建对象
+ * <p>
+ * 原始字节原样保留，写 WAL 时直接复制，不再序列化；WAL 格式与 NewOrderRequest 完全一致
+ * <p>
+ * 同一时刻只属于一个线程：gRPC 线程解析后交给排序队列，之后依次由写 WAL、撮合线程处理。
+ * 从 {@link OrderCommandPool} 取出的命令用完后调用 {@link #recycle()} 归还，归还后不能再访问，包括指向原始字节的 ByteString
+ */
+@NotThreadSafe
+public final class OrderCommand {
+
+    public static final int PRICE = 1;
+
+    public static final int QUANTITY = 1 << 1;
+
+    public static final int AMOUNT = 1 << 2;
+
+    public static final int TRIGGER_PRICE = 1 << 3;
+
+    /**
+     * 冻结数额的 tag（field 33，varint）。公开的 NewOrderRequest 中 33 为 reserved，只在 WAL 记录中出现
+     */
+    private static final int FROZEN_AMOUNT_TAG = 33 << 3;
+
+    /**
+     * 追加冻结数额最多需要的字节数：tag 2 字节 + varint 10 字节
+     */
+    static final int FROZEN_AMOUNT_MAX_SIZE = 12;
+
+    long accountId;
+
+    ByteString clientOrderId = ByteString.EMPTY;
+
+    ByteString symbolId = ByteString.EMPTY;
+
+    int orderType;
+
+    int timeInForce;
+
+    int side;
+
+    long price;
+
+    long quantity;
+
+    long amount;
+
+    long triggerPrice;
+
+    /**
+     * 无法换算的 Decimal 字段（格式错误或超出 long 范围），按 PRICE / QUANTITY / AMOUNT / TRIGGER_PRICE 取位
+     */
+    int invalidDecimals;
+
+    /**
+     * Decimal 字段已读到的子字段，下标为 PRICE / QUANTITY / AMOUNT / TRIGGER_PRICE 的位序号。
+     * 同一字段在 wire 上重复出现时在此基础上合并，与生成代码的 mergeFrom 一致
+     */
+    final ByteString[] decimalStr = {ByteString.EMPTY, ByteString.EMPTY, ByteString.EMPTY, ByteString.EMPTY};
+
+    final long[] decimalUnscaled = new long[4];
+
+    final int[] decimalScale = new int[4];
+
+    boolean liquidation;
+
+    long orgId;
+
+    ByteString signNonce = ByteString.EMPTY;
+
+    long expireTime;
+
+    long frozenAmount;
+
+    /**
+     * 请求的原始字节，[0, length) 有效，末尾预留追加冻结数额的空间
+     */
+    byte[] buffer;
+
+    int length;
+
+    /**
+     * 所属的对象池，不从池中取出的命令（如回放用的命令）为 null
+     */
+    private final OrderCommandPool pool;
+
+    /**
+     * 在池中空闲，用于发现重复归还
+     */
+    boolean pooled;
+
+    public OrderCommand() {
+        this(null);
+    }
+
+    OrderCommand(OrderCommandPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 归还到所属的对象池，不属于对象池时什么也不做
+     *
+     * @throws IllegalStateException 重复归还
+     */
+    public void recycle() {
+        if (pool == null) {
+            return;
+        }
+        if (pooled) {
+            throw new IllegalStateException("order command already recycled");
+        }
+        reset();
+        length = 0;
+        if (buffer != null && buffer.length > OrderCommandPool.MAX_RETAINED_BUFFER_SIZE) {
+            buffer = null;
+        }
+        pooled = true;
+        pool.release(this);
+    }
+
+    /**
+     * 复用的请求字节数组，容量不足时重新分配（不保留原有内容）
+     */
+    byte[] buffer(int capacity) {
+        if (buffer == null || buffer.length < capacity) {
+            buffer = new byte[capacity];
+        }
+        return buffer;
+    }
+
+    void reset() {
+        accountId = 0L;
+        clientOrderId = ByteString.EMPTY;
+        symbolId = ByteString.EMPTY;
+        orderType = 0;
+        timeInForce = 0;
+        side = 0;
+        price = 0L;
+        quantity = 0L;
+        amount = 0L;
+        triggerPrice = 0L;
+        invalidDecimals = 0;
+        Arrays.fill(decimalStr, ByteString.EMPTY);
+        Arrays.fill(decimalUnscaled, 0L);
+        Arrays.fill(decimalScale, 0);
+        liquidation = false;
+        orgId = 0L;
+        signNonce = ByteString.EMPTY;
+        expireTime = 0L;
+        frozenAmount = 0L;
+    }
+
+    public long accountId() {
+        return accountId;
+    }
+
+    public ByteString clientOrderId() {
+        return clientOrderId;
+    }
+
+    public ByteString symbolId() {
+        return symbolId;
+    }
+
+    public OrderTypeEnum orderType() {
+        OrderTypeEnum value = OrderTypeEnum.forNumber(orderType);
+        return value == null ? OrderTypeEnum.UNRECOGNIZED : value;
+    }
+
+    public OrderTimeInForceEnum timeInForce() {
+        OrderTimeInForceEnum value = OrderTimeInForceEnum.forNumber(timeInForce);
+        return value == null ? OrderTimeInForceEnum.UNRECOGNIZED : value;
+    }
+
+    public boolean isSell() {
+        return side == OrderSideEnum.SELL_VALUE;
+    }
+
+    public boolean isStopOrder() {
+        return orderType == OrderTypeEnum.STOP_VALUE || orderType == OrderTypeEnum.STOP_LIMIT_VALUE;
+    }
+
+    public long price() {
+        return price;
+    }
+
+    public long quantity() {
+        return quantity;
+    }
+
+    public long amount() {
+        return amount;
+    }
+
+    public long triggerPrice() {
+        return triggerPrice;
+    }
+
+    /**
+     * fields 中是否有无法换算的 Decimal 字段
+     *
+     * @param fields PRICE / QUANTITY / AMOUNT / TRIGGER_PRICE 的组合
+     */
+    public boolean isInvalid(int fields) {
+        return (invalidDecimals & fields) != 0;
+    }
+
+    public boolean isLiquidation() {
+        return liquidation;
+    }
+
+    public long orgId() {
+        return orgId;
+    }
+
+    public ByteString signNonce() {
+        return signNonce;
+    }
+
+    public long expireTime() {
+        return expireTime;
+    }
+
+    public long frozenAmount() {
+        return frozenAmount;
+    }
+
+    /**
+     * 改写冻结数额：在原始字节末尾追加一个 field 33，作为 WAL 记录的内部尾部，不需要重新序列化请求。
+     * 同一个 tag 重复出现时 {@link OrderCommandCodec} 以最后一个为准，客户端自行带上的 field 33 总会被覆盖；
+     * 按 NewOrderRequest 解析 WAL 记录时 field 33 是未知字段
+     */
+    public void frozenAmount(long frozenAmount) {
+        if (frozenAmount == this.frozenAmount) {
+            return;
+        }
+        if (buffer.length - length < FROZEN_AMOUNT_MAX_SIZE) {
+            buffer = Arrays.copyOf(buffer, length + FROZEN_AMOUNT_MAX_SIZE);
+        }
+        length = writeVarint(buffer, length, FROZEN_AMOUNT_TAG);
+        length = writeVarint(buffer, length, frozenAmount);
+        this.frozenAmount = frozenAmount;
+    }
+
+    /**
+     * 原始字节（含追加的冻结数额），[0, {@link #length()}) 有效
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    private static int writeVarint(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderCommand{accountId=" + accountId + ", clientOrderId=" + clientOrderId.toStringUtf8()
+                + ", symbolId=" + symbolId.toStringUtf8() + ", orderType=" + orderType + ", side=" + side
+                + ", price=" + price + ", quantity=" + quantity + ", amount=" + amount + "}";
+    }
+}
@@ -0,0 +1,129 @@
+package com.earth.command;
+
+import com.earth.base.order.NewOrderBatchRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CreateOrders 请求的 marshaller，按 NewOrderBatchRequest 的格式把每个 orders 元素解析为一个 {@link OrderCommand}
+ * <p>
+ * 每个订单的字节复制到各自命令的缓冲区后由 {@link OrderCommandCodec} 解析，与单个下单一样，写 WAL 时直接使用这段字节。
+ * 任何一个订单格式错误时整批失败，已取出的命令全部归还
+ * <p>
+ * 解析前先数订单个数（只读 tag 和长度，不解析订单），超过单批上限时不取命令、不解析，返回 {@link #TOO_MANY_ORDERS}。
+ * 不抛异常：marshaller 抛出的异常到客户端一律是 UNKNOWN，由服务方法按 INVALID_ARGUMENT 回复
+ */
+public final class OrderCommandBatchMarshaller implements MethodDescriptor.Marshaller<OrderCommand[]> {
+
+    private static final int ORDERS_TAG = (NewOrderBatchRequest.ORDERS_FIELD_NUMBER << 3) | 2;
+
+    private static final OrderCommand[] EMPTY = new OrderCommand[0];
+
+    /**
+     * 订单数超过单批上限时 {@link #parse} 的返回值，按引用比较，不含任何命令
+     */
+    public static final OrderCommand[] TOO_MANY_ORDERS = new OrderCommand[0];
+
+    private final OrderCommandCodec codec;
+
+    private final OrderCommandPool pool;
+
+    private final int maxOrders;
+
+    /**
+     * @param maxOrders 单批最多的订单数
+     */
+    public OrderCommandBatchMarshaller(OrderCommandCodec codec, OrderCommandPool pool, int maxOrders) {
+        this.codec = codec;
+        this.pool = pool;
+        this.maxOrders = maxOrders;
+    }
+
+    @Override
+    public InputStream stream(OrderCommand[] commands) {
+        int size = 0;
+        for (OrderCommand command : commands) {
+            size += 1 + CodedOutputStream.computeUInt32SizeNoTag(command.length) + command.length;
+        }
+        byte[] bytes = new byte[size];
+        int position = 0;
+        for (OrderCommand command : commands) {
+            bytes[position++] = (byte) ORDERS_TAG;
+            position = OrderAck.writeVarint(bytes, position, command.length);
+            System.arraycopy(command.buffer, 0, bytes, position, command.length);
+            position += command.length;
+        }
+        return new EncodedStream(bytes);
+    }
+
+    @Override
+    public OrderCommand[] parse(InputStream stream) {
+        List<OrderCommand> commands = new ArrayList<>();
+        try {
+            byte[] bytes;
+            if (stream instanceof KnownLength) {
+                bytes = new byte[stream.available()];
+                OrderCommandMarshaller.readFully(stream, bytes, bytes.length);
+            } else {
+                bytes = stream.readAllBytes();
+            }
+            if (countOrders(bytes) > maxOrders) {
+                return TOO_MANY_ORDERS;
+            }
+            CodedInputStream input = CodedInputStream.newInstance(bytes);
+            while (true) {
+                int tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                }
+                if (tag != ORDERS_TAG) {
+                    if (!input.skipField(tag)) {
+                        break;
+                    }
+                    continue;
+                }
+                int length = input.readRawVarint32();
+                int offset = input.getTotalBytesRead();
+                if (length < 0 || length > bytes.length - offset) {
+                    throw new InvalidProtocolBufferException("truncated order in batch");
+                }
+                OrderCommand command = pool.acquire();
+                commands.add(command);
+                byte[] buffer = command.buffer(length + OrderCommand.FROZEN_AMOUNT_MAX_SIZE);
+                System.arraycopy(bytes, offset, buffer, 0, length);
+                codec.parse(buffer, length, command);
+                input.skipRawBytes(length);
+            }
+            return commands.toArray(EMPTY);
+        } catch (IOException e) {
+            commands.forEach(OrderCommand::recycle);
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        }
+    }
+
+    /**
+     * 数 orders 元素的个数，订单内容整段跳过
+     */
+    private static int countOrders(byte[] bytes) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(bytes);
+        int count = 0;
+        while (true) {
+            int tag = input.readTag();
+            if (tag == 0 || !input.skipField(tag)) {
+                return count;
+            }
+            if (tag == ORDERS_TAG) {
+                count++;
+            }
+        }
+    }
+}
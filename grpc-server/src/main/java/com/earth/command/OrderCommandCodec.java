@@ -0,0 +1,212 @@
+package com.earth.command;
+
+import com.earth.decimal.DecimalCodec;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 按 NewOrderRequest 的 wire 格式解析 {@link OrderCommand}，不经过生成的消息类
+ * <p>
+ * CodedInputStream 开启 aliasing，字符串字段直接引用输入字节；嵌套的 Decimal 在解析时换算为定点 long，
+ * 不创建 Decimal、BaseRequest 等中间对象。用不到的字段按 wire type 跳过，新增字段不影响解析
+ * <p>
+ * 与生成代码的结果一致：标量字段重复出现时以最后一个为准，嵌套的 Decimal 重复出现时按子字段合并后再换算
+ * <p>
+ * 无状态，可以在线程之间共用
+ */
+@ThreadSafe
+public final class OrderCommandCodec {
+
+    private static final int ACCOUNT_ID = tag(1, WireFormat.WIRETYPE_VARINT);
+
+    private static final int CLIENT_ORDER_ID = tag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int SYMBOL_ID = tag(3, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int ORDER_TYPE = tag(4, WireFormat.WIRETYPE_VARINT);
+
+    private static final int TIME_IN_FORCE = tag(5, WireFormat.WIRETYPE_VARINT);
+
+    private static final int SIDE = tag(6, WireFormat.WIRETYPE_VARINT);
+
+    private static final int PRICE = tag(7, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int QUANTITY = tag(8, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int AMOUNT = tag(9, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int IS_LIQUIDATION_ORDER = tag(15, WireFormat.WIRETYPE_VARINT);
+
+    private static final int ORG_ID = tag(16, WireFormat.WIRETYPE_VARINT);
+
+    private static final int SIGN_NONCE = tag(18, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int TRIGGER_PRICE = tag(20, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int EXPIRE_TIME = tag(32, WireFormat.WIRETYPE_VARINT);
+
+    /**
+     * WAL 记录中追加的冻结数额，见 {@link OrderCommand#frozenAmount(long)}
+     */
+    private static final int FROZEN_AMOUNT = tag(33, WireFormat.WIRETYPE_VARINT);
+
+    private static final int DECIMAL_STR = tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+    private static final int DECIMAL_UNSCALED_VALUE = tag(2, WireFormat.WIRETYPE_VARINT);
+
+    private static final int DECIMAL_SCALE = tag(3, WireFormat.WIRETYPE_VARINT);
+
+    private final int priceScale;
+
+    private final int quantityScale;
+
+    private final int amountScale;
+
+    public OrderCommandCodec(int priceScale, int quantityScale, int amountScale) {
+        this.priceScale = priceScale;
+        this.quantityScale = quantityScale;
+        this.amountScale = amountScale;
+    }
+
+    /**
+     * 解析请求字节，command 接管 buffer（保留为原始字节，写 WAL 时使用）
+     *
+     * @param buffer 请求字节，[0, length) 有效，后面的空间留给追加冻结数额
+     */
+    public void parse(byte[] buffer, int length, OrderCommand command) throws InvalidProtocolBufferException {
+        CodedInputStream input = CodedInputStream.newInstance(buffer, 0, length);
+        input.enableAliasing(true);
+        command.buffer = buffer;
+        command.length = length;
+        read(input, command);
+    }
+
+    /**
+     * 解析 WAL 记录，字符串字段引用 payload，只在回放回调内有效。不保留原始字节
+     */
+    public void parse(ByteBuffer payload, OrderCommand command) throws InvalidProtocolBufferException {
+        CodedInputStream input = CodedInputStream.newInstance(payload);
+        input.enableAliasing(true);
+        command.buffer = null;
+        command.length = payload.remaining();
+        read(input, command);
+    }
+
+    private void read(CodedInputStream input, OrderCommand command) throws InvalidProtocolBufferException {
+        command.reset();
+        try {
+            while (true) {
+                int tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                } else if (tag == ACCOUNT_ID) {
+                    command.accountId = input.readInt64();
+                } else if (tag == CLIENT_ORDER_ID) {
+                    command.clientOrderId = readString(input);
+                } else if (tag == SYMBOL_ID) {
+                    command.symbolId = readString(input);
+                } else if (tag == ORDER_TYPE) {
+                    command.orderType = input.readEnum();
+                } else if (tag == TIME_IN_FORCE) {
+                    command.timeInForce = input.readEnum();
+                } else if (tag == SIDE) {
+                    command.side = input.readEnum();
+                } else if (tag == PRICE) {
+                    command.price = readDecimal(input, priceScale, command, OrderCommand.PRICE);
+                } else if (tag == QUANTITY) {
+                    command.quantity = readDecimal(input, quantityScale, command, OrderCommand.QUANTITY);
+                } else if (tag == AMOUNT) {
+                    command.amount = readDecimal(input, amountScale, command, OrderCommand.AMOUNT);
+                } else if (tag == IS_LIQUIDATION_ORDER) {
+                    command.liquidation = input.readBool();
+                } else if (tag == ORG_ID) {
+                    command.orgId = input.readInt64();
+                } else if (tag == SIGN_NONCE) {
+                    command.signNonce = readString(input);
+                } else if (tag == TRIGGER_PRICE) {
+                    command.triggerPrice = readDecimal(input, priceScale, command, OrderCommand.TRIGGER_PRICE);
+                } else if (tag == EXPIRE_TIME) {
+                    command.expireTime = input.readInt64();
+                } else if (tag == FROZEN_AMOUNT) {
+                    command.frozenAmount = input.readInt64();
+                } else if (!input.skipField(tag)) {
+                    throw invalidEndTag();
+                }
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e);
+        }
+    }
+
+    /**
+     * 与生成代码一致，proto3 string 字段要求合法的 UTF-8
+     */
+    private static ByteString readString(CodedInputStream input) throws IOException {
+        ByteString value = input.readBytes();
+        if (!value.isValidUtf8()) {
+            throw new InvalidProtocolBufferException("Protocol message had invalid UTF-8.");
+        }
+        return value;
+    }
+
+    /**
+     * 读取嵌套的 Decimal 并换算为定点 long，规则与 {@link DecimalCodec#toLong} 一致。无法换算时记入 invalidDecimals，返回 0
+     * <p>
+     * 同一字段重复出现时，子字段在之前读到的值上合并（与 mergeFrom 相同），再按合并结果重新换算
+     */
+    private static long readDecimal(CodedInputStream input, int scale, OrderCommand command, int field) throws IOException {
+        int index = Integer.numberOfTrailingZeros(field);
+        int limit = input.pushLimit(input.readRawVarint32());
+        ByteString str = command.decimalStr[index];
+        long unscaled = command.decimalUnscaled[index];
+        int decimalScale = command.decimalScale[index];
+        while (true) {
+            int tag = input.readTag();
+            if (tag == 0) {
+                break;
+            } else if (tag == DECIMAL_STR) {
+                str = readString(input);
+            } else if (tag == DECIMAL_UNSCALED_VALUE) {
+                unscaled = input.readInt64();
+            } else if (tag == DECIMAL_SCALE) {
+                decimalScale = input.readInt32();
+            } else if (!input.skipField(tag)) {
+                throw invalidEndTag();
+            }
+        }
+        input.popLimit(limit);
+        command.decimalStr[index] = str;
+        command.decimalUnscaled[index] = unscaled;
+        command.decimalScale[index] = decimalScale;
+        command.invalidDecimals &= ~field;
+        try {
+            if (unscaled == 0L && decimalScale == 0) {
+                // 旧客户端只填 str，很少见，这里才解码字符串
+                return str.isEmpty() ? 0L : DecimalCodec.parse(str.toStringUtf8(), scale);
+            }
+            return DecimalCodec.rescale(unscaled, decimalScale, scale);
+        } catch (ArithmeticException | NumberFormatException e) {
+            command.invalidDecimals |= field;
+            return 0L;
+        }
+    }
+
+    /**
+     * 多余的 end group，生成代码同样拒绝
+     */
+    private static InvalidProtocolBufferException invalidEndTag() {
+        return new InvalidProtocolBufferException("Protocol message end-group tag did not match expected tag.");
+    }
+
+    private static int tag(int fieldNumber, int wireType) {
+        return (fieldNumber << 3) | wireType;
+    }
+}
@@ -0,0 +1,80 @@
+package com.earth.command;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * CreateOrder 请求的 marshaller，替代生成代码中按 NewOrderRequest 解析的 ProtoUtils.marshaller
+ * <p>
+ * 请求字节从传输层的输入流一次读入 byte[]（Netty 的消息流长度已知，按实际大小分配，不做扩容拷贝），
+ * 再由 {@link OrderCommandCodec} 原地解析。请求字节要交给写 WAL 线程，不能引用传输层缓冲区，因此只拷贝这一次
+ * <p>
+ * 命令和字节数组都从 {@link OrderCommandPool} 中复用，解析失败时立即归还
+ */
+public final class OrderCommandMarshaller implements MethodDescriptor.Marshaller<OrderCommand> {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final OrderCommandCodec codec;
+
+    private final OrderCommandPool pool;
+
+    public OrderCommandMarshaller(OrderCommandCodec codec, OrderCommandPool pool) {
+        this.codec = codec;
+        this.pool = pool;
+    }
+
+    @Override
+    public InputStream stream(OrderCommand command) {
+        return new ByteArrayInputStream(command.buffer, 0, command.length);
+    }
+
+    @Override
+    public OrderCommand parse(InputStream stream) {
+        OrderCommand command = pool.acquire();
+        try {
+            if (stream instanceof KnownLength) {
+                int length = stream.available();
+                byte[] buffer = command.buffer(length + OrderCommand.FROZEN_AMOUNT_MAX_SIZE);
+                readFully(stream, buffer, length);
+                codec.parse(buffer, length, command);
+            } else {
+                byte[] buffer = command.buffer(INITIAL_BUFFER_SIZE);
+                int length = 0;
+                int read;
+                while ((read = stream.read(buffer, length, buffer.length - length - OrderCommand.FROZEN_AMOUNT_MAX_SIZE)) != -1) {
+                    length += read;
+                    if (buffer.length - length <= OrderCommand.FROZEN_AMOUNT_MAX_SIZE) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                }
+                codec.parse(buffer, length, command);
+            }
+            return command;
+        } catch (InvalidProtocolBufferException e) {
+            command.recycle();
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        } catch (IOException e) {
+            command.recycle();
+            throw Status.INTERNAL.withDescription("read order request failed").withCause(e).asRuntimeException();
+        }
+    }
+
+    static void readFully(InputStream stream, byte[] buffer, int length) throws IOException {
+        int position = 0;
+        while (position < length) {
+            int read = stream.read(buffer, position, length - position);
+            if (read == -1) {
+                throw new IOException("unexpected end of stream, expected: " + length + ", read: " + position);
+            }
+            position += read;
+        }
+    }
+}
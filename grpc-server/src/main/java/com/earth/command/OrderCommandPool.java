@@ -0,0 +1,117 @@
+package com.earth.command;
+
+import com.earth.sequencer.Sequence;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 下单命令对象池
+ * <p>
+ * gRPC 线程解析请求时取出（{@link #acquire()}），撮合线程处理完事件后归还（{@link OrderCommand#recycle()}），
+ * 被拒绝的订单在拒绝处归还。命令连同其中的请求字节数组一起复用，稳定运行时下单路径不再产生新对象
+ * <p>
+ * 取出、归还在不同线程，用有界的多生产者多消费者数组队列（每个槽位一个序号，CAS 推进头尾）存放空闲命令，不加锁、不分配对象。
+ * 池空时新建命令，池满时丢弃归还的命令，交给 GC；没有归还的命令（如请求解析后调用被取消）同样由 GC 回收，不影响正确性
+ */
+@ThreadSafe
+public final class OrderCommandPool {
+
+    /**
+     * 请求字节数组超过该大小的命令归还时丢弃数组，避免个别大请求长期占用内存
+     */
+    static final int MAX_RETAINED_BUFFER_SIZE = 4096;
+
+    private final OrderCommand[] commands;
+
+    /**
+     * 槽位序号：等于 tail 位置时可以归还，等于 head 位置 + 1 时可以取出
+     */
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final Sequence head = new Sequence(0L);
+
+    private final Sequence tail = new Sequence(0L);
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity 最多缓存的空闲命令数，必须是 2 的幂
+     */
+    public OrderCommandPool(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("command pool capacity must be a power of 2: " + capacity);
+        }
+        this.commands = new OrderCommand[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 取出一个空闲命令，池空时新建
+     */
+    public OrderCommand acquire() {
+        long position = head.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - (position + 1);
+            if (diff == 0L) {
+                if (head.compareAndSet(position, position + 1)) {
+                    OrderCommand command = commands[index];
+                    commands[index] = null;
+                    // 槽位留给下一轮归还
+                    sequences.lazySet(index, position + mask + 1);
+                    command.pooled = false;
+                    return command;
+                }
+                position = head.get();
+            } else if (diff < 0L) {
+                misses.increment();
+                return new OrderCommand(this);
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    void release(OrderCommand command) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0L) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    commands[index] = command;
+                    sequences.lazySet(index, position + 1);
+                    return;
+                }
+                position = tail.get();
+            } else if (diff < 0L) {
+                // 池已满
+                return;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 当前空闲命令数（近似值）
+     */
+    public int size() {
+        return (int) Math.max(0L, tail.get() - head.get());
+    }
+
+    /**
+     * 池空时新建命令的累计次数
+     */
+    public long misses() {
+        return misses.sum();
+    }
+}
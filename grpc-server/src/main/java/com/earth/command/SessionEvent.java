@@ -0,0 +1,89 @@
+package com.earth.command;
+
+import com.earth.base.order.ExecutionReportBatch;
+import com.earth.base.order.OrderSessionEvent;
+import com.google.protobuf.CodedOutputStream;
+
+import javax.annotation.concurrent.Immutable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 下单会话的一条推送，创建时按 OrderSessionEvent 的格式编码好，由 {@link SessionEventMarshaller} 直接写出
+ * <p>
+ * 下单回复用 {@link OrderAck} 的编码，不创建 NewOrderReply；执行回报沿用回报发布线程生成的 ExecutionReportBatch
+ */
+@Immutable
+public final class SessionEvent {
+
+    private static final byte SEQUENCE_TAG = (byte) (OrderSessionEvent.SEQUENCE_FIELD_NUMBER << 3);
+
+    private static final byte REQUEST_ID_TAG = (byte) (OrderSessionEvent.REQUEST_ID_FIELD_NUMBER << 3);
+
+    private static final byte REPLY_TAG = (byte) ((OrderSessionEvent.REPLY_FIELD_NUMBER << 3) | 2);
+
+    private static final byte REPORTS_TAG = (byte) ((OrderSessionEvent.REPORTS_FIELD_NUMBER << 3) | 2);
+
+    final byte[] encoded;
+
+    private final boolean ack;
+
+    private SessionEvent(byte[] encoded, boolean ack) {
+        this.encoded = encoded;
+        this.ack = ack;
+    }
+
+    public static SessionEvent ack(long sequence, long requestId, OrderAck ack) {
+        int ackSize = ack.serializedSize();
+        int size = headerSize(sequence, requestId) + 1 + CodedOutputStream.computeUInt32SizeNoTag(ackSize) + ackSize;
+        byte[] bytes = new byte[size];
+        int position = writeHeader(bytes, sequence, requestId);
+        bytes[position++] = REPLY_TAG;
+        position = OrderAck.writeVarint(bytes, position, ackSize);
+        ack.writeTo(bytes, position);
+        return new SessionEvent(bytes, true);
+    }
+
+    public static SessionEvent reports(long sequence, ExecutionReportBatch batch) {
+        int batchSize = batch.getSerializedSize();
+        int size = headerSize(sequence, 0L) + 1 + CodedOutputStream.computeUInt32SizeNoTag(batchSize) + batchSize;
+        byte[] bytes = new byte[size];
+        int position = writeHeader(bytes, sequence, 0L);
+        bytes[position++] = REPORTS_TAG;
+        position = OrderAck.writeVarint(bytes, position, batchSize);
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(bytes, position, batchSize);
+            batch.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SessionEvent(bytes, false);
+    }
+
+    /**
+     * 是否是下单回复，否则是执行回报
+     */
+    public boolean isAck() {
+        return ack;
+    }
+
+    private static int headerSize(long sequence, long requestId) {
+        int size = 1 + CodedOutputStream.computeInt64SizeNoTag(sequence);
+        if (requestId != 0L) {
+            size += 1 + CodedOutputStream.computeInt64SizeNoTag(requestId);
+        }
+        return size;
+    }
+
+    private static int writeHeader(byte[] bytes, long sequence, long requestId) {
+        int position = 0;
+        bytes[position++] = SEQUENCE_TAG;
+        position = OrderAck.writeVarint(bytes, position, sequence);
+        if (requestId != 0L) {
+            bytes[position++] = REQUEST_ID_TAG;
+            position = OrderAck.writeVarint(bytes, position, requestId);
+        }
+        return position;
+    }
+}
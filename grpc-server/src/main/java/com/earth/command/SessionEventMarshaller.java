@@ -0,0 +1,23 @@
+package com.earth.command;
+
+import io.grpc.MethodDescriptor;
+
+import java.io.InputStream;
+
+/**
+ * OrderSession 响应的 marshaller，写出 {@link SessionEvent} 中已编码的字节
+ * <p>
+ * 只用于服务端，不支持解析
+ */
+public final class SessionEventMarshaller implements MethodDescriptor.Marshaller<SessionEvent> {
+
+    @Override
+    public InputStream stream(SessionEvent event) {
+        return new EncodedStream(event.encoded);
+    }
+
+    @Override
+    public SessionEvent parse(InputStream stream) {
+        throw new UnsupportedOperationException("session event is write only, parse OrderSessionEvent instead");
+    }
+}
@@ -0,0 +1,40 @@
+package com.earth.command;
+
+import com.earth.base.order.ExecutionReportSubscribeRequest;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * 下单会话的一个请求，按 OrderSessionRequest 的格式解析（{@link SessionRequestMarshaller}）。
+ * order、subscribe 二选一，都没有时两者都为 null
+ */
+@Immutable
+public final class SessionRequest {
+
+    private final long requestId;
+
+    private final OrderCommand command;
+
+    private final ExecutionReportSubscribeRequest subscribe;
+
+    SessionRequest(long requestId, OrderCommand command, ExecutionReportSubscribeRequest subscribe) {
+        this.requestId = requestId;
+        this.command = command;
+        this.subscribe = subscribe;
+    }
+
+    public long requestId() {
+        return requestId;
+    }
+
+    /**
+     * 下单命令，从对象池取出，由处理方归还
+     */
+    public OrderCommand command() {
+        return command;
+    }
+
+    public ExecutionReportSubscribeRequest subscribe() {
+        return subscribe;
+    }
+}
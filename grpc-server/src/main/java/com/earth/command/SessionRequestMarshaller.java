@@ -0,0 +1,113 @@
+package com.earth.command;
+
+import com.earth.base.order.ExecutionReportSubscribeRequest;
+import com.earth.base.order.OrderSessionRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * OrderSession 请求的 marshaller，按 OrderSessionRequest 的格式解析为 {@link SessionRequest}
+ * <p>
+ * 整个请求读入从对象池取出的命令的缓冲区，order 字段的字节原地移到缓冲区开头后由 {@link OrderCommandCodec} 解析，
+ * 与单个下单一样只拷贝一次，不创建 NewOrderRequest。没有 order 字段时立即归还命令
+ */
+public final class SessionRequestMarshaller implements MethodDescriptor.Marshaller<SessionRequest> {
+
+    private static final int REQUEST_ID_TAG = OrderSessionRequest.REQUEST_ID_FIELD_NUMBER << 3;
+
+    private static final int ORDER_TAG = (OrderSessionRequest.ORDER_FIELD_NUMBER << 3) | 2;
+
+    private static final int SUBSCRIBE_TAG = (OrderSessionRequest.SUBSCRIBE_FIELD_NUMBER << 3) | 2;
+
+    private final OrderCommandCodec codec;
+
+    private final OrderCommandPool pool;
+
+    public SessionRequestMarshaller(OrderCommandCodec codec, OrderCommandPool pool) {
+        this.codec = codec;
+        this.pool = pool;
+    }
+
+    @Override
+    public InputStream stream(SessionRequest request) {
+        OrderSessionRequest.Builder builder = OrderSessionRequest.newBuilder().setRequestId(request.requestId());
+        if (request.subscribe() != null) {
+            builder.setSubscribe(request.subscribe());
+        }
+        byte[] head = builder.build().toByteArray();
+        OrderCommand command = request.command();
+        if (command == null) {
+            return new EncodedStream(head);
+        }
+        byte[] bytes = new byte[head.length + 1 + CodedOutputStream.computeUInt32SizeNoTag(command.length) + command.length];
+        System.arraycopy(head, 0, bytes, 0, head.length);
+        int position = head.length;
+        bytes[position++] = (byte) ORDER_TAG;
+        position = OrderAck.writeVarint(bytes, position, command.length);
+        System.arraycopy(command.buffer, 0, bytes, position, command.length);
+        return new EncodedStream(bytes);
+    }
+
+    @Override
+    public SessionRequest parse(InputStream stream) {
+        OrderCommand command = pool.acquire();
+        try {
+            byte[] buffer;
+            int length;
+            if (stream instanceof KnownLength) {
+                length = stream.available();
+                buffer = command.buffer(length + OrderCommand.FROZEN_AMOUNT_MAX_SIZE);
+                OrderCommandMarshaller.readFully(stream, buffer, length);
+            } else {
+                byte[] bytes = stream.readAllBytes();
+                length = bytes.length;
+                buffer = command.buffer(length + OrderCommand.FROZEN_AMOUNT_MAX_SIZE);
+                System.arraycopy(bytes, 0, buffer, 0, length);
+            }
+            long requestId = 0L;
+            int orderOffset = -1;
+            int orderLength = 0;
+            ExecutionReportSubscribeRequest subscribe = null;
+            CodedInputStream input = CodedInputStream.newInstance(buffer, 0, length);
+            while (true) {
+                int tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                } else if (tag == REQUEST_ID_TAG) {
+                    requestId = input.readInt64();
+                } else if (tag == ORDER_TAG) {
+                    // oneof 以最后出现的字段为准
+                    orderLength = input.readRawVarint32();
+                    orderOffset = input.getTotalBytesRead();
+                    if (orderLength < 0 || orderLength > length - orderOffset) {
+                        throw new InvalidProtocolBufferException("truncated order in session request");
+                    }
+                    input.skipRawBytes(orderLength);
+                    subscribe = null;
+                } else if (tag == SUBSCRIBE_TAG) {
+                    subscribe = ExecutionReportSubscribeRequest.parseFrom(input.readBytes());
+                    orderOffset = -1;
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+            }
+            if (orderOffset < 0) {
+                command.recycle();
+                return new SessionRequest(requestId, null, subscribe);
+            }
+            System.arraycopy(buffer, orderOffset, buffer, 0, orderLength);
+            codec.parse(buffer, orderLength, command);
+            return new SessionRequest(requestId, command, null);
+        } catch (IOException e) {
+            command.recycle();
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        }
+    }
+}
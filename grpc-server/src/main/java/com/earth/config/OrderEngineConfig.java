@@ -0,0 +1,103 @@
+package com.earth.config;
+
+import com.earth.command.OrderCommandPool;
+import com.earth.engine.DedupProperties;
+import com.earth.engine.ExpiryProperties;
+import com.earth.engine.OrderEngine;
+import com.earth.engine.OrderShard;
+import com.earth.fee.FeeProperties;
+import com.earth.fee.FeeScheduleCache;
+import com.earth.interceptor.ServerLoadReporter;
+import com.earth.report.ExecutionReportBus;
+import com.earth.risk.BalanceLoader;
+import com.earth.risk.PreTradeRisk;
+import com.earth.risk.RiskProperties;
+import com.earth.sequencer.SequencerProperties;
+import com.earth.sequencer.WaitStrategy;
+import com.earth.service.SessionProperties;
+import com.earth.snapshot.SnapshotProperties;
+import com.earth.snapshot.SnapshotStore;
+import com.earth.symbol.SymbolProperties;
+import com.earth.symbol.SymbolRegistry;
+import com.earth.wal.OrderWal;
+import com.earth.wal.WalProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+@Configuration
+@EnableConfigurationProperties({SequencerProperties.class, SnapshotProperties.class, ExpiryProperties.class, DedupProperties.class,
+        RiskProperties.class, FeeProperties.class, SymbolProperties.class, SessionProperties.class})
+public class OrderEngineConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ExecutionReportBus executionReportBus(OrderWal tradeJournal, SequencerProperties sequencerProperties) {
+        return new ExecutionReportBus(tradeJournal, sequencerProperties.getReportRingSize(), sequencerProperties.getSubscriberQueueCapacity(),
+                OrderEngine.PRICE_SCALE, OrderEngine.QUANTITY_SCALE, OrderEngine.AMOUNT_SCALE);
+    }
+
+    /**
+     * 下单命令对象池，gRPC 线程取出，撮合线程归还
+     */
+    @Bean
+    public OrderCommandPool orderCommandPool(SequencerProperties sequencerProperties) {
+        return new OrderCommandPool(sequencerProperties.getCommandPoolSize());
+    }
+
+    /**
+     * 币对注册表，各分片共用
+     */
+    @Bean
+    public SymbolRegistry symbolRegistry(SymbolProperties symbolProperties) {
+        return new SymbolRegistry(symbolProperties, OrderEngine.PRICE_SCALE, OrderEngine.QUANTITY_SCALE);
+    }
+
+    /**
+     * 余额表按账户分条带，各分片共用
+     */
+    @Bean
+    public PreTradeRisk preTradeRisk(RiskProperties riskProperties, SymbolRegistry symbolRegistry) {
+        return new PreTradeRisk(riskProperties, symbolRegistry, OrderEngine.PRICE_SCALE, OrderEngine.QUANTITY_SCALE, OrderEngine.AMOUNT_SCALE);
+    }
+
+    /**
+     * 启动时加载账户余额，在 gRPC 服务开始接收订单之前完成
+     */
+    @Bean(initMethod = "load")
+    public BalanceLoader balanceLoader(RiskProperties riskProperties, PreTradeRisk preTradeRisk) {
+        return new BalanceLoader(riskProperties, preTradeRisk, OrderEngine.AMOUNT_SCALE);
+    }
+
+    /**
+     * 手续费率表，各分片共用，文件修改后热加载
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public FeeScheduleCache feeScheduleCache(FeeProperties feeProperties, SymbolRegistry symbolRegistry) {
+        return new FeeScheduleCache(feeProperties, symbolRegistry);
+    }
+
+    /**
+     * 每个分片的 WAL、快照放在各自的 shard-N 子目录下
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public OrderEngine orderEngine(ExecutionReportBus executionReportBus, WalProperties walProperties, SnapshotProperties snapshotProperties,
+                                   SequencerProperties sequencerProperties, ExpiryProperties expiryProperties,
+                                   DedupProperties dedupProperties, SymbolRegistry symbolRegistry, PreTradeRisk preTradeRisk,
+                                   FeeScheduleCache feeScheduleCache, FeeProperties feeProperties, ServerLoadReporter loadReporter) throws IOException {
+        OrderShard[] shards = new OrderShard[sequencerProperties.getShards()];
+        for (int i = 0; i < shards.length; i++) {
+            String shardDir = "shard-" + i;
+            OrderWal wal = new OrderWal(Paths.get(walProperties.getDir(), shardDir), walProperties.getSegmentSizeMb() * 1024 * 1024);
+            SnapshotStore snapshotStore = new SnapshotStore(Paths.get(snapshotProperties.getDir(), shardDir), snapshotProperties.getRetained());
+            shards[i] = new OrderShard(i, wal, executionReportBus, snapshotStore, snapshotProperties, expiryProperties, dedupProperties,
+                    symbolRegistry, preTradeRisk, feeScheduleCache, feeProperties.getFeeAccountId(), sequencerProperties.getRingSize(),
+                    WaitStrategy.of(sequencerProperties.getWaitStrategy()));
+        }
+        OrderEngine engine = new OrderEngine(shards, symbolRegistry, expiryProperties.getTickMillis());
+        loadReporter.registerQueue("order-sequencer", engine::backlog);
+        return engine;
+    }
+}
@@ -0,0 +1,23 @@
+package com.earth.config;
+
+import com.earth.wal.OrderWal;
+import com.earth.wal.WalProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+@Configuration
+@EnableConfigurationProperties(WalProperties.class)
+public class WalConfig {
+
+    /**
+     * 成交流水，与订单 WAL 同样的格式，记录全部执行回报
+     */
+    @Bean(destroyMethod = "close")
+    public OrderWal tradeJournal(WalProperties walProperties) throws IOException {
+        return new OrderWal(Paths.get(walProperties.getTradeJournalDir()), walProperties.getSegmentSizeMb() * 1024 * 1024);
+    }
+}
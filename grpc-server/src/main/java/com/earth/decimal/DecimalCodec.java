@@ -0,0 +1,118 @@
+package com.earth.decimal;
+
+import com.earth.base.common.Decimal;
+
+import java.math.BigDecimal;
+
+/**
+ * common.Decimal 与定点 long 之间的转换
+ * <p>
+ * 优先读取 unscaled_value / scale，只做一次 10 的幂乘除；两者都为 0 而 str 不为空时（旧客户端）才解析 str。
+ * str 逐字符解析为定点 long，不创建 BigDecimal，只有科学计数法（1E+3）才退回 BigDecimal
+ * <p>
+ * 两种形式的结果一致：精度超过 scale 的部分向零截断，超出 long 范围抛出 ArithmeticException
+ */
+public final class DecimalCodec {
+
+    private DecimalCodec() {
+    }
+
+    /**
+     * 转换为放大 10^scale 倍的 long，精度超过 scale 的部分截断
+     *
+     * @throws ArithmeticException   超出 long 范围
+     * @throws NumberFormatException str 格式错误
+     */
+    public static long toLong(Decimal decimal, int scale) {
+        if (decimal == null) {
+            return 0L;
+        }
+        long unscaled = decimal.getUnscaledValue();
+        int decimalScale = decimal.getScale();
+        if (unscaled == 0L && decimalScale == 0) {
+            String str = decimal.getStr();
+            return str.isEmpty() ? 0L : parse(str, scale);
+        }
+        return rescale(unscaled, decimalScale, scale);
+    }
+
+    /**
+     * 定点 long 转换为 common.Decimal，只填 unscaled_value / scale
+     */
+    public static Decimal toDecimal(long unscaled, int scale) {
+        return Decimal.newBuilder().setUnscaledValue(unscaled).setScale(scale).build();
+    }
+
+    /**
+     * unscaled * 10^(to - from)，精度降低时向零截断
+     *
+     * @throws ArithmeticException 超出 long 范围
+     */
+    public static long rescale(long unscaled, int from, int to) {
+        int diff = to - from;
+        if (diff == 0 || unscaled == 0L) {
+            return unscaled;
+        }
+        if (diff > 0) {
+            return Math.multiplyExact(unscaled, FixedPoint.pow10(diff));
+        }
+        return -diff > 18 ? 0L : unscaled / FixedPoint.pow10(-diff);
+    }
+
+    /**
+     * 解析十进制字符串为放大 10^scale 倍的 long，格式为 [+-]digits[.digits]，小数位超过 scale 的部分截断
+     *
+     * @throws ArithmeticException   超出 long 范围
+     * @throws NumberFormatException 格式错误
+     */
+    public static long parse(CharSequence str, int scale) {
+        int length = str.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (str.charAt(0) == '-' || str.charAt(0) == '+')) {
+            negative = str.charAt(0) == '-';
+            i++;
+        }
+        // 按负数累加，Long.MIN_VALUE 也能表示
+        long value = 0L;
+        int fractionDigits = -1;
+        boolean digits = false;
+        for (; i < length; i++) {
+            char c = str.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                // 整数部分 fractionDigits 为 -1，总是累加
+                if (fractionDigits < scale) {
+                    try {
+                        value = Math.subtractExact(Math.multiplyExact(value, 10L), c - '0');
+                    } catch (ArithmeticException e) {
+                        // 后面可能还有指数（123...E-10）或非法字符，交给 BigDecimal 判断是溢出还是格式错误
+                        return parseSlow(str, scale);
+                    }
+                    if (fractionDigits >= 0) {
+                        fractionDigits++;
+                    }
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (c == 'e' || c == 'E') {
+                // 科学计数法很少见，交给 BigDecimal
+                return parseSlow(str, scale);
+            } else {
+                throw new NumberFormatException("invalid decimal: " + str);
+            }
+        }
+        if (!digits) {
+            throw new NumberFormatException("invalid decimal: " + str);
+        }
+        int padding = scale - Math.max(fractionDigits, 0);
+        if (padding > 0) {
+            value = Math.multiplyExact(value, FixedPoint.pow10(padding));
+        }
+        return negative ? value : Math.negateExact(value);
+    }
+
+    private static long parseSlow(CharSequence str, int scale) {
+        return new BigDecimal(str.toString()).movePointRight(scale).toBigInteger().longValueExact();
+    }
+}
@@ -0,0 +1,62 @@
+package com.earth.decimal;
+
+/**
+ * 定点 long 运算
+ * <p>
+ * 价格、数量都是放大 10^scale 倍的 long，相乘时中间结果可能超过 64 位，这里用 128 位中间结果计算，不使用 BigDecimal
+ */
+public final class FixedPoint {
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    private FixedPoint() {
+    }
+
+    /**
+     * 10^n，n 取值 [0, 18]
+     */
+    public static long pow10(int n) {
+        if (n < 0 || n >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("power of ten out of range: " + n);
+        }
+        return POWERS_OF_TEN[n];
+    }
+
+    /**
+     * a * b / divisor，向下取整，a、b 非负，divisor 为正
+     *
+     * @throws ArithmeticException 结果超出 long 范围
+     */
+    public static long mulDiv(long a, long b, long divisor) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if (high == 0L && low >= 0L) {
+            return low / divisor;
+        }
+        if (Long.compareUnsigned(high, divisor) >= 0) {
+            throw new ArithmeticException("fixed point overflow: " + a + " * " + b + " / " + divisor);
+        }
+        // 128 位除以 64 位的移位除法，divisor < 2^63，余数左移一位不会溢出
+        long remainder = high;
+        long quotient = 0L;
+        for (int i = 63; i >= 0; i--) {
+            remainder = (remainder << 1) | ((low >>> i) & 1L);
+            quotient <<= 1;
+            if (Long.compareUnsigned(remainder, divisor) >= 0) {
+                remainder -= divisor;
+                quotient |= 1L;
+            }
+        }
+        if (quotient < 0L) {
+            throw new ArithmeticException("fixed point overflow: " + a + " * " + b + " / " + divisor);
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,38 @@
+package com.earth.engine;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 下单幂等配置，按 (account_id, client_order_id) 去重，没有 client_order_id 时按 (account_id, sign_nonce)
+ */
+@Data
+@ConfigurationProperties(prefix = "order.dedup")
+public class DedupProperties {
+
+    /**
+     * 去重时间窗口（秒），窗口内重复提交的订单不再受理
+     */
+    private long windowSeconds = 300L;
+
+    /**
+     * 每个分片最多记录的订单数，超过时提前淘汰最早的记录，窗口随之缩短
+     */
+    private int maxEntries = 1 << 18;
+
+    /**
+     * 重复订单的处理方式
+     */
+    private DuplicatePolicy duplicatePolicy = DuplicatePolicy.REPLAY;
+
+    public enum DuplicatePolicy {
+        /**
+         * 返回原订单的受理结果（原订单 id）
+         */
+        REPLAY,
+        /**
+         * 返回 ALREADY_EXISTS
+         */
+        REJECT
+    }
+}
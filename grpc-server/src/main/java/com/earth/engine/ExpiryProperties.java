@@ -0,0 +1,27 @@
+package com.earth.engine;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * GTD / Today 订单过期配置
+ */
+@Data
+@ConfigurationProperties(prefix = "order.expiry")
+public class ExpiryProperties {
+
+    /**
+     * 时间轮 tick（毫秒），也是空闲时推进撮合时钟的间隔，订单最多晚一个 tick 过期
+     */
+    private long tickMillis = 100L;
+
+    /**
+     * 交易日所在时区
+     */
+    private String tradingDayZone = "UTC";
+
+    /**
+     * 交易日结束时间（HH:mm），日内订单（Today）在此时过期
+     */
+    private String tradingDayEnd = "00:00";
+}
@@ -0,0 +1,226 @@
+package com.earth.engine;
+
+import com.earth.command.OrderCommand;
+import com.google.protobuf.ByteString;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * 下单幂等窗口
+ * <p>
+ * 记录最近 windowMillis 内已受理订单的去重键指纹和订单 id：
+ * <ul>
+ *     <li>指纹：(account_id, client_order_id 或 sign_nonce) 的 64 位哈希，不保存原始字符串，每个条目占用固定内存</li>
+ *     <li>条目按受理顺序存放在环形数组中，过期或容量已满时从最早的开始淘汰，内存和窗口都有上界</li>
+ *     <li>指纹到环形数组下标的索引是线性探测的开放寻址表，删除时回移后续条目，不留墓碑</li>
+ * </ul>
+ * 查找、写入、淘汰都是 O(1)，不分配对象。64 位指纹碰撞的概率可以忽略，碰撞时后一个订单被当作重复订单
+ * <p>
+ * 只允许写 WAL 线程访问
+ */
+@NotThreadSafe
+final class OrderDedupWindow {
+
+    /**
+     * 没有找到时返回的订单 id，订单 id 总是大于 0
+     */
+    static final long NOT_FOUND = 0L;
+
+    /**
+     * 表中的空位，指纹为 0 时改为 1
+     */
+    private static final long EMPTY = 0L;
+
+    private final long windowMillis;
+
+    private final int capacity;
+
+    private final long[] tableKeys;
+
+    private final int[] tablePositions;
+
+    private final int tableMask;
+
+    /**
+     * 环形数组，head 为最早的条目，被单独删除的条目指纹置为 EMPTY
+     */
+    private final long[] keys;
+
+    private final long[] timestamps;
+
+    private final long[] orderIds;
+
+    private int head;
+
+    private int size;
+
+    /**
+     * 因容量已满在窗口内被淘汰的条目数
+     */
+    private long evictedEarly;
+
+    OrderDedupWindow(long windowMillis, int capacity) {
+        this.windowMillis = windowMillis;
+        this.capacity = Math.max(capacity, 16);
+        int tableSize = Integer.highestOneBit(this.capacity - 1) << 2;
+        this.tableKeys = new long[tableSize];
+        this.tablePositions = new int[tableSize];
+        this.tableMask = tableSize - 1;
+        this.keys = new long[this.capacity];
+        this.timestamps = new long[this.capacity];
+        this.orderIds = new long[this.capacity];
+    }
+
+    /**
+     * 去重键指纹，有 client_order_id 时按 client_order_id，否则按 sign_nonce，都没有时返回 0（不去重）
+     */
+    static long fingerprint(OrderCommand command) {
+        ByteString key;
+        long kind;
+        if (!command.clientOrderId().isEmpty()) {
+            key = command.clientOrderId();
+            kind = 1L;
+        } else if (!command.signNonce().isEmpty()) {
+            key = command.signNonce();
+            kind = 2L;
+        } else {
+            return EMPTY;
+        }
+        // FNV-1a（按 UTF-8 字节），再用 murmur3 的 fmix64 打散
+        long hash = 0xcbf29ce484222325L ^ (command.accountId() * 0x9E3779B97F4A7C15L) ^ kind;
+        for (int i = 0, size = key.size(); i < size; i++) {
+            hash = (hash ^ (key.byteAt(i) & 0xFF)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    /**
+     * 查找窗口内的订单 id
+     *
+     * @param now 当前时间（毫秒）
+     * @return 没有找到时返回 NOT_FOUND
+     */
+    long find(long key, long now) {
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return NOT_FOUND;
+        }
+        int position = tablePositions[slot];
+        return timestamps[position] >= now - windowMillis ? orderIds[position] : NOT_FOUND;
+    }
+
+    /**
+     * 记录已受理的订单，先淘汰过期的条目
+     */
+    void put(long key, long orderId, long now) {
+        evict(now);
+        if (size == capacity) {
+            removeHead();
+            evictedEarly++;
+        }
+        int position = head + size;
+        if (position >= capacity) {
+            position -= capacity;
+        }
+        keys[position] = key;
+        timestamps[position] = now;
+        orderIds[position] = orderId;
+        size++;
+
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            // 已过期但还没淘汰的旧条目，索引改指向新条目
+            keys[tablePositions[slot]] = EMPTY;
+            tablePositions[slot] = position;
+            return;
+        }
+        slot = home(key);
+        while (tableKeys[slot] != EMPTY) {
+            slot = (slot + 1) & tableMask;
+        }
+        tableKeys[slot] = key;
+        tablePositions[slot] = position;
+    }
+
+    /**
+     * 删除一个条目，订单最终没有受理时使用
+     */
+    void remove(long key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            keys[tablePositions[slot]] = EMPTY;
+            removeSlot(slot);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long evictedEarly() {
+        return evictedEarly;
+    }
+
+    private void evict(long now) {
+        long expiredBefore = now - windowMillis;
+        while (size > 0 && timestamps[head] < expiredBefore) {
+            removeHead();
+        }
+    }
+
+    private void removeHead() {
+        long key = keys[head];
+        if (key != EMPTY) {
+            int slot = slotOf(key);
+            if (slot >= 0 && tablePositions[slot] == head) {
+                removeSlot(slot);
+            }
+        }
+        keys[head] = EMPTY;
+        head = head + 1 == capacity ? 0 : head + 1;
+        size--;
+    }
+
+    private int slotOf(long key) {
+        int slot = home(key);
+        long existing;
+        while ((existing = tableKeys[slot]) != EMPTY) {
+            if (existing == key) {
+                return slot;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return -1;
+    }
+
+    /**
+     * 删除表中的一个位置，把后续探测链上可以前移的条目移到空出的位置
+     */
+    private void removeSlot(int slot) {
+        int gap = slot;
+        int index = slot;
+        while (true) {
+            index = (index + 1) & tableMask;
+            long key = tableKeys[index];
+            if (key == EMPTY) {
+                break;
+            }
+            int home = home(key);
+            if (((index - home) & tableMask) >= ((index - gap) & tableMask)) {
+                tableKeys[gap] = key;
+                tablePositions[gap] = tablePositions[index];
+                gap = index;
+            }
+        }
+        tableKeys[gap] = EMPTY;
+    }
+
+    private int home(long key) {
+        return (int) (key ^ (key >>> 32)) & tableMask;
+    }
+}
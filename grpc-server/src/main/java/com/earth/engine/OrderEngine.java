@@ -0,0 +1,211 @@
+package com.earth.engine;
+
+import com.earth.command.OrderAck;
+import com.earth.command.OrderCommand;
+import com.earth.command.OrderCommandCodec;
+import com.earth.symbol.SymbolInfo;
+import com.earth.symbol.SymbolRegistry;
+import com.google.protobuf.ByteString;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 订单引擎
+ * <p>
+ * 按 symbol_id 的哈希把订单分到 N 个独立的撮合分片（{@link OrderShard}），每个分片有自己的排序队列、WAL、订单簿和线程。
+ * 同一币对总是进入同一分片，保证币对内严格有序；不同币对并行撮合，吞吐量随分片数（核数）增长
+ * <p>
+ * 分片数决定了币对到分片的映射以及各分片 WAL、快照的内容，部署后不能随意修改
+ * <p>
+ * 入队前在 gRPC 线程查币对注册表（{@link SymbolRegistry}）：未注册、暂停交易，或价格、数量不符合 tick / lot 的订单直接拒绝，
+ * 之后的各阶段只使用币对 id
+ * <p>
+ * order-ticker 线程每个 tick 向各分片投递一次时钟事件，驱动 GTD / Today 订单过期
+ */
+@Slf4j
+public class OrderEngine implements Closeable {
+
+    /**
+     * 价格、数量、金额统一放大 10^8 存放
+     */
+    public static final int PRICE_SCALE = 8;
+
+    public static final int QUANTITY_SCALE = 8;
+
+    public static final int AMOUNT_SCALE = 8;
+
+    private static final Status QUEUE_FULL = Status.RESOURCE_EXHAUSTED.withDescription("order queue full");
+
+    private final OrderShard[] shards;
+
+    private final SymbolRegistry symbolRegistry;
+
+    private final long tickMillis;
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "order-ticker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OrderEngine(OrderShard[] shards, SymbolRegistry symbolRegistry, long tickMillis) {
+        if (shards.length == 0 || shards.length > OrderIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("shard count must be in [1, " + OrderIds.MAX_SHARDS + "]: " + shards.length);
+        }
+        this.shards = shards;
+        this.symbolRegistry = symbolRegistry;
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * 各分片依次恢复后启动
+     */
+    public void start() throws IOException {
+        for (OrderShard shard : shards) {
+            shard.start();
+        }
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("[ENGINE] started, shards: {}", shards.length);
+    }
+
+    /**
+     * 下单命令的解析器，价格、数量、金额换算为引擎精度
+     */
+    public static OrderCommandCodec commandCodec() {
+        return new OrderCommandCodec(PRICE_SCALE, QUANTITY_SCALE, AMOUNT_SCALE);
+    }
+
+    /**
+     * 查找币对，不存在时返回 null
+     */
+    public SymbolInfo symbolOf(ByteString symbolId) {
+        return symbolRegistry.lookup(symbolId);
+    }
+
+    /**
+     * 按币对规格校验订单，通过时返回 null，否则返回拒绝原因
+     * <p>
+     * 只校验价格、触发价是否为 tickSize 的整数倍，数量是否为 lotSize 的整数倍；未给出的字段（0）不校验，由撮合按订单类型判断
+     */
+    public Status validate(OrderCommand command, SymbolInfo symbol) {
+        if (symbol == null) {
+            return Status.INVALID_ARGUMENT.withDescription("unknown symbol: " + command.symbolId().toStringUtf8());
+        }
+        if (!symbol.isTrading()) {
+            return Status.FAILED_PRECONDITION.withDescription("symbol not trading: " + symbol.symbolId());
+        }
+        if (shards[shardOf(symbol)].isHalted()) {
+            return Status.UNAVAILABLE.withDescription("shard halted: " + shardOf(symbol));
+        }
+        boolean stopOrder = command.isStopOrder();
+        if (command.isInvalid(OrderCommand.PRICE | OrderCommand.QUANTITY) || (stopOrder && command.isInvalid(OrderCommand.TRIGGER_PRICE))) {
+            return Status.INVALID_ARGUMENT.withDescription("invalid price or quantity");
+        }
+        if (!symbol.isValidPrice(command.price()) || (stopOrder && !symbol.isValidPrice(command.triggerPrice()))) {
+            return Status.INVALID_ARGUMENT.withDescription("price is not a multiple of tick size");
+        }
+        if (!symbol.isValidQuantity(command.quantity())) {
+            return Status.INVALID_ARGUMENT.withDescription("quantity is not a multiple of lot size");
+        }
+        return null;
+    }
+
+    /**
+     * 订单入队，之后由写 WAL 阶段回调 listener。所在分片队列已满时直接以 RESOURCE_EXHAUSTED 回调并归还命令
+     *
+     * @param symbol 已通过 {@link #validate} 校验的币对
+     */
+    public void publish(OrderCommand command, SymbolInfo symbol, OrderReplyListener listener, int replyIndex) {
+        if (!shards[shardOf(symbol)].publish(command, symbol, listener, replyIndex)) {
+            rejectQueueFull(command, listener, replyIndex);
+        }
+    }
+
+    /**
+     * 批量入队，symbols[i] 为 null 的订单（已经拒绝）跳过。同一分片的订单按请求中的顺序一次入队，
+     * 分片队列放不下该分片的全部订单时，这些订单都以 RESOURCE_EXHAUSTED 回调。回调序号为订单在 commands 中的下标
+     *
+     * @param symbols 与 commands 一一对应，已通过 {@link #validate} 校验的币对
+     */
+    public void publish(OrderCommand[] commands, SymbolInfo[] symbols, OrderReplyListener listener) {
+        // 按分片分组（计数排序，组内保持原顺序）
+        int[] counts = new int[shards.length + 1];
+        for (SymbolInfo symbol : symbols) {
+            if (symbol != null) {
+                counts[shardOf(symbol) + 1]++;
+            }
+        }
+        for (int i = 1; i <= shards.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+        int[] indexes = new int[counts[shards.length]];
+        int[] positions = Arrays.copyOf(counts, shards.length);
+        for (int i = 0; i < symbols.length; i++) {
+            if (symbols[i] != null) {
+                indexes[positions[shardOf(symbols[i])]++] = i;
+            }
+        }
+        for (int shard = 0; shard < shards.length; shard++) {
+            int from = counts[shard];
+            int count = counts[shard + 1] - from;
+            if (count > 0 && !shards[shard].publish(commands, symbols, indexes, from, count, listener)) {
+                for (int k = from; k < from + count; k++) {
+                    rejectQueueFull(commands[indexes[k]], listener, indexes[k]);
+                }
+            }
+        }
+    }
+
+    private void rejectQueueFull(OrderCommand command, OrderReplyListener listener, int replyIndex) {
+        log.warn("[ENGINE] order queue full, reject order, accountId: {}, clientOrderId: {}", command.accountId(), command.clientOrderId().toStringUtf8());
+        command.recycle();
+        listener.onReply(replyIndex, OrderAck.rejected(QUEUE_FULL));
+    }
+
+    /**
+     * 币对所在分片，只取决于 symbol_id，与注册顺序无关
+     */
+    public int shardOf(SymbolInfo symbol) {
+        return Math.floorMod(symbol.routingHash(), shards.length);
+    }
+
+    private void tick() {
+        for (OrderShard shard : shards) {
+            shard.tick();
+        }
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * 全部分片已入队但还没撮合完的订单数
+     */
+    public int backlog() {
+        int backlog = 0;
+        for (OrderShard shard : shards) {
+            backlog += shard.backlog();
+        }
+        return backlog;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        for (OrderShard shard : shards) {
+            try {
+                shard.close();
+            } catch (Exception e) {
+                log.error("[ENGINE] shard {} close error", shard.getShard(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.earth.engine;
+
+import com.earth.command.OrderCommand;
+import io.grpc.Status;
+
+/**
+ * 环形队列槽位，启动时一次性分配，之后只复用
+ * <p>
+ * command 为 null 的是时钟事件，不写 WAL，只用于在没有订单时推进撮合时钟
+ */
+public final class OrderEvent {
+
+    OrderCommand command;
+
+    OrderReplyListener listener;
+
+    /**
+     * 回调时交还的序号，批量下单时为订单在请求中的下标
+     */
+    int replyIndex;
+
+    /**
+     * 币对注册表中的 id，下单时在 gRPC 线程查出，时钟事件为 -1
+     */
+    int symbol;
+
+    /**
+     * 所在分片 WAL 分配的 lsn
+     */
+    long lsn;
+
+    /**
+     * 订单 id，由分片号和 lsn 组成
+     */
+    long orderId;
+
+    /**
+     * 写 WAL 阶段给出的时间（毫秒），单调不减，同时写入 WAL 记录，撮合时钟以此为准
+     */
+    long timestamp;
+
+    /**
+     * 去重键指纹，0 表示不去重
+     */
+    long dedupKey;
+
+    /**
+     * 窗口内的重复订单，orderId 为原订单 id，不写 WAL、不撮合
+     */
+    boolean duplicate;
+
+    /**
+     * 写入 WAL 失败原因，null 表示已落盘
+     */
+    Status failure;
+
+    void set(OrderCommand command, int symbol, OrderReplyListener listener, int replyIndex) {
+        this.command = command;
+        this.symbol = symbol;
+        this.listener = listener;
+        this.replyIndex = replyIndex;
+        this.lsn = 0L;
+        this.orderId = 0L;
+        this.failure = null;
+        this.timestamp = 0L;
+        this.dedupKey = 0L;
+        this.duplicate = false;
+    }
+
+    void setTick() {
+        set(null, -1, null, 0);
+    }
+
+    /**
+     * 撮合处理完后归还下单命令（包括写 WAL 阶段拒绝的订单），之后不再引用
+     */
+    void clear() {
+        if (command != null) {
+            command.recycle();
+        }
+        this.command = null;
+        this.listener = null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.earth.engine;
+
+/**
+ * 订单 id、成交编号的组成：高位为分片号，低 48 位为分片内序号（订单为 WAL lsn，成交为分片内成交序号）
+ * <p>
+ * 各分片独立分配序号，组合后全局唯一，且由订单 id 即可得知所在分片
+ */
+public final class OrderIds {
+
+    static final int SHARD_SHIFT = 48;
+
+    /**
+     * 分片数上限
+     */
+    public static final int MAX_SHARDS = 1 << (Long.SIZE - 1 - SHARD_SHIFT);
+
+    private static final long SEQUENCE_MASK = (1L << SHARD_SHIFT) - 1;
+
+    private OrderIds() {
+    }
+
+    public static long of(int shard, long sequence) {
+        return ((long) shard << SHARD_SHIFT) | sequence;
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id >>> SHARD_SHIFT);
+    }
+
+    public static long sequenceOf(long id) {
+        return id & SEQUENCE_MASK;
+    }
+}
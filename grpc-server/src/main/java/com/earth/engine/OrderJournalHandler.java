@@ -0,0 +1,283 @@
+package com.earth.engine;
+
+import com.earth.book.OrderBook;
+import com.earth.command.OrderAck;
+import com.earth.command.OrderCommand;
+import com.earth.command.OrderCommandCodec;
+import com.earth.risk.PreTradeRisk;
+import com.earth.sequencer.EventHandler;
+import com.earth.sequencer.RingBuffer;
+import com.earth.wal.OrderWal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 第一阶段：写 WAL 并回复
+ * <p>
+ * 逐条追加到 WAL，批末 force 一次（group commit），落盘后再依次回复本批订单。
+ * 撮合阶段只处理本阶段已经推进过的序号，因此撮合看到的订单都已落盘，且 lsn 顺序与排序队列序号一致
+ * <p>
+ * 每个事件（包括时钟事件）都在这里打上单调不减的时间戳，订单的时间戳随记录写入 WAL，回放时撮合时钟与运行时一致
+ * <p>
+ * 写 WAL 之前先查幂等窗口（{@link OrderDedupWindow}），窗口内重复提交的订单不写 WAL、不撮合，
+ * 按配置返回原订单 id 或 ALREADY_EXISTS
+ * <p>
+ * 开启余额风控时，写 WAL 之前冻结订单需要的余额（{@link PreTradeRisk}），余额不足直接拒绝；
+ * 冻结的数额追加在请求字节后一起写入 WAL（field 33，公开的 proto 中为 reserved），没有落盘的订单退回冻结
+ * <p>
+ * force 失败时先从 WAL 中撤销本批未落盘的记录（{@link OrderWal#truncateToDurable()}），再回复失败
+ * <p>
+ * 写入 WAL 的是请求的原始字节（{@link OrderCommand#buffer()}），不重新序列化；冻结数额追加在末尾
+ */
+@Slf4j
+final class OrderJournalHandler implements EventHandler<OrderEvent> {
+
+    private final int shard;
+
+    private final OrderWal wal;
+
+    private final RingBuffer<OrderEvent> ringBuffer;
+
+    /**
+     * 本批第一个序号，-1 表示还没开始新的一批
+     */
+    private long batchStart = -1L;
+
+    /**
+     * 当前批次已经开始处理的最大序号
+     */
+    private long batchEnd = -1L;
+
+    private long lastTimestamp;
+
+    private final OrderDedupWindow dedupWindow;
+
+    private final DedupProperties.DuplicatePolicy duplicatePolicy;
+
+    private final long dedupWindowMillis;
+
+    private final PreTradeRisk risk;
+
+    private final OrderCommandCodec codec = OrderEngine.commandCodec();
+
+    OrderJournalHandler(int shard, OrderWal wal, RingBuffer<OrderEvent> ringBuffer, DedupProperties dedupProperties, PreTradeRisk risk) {
+        this.shard = shard;
+        this.risk = risk;
+        this.wal = wal;
+        this.ringBuffer = ringBuffer;
+        this.lastTimestamp = wal.lastTimestamp();
+        this.dedupWindowMillis = TimeUnit.SECONDS.toMillis(dedupProperties.getWindowSeconds());
+        this.dedupWindow = new OrderDedupWindow(dedupWindowMillis, dedupProperties.getMaxEntries());
+        this.duplicatePolicy = dedupProperties.getDuplicatePolicy();
+        // 快照之前、但还在窗口内的段重启时要用来重建幂等窗口
+        wal.retainWithin(dedupWindowMillis);
+    }
+
+    /**
+     * 启动时用 WAL 中窗口内的记录重建幂等窗口，从第一个与窗口重叠的段开始回放。窗口内的段不会因为快照而删除
+     */
+    void recover() {
+        long start = System.nanoTime();
+        long from = lastTimestamp - dedupWindowMillis;
+        OrderCommand command = new OrderCommand();
+        wal.replay(wal.firstLsnSince(from), (lsn, timestamp, payload) -> {
+            if (timestamp < from) {
+                return;
+            }
+            try {
+                codec.parse(payload, command);
+                long key = OrderDedupWindow.fingerprint(command);
+                if (key != 0L) {
+                    dedupWindow.put(key, OrderIds.of(shard, lsn), timestamp);
+                }
+            } catch (InvalidProtocolBufferException e) {
+                throw new UncheckedIOException("corrupted wal record, lsn: " + lsn, e);
+            }
+        });
+        log.info("[ENGINE] shard {} dedup window recovered, entries: {}, took: {}ms",
+                shard, dedupWindow.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) {
+        if (batchStart < 0) {
+            batchStart = sequence;
+        }
+        batchEnd = sequence;
+        event.timestamp = nextTimestamp();
+        OrderCommand command = event.command;
+        if (command != null && !checkDuplicate(event) && freeze(event)) {
+            try {
+                event.lsn = wal.append(command.buffer(), 0, command.length(), event.timestamp);
+                event.orderId = OrderIds.of(shard, event.lsn);
+                if (event.dedupKey != 0L) {
+                    dedupWindow.put(event.dedupKey, event.orderId, event.timestamp);
+                }
+            } catch (Exception e) {
+                log.error("[ENGINE] wal append failed, accountId: {}, clientOrderId: {}",
+                        command.accountId(), command.clientOrderId().toStringUtf8(), e);
+                event.failure = Status.INTERNAL.withDescription("wal write failed");
+                unfreeze(event);
+            }
+        }
+        if (!endOfBatch) {
+            return;
+        }
+        Status forceFailure = null;
+        long durableLsn = Long.MAX_VALUE;
+        try {
+            wal.force();
+        } catch (Exception e) {
+            log.error("[ENGINE] wal force failed, shard: {}, sequence: {} - {}", shard, batchStart, sequence, e);
+            forceFailure = Status.INTERNAL.withDescription("wal write failed");
+            // 先撤销未落盘的记录再回复失败，避免重启回放时重建出这些订单；批内滚动段时已经落盘的订单照常回复成功
+            durableLsn = wal.truncateToDurable();
+        }
+        for (long s = batchStart; s <= sequence; s++) {
+            OrderEvent pending = ringBuffer.get(s);
+            if (pending.command == null) {
+                continue;
+            }
+            if (forceFailure != null && pending.failure == null && !pending.duplicate && pending.lsn > durableLsn) {
+                pending.failure = forceFailure;
+                // 没有落盘的订单允许重新提交
+                if (pending.dedupKey != 0L) {
+                    dedupWindow.remove(pending.dedupKey);
+                }
+                unfreeze(pending);
+            }
+            reply(pending);
+        }
+        batchStart = -1L;
+    }
+
+    /**
+     * 处理异常使本阶段在批次中途停止时，撤销本批没有落盘的记录并回复失败，不让调用方一直等待。
+     * 本批的序号没有推进，撮合阶段不会处理其中任何订单；回滚时已经随段滚动落盘的订单重启后从 WAL 回放，照常回复成功
+     */
+    @Override
+    public void onShutdown() {
+        if (batchStart < 0) {
+            return;
+        }
+        log.error("[ENGINE] shard {} journal halted in batch, sequence: {} - {}", shard, batchStart, batchEnd);
+        long durableLsn = wal.truncateToDurable();
+        Status failure = Status.UNAVAILABLE.withDescription("shard halted");
+        for (long s = batchStart; s <= batchEnd; s++) {
+            OrderEvent pending = ringBuffer.get(s);
+            if (pending.command == null || pending.listener == null) {
+                continue;
+            }
+            if (pending.failure == null && !pending.duplicate && (pending.lsn == 0L || pending.lsn > durableLsn)) {
+                pending.failure = failure;
+                if (pending.dedupKey != 0L) {
+                    dedupWindow.remove(pending.dedupKey);
+                }
+                // 没有写入 WAL 的订单（抛出异常的那一个）冻结是否完成不确定，不退回
+                if (pending.lsn != 0L) {
+                    unfreeze(pending);
+                }
+            }
+            reply(pending);
+        }
+        batchStart = -1L;
+    }
+
+    /**
+     * 查幂等窗口，重复订单返回 true
+     */
+    private boolean checkDuplicate(OrderEvent event) {
+        long key = OrderDedupWindow.fingerprint(event.command);
+        if (key == 0L) {
+            return false;
+        }
+        long originalOrderId = dedupWindow.find(key, event.timestamp);
+        if (originalOrderId == OrderDedupWindow.NOT_FOUND) {
+            event.dedupKey = key;
+            return false;
+        }
+        event.duplicate = true;
+        event.orderId = originalOrderId;
+        if (duplicatePolicy == DedupProperties.DuplicatePolicy.REJECT) {
+            event.failure = Status.ALREADY_EXISTS.withDescription("duplicate order, orderId: " + originalOrderId);
+        }
+        log.info("[ENGINE] duplicate order, accountId: {}, clientOrderId: {}, signNonce: {}, orderId: {}",
+                event.command.accountId(), event.command.clientOrderId().toStringUtf8(), event.command.signNonce().toStringUtf8(), originalOrderId);
+        return true;
+    }
+
+    /**
+     * 冻结余额并把冻结的数额写入请求，余额不足、币对未配置或价格数量不合法时拒绝，返回 false
+     */
+    private boolean freeze(OrderEvent event) {
+        OrderCommand command = event.command;
+        long frozen = 0L;
+        if (risk.isEnabled()) {
+            if (command.isInvalid(OrderCommand.PRICE | OrderCommand.QUANTITY | OrderCommand.AMOUNT)
+                    || (command.isStopOrder() && command.isInvalid(OrderCommand.TRIGGER_PRICE))) {
+                event.failure = Status.INVALID_ARGUMENT.withDescription("invalid price or quantity");
+                return false;
+            }
+            int side = command.isSell() ? OrderBook.SELL : OrderBook.BUY;
+            try {
+                frozen = risk.freeze(command.accountId(), event.symbol, side, command.orderType(), command.isLiquidation(),
+                        command.price(), command.quantity(), command.amount(), command.triggerPrice());
+            } catch (ArithmeticException e) {
+                // 金额超出范围，无法计算冻结数额
+                event.failure = Status.INVALID_ARGUMENT.withDescription("invalid price or quantity");
+                return false;
+            }
+            if (frozen == PreTradeRisk.INSUFFICIENT_BALANCE) {
+                event.failure = Status.FAILED_PRECONDITION.withDescription("insufficient balance");
+                return false;
+            }
+            if (frozen == PreTradeRisk.UNKNOWN_SYMBOL) {
+                event.failure = Status.INVALID_ARGUMENT.withDescription("unknown symbol: " + command.symbolId().toStringUtf8());
+                return false;
+            }
+        }
+        // 客户端自行带上的 field 33 不可信，总是以服务端冻结的数额为准
+        command.frozenAmount(frozen);
+        return true;
+    }
+
+    private void unfreeze(OrderEvent event) {
+        long frozen = event.command.frozenAmount();
+        if (frozen > 0L) {
+            int side = event.command.isSell() ? OrderBook.SELL : OrderBook.BUY;
+            risk.unfreeze(event.command.accountId(), event.symbol, side, frozen);
+        }
+    }
+
+    /**
+     * 系统时钟回拨时沿用上一个时间戳
+     */
+    private long nextTimestamp() {
+        long now = System.currentTimeMillis();
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+        }
+        return lastTimestamp;
+    }
+
+    private void reply(OrderEvent event) {
+        try {
+            OrderAck ack;
+            if (event.failure != null) {
+                ack = OrderAck.rejected(event.failure);
+            } else {
+                ack = event.duplicate ? OrderAck.duplicate(event.orderId) : OrderAck.accepted(event.orderId);
+            }
+            event.listener.onReply(event.replyIndex, ack);
+        } catch (Exception e) {
+            // 客户端已经取消
+            log.warn("[ENGINE] reply failed, orderId: {}", event.orderId, e);
+        } finally {
+            event.listener = null;
+        }
+    }
+}
@@ -0,0 +1,692 @@
+package com.earth.engine;
+
+import com.earth.base.common.OrderTimeInForceEnum;
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.base.order.OrderStatusEnum;
+import com.earth.book.BookSnapshot;
+import com.earth.book.OrderBook;
+import com.earth.book.StopOrderIndex;
+import com.earth.command.OrderCommand;
+import com.earth.command.OrderCommandCodec;
+import com.earth.decimal.FixedPoint;
+import com.earth.fee.FeeSchedule;
+import com.earth.fee.FeeScheduleCache;
+import com.earth.match.MatchListener;
+import com.earth.match.MatchingEngine;
+import com.earth.report.ExecutionReportBus;
+import com.earth.risk.AccountLedger;
+import com.earth.risk.PreTradeRisk;
+import com.earth.sequencer.EventHandler;
+import com.earth.snapshot.EngineSnapshot;
+import com.earth.snapshot.SnapshotStore;
+import com.earth.snapshot.SnapshotWriter;
+import com.earth.symbol.SymbolRegistry;
+import com.earth.timer.TimeoutListener;
+import com.earth.timer.TimingWheel;
+import com.earth.wal.OrderWal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 第二阶段：撮合，单线程独占订单簿
+ * <p>
+ * 撮合时钟只由事件上的时间戳推进（写 WAL 阶段给出，订单的时间戳同时写入 WAL），不读系统时钟。
+ * 时钟推进时先让时间轮中到期的 GTD / Today 订单过期，再处理订单；空闲时靠时钟事件推进。
+ * 运行时因时钟事件过期的订单，回放时会在下一条记录推进时钟时同样过期，订单簿结果与运行时一致
+ * <p>
+ * 开启余额风控时在撮合线程中结算余额：成交从双方冻结中支付，主动方撮合结束后退回挂单不需要的冻结，
+ * 挂单过期退回剩余冻结。订单冻结的数额只取自 WAL 记录中追加的冻结数额，回放不变更余额，恢复完成后按挂单和止损单重建冻结
+ * <p>
+ * 手续费按服务端费率表计算，从双方收到的资产中扣除。每个订单开始撮合时取一次费率表当前版本，
+ * maker 按挂单上记录的机构、账户解析费率，费率表热更新后对已有挂单同样生效。手续费按资产累计，每批事件结束时一次计入手续费账户
+ */
+@Slf4j
+final class OrderMatchHandler implements EventHandler<OrderEvent>, MatchListener, TimeoutListener<OrderBook> {
+
+    private static final long AMOUNT_DIVISOR = FixedPoint.pow10(OrderEngine.PRICE_SCALE + OrderEngine.QUANTITY_SCALE - OrderEngine.AMOUNT_SCALE);
+
+    private static final int EXPECTED_ORDERS_PER_BOOK = 1 << 16;
+
+    /**
+     * 订单簿，下标为币对注册表中的 id
+     */
+    private OrderBook[] books = new OrderBook[16];
+
+    /**
+     * 本分片的全部订单簿，遍历用
+     */
+    private final List<OrderBook> bookList = new ArrayList<>();
+
+    private final SymbolRegistry symbolRegistry;
+
+    private final MatchingEngine matchingEngine = new MatchingEngine(this, OrderEngine.PRICE_SCALE, OrderEngine.QUANTITY_SCALE, OrderEngine.AMOUNT_SCALE);
+
+    private final ExecutionReportBus reportBus;
+
+    /**
+     * 有过期时间的挂单，id=订单 id，附件为所在订单簿
+     */
+    private final TimingWheel<OrderBook> expiryWheel;
+
+    private final TradingDay tradingDay;
+
+    /**
+     * 撮合时钟（毫秒），最后一个事件的时间戳
+     */
+    private long clock;
+
+    /**
+     * 分片内成交序号，按撮合顺序递增，WAL 回放时同样递增，结果确定
+     */
+    private long lastTradeId;
+
+    /**
+     * 当前主动方订单，撮合回调中使用
+     */
+    private int takerSymbol;
+
+    private String takerSymbolId;
+
+    private int takerSide;
+
+    private long takerQuantity;
+
+    private long takerExecuted;
+
+    private long takerExecutedAmount;
+
+    /**
+     * 最近一次为主动方发布的状态，最终状态与之相同时不再重复发布
+     */
+    private OrderStatusEnum takerReportedStatus;
+
+    private final PreTradeRisk risk;
+
+    /**
+     * 主动方币对的资产，null 表示不结算余额（未开启风控、回放中或币对未配置）
+     */
+    private PreTradeRisk.SymbolAssets takerAssets;
+
+    /**
+     * 主动方下单时是否冻结了余额
+     */
+    private boolean takerLocked;
+
+    /**
+     * 主动方还冻结着的余额
+     */
+    private long takerFrozen;
+
+    /**
+     * 主动方限价，剩余部分挂单时按此计算继续冻结的数额
+     */
+    private long takerPrice;
+
+    /**
+     * 主动方所属机构
+     */
+    private long takerOrgId;
+
+    /**
+     * 主动方费率规则，首笔成交时解析，-1 表示还未解析
+     */
+    private int takerFeeRule;
+
+    private final FeeScheduleCache feeCache;
+
+    /**
+     * 当前订单使用的费率表版本
+     */
+    private FeeSchedule fees;
+
+    /**
+     * 手续费收入账户，0 表示不入账
+     */
+    private final long feeAccountId;
+
+    /**
+     * 本批次按资产累计的手续费，下标为资产 id
+     */
+    private final long[] feeTotals;
+
+    private boolean feePending;
+
+    private final int shard;
+
+    private final SnapshotWriter snapshotWriter;
+
+    private final long snapshotIntervalOrders;
+
+    private final long snapshotIntervalNanos;
+
+    /**
+     * 已处理的最后一条 WAL 记录
+     */
+    private long lastAppliedLsn;
+
+    private long ordersSinceSnapshot;
+
+    private long lastSnapshotNanos = System.nanoTime();
+
+    /**
+     * 启动回放中，不发布回报
+     */
+    private boolean replaying;
+
+    OrderMatchHandler(int shard, ExecutionReportBus reportBus, SnapshotWriter snapshotWriter,
+                      long snapshotIntervalOrders, long snapshotIntervalSeconds, ExpiryProperties expiryProperties,
+                      SymbolRegistry symbolRegistry, PreTradeRisk risk, FeeScheduleCache feeCache, long feeAccountId) {
+        this.shard = shard;
+        this.symbolRegistry = symbolRegistry;
+        this.risk = risk;
+        this.feeCache = feeCache;
+        this.fees = feeCache.current();
+        this.feeAccountId = feeAccountId;
+        this.feeTotals = new long[risk.assetCount()];
+        this.reportBus = reportBus;
+        this.expiryWheel = new TimingWheel<>(expiryProperties.getTickMillis(), EXPECTED_ORDERS_PER_BOOK, this);
+        this.tradingDay = new TradingDay(ZoneId.of(expiryProperties.getTradingDayZone()), LocalTime.parse(expiryProperties.getTradingDayEnd()));
+        this.snapshotWriter = snapshotWriter;
+        this.snapshotIntervalOrders = snapshotIntervalOrders;
+        this.snapshotIntervalNanos = TimeUnit.SECONDS.toNanos(snapshotIntervalSeconds);
+    }
+
+    @Override
+    public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) {
+        advanceClock(event.timestamp);
+        if (event.command != null && event.failure == null && !event.duplicate) {
+            apply(event.lsn, event.command, event.symbol);
+        }
+        event.clear();
+        if (endOfBatch) {
+            flushFees();
+            maybeSnapshot();
+        }
+    }
+
+    /**
+     * 启动时恢复：读取最新快照，再从快照的 lsn 之后回放 WAL。回放期间不发布回报（成交流水中已有）。
+     * 快照间隔决定了最多回放的记录数，恢复时间与历史总长度无关
+     */
+    void recover(SnapshotStore snapshotStore, OrderWal wal) throws IOException {
+        long start = System.nanoTime();
+        Map<String, OrderBook> loadedBooks = new HashMap<>();
+        SnapshotStore.LoadedSnapshot snapshot = snapshotStore.loadLatest(loadedBooks, EXPECTED_ORDERS_PER_BOOK);
+        long snapshotNanos = System.nanoTime() - start;
+        loadedBooks.forEach((symbolId, book) -> addBook(symbolRegistry.register(symbolId).id(), book));
+        if (snapshot != null) {
+            lastAppliedLsn = snapshot.getLastLsn();
+            lastTradeId = snapshot.getLastTradeId();
+            if (snapshot.getLastTimestamp() > 0L) {
+                clock = snapshot.getLastTimestamp();
+                expiryWheel.start(clock);
+                for (OrderBook book : bookList) {
+                    book.forEachOrder(order -> {
+                        if (book.expireTime(order) > 0L) {
+                            expiryWheel.schedule(book.orderId(order), book.expireTime(order), book);
+                        }
+                    });
+                    StopOrderIndex stops = book.stops();
+                    stops.forEachOrder(stop -> {
+                        if (stops.expireTime(stop) > 0L) {
+                            expiryWheel.schedule(stops.orderId(stop), stops.expireTime(stop), book);
+                        }
+                    });
+                }
+            }
+            if (lastAppliedLsn > wal.lastLsn()) {
+                log.error("[ENGINE] snapshot is ahead of wal, shard: {}, snapshot lsn: {}, wal lastLsn: {}", shard, lastAppliedLsn, wal.lastLsn());
+            }
+        }
+        long replayStart = System.nanoTime();
+        long[] replayed = {0L};
+        replaying = true;
+        OrderCommandCodec codec = OrderEngine.commandCodec();
+        OrderCommand command = new OrderCommand();
+        try {
+            wal.replay(lastAppliedLsn + 1, (lsn, timestamp, payload) -> {
+                advanceClock(timestamp);
+                try {
+                    codec.parse(payload, command);
+                    apply(lsn, command, symbolRegistry.register(command.symbolId()).id());
+                } catch (InvalidProtocolBufferException e) {
+                    throw new UncheckedIOException("corrupted wal record, lsn: " + lsn, e);
+                }
+                replayed[0]++;
+            });
+        } finally {
+            replaying = false;
+        }
+        long replayNanos = System.nanoTime() - replayStart;
+        if (risk.isEnabled()) {
+            rebuildFrozen();
+        }
+        int orders = 0;
+        int stopOrders = 0;
+        for (OrderBook book : bookList) {
+            orders += book.size();
+            stopOrders += book.stops().size();
+        }
+        log.info("[ENGINE] shard {} recovered, snapshot: {}, lastLsn: {}, books: {}, resting orders: {}, stop orders: {}, expiring orders: {}, replayed: {}, snapshot load: {}ms, replay: {}ms",
+                shard, snapshot == null ? "none" : snapshot.getFile().getFileName(), lastAppliedLsn, bookList.size(), orders, stopOrders, expiryWheel.size(), replayed[0],
+                TimeUnit.NANOSECONDS.toMillis(snapshotNanos), TimeUnit.NANOSECONDS.toMillis(replayNanos));
+        ordersSinceSnapshot = replayed[0];
+        lastSnapshotNanos = System.nanoTime();
+    }
+
+    /**
+     * 按挂单剩余数量和未触发止损单重建冻结余额。余额表不持久化，重启后由账户服务重新加载可用余额
+     */
+    private void rebuildFrozen() {
+        AccountLedger ledger = risk.ledger();
+        for (OrderBook book : bookList) {
+            PreTradeRisk.SymbolAssets assets = risk.assetsOf(book.symbol());
+            if (assets == null) {
+                continue;
+            }
+            book.forEachOrder(order -> {
+                if (book.isBalanceLocked(order)) {
+                    int side = book.side(order);
+                    ledger.forceFreeze(book.accountId(order), assets.payAsset(side), risk.restingLocked(side, book.price(order), book.remaining(order)));
+                }
+            });
+            StopOrderIndex stops = book.stops();
+            stops.forEachOrder(stop -> {
+                if (stops.frozen(stop) > 0L) {
+                    ledger.forceFreeze(stops.accountId(stop), assets.payAsset(stops.side(stop)), stops.frozen(stop));
+                }
+            });
+        }
+    }
+
+    /**
+     * @param symbol 币对注册表中的 id
+     */
+    private void apply(long lsn, OrderCommand command, int symbol) {
+        lastAppliedLsn = lsn;
+        ordersSinceSnapshot++;
+        long orderId = OrderIds.of(shard, lsn);
+        int side = command.isSell() ? OrderBook.SELL : OrderBook.BUY;
+        long frozen = command.frozenAmount();
+        startTaker(symbol, side, 0L);
+        startSettlement(symbol, frozen, command.orgId());
+        OrderTypeEnum orderType = command.orderType();
+        boolean stopOrder = command.isStopOrder();
+        if (command.isInvalid(OrderCommand.PRICE | OrderCommand.QUANTITY | OrderCommand.AMOUNT)
+                || (stopOrder && command.isInvalid(OrderCommand.TRIGGER_PRICE))) {
+            log.warn("[ENGINE] invalid price or quantity, orderId: {}, symbolId: {}", orderId, symbolRegistry.get(symbol).symbolId());
+            onTakerResult(orderId, command.accountId(), OrderStatusEnum.REJECTED, 0L, 0L, 0L);
+            return;
+        }
+        long price = command.price();
+        long quantity = command.quantity();
+        long amount = command.amount();
+        long triggerPrice = stopOrder ? command.triggerPrice() : 0L;
+        OrderTimeInForceEnum timeInForce = command.timeInForce();
+        long expireTime = expireTimeOf(timeInForce, command.expireTime());
+        if (expireTime < 0L) {
+            log.warn("[ENGINE] GTD order without expire_time, orderId: {}, symbolId: {}", orderId, symbolRegistry.get(symbol).symbolId());
+            onTakerResult(orderId, command.accountId(), OrderStatusEnum.REJECTED, 0L, 0L, 0L);
+            return;
+        }
+        //上薄、撮合
+        OrderBook book = bookOf(symbol);
+        book.markModified();
+        if (stopOrder) {
+            placeStop(book, orderId, command.accountId(), command.orgId(), side, orderType, timeInForce, triggerPrice, price, quantity, amount, expireTime, frozen);
+        } else {
+            submit(book, orderId, command.accountId(), side, orderType, timeInForce, price, quantity, amount, expireTime, frozen);
+        }
+        activateStops(book);
+    }
+
+    /**
+     * 撮合一个订单，剩余部分挂单时标记是否冻结了余额，有过期时间时加入时间轮
+     * <p>
+     * 成交数额事先无法确定的市价单（MARKET_OF_BASE 买单、MARKET_OF_QUOTE 卖单，包括由 STOP 触发的）以冻结的数额作为撮合上限；
+     * 其他订单不把请求中的 amount / quantity 当作上限传给撮合引擎
+     *
+     * @param frozen 下单时冻结的余额
+     */
+    private void submit(OrderBook book, long orderId, long accountId, int side, OrderTypeEnum orderType,
+                        OrderTimeInForceEnum timeInForce, long price, long quantity, long amount, long expireTime, long frozen) {
+        startTaker(book.symbol(), side, quantity);
+        takerPrice = price;
+        long cap = frozen > 0L && risk.requirement(side, orderType, price, quantity, amount, 0L) == PreTradeRisk.ALL ? frozen : 0L;
+        OrderStatusEnum status = matchingEngine.match(book, orderId, accountId, side, orderType, timeInForce, price,
+                orderType == OrderTypeEnum.MARKET_OF_QUOTE ? cap : quantity, orderType == OrderTypeEnum.MARKET_OF_BASE ? cap : amount);
+        if ((expireTime > 0L || frozen > 0L || takerOrgId != 0L) && (status == OrderStatusEnum.NEW || status == OrderStatusEnum.PARTIALLY_FILLED)) {
+            int order = book.find(orderId);
+            if (order != OrderBook.NO_ORDER) {
+                if (takerOrgId != 0L) {
+                    book.orgId(order, takerOrgId);
+                }
+                if (frozen > 0L) {
+                    book.markBalanceLocked(order);
+                }
+                if (expireTime > 0L) {
+                    book.expireAt(order, expireTime, timeInForce == OrderTimeInForceEnum.Today);
+                    expiryWheel.schedule(orderId, expireTime, book);
+                }
+            }
+        }
+    }
+
+    /**
+     * GTD 取请求中的过期时间，Today 取当前交易日结束时间，其余为 0（不过期）；GTD 没有给出过期时间时返回 -1
+     */
+    private long expireTimeOf(OrderTimeInForceEnum timeInForce, long requestedExpireTime) {
+        switch (timeInForce) {
+            case GTD:
+                return requestedExpireTime > 0L ? requestedExpireTime : -1L;
+            case Today:
+                return tradingDay.endOf(clock);
+            default:
+                return 0L;
+        }
+    }
+
+    /**
+     * 推进撮合时钟，先处理到期订单
+     */
+    private void advanceClock(long timestamp) {
+        if (timestamp <= clock) {
+            return;
+        }
+        clock = timestamp;
+        expiryWheel.advanceTo(timestamp);
+    }
+
+    /**
+     * 挂单或未触发的止损单到期，撤下并回报 EXPIRED / DONE_FOR_DAY；已经全部成交的订单不在订单簿中，直接忽略
+     */
+    @Override
+    public void onTimeout(long orderId, OrderBook book) {
+        book.markModified();
+        int order = book.find(orderId);
+        if (order == OrderBook.NO_ORDER) {
+            expireStop(orderId, book);
+            return;
+        }
+        long accountId = book.accountId(order);
+        int side = book.side(order);
+        long quantity = book.quantity(order);
+        long price = book.price(order);
+        boolean locked = book.isBalanceLocked(order);
+        OrderStatusEnum status = book.isDayOrder(order) ? OrderStatusEnum.DONE_FOR_DAY : OrderStatusEnum.EXPIRED;
+        long remaining = book.cancel(orderId);
+        if (!replaying) {
+            PreTradeRisk.SymbolAssets assets = risk.isEnabled() && locked ? risk.assetsOf(book.symbol()) : null;
+            if (assets != null) {
+                risk.ledger().unfreeze(accountId, assets.payAsset(side), risk.restingLocked(side, price, remaining));
+            }
+            reportBus.publishOrder(orderId, accountId, book.getSymbolId(), side, status, quantity - remaining, 0L, remaining);
+        }
+    }
+
+    /**
+     * 未触发的止损单到期，撤下并解冻下单时冻结的余额
+     */
+    private void expireStop(long orderId, OrderBook book) {
+        StopOrderIndex stops = book.stops();
+        int stop = stops.find(orderId);
+        if (stop == OrderBook.NO_ORDER) {
+            return;
+        }
+        long accountId = stops.accountId(stop);
+        int side = stops.side(stop);
+        long quantity = stops.quantity(stop);
+        long frozen = stops.frozen(stop);
+        OrderStatusEnum status = stops.timeInForce(stop) == OrderTimeInForceEnum.Today_VALUE ? OrderStatusEnum.DONE_FOR_DAY : OrderStatusEnum.EXPIRED;
+        stops.remove(stop);
+        stops.release(stop);
+        if (!replaying) {
+            PreTradeRisk.SymbolAssets assets = risk.isEnabled() && frozen > 0L ? risk.assetsOf(book.symbol()) : null;
+            if (assets != null) {
+                risk.ledger().unfreeze(accountId, assets.payAsset(side), frozen);
+            }
+            reportBus.publishOrder(orderId, accountId, book.getSymbolId(), side, status, 0L, 0L, quantity);
+        }
+    }
+
+    /**
+     * 止损单先进入触发索引，回报 NEW，有过期时间时加入时间轮。STOP_LIMIT 触发后为 LIMIT；STOP 触发后为市价单，委托了数量按数量，否则按金额。
+     * 下单时冻结的余额随止损单保留到触发
+     */
+    private void placeStop(OrderBook book, long orderId, long accountId, long orgId, int side, OrderTypeEnum orderType,
+                           OrderTimeInForceEnum timeInForce, long triggerPrice, long price, long quantity, long amount, long expireTime, long frozen) {
+        OrderTypeEnum triggeredType;
+        boolean valid;
+        if (orderType == OrderTypeEnum.STOP_LIMIT) {
+            triggeredType = OrderTypeEnum.LIMIT;
+            valid = price > 0L && quantity > 0L;
+        } else {
+            triggeredType = quantity > 0L ? OrderTypeEnum.MARKET_OF_BASE : OrderTypeEnum.MARKET_OF_QUOTE;
+            valid = quantity > 0L || amount > 0L;
+        }
+        if (!valid || triggerPrice <= 0L || timeInForce == OrderTimeInForceEnum.UNRECOGNIZED) {
+            matchingEngine.reject(orderId, accountId);
+            return;
+        }
+        book.stops().add(orderId, accountId, orgId, side, triggeredType.getNumber(), timeInForce.getNumber(), triggerPrice, price, quantity, amount, expireTime, frozen);
+        if (expireTime > 0L) {
+            expiryWheel.schedule(orderId, expireTime, book);
+        }
+        takerAssets = null;
+        onTakerResult(orderId, accountId, OrderStatusEnum.NEW, 0L, 0L, quantity);
+    }
+
+    /**
+     * 最新成交价变化后依次撮合已触发的止损单
+     * <p>
+     * 触发的订单不再经过 ring buffer 和 WAL：触发只取决于 WAL 中已有记录的撮合结果，回放时会在同一位置再次触发，
+     * 在撮合线程中紧接着当前订单处理，结果与重新排队一致且是确定的。
+     * 触发订单的成交可能继续触发其他止损单，每个订单出堆后才撮合，循环次数不超过止损单总数；没有触发时只比较两个堆顶。
+     * 触发时撤销止损单的定时器，剩余部分挂单时 submit 按同一个过期时间重新加入时间轮；触发时已经过期的直接回报过期
+     */
+    private void activateStops(OrderBook book) {
+        StopOrderIndex stops = book.stops();
+        int stop;
+        while ((stop = stops.pollTriggered(book.lastPrice())) != OrderBook.NO_ORDER) {
+            long orderId = stops.orderId(stop);
+            long accountId = stops.accountId(stop);
+            int side = stops.side(stop);
+            OrderTypeEnum orderType = OrderTypeEnum.forNumber(stops.orderType(stop));
+            OrderTimeInForceEnum timeInForce = OrderTimeInForceEnum.forNumber(stops.timeInForce(stop));
+            long price = stops.price(stop);
+            long quantity = stops.quantity(stop);
+            long amount = stops.amount(stop);
+            long expireTime = stops.expireTime(stop);
+            long frozen = stops.frozen(stop);
+            long orgId = stops.orgId(stop);
+            stops.release(stop);
+            if (expireTime > 0L) {
+                expiryWheel.cancel(orderId);
+            }
+            startSettlement(book.symbol(), frozen, orgId);
+            if (expireTime > 0L && expireTime <= clock) {
+                startTaker(book.symbol(), side, quantity);
+                onTakerResult(orderId, accountId, timeInForce == OrderTimeInForceEnum.Today ? OrderStatusEnum.DONE_FOR_DAY : OrderStatusEnum.EXPIRED,
+                        0L, 0L, quantity);
+                continue;
+            }
+            submit(book, orderId, accountId, side, orderType, timeInForce, price, quantity, amount, expireTime, frozen);
+        }
+    }
+
+    /**
+     * 订单数或时间达到间隔时生成快照
+     * <p>
+     * 撮合线程只拷贝各订单簿的原始类型数组，编码、写文件都在快照线程中完成；上一个快照还没写完时跳过。
+     * 上一个快照之后没有变化的订单簿复用上次的拷贝（{@link OrderBook#snapshot()}），只拷贝有变化的订单簿。
+     * 拷贝期间撮合线程停顿，停顿时间与有变化的订单簿的数组长度（历史最大挂单数）成正比，每次快照的停顿记录在
+     * 快照日志的 copy 中；基准见 OrderBookSnapshotBenchmark
+     */
+    private void maybeSnapshot() {
+        if (ordersSinceSnapshot == 0L || !snapshotWriter.isIdle()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (ordersSinceSnapshot < snapshotIntervalOrders && now - lastSnapshotNanos < snapshotIntervalNanos) {
+            return;
+        }
+        List<BookSnapshot> bookSnapshots = new ArrayList<>(bookList.size());
+        for (OrderBook book : bookList) {
+            bookSnapshots.add(book.snapshot());
+        }
+        long copyNanos = System.nanoTime() - now;
+        if (snapshotWriter.submit(new EngineSnapshot(lastAppliedLsn, lastTradeId, clock, bookSnapshots), copyNanos)) {
+            ordersSinceSnapshot = 0L;
+            lastSnapshotNanos = now;
+        }
+    }
+
+    @Override
+    public void onTrade(long takerOrderId, long takerAccountId, long makerOrderId, long makerAccountId, long makerOrgId,
+                        int takerSide, long price, long quantity, long makerQuantity, long makerRemaining, boolean makerLocked) {
+        //成交
+        long tradeId = OrderIds.of(shard, ++lastTradeId);
+        if (makerRemaining == 0L && expiryWheel.size() > 0) {
+            expiryWheel.cancel(makerOrderId);
+        }
+        if (replaying) {
+            return;
+        }
+        long tradeAmount = FixedPoint.mulDiv(price, quantity, AMOUNT_DIVISOR);
+        if (takerFeeRule < 0) {
+            takerFeeRule = fees.resolve(takerOrgId, takerAccountId, takerSymbol);
+        }
+        // 买方收到基础资产，卖方收到计价资产
+        long takerFee = fees.takerFee(takerFeeRule, takerSide == OrderBook.BUY ? quantity : tradeAmount);
+        long makerFee = fees.makerFee(fees.resolve(makerOrgId, makerAccountId, takerSymbol), takerSide == OrderBook.BUY ? tradeAmount : quantity);
+        if (takerAssets != null) {
+            settle(takerAccountId, makerAccountId, takerSide, price, quantity, tradeAmount, makerRemaining, makerLocked, takerFee, makerFee);
+        }
+        takerExecuted += quantity;
+        takerExecutedAmount += tradeAmount;
+        long takerLeaves = Math.max(0L, takerQuantity - takerExecuted);
+        takerReportedStatus = takerQuantity > 0L && takerLeaves == 0L ? OrderStatusEnum.FILLED : OrderStatusEnum.PARTIALLY_FILLED;
+        reportBus.publishTrade(takerOrderId, takerAccountId, takerSymbolId, takerSide, takerReportedStatus,
+                tradeId, price, quantity, takerExecuted, takerExecutedAmount, takerLeaves, false, makerOrderId, takerFee);
+        reportBus.publishTrade(makerOrderId, makerAccountId, takerSymbolId, 1 - takerSide,
+                makerRemaining == 0L ? OrderStatusEnum.FILLED : OrderStatusEnum.PARTIALLY_FILLED,
+                tradeId, price, quantity, makerQuantity - makerRemaining, 0L, makerRemaining, true, takerOrderId, makerFee);
+    }
+
+    @Override
+    public void onTakerResult(long orderId, long accountId, OrderStatusEnum status,
+                              long executedQuantity, long executedAmount, long remainingQuantity) {
+        if (!replaying && status != takerReportedStatus) {
+            reportBus.publishOrder(orderId, accountId, takerSymbolId, takerSide, status, executedQuantity, executedAmount, remainingQuantity);
+        }
+        if (takerAssets != null && takerLocked) {
+            // 挂单只保留剩余数量需要的冻结，其余退回
+            long keep = status == OrderStatusEnum.NEW || status == OrderStatusEnum.PARTIALLY_FILLED
+                    ? risk.restingLocked(takerSide, takerPrice, remainingQuantity) : 0L;
+            risk.ledger().unfreeze(accountId, takerAssets.payAsset(takerSide), takerFrozen - keep);
+            takerFrozen = keep;
+        }
+    }
+
+    /**
+     * 成交结算：买方支付计价资产、收到基础资产，卖方相反。冻结了余额的一方从冻结中支付，
+     * maker 释放的冻结按挂单价和成交前后剩余数量计算，与挂单时冻结的数额一致。手续费从收到的资产中扣除
+     */
+    private void settle(long takerAccountId, long makerAccountId, int takerSide, long price, long quantity,
+                        long tradeAmount, long makerRemaining, boolean makerLocked, long takerFee, long makerFee) {
+        AccountLedger ledger = risk.ledger();
+        int makerSide = 1 - takerSide;
+        long takerPays = takerSide == OrderBook.BUY ? tradeAmount : quantity;
+        long makerPays = takerSide == OrderBook.BUY ? quantity : tradeAmount;
+        long takerReleased = takerLocked ? takerPays : 0L;
+        long makerReleased = makerLocked
+                ? risk.restingLocked(makerSide, price, makerRemaining + quantity) - risk.restingLocked(makerSide, price, makerRemaining) : 0L;
+        takerFrozen -= takerReleased;
+        ledger.settle(takerAccountId, takerAssets.payAsset(takerSide), takerReleased, takerPays, takerAssets.receiveAsset(takerSide), makerPays - takerFee);
+        ledger.settle(makerAccountId, takerAssets.payAsset(makerSide), makerReleased, makerPays, takerAssets.receiveAsset(makerSide), takerPays - makerFee);
+        if (feeAccountId != 0L) {
+            feeTotals[takerAssets.receiveAsset(takerSide)] += takerFee;
+            feeTotals[takerAssets.receiveAsset(makerSide)] += makerFee;
+            feePending = true;
+        }
+    }
+
+    /**
+     * 本批次累计的手续费计入手续费账户，返佣为负数时从手续费账户扣减
+     */
+    private void flushFees() {
+        if (!feePending) {
+            return;
+        }
+        AccountLedger ledger = risk.ledger();
+        for (int asset = 0; asset < feeTotals.length; asset++) {
+            if (feeTotals[asset] != 0L) {
+                ledger.credit(feeAccountId, asset, feeTotals[asset]);
+                feeTotals[asset] = 0L;
+            }
+        }
+        feePending = false;
+    }
+
+    /**
+     * 开始结算一个主动方订单，取费率表当前版本
+     *
+     * @param frozen 下单时冻结的余额
+     * @param orgId  主动方所属机构
+     */
+    private void startSettlement(int symbol, long frozen, long orgId) {
+        takerAssets = risk.isEnabled() && !replaying ? risk.assetsOf(symbol) : null;
+        takerLocked = frozen > 0L;
+        takerFrozen = frozen;
+        takerPrice = 0L;
+        takerOrgId = orgId;
+        takerFeeRule = -1;
+        fees = feeCache.current();
+    }
+
+    private void startTaker(int symbol, int side, long quantity) {
+        takerSymbol = symbol;
+        takerSymbolId = symbolRegistry.get(symbol).symbolId();
+        takerSide = side;
+        takerQuantity = quantity;
+        takerExecuted = 0L;
+        takerExecutedAmount = 0L;
+        takerReportedStatus = null;
+    }
+
+    /**
+     * 币对的订单簿，不存在时创建
+     */
+    private OrderBook bookOf(int symbol) {
+        OrderBook book = symbol < books.length ? books[symbol] : null;
+        if (book == null) {
+            book = new OrderBook(symbolRegistry.get(symbol).symbolId(), EXPECTED_ORDERS_PER_BOOK);
+            addBook(symbol, book);
+        }
+        return book;
+    }
+
+    private void addBook(int symbol, OrderBook book) {
+        if (symbol >= books.length) {
+            books = Arrays.copyOf(books, Math.max(books.length * 2, symbol + 1));
+        }
+        book.symbol(symbol);
+        books[symbol] = book;
+        bookList.add(book);
+    }
+
+    OrderBook book(int symbol) {
+        return symbol < books.length ? books[symbol] : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.earth.engine;
+
+import com.earth.command.OrderAck;
+
+/**
+ * 下单结果回调
+ * <p>
+ * 每个入队的订单恰好回调一次：写 WAL 阶段在本批落盘后（或拒绝、重复时）调用，队列已满时在入队线程调用。
+ * 同一个回调可以接收一批订单的结果，index 是入队时给出的序号，原样交还；一批订单可能分布在多个分片，
+ * 回调可能在多个写 WAL 线程中并发调用
+ */
+@FunctionalInterface
+public interface OrderReplyListener {
+
+    /**
+     * @param index 入队时给出的序号
+     * @param ack   受理结果，被拒绝时 {@link OrderAck#isRejected()} 为 true
+     */
+    void onReply(int index, OrderAck ack);
+}
@@ -0,0 +1,196 @@
+package com.earth.engine;
+
+import com.earth.command.OrderCommand;
+import com.earth.fee.FeeScheduleCache;
+import com.earth.report.ExecutionReportBus;
+import com.earth.risk.PreTradeRisk;
+import com.earth.sequencer.BatchEventProcessor;
+import com.earth.sequencer.RingBuffer;
+import com.earth.sequencer.WaitStrategy;
+import com.earth.snapshot.SnapshotProperties;
+import com.earth.snapshot.SnapshotStore;
+import com.earth.snapshot.SnapshotWriter;
+import com.earth.symbol.SymbolInfo;
+import com.earth.symbol.SymbolRegistry;
+import com.earth.wal.OrderWal;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 撮合分片
+ * <p>
+ * gRPC 处理线程（多生产者）把订单写入本分片的环形队列（批量下单时一批订单一次领取、发布），由两个单线程阶段依次消费：
+ * <pre>
+ * gRPC 线程 --publish--> RingBuffer --> order-journal-N（写 WAL、批量落盘、回复） --> order-matching-N（上薄、撮合）
+ *                                                                                          |
+ *                                                         ExecutionReportBus <--回报-------+
+ * </pre>
+ * 每个分片有独立的 WAL、快照、订单簿和线程，分片之间不共享可变状态。
+ * 排序队列序号决定分片内订单的顺序，撮合线程独占订单簿，无需加锁
+ * <p>
+ * 启动时先从最新快照和 WAL 尾部恢复订单簿，再开始接收订单
+ * <p>
+ * 没有订单时由 {@link #tick()} 投递时钟事件推进撮合时钟，使到期订单按时过期
+ * <p>
+ * 任一阶段处理事件时抛出异常，该阶段停止（{@link BatchEventProcessor}），分片进入 halted 状态不再接收订单，
+ * 已入队、排在故障事件之后的订单不会被处理，需要重启分片从 WAL 恢复
+ */
+@Slf4j
+public class OrderShard implements Closeable {
+
+    private static final long DRAIN_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+    @Getter
+    private final int shard;
+
+    private final OrderWal wal;
+
+    private final SnapshotStore snapshotStore;
+
+    private final SnapshotWriter snapshotWriter;
+
+    private final RingBuffer<OrderEvent> ringBuffer;
+
+    private final OrderJournalHandler journalHandler;
+
+    private final OrderMatchHandler matchHandler;
+
+    private final BatchEventProcessor<OrderEvent> journalProcessor;
+
+    private final BatchEventProcessor<OrderEvent> matchProcessor;
+
+    private final Thread journalThread;
+
+    private final Thread matchThread;
+
+    public OrderShard(int shard, OrderWal wal, ExecutionReportBus reportBus, SnapshotStore snapshotStore,
+                      SnapshotProperties snapshotProperties, ExpiryProperties expiryProperties, DedupProperties dedupProperties,
+                      SymbolRegistry symbolRegistry, PreTradeRisk risk, FeeScheduleCache feeCache, long feeAccountId,
+                      int ringSize, WaitStrategy waitStrategy) {
+        this.shard = shard;
+        this.wal = wal;
+        this.snapshotStore = snapshotStore;
+        this.snapshotWriter = new SnapshotWriter(snapshotStore, wal);
+        this.ringBuffer = RingBuffer.create(OrderEvent::new, ringSize, waitStrategy);
+        this.matchHandler = new OrderMatchHandler(shard, reportBus, snapshotWriter,
+                snapshotProperties.getIntervalOrders(), snapshotProperties.getIntervalSeconds(), expiryProperties, symbolRegistry, risk,
+                feeCache, feeAccountId);
+        this.journalHandler = new OrderJournalHandler(shard, wal, ringBuffer, dedupProperties, risk);
+        this.journalProcessor = new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(), journalHandler);
+        this.matchProcessor = new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(journalProcessor.getSequence()), matchHandler);
+        // 撮合是最后一个阶段，生产者不能覆盖撮合还没处理的槽位
+        ringBuffer.addGatingSequences(matchProcessor.getSequence());
+        this.journalThread = new Thread(journalProcessor, "order-journal-" + shard);
+        this.matchThread = new Thread(matchProcessor, "order-matching-" + shard);
+    }
+
+    public void start() throws IOException {
+        matchHandler.recover(snapshotStore, wal);
+        journalHandler.recover();
+        journalThread.start();
+        matchThread.start();
+        log.info("[ENGINE] shard {} started, ring size: {}", shard, ringBuffer.getBufferSize());
+    }
+
+    /**
+     * 写 WAL 或撮合阶段因处理异常已经停止
+     */
+    public boolean isHalted() {
+        return journalProcessor.getFailure() != null || matchProcessor.getFailure() != null;
+    }
+
+    /**
+     * 订单入队，队列已满或分片已停止时返回 false
+     */
+    public boolean publish(OrderCommand command, SymbolInfo symbol, OrderReplyListener listener, int replyIndex) {
+        if (isHalted()) {
+            return false;
+        }
+        long sequence = ringBuffer.tryNext();
+        if (sequence < 0) {
+            return false;
+        }
+        try {
+            ringBuffer.get(sequence).set(command, symbol.id(), listener, replyIndex);
+        } finally {
+            // 序号已领取，无论如何都要发布，否则后续序号都会被卡住
+            ringBuffer.publish(sequence);
+        }
+        return true;
+    }
+
+    /**
+     * 一批订单一次领取连续的序号、一次发布，在队列中保持给定的顺序。剩余容量不足以放下整批、或分片已停止时全部不入队，返回 false
+     *
+     * @param indexes 本分片的订单在 commands 中的下标，[from, from + count) 有效，同时作为回调序号
+     */
+    public boolean publish(OrderCommand[] commands, SymbolInfo[] symbols, int[] indexes, int from, int count, OrderReplyListener listener) {
+        if (count > ringBuffer.getBufferSize() || isHalted()) {
+            return false;
+        }
+        long hi = ringBuffer.tryNext(count);
+        if (hi < 0) {
+            return false;
+        }
+        long lo = hi - count + 1;
+        try {
+            for (int k = 0; k < count; k++) {
+                int index = indexes[from + k];
+                ringBuffer.get(lo + k).set(commands[index], symbols[index].id(), listener, index);
+            }
+        } finally {
+            ringBuffer.publish(lo, hi);
+        }
+        return true;
+    }
+
+    /**
+     * 投递时钟事件，队列已满时放弃（队列中的订单同样会推进时钟）
+     */
+    public void tick() {
+        long sequence = ringBuffer.tryNext();
+        if (sequence < 0) {
+            return;
+        }
+        ringBuffer.get(sequence).setTick();
+        ringBuffer.publish(sequence);
+    }
+
+    /**
+     * 已入队但还没撮合完的订单数
+     */
+    public int backlog() {
+        return (int) ringBuffer.backlog();
+    }
+
+    /**
+     * 等待已入队订单处理完后停止，并关闭本分片的 WAL
+     */
+    @Override
+    public void close() throws IOException {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        while (ringBuffer.backlog() > 0 && !isHalted() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        journalProcessor.halt();
+        matchProcessor.halt();
+        try {
+            journalThread.join(DRAIN_TIMEOUT_MS);
+            matchThread.join(DRAIN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshotWriter.close();
+        wal.close();
+        log.info("[ENGINE] shard {} stopped, backlog: {}", shard, ringBuffer.backlog());
+    }
+}
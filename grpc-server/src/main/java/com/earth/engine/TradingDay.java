@@ -0,0 +1,47 @@
+package com.earth.engine;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 交易日边界，计算日内订单（Today）的过期时间
+ * <p>
+ * 结果按交易日缓存，只有时间跨过当前交易日时才重新计算
+ */
+final class TradingDay {
+
+    private final ZoneId zone;
+
+    private final LocalTime endOfDay;
+
+    /**
+     * 缓存的交易日 [start, end)
+     */
+    private long start = Long.MAX_VALUE;
+
+    private long end = Long.MIN_VALUE;
+
+    TradingDay(ZoneId zone, LocalTime endOfDay) {
+        this.zone = zone;
+        this.endOfDay = endOfDay;
+    }
+
+    /**
+     * timestamp 所在交易日的结束时间（毫秒）
+     */
+    long endOf(long timestamp) {
+        if (timestamp >= start && timestamp < end) {
+            return end;
+        }
+        ZonedDateTime time = Instant.ofEpochMilli(timestamp).atZone(zone);
+        ZonedDateTime dayEnd = time.with(endOfDay);
+        if (!dayEnd.isAfter(time)) {
+            dayEnd = dayEnd.plusDays(1);
+        }
+        end = dayEnd.toInstant().toEpochMilli();
+        start = dayEnd.minusDays(1).toInstant().toEpochMilli();
+        return end;
+    }
+}
@@ -0,0 +1,37 @@
+package com.earth.fee;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 手续费率配置
+ */
+@Data
+@ConfigurationProperties(prefix = "order.fee")
+public class FeeProperties {
+
+    /**
+     * 费率表没有匹配规则时的 maker 费率
+     */
+    private String defaultMakerRate = "0.001";
+
+    /**
+     * 费率表没有匹配规则时的 taker 费率
+     */
+    private String defaultTakerRate = "0.001";
+
+    /**
+     * 费率表文件，为空时只使用默认费率。格式见 {@link FeeSchedule#parse(long, java.util.List, long, long, com.earth.symbol.SymbolRegistry)}
+     */
+    private String scheduleFile = "";
+
+    /**
+     * 检查费率表文件是否修改的间隔（秒）
+     */
+    private long reloadSeconds = 30L;
+
+    /**
+     * 手续费入账的账户，开启余额风控时成交手续费按批计入该账户，0 表示不入账
+     */
+    private long feeAccountId = 0L;
+}
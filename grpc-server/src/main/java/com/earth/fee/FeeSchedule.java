@@ -0,0 +1,259 @@
+package com.earth.fee;
+
+import com.earth.collection.LongIntHashMap;
+import com.earth.decimal.FixedPoint;
+import com.earth.symbol.SymbolInfo;
+import com.earth.symbol.SymbolRegistry;
+
+import javax.annotation.concurrent.Immutable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 手续费率表，一个版本一个不可变实例
+ * <p>
+ * 费率在加载时换算为放大 10^RATE_SCALE 倍的 long，成交时只做一次定点乘除，不解析字符串、不用 BigDecimal。
+ * 规则按 (org_id, account_id, symbol_id) 匹配，优先级从高到低：
+ * <ol>
+ *     <li>账户 + 币对</li>
+ *     <li>账户</li>
+ *     <li>机构 + 币对</li>
+ *     <li>机构</li>
+ *     <li>币对</li>
+ *     <li>默认费率</li>
+ * </ol>
+ * 币对按注册表中的 id 做数组下标，每一级最多一次原始类型哈希表查找，resolve 不分配对象。
+ * 解析结果是规则下标，只在同一个实例内有效
+ */
+@Immutable
+public final class FeeSchedule {
+
+    public static final int RATE_SCALE = 8;
+
+    private static final long RATE_ONE = FixedPoint.pow10(RATE_SCALE);
+
+    private static final String ANY = "*";
+
+    /**
+     * 默认费率的规则下标
+     */
+    private static final int DEFAULT_RULE = 0;
+
+    private static final int NO_RULE = -1;
+
+    private static final int NO_SYMBOL = -1;
+
+    private final long version;
+
+    /**
+     * maker 费率，已扣除 maker_bonus_rate，负数为返佣
+     */
+    private final long[] makerRates;
+
+    private final long[] takerRates;
+
+    /**
+     * 下标为币对 id，value=account_id -> 规则
+     */
+    private final LongIntHashMap[] accountSymbolRules;
+
+    private final LongIntHashMap accountRules;
+
+    /**
+     * 下标为币对 id，value=org_id -> 规则
+     */
+    private final LongIntHashMap[] orgSymbolRules;
+
+    private final LongIntHashMap orgRules;
+
+    /**
+     * 下标为币对 id，NO_RULE 表示该币对没有单独的规则
+     */
+    private final int[] symbolRules;
+
+    private FeeSchedule(long version, long[] makerRates, long[] takerRates, LongIntHashMap[] accountSymbolRules,
+                        LongIntHashMap accountRules, LongIntHashMap[] orgSymbolRules, LongIntHashMap orgRules,
+                        int[] symbolRules) {
+        this.version = version;
+        this.makerRates = makerRates;
+        this.takerRates = takerRates;
+        this.accountSymbolRules = accountSymbolRules;
+        this.accountRules = accountRules;
+        this.orgSymbolRules = orgSymbolRules;
+        this.orgRules = orgRules;
+        this.symbolRules = symbolRules;
+    }
+
+    /**
+     * 解析费率表，每行一条规则：
+     * <pre>
+     * org_id,account_id,symbol_id,maker_rate,taker_rate[,maker_bonus_rate]
+     * </pre>
+     * id 为 * 表示不限；同时给出 org_id 和 account_id 时按账户规则处理。空行和 # 开头的行忽略，同一个键后出现的规则覆盖前面的。
+     * 规则中的币对在注册表中查找（非严格模式下未注册的币对随之注册），之后才注册的币对只匹配不限币对的规则
+     *
+     * @throws IllegalArgumentException 格式错误、币对不存在，或费率精度超过 RATE_SCALE
+     */
+    public static FeeSchedule parse(long version, List<String> lines, long defaultMakerRate, long defaultTakerRate, SymbolRegistry symbolRegistry) {
+        List<long[]> rates = new ArrayList<>();
+        rates.add(new long[]{defaultMakerRate, defaultTakerRate});
+        int symbols = symbolRegistry.size();
+        LongIntHashMap[] accountSymbolRules = new LongIntHashMap[symbols];
+        LongIntHashMap accountRules = new LongIntHashMap(16, NO_RULE);
+        LongIntHashMap[] orgSymbolRules = new LongIntHashMap[symbols];
+        LongIntHashMap orgRules = new LongIntHashMap(16, NO_RULE);
+        int[] symbolRules = new int[symbols];
+        Arrays.fill(symbolRules, NO_RULE);
+        for (int lineNo = 1; lineNo <= lines.size(); lineNo++) {
+            String line = lines.get(lineNo - 1).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length != 5 && fields.length != 6) {
+                throw new IllegalArgumentException("fee rule must have 5 or 6 fields, line " + lineNo + ": " + line);
+            }
+            String org = fields[0].trim();
+            String account = fields[1].trim();
+            String symbolId = fields[2].trim();
+            int symbol = NO_SYMBOL;
+            if (!ANY.equals(symbolId)) {
+                SymbolInfo symbolInfo = symbolRegistry.lookup(symbolId);
+                if (symbolInfo == null) {
+                    throw new IllegalArgumentException("unknown symbol, line " + lineNo + ": " + line);
+                }
+                symbol = symbolInfo.id();
+                if (symbol >= symbols) {
+                    // lookup 刚注册的币对（或其他线程同时注册的），按注册表当前大小扩容
+                    symbols = Math.max(symbolRegistry.size(), symbol + 1);
+                    accountSymbolRules = Arrays.copyOf(accountSymbolRules, symbols);
+                    orgSymbolRules = Arrays.copyOf(orgSymbolRules, symbols);
+                    int oldSize = symbolRules.length;
+                    symbolRules = Arrays.copyOf(symbolRules, symbols);
+                    Arrays.fill(symbolRules, oldSize, symbols, NO_RULE);
+                }
+            }
+            long makerRate;
+            long takerRate;
+            try {
+                long bonusRate = fields.length == 6 ? parseRate(fields[5]) : 0L;
+                makerRate = Math.subtractExact(parseRate(fields[3]), bonusRate);
+                takerRate = parseRate(fields[4]);
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new IllegalArgumentException("invalid fee rate, line " + lineNo + ": " + line, e);
+            }
+            int rule = rates.size();
+            rates.add(new long[]{makerRate, takerRate});
+            if (!ANY.equals(account)) {
+                long accountId = Long.parseLong(account);
+                if (symbol == NO_SYMBOL) {
+                    accountRules.put(accountId, rule);
+                } else {
+                    rulesOf(accountSymbolRules, symbol).put(accountId, rule);
+                }
+            } else if (!ANY.equals(org)) {
+                long orgId = Long.parseLong(org);
+                if (symbol == NO_SYMBOL) {
+                    orgRules.put(orgId, rule);
+                } else {
+                    rulesOf(orgSymbolRules, symbol).put(orgId, rule);
+                }
+            } else if (symbol != NO_SYMBOL) {
+                symbolRules[symbol] = rule;
+            } else {
+                // 全部为 *，覆盖默认费率
+                rates.set(DEFAULT_RULE, rates.get(rule));
+            }
+        }
+        long[] makerRates = new long[rates.size()];
+        long[] takerRates = new long[rates.size()];
+        for (int i = 0; i < rates.size(); i++) {
+            makerRates[i] = rates.get(i)[0];
+            takerRates[i] = rates.get(i)[1];
+        }
+        return new FeeSchedule(version, makerRates, takerRates, accountSymbolRules, accountRules, orgSymbolRules, orgRules, symbolRules);
+    }
+
+    /**
+     * 费率字符串换算为定点 long，如 0.001 -> 100000
+     *
+     * @throws ArithmeticException 精度超过 RATE_SCALE 或超出 long 范围
+     */
+    public static long parseRate(String rate) {
+        return new BigDecimal(rate.trim()).setScale(RATE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 按优先级匹配规则，返回规则下标
+     *
+     * @param symbol 币对注册表中的 id
+     */
+    public int resolve(long orgId, long accountId, int symbol) {
+        int rule = find(accountSymbolRules, symbol, accountId);
+        if (rule != NO_RULE) {
+            return rule;
+        }
+        rule = accountRules.get(accountId);
+        if (rule != NO_RULE) {
+            return rule;
+        }
+        rule = find(orgSymbolRules, symbol, orgId);
+        if (rule != NO_RULE) {
+            return rule;
+        }
+        rule = orgRules.get(orgId);
+        if (rule != NO_RULE) {
+            return rule;
+        }
+        rule = symbol < symbolRules.length ? symbolRules[symbol] : NO_RULE;
+        return rule != NO_RULE ? rule : DEFAULT_RULE;
+    }
+
+    public long makerRate(int rule) {
+        return makerRates[rule];
+    }
+
+    public long takerRate(int rule) {
+        return takerRates[rule];
+    }
+
+    /**
+     * maker 手续费，按收到的数额计算，向下取整；负数为返佣
+     */
+    public long makerFee(int rule, long received) {
+        return fee(received, makerRates[rule]);
+    }
+
+    /**
+     * taker 手续费，按收到的数额计算，向下取整
+     */
+    public long takerFee(int rule, long received) {
+        return fee(received, takerRates[rule]);
+    }
+
+    private static long fee(long received, long rate) {
+        if (rate >= 0L) {
+            return FixedPoint.mulDiv(received, rate, RATE_ONE);
+        }
+        return -FixedPoint.mulDiv(received, -rate, RATE_ONE);
+    }
+
+    private static int find(LongIntHashMap[] rulesBySymbol, int symbol, long id) {
+        LongIntHashMap rules = symbol < rulesBySymbol.length ? rulesBySymbol[symbol] : null;
+        return rules == null ? NO_RULE : rules.get(id);
+    }
+
+    private static LongIntHashMap rulesOf(LongIntHashMap[] rulesBySymbol, int symbol) {
+        if (rulesBySymbol[symbol] == null) {
+            rulesBySymbol[symbol] = new LongIntHashMap(16, NO_RULE);
+        }
+        return rulesBySymbol[symbol];
+    }
+}
@@ -0,0 +1,114 @@
+package com.earth.fee;
+
+import com.earth.symbol.SymbolRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ObjectUtils;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 手续费率表缓存
+ * <p>
+ * 费率表整体不可变（{@link FeeSchedule}），文件修改后由后台线程重新解析出新版本并替换引用（copy-on-write），
+ * 撮合线程只读 volatile 引用，不加锁。新文件解析失败时保留当前版本
+ * <p>
+ * 下单请求中的 maker_fee_rate / taker_fee_rate / maker_bonus_rate 不再使用，费率只以服务端费率表为准
+ */
+@Slf4j
+@ThreadSafe
+public class FeeScheduleCache implements Closeable {
+
+    private final Path file;
+
+    private final long reloadSeconds;
+
+    private final long defaultMakerRate;
+
+    private final long defaultTakerRate;
+
+    private final SymbolRegistry symbolRegistry;
+
+    private volatile FeeSchedule current;
+
+    /**
+     * 最近一次加载的文件修改时间
+     */
+    private long lastModified = Long.MIN_VALUE;
+
+    private ScheduledExecutorService reloader;
+
+    public FeeScheduleCache(FeeProperties properties, SymbolRegistry symbolRegistry) {
+        this.symbolRegistry = symbolRegistry;
+        this.file = ObjectUtils.isEmpty(properties.getScheduleFile()) ? null : Paths.get(properties.getScheduleFile());
+        this.reloadSeconds = properties.getReloadSeconds();
+        this.defaultMakerRate = FeeSchedule.parseRate(properties.getDefaultMakerRate());
+        this.defaultTakerRate = FeeSchedule.parseRate(properties.getDefaultTakerRate());
+        this.current = FeeSchedule.parse(1L, Collections.emptyList(), defaultMakerRate, defaultTakerRate, symbolRegistry);
+    }
+
+    /**
+     * 加载费率表文件，之后定期检查文件修改
+     */
+    public void start() {
+        if (file == null) {
+            log.info("[FEE] no schedule file, default maker rate: {}, taker rate: {}", defaultMakerRate, defaultTakerRate);
+            return;
+        }
+        reload();
+        reloader = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "fee-schedule-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reloader.scheduleWithFixedDelay(this::reload, reloadSeconds, reloadSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 当前版本的费率表
+     */
+    public FeeSchedule current() {
+        return current;
+    }
+
+    /**
+     * 文件有修改时重新加载，返回是否替换了新版本
+     */
+    public synchronized boolean reload() {
+        if (file == null) {
+            return false;
+        }
+        try {
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            if (modified == lastModified) {
+                return false;
+            }
+            // 解析失败的文件不再重复解析，等下一次修改
+            lastModified = modified;
+            FeeSchedule next = FeeSchedule.parse(current.version() + 1, Files.readAllLines(file, StandardCharsets.UTF_8),
+                    defaultMakerRate, defaultTakerRate, symbolRegistry);
+            current = next;
+            log.info("[FEE] schedule reloaded, file: {}, version: {}", file, next.version());
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("[FEE] schedule reload failed, keep version {}, file: {}", current.version(), file, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.earth.interceptor;
+
+import io.grpc.*;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 负载报告拦截器（ORCA 风格）
+ * <p>
+ * 在每个响应的 trailer 中写入 endpoint-load-metrics，格式：
+ * <pre>
+ * TEXT cpu_utilization=0.42,named_metrics.in_flight=12,named_metrics.queue_length=3
+ * </pre>
+ * 客户端连接池读取后计算每个实例的动态权重
+ */
+@GrpcGlobalServerInterceptor
+public class LoadReportServerInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> LOAD_METRICS_KEY = Metadata.Key.of("endpoint-load-metrics", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final ServerLoadReporter loadReporter;
+
+    public LoadReportServerInterceptor(ServerLoadReporter loadReporter) {
+        this.loadReporter = loadReporter;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        loadReporter.callStarted();
+        // close 与 onCancel 可能都会发生，只计一次
+        AtomicBoolean released = new AtomicBoolean();
+        ServerCall<ReqT, RespT> reportingCall = new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                if (released.compareAndSet(false, true)) {
+                    loadReporter.callClosed();
+                }
+                trailers.put(LOAD_METRICS_KEY, "TEXT cpu_utilization=" + (float) loadReporter.getCpuUtilization()
+                        + ",named_metrics.in_flight=" + loadReporter.getInFlight()
+                        + ",named_metrics.queue_length=" + loadReporter.getQueueLength());
+                super.close(status, trailers);
+            }
+        };
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(reportingCall, headers);
+        } catch (RuntimeException e) {
+            if (released.compareAndSet(false, true)) {
+                loadReporter.callClosed();
+            }
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onCancel() {
+                if (released.compareAndSet(false, true)) {
+                    loadReporter.callClosed();
+                }
+                super.onCancel();
+            }
+        };
+    }
+}
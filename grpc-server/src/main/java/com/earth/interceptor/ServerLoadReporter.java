@@ -0,0 +1,104 @@
+package com.earth.interceptor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * 服务端负载采集
+ * <p>
+ * CPU 使用率每秒采样一次，进行中调用数由拦截器实时维护，队列长度由各队列注册的 IntSupplier 提供。
+ * 每个响应的 trailer 中携带当前负载，客户端据此调整各实例权重
+ */
+@Slf4j
+@Component
+public class ServerLoadReporter {
+
+    private static final long CPU_SAMPLE_INTERVAL_MS = 1000L;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * 队列长度来源，key=队列名称
+     */
+    private final Map<String, IntSupplier> queueLengthSuppliers = new ConcurrentHashMap<>();
+
+    private volatile double cpuUtilization;
+
+    private ScheduledExecutorService sampler;
+
+    @PostConstruct
+    public void start() {
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "server-load-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sampleCpu, 0, CPU_SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+    }
+
+    /**
+     * 注册一个队列，其长度计入负载报告
+     */
+    public void registerQueue(String name, IntSupplier queueLength) {
+        queueLengthSuppliers.put(name, queueLength);
+    }
+
+    void callStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void callClosed() {
+        inFlight.decrementAndGet();
+    }
+
+    public double getCpuUtilization() {
+        return cpuUtilization;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueueLength() {
+        int total = 0;
+        for (IntSupplier supplier : queueLengthSuppliers.values()) {
+            total += supplier.getAsInt();
+        }
+        return total;
+    }
+
+    private void sampleCpu() {
+        try {
+            java.lang.management.OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+            double load = -1D;
+            if (osBean instanceof com.sun.management.OperatingSystemMXBean) {
+                load = ((com.sun.management.OperatingSystemMXBean) osBean).getProcessCpuLoad();
+            }
+            if (load < 0) {
+                // 取不到进程 CPU 时，用系统平均负载 / 核数近似
+                load = Math.min(1D, osBean.getSystemLoadAverage() / osBean.getAvailableProcessors());
+            }
+            cpuUtilization = Math.max(0D, load);
+        } catch (Exception e) {
+            log.warn("[GRPC] sample cpu utilization error", e);
+        }
+    }
+}
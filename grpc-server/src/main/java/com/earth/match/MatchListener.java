@@ -0,0 +1,34 @@
+package com.earth.match;
+
+import com.earth.base.order.OrderStatusEnum;
+
+/**
+ * 撮合结果回调，在撮合线程中同步调用，不要做耗时操作
+ */
+public interface MatchListener {
+
+    /**
+     * 一笔成交，按价格、时间优先顺序依次回调
+     *
+     * @param makerOrgId     maker 机构 id
+     * @param takerSide      主动方方向，OrderBook.BUY / OrderBook.SELL
+     * @param price          成交价，即 maker 挂单价
+     * @param quantity       成交数量
+     * @param makerQuantity  maker 原始委托数量
+     * @param makerRemaining maker 成交后的剩余数量，为 0 表示 maker 已完全成交并离开订单簿
+     * @param makerLocked    maker 挂单时是否冻结了余额
+     */
+    void onTrade(long takerOrderId, long takerAccountId, long makerOrderId, long makerAccountId, long makerOrgId,
+                 int takerSide, long price, long quantity, long makerQuantity, long makerRemaining, boolean makerLocked);
+
+    /**
+     * 主动方本次撮合结束
+     *
+     * @param status            NEW / PARTIALLY_FILLED（剩余部分挂单）、FILLED、CANCELED（剩余部分撤销）、REJECTED
+     * @param executedQuantity  累计成交数量
+     * @param executedAmount    累计成交金额
+     * @param remainingQuantity 剩余数量，挂单时为挂出的数量
+     */
+    void onTakerResult(long orderId, long accountId, OrderStatusEnum status,
+                       long executedQuantity, long executedAmount, long remainingQuantity);
+}
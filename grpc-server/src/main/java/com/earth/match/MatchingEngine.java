@@ -0,0 +1,316 @@
+package com.earth.match;
+
+import com.earth.base.common.OrderTimeInForceEnum;
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.base.order.OrderStatusEnum;
+import com.earth.book.OrderBook;
+import com.earth.decimal.FixedPoint;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * 价格优先、时间优先撮合
+ * <p>
+ * 订单类型：
+ * <ul>
+ *     <li>LIMIT / LOCAL_ONLY / LIMIT_FREE：限价，吃掉价格可成交的对手盘，剩余部分按 time_in_force 处理</li>
+ *     <li>MARKET_OF_BASE：按数量吃单，不限价，剩余部分撤销</li>
+ *     <li>MARKET_OF_QUOTE：按金额吃单，不限价，剩余金额买不到一个最小数量单位时视为全部成交（零头退回），对手盘不足时剩余部分撤销</li>
+ *     <li>LIMIT_MAKER / LIMIT_MAKER_FREE：只做 maker，会立即成交时拒绝</li>
+ *     <li>COM：只提供报价，会立即成交时撤销</li>
+ *     <li>STOP / STOP_LIMIT：不直接撮合，由调用方在最新成交价触发后以市价单 / LIMIT 重新提交</li>
+ * </ul>
+ * time_in_force：GTC / GTD / Today 剩余部分挂单；IOC 剩余部分撤销；FOK 撮合前先检查对手盘能否全部成交，不能则整单撤销；
+ * GTM 有成交则撤销剩余部分，没有成交则挂单
+ * <p>
+ * 价格、数量、金额都是定点 long，金额 = price * quantity / 10^(priceScale + quantityScale - amountScale)
+ */
+@NotThreadSafe
+public final class MatchingEngine {
+
+    private final MatchListener listener;
+
+    /**
+     * 价格 * 数量换算为金额的除数
+     */
+    private final long amountDivisor;
+
+    public MatchingEngine(MatchListener listener, int priceScale, int quantityScale, int amountScale) {
+        this.listener = listener;
+        this.amountDivisor = FixedPoint.pow10(priceScale + quantityScale - amountScale);
+    }
+
+    /**
+     * 撮合一个新订单，结果通过 listener 回调，同时返回主动方最终状态
+     *
+     * @param price    限价，市价单忽略
+     * @param quantity 委托数量；MARKET_OF_QUOTE 大于 0 时为可卖出的数量上限
+     * @param amount   委托金额，MARKET_OF_QUOTE 使用；MARKET_OF_BASE 大于 0 时为可花费的金额上限，限价单忽略
+     */
+    public OrderStatusEnum match(OrderBook book, long orderId, long accountId, int side, OrderTypeEnum orderType,
+                                 OrderTimeInForceEnum timeInForce, long price, long quantity, long amount) {
+        switch (orderType) {
+            case LIMIT:
+            case LOCAL_ONLY:
+            case LIMIT_FREE:
+                if (price <= 0L || quantity <= 0L) {
+                    return reject(orderId, accountId);
+                }
+                return matchLimit(book, orderId, accountId, side, timeInForce, price, quantity);
+            case MARKET_OF_BASE:
+                if (quantity <= 0L) {
+                    return reject(orderId, accountId);
+                }
+                return matchMarket(book, orderId, accountId, side, timeInForce, false, quantity, amount);
+            case MARKET_OF_QUOTE:
+                if (amount <= 0L) {
+                    return reject(orderId, accountId);
+                }
+                return matchMarket(book, orderId, accountId, side, timeInForce, true, quantity, amount);
+            case LIMIT_MAKER:
+            case LIMIT_MAKER_FREE:
+                if (price <= 0L || quantity <= 0L || crosses(side, price, book.bestPrice(opposite(side)))) {
+                    return reject(orderId, accountId);
+                }
+                return rest(book, orderId, accountId, side, timeInForce, price, quantity);
+            case COM:
+                if (price <= 0L || quantity <= 0L) {
+                    return reject(orderId, accountId);
+                }
+                if (crosses(side, price, book.bestPrice(opposite(side)))) {
+                    return finish(orderId, accountId, OrderStatusEnum.CANCELED, 0L, 0L, quantity);
+                }
+                return rest(book, orderId, accountId, side, timeInForce, price, quantity);
+            default:
+                // STOP / STOP_LIMIT 需要先触发，触发后以市价单 / LIMIT 进入撮合
+                return reject(orderId, accountId);
+        }
+    }
+
+    private OrderStatusEnum matchLimit(OrderBook book, long orderId, long accountId, int side,
+                                       OrderTimeInForceEnum timeInForce, long price, long quantity) {
+        if (timeInForce == OrderTimeInForceEnum.FOK && availableQuantity(book, side, price, quantity) < quantity) {
+            return finish(orderId, accountId, OrderStatusEnum.CANCELED, 0L, 0L, quantity);
+        }
+        int opposite = opposite(side);
+        long remaining = quantity;
+        long executedAmount = 0L;
+        while (remaining > 0L) {
+            int maker = book.bestOrder(opposite);
+            if (maker == OrderBook.NO_ORDER || !crosses(side, price, book.price(maker))) {
+                break;
+            }
+            long makerPrice = book.price(maker);
+            long fillQuantity = Math.min(remaining, book.remaining(maker));
+            trade(book, maker, orderId, accountId, side, makerPrice, fillQuantity);
+            remaining -= fillQuantity;
+            executedAmount += amountOf(makerPrice, fillQuantity);
+        }
+        long executed = quantity - remaining;
+        if (remaining == 0L) {
+            return finish(orderId, accountId, OrderStatusEnum.FILLED, executed, executedAmount, 0L);
+        }
+        if (!restsRemainder(timeInForce, executed)) {
+            return finish(orderId, accountId, OrderStatusEnum.CANCELED, executed, executedAmount, remaining);
+        }
+        if (book.add(orderId, accountId, side, price, quantity, remaining) == OrderBook.NO_ORDER) {
+            // 订单 id 已在簿中，剩余部分挂不出去：没有成交时与 rest 一样拒绝，已有成交则撤销剩余部分
+            return executed > 0L ? finish(orderId, accountId, OrderStatusEnum.CANCELED, executed, executedAmount, remaining)
+                    : reject(orderId, accountId);
+        }
+        return finish(orderId, accountId, executed > 0L ? OrderStatusEnum.PARTIALLY_FILLED : OrderStatusEnum.NEW,
+                executed, executedAmount, remaining);
+    }
+
+    /**
+     * 市价单，byQuote 时按金额 amount 吃单，否则按数量 quantity 吃单；另一项大于 0 时作为上限，
+     * 用于冻结了全部可用余额的订单（按数量买入时金额不超过冻结的计价资产，按金额卖出时数量不超过冻结的基础资产）
+     */
+    private OrderStatusEnum matchMarket(OrderBook book, long orderId, long accountId, int side,
+                                        OrderTimeInForceEnum timeInForce, boolean byQuote, long quantity, long amount) {
+        long quantityCap = byQuote ? quantity : 0L;
+        long amountCap = byQuote ? 0L : amount;
+        if (timeInForce == OrderTimeInForceEnum.FOK) {
+            boolean fillable = byQuote ? quoteFillable(book, side, amount, quantityCap)
+                    : availableQuantity(book, side, 0L, quantity) >= quantity
+                    && (amountCap == 0L || amountFor(book, side, quantity) <= amountCap);
+            if (!fillable) {
+                return finish(orderId, accountId, OrderStatusEnum.CANCELED, 0L, 0L, byQuote ? 0L : quantity);
+            }
+        }
+        int opposite = opposite(side);
+        long remainingQuantity = byQuote ? quantityCap : quantity;
+        long remainingAmount = byQuote ? amount : amountCap;
+        long executed = 0L;
+        long executedAmount = 0L;
+        // 按金额吃单时剩余金额已不够买一个最小数量单位
+        boolean amountSpent = false;
+        while (byQuote ? remainingAmount > 0L : remainingQuantity > 0L) {
+            int maker = book.bestOrder(opposite);
+            if (maker == OrderBook.NO_ORDER) {
+                break;
+            }
+            long makerPrice = book.price(maker);
+            long fillQuantity = book.remaining(maker);
+            if (byQuote || amountCap > 0L) {
+                // 剩余金额在该价格下能买到的数量
+                fillQuantity = Math.min(fillQuantity, FixedPoint.mulDiv(remainingAmount, amountDivisor, makerPrice));
+            }
+            if (!byQuote || quantityCap > 0L) {
+                fillQuantity = Math.min(fillQuantity, remainingQuantity);
+            }
+            if (fillQuantity == 0L) {
+                // 数量上限用完时 remainingQuantity 为 0，否则是剩余金额不足
+                amountSpent = byQuote && (quantityCap == 0L || remainingQuantity > 0L);
+                break;
+            }
+            long fillAmount = amountOf(makerPrice, fillQuantity);
+            trade(book, maker, orderId, accountId, side, makerPrice, fillQuantity);
+            executed += fillQuantity;
+            executedAmount += fillAmount;
+            remainingQuantity -= fillQuantity;
+            remainingAmount -= fillAmount;
+        }
+        // 按金额吃单剩下不足一个数量单位的零头时视为全部成交，零头由调用方退回冻结
+        boolean filled = byQuote ? remainingAmount == 0L || amountSpent : remainingQuantity == 0L;
+        if (filled) {
+            return finish(orderId, accountId, OrderStatusEnum.FILLED, executed, executedAmount, 0L);
+        }
+        // 市价单不挂单
+        return finish(orderId, accountId, OrderStatusEnum.CANCELED, executed, executedAmount, byQuote ? 0L : remainingQuantity);
+    }
+
+    private OrderStatusEnum rest(OrderBook book, long orderId, long accountId, int side,
+                                 OrderTimeInForceEnum timeInForce, long price, long quantity) {
+        // 不会立即成交的订单，IOC / FOK 直接撤销
+        if (timeInForce == OrderTimeInForceEnum.IOC || timeInForce == OrderTimeInForceEnum.FOK) {
+            return finish(orderId, accountId, OrderStatusEnum.CANCELED, 0L, 0L, quantity);
+        }
+        if (book.add(orderId, accountId, side, price, quantity) == OrderBook.NO_ORDER) {
+            return reject(orderId, accountId);
+        }
+        return finish(orderId, accountId, OrderStatusEnum.NEW, 0L, 0L, quantity);
+    }
+
+    private void trade(OrderBook book, int maker, long takerOrderId, long takerAccountId, int takerSide, long price, long quantity) {
+        // fill 之后 maker 可能已经离开订单簿，先读出字段
+        long makerOrderId = book.orderId(maker);
+        long makerAccountId = book.accountId(maker);
+        long makerOrgId = book.orgId(maker);
+        long makerQuantity = book.quantity(maker);
+        boolean makerLocked = book.isBalanceLocked(maker);
+        long makerRemaining = book.fill(maker, quantity);
+        book.lastPrice(price);
+        listener.onTrade(takerOrderId, takerAccountId, makerOrderId, makerAccountId, makerOrgId, takerSide, price, quantity,
+                makerQuantity, makerRemaining, makerLocked);
+    }
+
+    /**
+     * 对手盘在限价内（limit = 0 表示不限价）可成交的数量，累计到 needed 即停止
+     */
+    private static long availableQuantity(OrderBook book, int side, long limit, long needed) {
+        int opposite = opposite(side);
+        long available = 0L;
+        for (int depth = 0; depth < book.levels(opposite) && available < needed; depth++) {
+            if (limit > 0L && !crosses(side, limit, book.levelPrice(opposite, depth))) {
+                break;
+            }
+            available += book.levelQuantity(opposite, depth);
+        }
+        return available;
+    }
+
+    /**
+     * 按价格优先吃进 quantity 需要的金额，对手盘不足时为吃光对手盘的金额
+     */
+    private long amountFor(OrderBook book, int side, long quantity) {
+        int opposite = opposite(side);
+        long remaining = quantity;
+        long amount = 0L;
+        for (int depth = 0; depth < book.levels(opposite) && remaining > 0L; depth++) {
+            long fill = Math.min(remaining, book.levelQuantity(opposite, depth));
+            amount += amountOf(book.levelPrice(opposite, depth), fill);
+            remaining -= fill;
+        }
+        return amount;
+    }
+
+    /**
+     * 按金额吃单能否全部成交：按与 matchMarket 相同的顺序和取整逐个订单模拟，
+     * 剩余金额为 0 或不够买一个最小数量单位时可以成交；对手盘吃光或数量上限（quantityCap > 0）先用完时不能成交
+     */
+    private boolean quoteFillable(OrderBook book, int side, long amount, long quantityCap) {
+        int opposite = opposite(side);
+        long remainingAmount = amount;
+        long remainingQuantity = quantityCap;
+        for (int depth = 0; depth < book.levels(opposite); depth++) {
+            long levelPrice = book.levelPrice(opposite, depth);
+            for (int order = book.levelHead(opposite, depth); order != OrderBook.NO_ORDER; order = book.nextOrder(order)) {
+                // 撮合时同一个 maker 可能分几次吃，直到它成交完
+                long makerRemaining = book.remaining(order);
+                while (makerRemaining > 0L) {
+                    long fill = Math.min(makerRemaining, FixedPoint.mulDiv(remainingAmount, amountDivisor, levelPrice));
+                    if (quantityCap > 0L) {
+                        if (remainingQuantity == 0L) {
+                            return false;
+                        }
+                        fill = Math.min(fill, remainingQuantity);
+                        remainingQuantity -= fill;
+                    }
+                    if (fill == 0L) {
+                        return true;
+                    }
+                    makerRemaining -= fill;
+                    remainingAmount -= amountOf(levelPrice, fill);
+                    if (remainingAmount == 0L) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private long amountOf(long price, long quantity) {
+        return FixedPoint.mulDiv(price, quantity, amountDivisor);
+    }
+
+    private static boolean restsRemainder(OrderTimeInForceEnum timeInForce, long executed) {
+        switch (timeInForce) {
+            case IOC:
+            case FOK:
+                return false;
+            case GTM:
+                return executed == 0L;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * 买单价格不低于对手价、卖单价格不高于对手价时可成交
+     */
+    private static boolean crosses(int side, long price, long oppositePrice) {
+        if (oppositePrice == OrderBook.NULL_PRICE) {
+            return false;
+        }
+        return side == OrderBook.BUY ? price >= oppositePrice : price <= oppositePrice;
+    }
+
+    private static int opposite(int side) {
+        return side == OrderBook.BUY ? OrderBook.SELL : OrderBook.BUY;
+    }
+
+    /**
+     * 下单校验未通过
+     */
+    public OrderStatusEnum reject(long orderId, long accountId) {
+        return finish(orderId, accountId, OrderStatusEnum.REJECTED, 0L, 0L, 0L);
+    }
+
+    private OrderStatusEnum finish(long orderId, long accountId, OrderStatusEnum status,
+                                   long executedQuantity, long executedAmount, long remainingQuantity) {
+        listener.onTakerResult(orderId, accountId, status, executedQuantity, executedAmount, remainingQuantity);
+        return status;
+    }
+}
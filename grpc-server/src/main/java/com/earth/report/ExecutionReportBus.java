@@ -0,0 +1,148 @@
+package com.earth.report;
+
+import com.earth.base.order.ExecutionReportBatch;
+import com.earth.base.order.ExecutionReportSubscribeRequest;
+import com.earth.base.order.OrderStatusEnum;
+import com.earth.sequencer.BatchEventProcessor;
+import com.earth.sequencer.ParkingWaitStrategy;
+import com.earth.sequencer.RingBuffer;
+import com.earth.wal.OrderWal;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行回报总线
+ * <p>
+ * 撮合线程把回报字段写入预分配的回报队列后立即返回，不做序列化、IO；
+ * 单独的 execution-report 线程负责写成交流水、按批推送给订阅者（{@link ExecutionReportPublisher}）。
+ * 订阅者各自有有界待发送队列，读得慢的订阅者被断开，撮合线程不受影响
+ */
+@Slf4j
+public class ExecutionReportBus implements Closeable {
+
+    private static final long DRAIN_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+    private final RingBuffer<ExecutionReportEvent> ringBuffer;
+
+    private final BatchEventProcessor<ExecutionReportEvent> processor;
+
+    private final List<ExecutionReportSink> subscribers = new CopyOnWriteArrayList<>();
+
+    private final int subscriberQueueCapacity;
+
+    private final Thread thread;
+
+    public ExecutionReportBus(OrderWal tradeJournal, int ringSize, int subscriberQueueCapacity,
+                              int priceScale, int quantityScale, int amountScale) {
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+        this.ringBuffer = RingBuffer.create(ExecutionReportEvent::new, ringSize, new ParkingWaitStrategy());
+        this.processor = new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(),
+                new ExecutionReportPublisher(tradeJournal, subscribers, priceScale, quantityScale, amountScale));
+        ringBuffer.addGatingSequences(processor.getSequence());
+        this.thread = new Thread(processor, "execution-report");
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * 订单状态回报（挂单、撤销、拒绝、最终成交状态）
+     */
+    public void publishOrder(long orderId, long accountId, String symbolId, int side, OrderStatusEnum status,
+                             long executedQuantity, long executedAmount, long leavesQuantity) {
+        long sequence = ringBuffer.next();
+        ExecutionReportEvent event = ringBuffer.get(sequence);
+        fill(event, orderId, accountId, symbolId, side, status, executedQuantity, executedAmount, leavesQuantity);
+        event.tradeId = 0L;
+        event.lastPrice = 0L;
+        event.lastQuantity = 0L;
+        event.maker = false;
+        event.matchOrderId = 0L;
+        event.fee = 0L;
+        ringBuffer.publish(sequence);
+    }
+
+    /**
+     * 成交回报，一笔成交分别为 taker、maker 各发布一条
+     *
+     * @param fee 本次成交手续费，买方为基础资产，卖方为计价资产
+     */
+    public void publishTrade(long orderId, long accountId, String symbolId, int side, OrderStatusEnum status,
+                             long tradeId, long price, long quantity, long executedQuantity, long executedAmount,
+                             long leavesQuantity, boolean maker, long matchOrderId, long fee) {
+        long sequence = ringBuffer.next();
+        ExecutionReportEvent event = ringBuffer.get(sequence);
+        fill(event, orderId, accountId, symbolId, side, status, executedQuantity, executedAmount, leavesQuantity);
+        event.tradeId = tradeId;
+        event.lastPrice = price;
+        event.lastQuantity = quantity;
+        event.maker = maker;
+        event.matchOrderId = matchOrderId;
+        event.fee = fee;
+        ringBuffer.publish(sequence);
+    }
+
+    /**
+     * 订阅回报，从订阅时刻开始推送
+     */
+    public void subscribe(ExecutionReportSubscribeRequest request, StreamObserver<ExecutionReportBatch> responseObserver) {
+        ExecutionReportSubscriber subscriber = new ExecutionReportSubscriber(request.getAccountId(),
+                (ServerCallStreamObserver<ExecutionReportBatch>) responseObserver, subscriberQueueCapacity);
+        subscribe(subscriber);
+    }
+
+    /**
+     * 注册回报接收方，从注册时刻开始推送。接收方关闭后（offer 返回 false）在下一批回报时移除
+     */
+    public void subscribe(ExecutionReportSink sink) {
+        subscribers.add(sink);
+        log.info("[REPORT] subscribed, accountId: {}, subscribers: {}", sink.getAccountId(), subscribers.size());
+    }
+
+    public int backlog() {
+        return (int) ringBuffer.backlog();
+    }
+
+    @Override
+    public void close() {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        while (ringBuffer.backlog() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        processor.halt();
+        try {
+            thread.join(DRAIN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (ExecutionReportSink subscriber : subscribers) {
+            subscriber.complete();
+        }
+        subscribers.clear();
+    }
+
+    private static void fill(ExecutionReportEvent event, long orderId, long accountId, String symbolId, int side,
+                             OrderStatusEnum status, long executedQuantity, long executedAmount, long leavesQuantity) {
+        event.orderId = orderId;
+        event.accountId = accountId;
+        event.symbolId = symbolId;
+        event.side = side;
+        event.status = status;
+        event.executedQuantity = executedQuantity;
+        event.executedAmount = executedAmount;
+        event.leavesQuantity = leavesQuantity;
+        event.transactTime = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,42 @@
+package com.earth.report;
+
+import com.earth.base.order.OrderStatusEnum;
+
+/**
+ * 回报队列槽位，启动时一次性分配，撮合线程只写入原始类型字段
+ */
+final class ExecutionReportEvent {
+
+    long orderId;
+
+    long accountId;
+
+    String symbolId;
+
+    int side;
+
+    OrderStatusEnum status;
+
+    long tradeId;
+
+    long lastPrice;
+
+    long lastQuantity;
+
+    long executedQuantity;
+
+    long executedAmount;
+
+    long leavesQuantity;
+
+    boolean maker;
+
+    long matchOrderId;
+
+    /**
+     * 本次成交手续费，买方为基础资产，卖方为计价资产
+     */
+    long fee;
+
+    long transactTime;
+}
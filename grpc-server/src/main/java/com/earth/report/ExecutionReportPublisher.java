@@ -0,0 +1,138 @@
+package com.earth.report;
+
+import com.earth.base.common.OrderSideEnum;
+import com.earth.base.order.ExecutionReport;
+import com.earth.base.order.ExecutionReportBatch;
+import com.earth.book.OrderBook;
+import com.earth.decimal.DecimalCodec;
+import com.earth.sequencer.EventHandler;
+import com.earth.wal.OrderWal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 回报发布，单线程消费回报队列
+ * <p>
+ * 逐条转换为 ExecutionReport 并追加到成交流水（trade journal），流水 lsn 作为回报序号：流水记录中不含序号，
+ * 追加成功后才按返回的 lsn 填入序号。批末落盘一次，再把整批回报推送给各订阅者
+ * <p>
+ * 只推送已经落盘的回报：追加失败的回报不推送，落盘失败时撤销本批未落盘的记录，这些回报同样不推送，
+ * 订阅者看到的序号与流水一致且连续
+ */
+@Slf4j
+final class ExecutionReportPublisher implements EventHandler<ExecutionReportEvent> {
+
+    private final OrderWal tradeJournal;
+
+    private final List<ExecutionReportSink> subscribers;
+
+    private final int priceScale;
+
+    private final int quantityScale;
+
+    private final int amountScale;
+
+    private final List<ExecutionReport> batch = new ArrayList<>();
+
+    private final ExecutionReport.Builder builder = ExecutionReport.newBuilder();
+
+    ExecutionReportPublisher(OrderWal tradeJournal, List<ExecutionReportSink> subscribers,
+                             int priceScale, int quantityScale, int amountScale) {
+        this.tradeJournal = tradeJournal;
+        this.subscribers = subscribers;
+        this.priceScale = priceScale;
+        this.quantityScale = quantityScale;
+        this.amountScale = amountScale;
+    }
+
+    @Override
+    public void onEvent(ExecutionReportEvent event, long sequence, boolean endOfBatch) {
+        ExecutionReport record = toReport(event);
+        try {
+            long lsn = tradeJournal.append(record);
+            batch.add(builder.setSequence(lsn).build());
+        } catch (Exception e) {
+            log.error("[REPORT] trade journal append failed, report dropped, orderId: {}, status: {}", event.orderId, event.status, e);
+        }
+        event.symbolId = null;
+        if (endOfBatch) {
+            try {
+                tradeJournal.force();
+            } catch (Exception e) {
+                long durableLsn = tradeJournal.truncateToDurable();
+                int dropped = dropUndurable(durableLsn);
+                log.error("[REPORT] trade journal force failed, reports dropped: {}, durableLsn: {}", dropped, durableLsn, e);
+            }
+            fanOut();
+            batch.clear();
+        }
+    }
+
+    /**
+     * 移除本批中序号大于 durableLsn 的回报，返回移除的条数
+     */
+    private int dropUndurable(long durableLsn) {
+        int size = batch.size();
+        batch.removeIf(report -> report.getSequence() > durableLsn);
+        return size - batch.size();
+    }
+
+    /**
+     * 转换为不含序号的流水记录，builder 保留这些字段，追加成功后再填入序号
+     */
+    private ExecutionReport toReport(ExecutionReportEvent event) {
+        builder.clear()
+                .setOrderId(event.orderId)
+                .setAccountId(event.accountId)
+                .setSymbolId(event.symbolId)
+                .setSide(event.side == OrderBook.SELL ? OrderSideEnum.SELL : OrderSideEnum.BUY)
+                .setStatus(event.status)
+                .setExecutedQuantity(DecimalCodec.toDecimal(event.executedQuantity, quantityScale))
+                .setExecutedAmount(DecimalCodec.toDecimal(event.executedAmount, amountScale))
+                .setLeavesQuantity(DecimalCodec.toDecimal(event.leavesQuantity, quantityScale))
+                .setIsMaker(event.maker)
+                .setTransactTime(event.transactTime);
+        if (event.tradeId > 0L) {
+            builder.setTradeId(event.tradeId)
+                    .setLastPrice(DecimalCodec.toDecimal(event.lastPrice, priceScale))
+                    .setLastQuantity(DecimalCodec.toDecimal(event.lastQuantity, quantityScale))
+                    .setMatchOrderId(event.matchOrderId)
+                    .setFee(DecimalCodec.toDecimal(event.fee, event.side == OrderBook.SELL ? amountScale : quantityScale));
+        }
+        return builder.build();
+    }
+
+    private void fanOut() {
+        if (subscribers.isEmpty() || batch.isEmpty()) {
+            return;
+        }
+        ExecutionReportBatch all = ExecutionReportBatch.newBuilder().addAllReports(batch).build();
+        for (ExecutionReportSink subscriber : subscribers) {
+            boolean delivered;
+            if (subscriber.getAccountId() == 0L) {
+                delivered = subscriber.offer(all);
+            } else {
+                ExecutionReportBatch filtered = filter(subscriber.getAccountId());
+                delivered = filtered == null ? !subscriber.isClosed() : subscriber.offer(filtered);
+            }
+            if (!delivered) {
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    private ExecutionReportBatch filter(long accountId) {
+        ExecutionReportBatch.Builder filtered = null;
+        for (ExecutionReport report : batch) {
+            if (report.getAccountId() == accountId) {
+                if (filtered == null) {
+                    filtered = ExecutionReportBatch.newBuilder();
+                }
+                filtered.addReports(report);
+            }
+        }
+        return filtered == null ? null : filtered.build();
+    }
+}
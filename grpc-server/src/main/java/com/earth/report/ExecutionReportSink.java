@@ -0,0 +1,28 @@
+package com.earth.report;
+
+import com.earth.base.order.ExecutionReportBatch;
+
+/**
+ * 执行回报的接收方，由 {@link ExecutionReportBus} 的回报发布线程调用，实现不能阻塞
+ * <p>
+ * 订阅流（SubscribeExecutionReports）和下单会话（OrderSession）各自实现，回报发布线程不区分
+ */
+public interface ExecutionReportSink {
+
+    /**
+     * 只接收该账户的回报，0 表示全部账户
+     */
+    long getAccountId();
+
+    /**
+     * 发送一批回报，已关闭时返回 false，之后不再调用
+     */
+    boolean offer(ExecutionReportBatch batch);
+
+    boolean isClosed();
+
+    /**
+     * 回报总线关闭时调用，正常结束
+     */
+    void complete();
+}
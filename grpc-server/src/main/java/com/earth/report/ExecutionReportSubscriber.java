@@ -0,0 +1,86 @@
+package com.earth.report;
+
+import com.earth.base.order.ExecutionReportBatch;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+
+/**
+ * 一个回报订阅流
+ * <p>
+ * 流可写（isReady）时直接发送，否则放入有界待发送队列，由 onReadyHandler 继续发送。
+ * 待发送队列满说明客户端读得太慢，直接断开，不让它拖慢回报发布线程，更不会反压到撮合线程
+ */
+@Slf4j
+final class ExecutionReportSubscriber implements ExecutionReportSink {
+
+    @Getter
+    private final long accountId;
+
+    private final ServerCallStreamObserver<ExecutionReportBatch> observer;
+
+    private final int maxPending;
+
+    private final ArrayDeque<ExecutionReportBatch> pending;
+
+    private boolean closed;
+
+    ExecutionReportSubscriber(long accountId, ServerCallStreamObserver<ExecutionReportBatch> observer, int maxPending) {
+        this.accountId = accountId;
+        this.observer = observer;
+        this.maxPending = maxPending;
+        this.pending = new ArrayDeque<>(Math.min(maxPending, 64));
+        observer.setOnReadyHandler(this::drain);
+        observer.setOnCancelHandler(this::onCancel);
+    }
+
+    @Override
+    public synchronized boolean offer(ExecutionReportBatch batch) {
+        if (closed) {
+            return false;
+        }
+        if (pending.size() >= maxPending) {
+            log.warn("[REPORT] slow subscriber disconnected, accountId: {}, pending: {}", accountId, pending.size());
+            closed = true;
+            pending.clear();
+            observer.onError(Status.RESOURCE_EXHAUSTED.withDescription("slow consumer").asRuntimeException());
+            return false;
+        }
+        pending.addLast(batch);
+        drainLocked();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public synchronized void complete() {
+        if (!closed) {
+            closed = true;
+            pending.clear();
+            observer.onCompleted();
+        }
+    }
+
+    private synchronized void drain() {
+        drainLocked();
+    }
+
+    private void drainLocked() {
+        ExecutionReportBatch batch;
+        while (!closed && observer.isReady() && (batch = pending.pollFirst()) != null) {
+            observer.onNext(batch);
+        }
+    }
+
+    private synchronized void onCancel() {
+        closed = true;
+        pending.clear();
+    }
+}
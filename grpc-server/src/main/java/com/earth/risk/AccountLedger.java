@@ -0,0 +1,192 @@
+package com.earth.risk;
+
+import com.earth.collection.LongIntHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Arrays;
+
+/**
+ * 内存账户余额表
+ * <p>
+ * 每个 (account_id, 资产) 一条记录，可用、冻结余额都是按资产精度放大后的定点 long。
+ * 账户按 account_id 哈希分到若干条带（stripe），每个条带有自己的索引和余额数组，由条带锁保护；
+ * 一次冻结、解冻或结算只涉及一个账户，只持有一个条带锁，临界区只有几次数组读写。
+ * 各撮合分片写 WAL、撮合线程并发访问不同账户时互不阻塞
+ * <p>
+ * 余额表只是下单前风控用的缓存，余额由账户服务导出、启动时通过 {@link BalanceLoader} 调用 {@link #credit(long, int, long)} 加载，不随进程持久化
+ */
+@ThreadSafe
+public final class AccountLedger {
+
+    /**
+     * 资产 id 占用 key 的低位
+     */
+    private static final int ASSET_BITS = 16;
+
+    public static final int MAX_ASSETS = 1 << ASSET_BITS;
+
+    private final Stripe[] stripes;
+
+    private final int stripeMask;
+
+    public AccountLedger(int stripes, int expectedAccountsPerStripe) {
+        int size = Integer.highestOneBit(Math.max(stripes, 1) * 2 - 1);
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe(expectedAccountsPerStripe);
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * 入账到可用余额，amount 为负时扣减
+     */
+    public void credit(long accountId, int asset, long amount) {
+        Stripe stripe = stripeOf(accountId);
+        synchronized (stripe) {
+            int slot = stripe.slot(key(accountId, asset));
+            stripe.available[slot] = Math.addExact(stripe.available[slot], amount);
+        }
+    }
+
+    /**
+     * 可用余额足够时冻结 amount
+     *
+     * @return 余额不足时返回 false，不做任何修改
+     */
+    public boolean freeze(long accountId, int asset, long amount) {
+        Stripe stripe = stripeOf(accountId);
+        synchronized (stripe) {
+            int slot = stripe.slot(key(accountId, asset));
+            if (stripe.available[slot] < amount) {
+                return false;
+            }
+            stripe.available[slot] -= amount;
+            stripe.frozen[slot] += amount;
+            return true;
+        }
+    }
+
+    /**
+     * 冻结全部可用余额，返回冻结的数额
+     */
+    public long freezeAll(long accountId, int asset) {
+        Stripe stripe = stripeOf(accountId);
+        synchronized (stripe) {
+            int slot = stripe.slot(key(accountId, asset));
+            long amount = Math.max(stripe.available[slot], 0L);
+            stripe.available[slot] -= amount;
+            stripe.frozen[slot] += amount;
+            return amount;
+        }
+    }
+
+    /**
+     * 不检查可用余额直接冻结，可用余额可以为负。重启后按挂单重建冻结时使用，之后由账户服务加载余额抵平
+     */
+    public void forceFreeze(long accountId, int asset, long amount) {
+        Stripe stripe = stripeOf(accountId);
+        synchronized (stripe) {
+            int slot = stripe.slot(key(accountId, asset));
+            stripe.available[slot] -= amount;
+            stripe.frozen[slot] += amount;
+        }
+    }
+
+    /**
+     * 解冻到可用余额
+     */
+    public void unfreeze(long accountId, int asset, long amount) {
+        if (amount == 0L) {
+            return;
+        }
+        Stripe stripe = stripeOf(accountId);
+        synchronized (stripe) {
+            int slot = stripe.slot(key(accountId, asset));
+            stripe.frozen[slot] -= amount;
+            stripe.available[slot] += amount;
+        }
+    }
+
+    /**
+     * 成交结算：从冻结中释放 released，其中 paid 付给对手方，其余退回可用；收到的 received 计入可用。
+     * released = 0 时从可用余额中支付（不冻结余额的订单）
+     */
+    public void settle(long accountId, int payAsset, long released, long paid, int receiveAsset, long received) {
+        Stripe stripe = stripeOf(accountId);
+        synchronized (stripe) {
+            int paySlot = stripe.slot(key(accountId, payAsset));
+            stripe.frozen[paySlot] -= released;
+            stripe.available[paySlot] += released - paid;
+            int receiveSlot = stripe.slot(key(accountId, receiveAsset));
+            stripe.available[receiveSlot] += received;
+        }
+    }
+
+    public long available(long accountId, int asset) {
+        Stripe stripe = stripeOf(accountId);
+        synchronized (stripe) {
+            int slot = stripe.find(key(accountId, asset));
+            return slot < 0 ? 0L : stripe.available[slot];
+        }
+    }
+
+    public long frozen(long accountId, int asset) {
+        Stripe stripe = stripeOf(accountId);
+        synchronized (stripe) {
+            int slot = stripe.find(key(accountId, asset));
+            return slot < 0 ? 0L : stripe.frozen[slot];
+        }
+    }
+
+    private Stripe stripeOf(long accountId) {
+        long hash = accountId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash >>> 40) & stripeMask];
+    }
+
+    private static long key(long accountId, int asset) {
+        return accountId << ASSET_BITS | asset;
+    }
+
+    /**
+     * 一个条带的索引和余额，只在持有条带锁时访问
+     */
+    private static final class Stripe {
+
+        private final LongIntHashMap index;
+
+        private long[] available;
+
+        private long[] frozen;
+
+        private int size;
+
+        private Stripe(int expectedAccounts) {
+            int capacity = Math.max(expectedAccounts, 16);
+            this.index = new LongIntHashMap(capacity, -1);
+            this.available = new long[capacity];
+            this.frozen = new long[capacity];
+        }
+
+        int find(long key) {
+            return index.get(key);
+        }
+
+        /**
+         * 找到或新建记录
+         */
+        int slot(long key) {
+            int slot = index.get(key);
+            if (slot >= 0) {
+                return slot;
+            }
+            if (size == available.length) {
+                available = Arrays.copyOf(available, size << 1);
+                frozen = Arrays.copyOf(frozen, size << 1);
+            }
+            slot = size++;
+            index.put(key, slot);
+            return slot;
+        }
+    }
+}
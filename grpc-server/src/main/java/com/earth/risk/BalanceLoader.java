@@ -0,0 +1,99 @@
+package com.earth.risk;
+
+import com.earth.decimal.DecimalCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ObjectUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 启动时从余额文件加载账户余额到 {@link AccountLedger}
+ * <p>
+ * 余额为账户服务导出的总余额（含挂单占用的部分），通过 credit 计入可用余额。
+ * 重启恢复挂单时已经用 forceFreeze 从可用余额中扣除了挂单冻结，两者相加即为可用余额，与恢复的先后顺序无关
+ * <p>
+ * 整个文件解析成功后才入账，格式错误时启动失败，不会只加载一部分
+ */
+@Slf4j
+public class BalanceLoader {
+
+    private final Path file;
+
+    private final PreTradeRisk risk;
+
+    /**
+     * 余额的定点精度，与冻结、结算使用的精度一致
+     */
+    private final int scale;
+
+    public BalanceLoader(RiskProperties properties, PreTradeRisk risk, int scale) {
+        this.file = ObjectUtils.isEmpty(properties.getBalanceFile()) ? null : Paths.get(properties.getBalanceFile());
+        this.risk = risk;
+        this.scale = scale;
+    }
+
+    /**
+     * 加载余额文件，没有配置文件时只在开启风控时告警
+     */
+    public void load() throws IOException {
+        if (file == null) {
+            if (risk.isEnabled()) {
+                log.warn("[RISK] risk enabled without balance file, orders that lock balance are rejected until balances are credited");
+            }
+            return;
+        }
+        long start = System.nanoTime();
+        int loaded = credit(Files.readAllLines(file, StandardCharsets.UTF_8));
+        log.info("[RISK] balances loaded, file: {}, entries: {}, took: {}ms", file, loaded, (System.nanoTime() - start) / 1_000_000L);
+    }
+
+    /**
+     * 解析并入账，每行一条余额：
+     * <pre>
+     * account_id,asset,balance
+     * </pre>
+     * asset 为 order.risk.symbols 中配置的资产名称，balance 为十进制数，精度超过 scale 的部分截断。
+     * 空行和 # 开头的行忽略，同一个 (account_id, asset) 出现多次时累加
+     *
+     * @return 入账的记录数
+     * @throws IllegalArgumentException 格式错误或资产未配置
+     */
+    public int credit(List<String> lines) {
+        int count = 0;
+        long[] accountIds = new long[lines.size()];
+        int[] assets = new int[lines.size()];
+        long[] balances = new long[lines.size()];
+        for (int lineNo = 1; lineNo <= lines.size(); lineNo++) {
+            String line = lines.get(lineNo - 1).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("balance must have 3 fields, line " + lineNo + ": " + line);
+            }
+            int asset = risk.assetId(fields[1].trim());
+            if (asset < 0) {
+                throw new IllegalArgumentException("unknown asset, line " + lineNo + ": " + line);
+            }
+            try {
+                accountIds[count] = Long.parseLong(fields[0].trim());
+                balances[count] = DecimalCodec.parse(fields[2].trim(), scale);
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new IllegalArgumentException("invalid balance, line " + lineNo + ": " + line, e);
+            }
+            assets[count] = asset;
+            count++;
+        }
+        AccountLedger ledger = risk.ledger();
+        for (int i = 0; i < count; i++) {
+            ledger.credit(accountIds[i], assets[i], balances[i]);
+        }
+        return count;
+    }
+}
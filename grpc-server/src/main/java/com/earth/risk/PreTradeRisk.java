@@ -0,0 +1,277 @@
+package com.earth.risk;
+
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.book.OrderBook;
+import com.earth.decimal.FixedPoint;
+import com.earth.symbol.SymbolRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 下单前余额风控
+ * <p>
+ * 买单冻结计价资产，卖单冻结基础资产，冻结数额按订单类型计算：
+ * <ul>
+ *     <li>限价类（LIMIT / LOCAL_ONLY / LIMIT_MAKER / COM / STOP_LIMIT）：买单冻结 price * quantity，卖单冻结 quantity</li>
+ *     <li>MARKET_OF_QUOTE 买单：冻结 amount；MARKET_OF_BASE 卖单：冻结 quantity</li>
+ *     <li>成交数额事先无法确定的市价单（MARKET_OF_BASE 买单、MARKET_OF_QUOTE 卖单）：冻结全部可用余额，
+ *     冻结的数额同时作为撮合时的金额 / 数量上限，撮合结束后退回剩余部分</li>
+ *     <li>STOP 按触发后的市价单计算，下单时即冻结；成交数额事先无法确定的（按数量买入、按金额卖出）按触发价加上
+ *     滑点上限（stop-slippage-bps）估算冻结数额，不冻结全部可用余额，触发后同样以冻结的数额作为撮合上限</li>
+ * </ul>
+ * LIMIT_FREE、LIMIT_MAKER_FREE 以及强平单（is_liquidation_order）不冻结余额，成交时直接从可用余额结算；
+ * 止损单触发前一直占用余额，强平标记对止损单不生效。
+ * <p>
+ * 冻结的数额由写 WAL 阶段追加在请求字节后随记录落盘，撮合、回放都只看记录中的冻结数额，
+ * 订单簿的结果不依赖余额表（余额表不持久化，回放时不变更余额）。
+ * <p>
+ * 挂单的冻结数额只由价格和剩余数量决定（买单 price * remaining，卖单 remaining），不需要为每个订单单独记录；
+ * 金额统一向下取整，保证每次成交从冻结中释放的数额不小于成交金额
+ */
+@Slf4j
+@ThreadSafe
+public final class PreTradeRisk {
+
+    /**
+     * requirement 的返回值：冻结全部可用余额。与 freeze 返回的错误码取不同的值，避免混用时误判
+     */
+    public static final long ALL = Long.MIN_VALUE;
+
+    public static final long INSUFFICIENT_BALANCE = -1L;
+
+    public static final long UNKNOWN_SYMBOL = -2L;
+
+    private static final long BPS_ONE = 10_000L;
+
+    private final boolean enabled;
+
+    private final AccountLedger ledger;
+
+    /**
+     * 资产名称 -> 资产 id
+     */
+    private final Map<String, Integer> assets = new HashMap<>();
+
+    /**
+     * 下标为币对注册表中的 id，未配置资产的币对为 null
+     */
+    private final SymbolAssets[] symbols;
+
+    private final long amountDivisor;
+
+    private final long stopSlippageBps;
+
+    public PreTradeRisk(RiskProperties properties, SymbolRegistry symbolRegistry, int priceScale, int quantityScale, int amountScale) {
+        this.enabled = properties.isEnabled();
+        this.ledger = new AccountLedger(properties.getStripes(), properties.getExpectedAccountsPerStripe());
+        this.amountDivisor = FixedPoint.pow10(priceScale + quantityScale - amountScale);
+        if (properties.getStopSlippageBps() < 0L || properties.getStopSlippageBps() >= BPS_ONE) {
+            throw new IllegalArgumentException("stop slippage bps must be in [0, " + BPS_ONE + "): " + properties.getStopSlippageBps());
+        }
+        this.stopSlippageBps = properties.getStopSlippageBps();
+        Map<Integer, SymbolAssets> configured = new HashMap<>();
+        properties.getSymbols().forEach((symbolId, pair) -> {
+            String[] parts = pair.split("/");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("symbol assets must be BASE/QUOTE, symbol: " + symbolId + ", value: " + pair);
+            }
+            configured.put(symbolRegistry.register(symbolId).id(), new SymbolAssets(register(parts[0].trim()), register(parts[1].trim())));
+        });
+        this.symbols = new SymbolAssets[configured.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1];
+        configured.forEach((symbol, assets) -> symbols[symbol] = assets);
+        log.info("[RISK] enabled: {}, symbols: {}, assets: {}", enabled, configured.size(), assets.keySet());
+    }
+
+    private int register(String asset) {
+        Integer id = assets.get(asset);
+        if (id == null) {
+            if (assets.size() == AccountLedger.MAX_ASSETS) {
+                throw new IllegalArgumentException("too many assets");
+            }
+            id = assets.size();
+            assets.put(asset, id);
+        }
+        return id;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AccountLedger ledger() {
+        return ledger;
+    }
+
+    /**
+     * 已配置的资产数，资产 id 为 [0, assetCount)
+     */
+    public int assetCount() {
+        return assets.size();
+    }
+
+    /**
+     * 资产 id，未配置的资产返回 -1
+     */
+    public int assetId(String asset) {
+        return assets.getOrDefault(asset, -1);
+    }
+
+    /**
+     * 币对的资产，未配置的币对返回 null
+     *
+     * @param symbol 币对注册表中的 id
+     */
+    public SymbolAssets assetsOf(int symbol) {
+        return symbol >= 0 && symbol < symbols.length ? symbols[symbol] : null;
+    }
+
+    /**
+     * 是否需要冻结余额
+     */
+    public static boolean locksBalance(OrderTypeEnum orderType, boolean liquidation) {
+        switch (orderType) {
+            case LIMIT_FREE:
+            case LIMIT_MAKER_FREE:
+                return false;
+            case STOP:
+            case STOP_LIMIT:
+                return true;
+            default:
+                return !liquidation;
+        }
+    }
+
+    /**
+     * 订单需要冻结的数额，无法事先确定时返回 ALL；STOP 单按触发价和滑点上限估算，不返回 ALL
+     *
+     * @param triggerPrice STOP 单的触发价，其他订单不使用
+     */
+    public long requirement(int side, OrderTypeEnum orderType, long price, long quantity, long amount, long triggerPrice) {
+        boolean market;
+        switch (orderType) {
+            case MARKET_OF_BASE:
+            case MARKET_OF_QUOTE:
+                market = true;
+                break;
+            case STOP:
+                return stopRequirement(side, triggerPrice, quantity, amount);
+            default:
+                market = false;
+        }
+        if (side == OrderBook.BUY) {
+            if (!market) {
+                return amountOf(price, quantity);
+            }
+            return orderType == OrderTypeEnum.MARKET_OF_QUOTE ? amount : ALL;
+        }
+        return market && orderType == OrderTypeEnum.MARKET_OF_QUOTE ? ALL : quantity;
+    }
+
+    /**
+     * STOP 单的冻结数额：按数量买入冻结 quantity * triggerPrice * (1 + 滑点)，按金额卖出冻结
+     * amount / (triggerPrice * (1 - 滑点))（向上取整），其余与触发后的市价单相同；触发价不合法时返回 0
+     */
+    private long stopRequirement(int side, long triggerPrice, long quantity, long amount) {
+        if (triggerPrice <= 0L) {
+            return 0L;
+        }
+        long slippage = FixedPoint.mulDiv(triggerPrice, stopSlippageBps, BPS_ONE);
+        if (side == OrderBook.BUY) {
+            return quantity > 0L ? amountOf(Math.addExact(triggerPrice, slippage), quantity) : amount;
+        }
+        if (quantity > 0L) {
+            return quantity;
+        }
+        long floorPrice = triggerPrice - slippage;
+        if (floorPrice <= 0L || amount <= 0L) {
+            return 0L;
+        }
+        long required = FixedPoint.mulDiv(amount, amountDivisor, floorPrice);
+        return amountOf(floorPrice, required) < amount ? Math.addExact(required, 1L) : required;
+    }
+
+    /**
+     * 下单时冻结余额
+     *
+     * @param triggerPrice STOP 单的触发价，其他订单不使用
+     * @return 冻结的数额（不需要冻结时为 0），余额不足返回 INSUFFICIENT_BALANCE，币对未配置返回 UNKNOWN_SYMBOL
+     */
+    public long freeze(long accountId, int symbol, int side, OrderTypeEnum orderType, boolean liquidation,
+                       long price, long quantity, long amount, long triggerPrice) {
+        if (!enabled || !locksBalance(orderType, liquidation)) {
+            return 0L;
+        }
+        SymbolAssets symbolAssets = assetsOf(symbol);
+        if (symbolAssets == null) {
+            return UNKNOWN_SYMBOL;
+        }
+        long required = requirement(side, orderType, price, quantity, amount, triggerPrice);
+        if (required == ALL) {
+            long frozen = ledger.freezeAll(accountId, symbolAssets.payAsset(side));
+            return frozen > 0L ? frozen : INSUFFICIENT_BALANCE;
+        }
+        if (required <= 0L) {
+            // 价格、数量不合法，撮合时拒绝
+            return 0L;
+        }
+        return ledger.freeze(accountId, symbolAssets.payAsset(side), required) ? required : INSUFFICIENT_BALANCE;
+    }
+
+    /**
+     * 退回 freeze 冻结的数额，订单没有写入 WAL 时使用
+     */
+    public void unfreeze(long accountId, int symbol, int side, long frozen) {
+        SymbolAssets symbolAssets = assetsOf(symbol);
+        if (symbolAssets != null && frozen > 0L) {
+            ledger.unfreeze(accountId, symbolAssets.payAsset(side), frozen);
+        }
+    }
+
+    /**
+     * 挂单（限价）剩余部分的冻结数额
+     */
+    public long restingLocked(int side, long price, long remaining) {
+        return side == OrderBook.BUY ? amountOf(price, remaining) : remaining;
+    }
+
+    public long amountOf(long price, long quantity) {
+        return FixedPoint.mulDiv(price, quantity, amountDivisor);
+    }
+
+    /**
+     * 币对的基础资产、计价资产 id
+     */
+    public static final class SymbolAssets {
+
+        private final int base;
+
+        private final int quote;
+
+        SymbolAssets(int base, int quote) {
+            this.base = base;
+            this.quote = quote;
+        }
+
+        public int base() {
+            return base;
+        }
+
+        public int quote() {
+            return quote;
+        }
+
+        /**
+         * 买单支付计价资产，卖单支付基础资产
+         */
+        public int payAsset(int side) {
+            return side == OrderBook.BUY ? quote : base;
+        }
+
+        public int receiveAsset(int side) {
+            return side == OrderBook.BUY ? base : quote;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.earth.risk;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 下单前余额风控配置
+ */
+@Data
+@ConfigurationProperties(prefix = "order.risk")
+public class RiskProperties {
+
+    /**
+     * 是否在下单时冻结余额，关闭时不检查余额
+     */
+    private boolean enabled = false;
+
+    /**
+     * 余额表条带数，取不小于该值的 2 的幂
+     */
+    private int stripes = 64;
+
+    /**
+     * 每个条带预估的 (账户, 资产) 数
+     */
+    private int expectedAccountsPerStripe = 1024;
+
+    /**
+     * 币对的基础资产和计价资产，key=symbol_id，value=BASE/QUOTE，如 BTCUSDT=BTC/USDT
+     */
+    private Map<String, String> symbols = new LinkedHashMap<>();
+
+    /**
+     * STOP 单按触发价冻结时允许的滑点，万分比。买入按 triggerPrice * (1 + 滑点) 冻结计价资产，
+     * 按金额卖出按 triggerPrice * (1 - 滑点) 冻结基础资产；触发后成交超出冻结数额的部分撤销。取值 [0, 10000)
+     */
+    private long stopSlippageBps = 500L;
+
+    /**
+     * 启动时加载的余额文件，为空时不加载。格式见 {@link BalanceLoader#credit(java.util.List)}
+     */
+    private String balanceFile = "";
+}
@@ -0,0 +1,15 @@
+package com.earth.sequencer;
+
+/**
+ * 消费者被要求停止时，从等待中唤醒抛出。单例且不填充栈，避免分配
+ */
+public final class AlertException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    static final AlertException INSTANCE = new AlertException();
+
+    private AlertException() {
+        super("alerted", null, false, false);
+    }
+}
@@ -0,0 +1,100 @@
+package com.earth.sequencer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 批量消费者
+ * <p>
+ * 每次等待到上游可用的最大序号，把中间的事件一次处理完，最后一个事件标记 endOfBatch，
+ * 处理完整批后才推进自己的序号。上游越快每批越大，落盘、发送等固定开销被整批分摊
+ * <p>
+ * 事件处理抛出异常时停止消费（与 Disruptor 的 FatalExceptionHandler 相同）：异常所在的整批都不推进序号，
+ * 下游阶段不会处理这一批中的任何事件（比如没有写入 WAL 的订单不会被撮合）。之后调用 onShutdown，
+ * 由处理器清理批次中途的状态；调用方通过 {@link #getFailure()} 发现故障，不再向该队列投递
+ */
+@Slf4j
+public final class BatchEventProcessor<E> implements Runnable {
+
+    private final RingBuffer<E> ringBuffer;
+
+    private final SequenceBarrier barrier;
+
+    private final EventHandler<? super E> handler;
+
+    private final Sequence sequence = new Sequence();
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 使消费停止的异常，null 表示没有发生
+     */
+    private volatile Throwable failure;
+
+    public BatchEventProcessor(RingBuffer<E> ringBuffer, SequenceBarrier barrier, EventHandler<? super E> handler) {
+        this.ringBuffer = ringBuffer;
+        this.barrier = barrier;
+        this.handler = handler;
+    }
+
+    /**
+     * 已处理完的最大序号，下游消费者或生产者门控使用
+     */
+    public Sequence getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 停止消费，尚未处理的事件不再处理。需要处理完再停止时，调用方先等待 backlog 归零
+     */
+    public void halt() {
+        running.set(false);
+        barrier.alert();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 使消费停止的处理异常，没有发生时返回 null
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("processor already running");
+        }
+        barrier.clearAlert();
+        handler.onStart();
+        try {
+            long nextSequence = sequence.get() + 1L;
+            while (true) {
+                try {
+                    long availableSequence = barrier.waitFor(nextSequence);
+                    while (nextSequence <= availableSequence) {
+                        handler.onEvent(ringBuffer.get(nextSequence), nextSequence, nextSequence == availableSequence);
+                        nextSequence++;
+                    }
+                    sequence.set(availableSequence);
+                } catch (AlertException e) {
+                    if (!running.get()) {
+                        break;
+                    }
+                } catch (Throwable e) {
+                    failure = e;
+                    log.error("[SEQUENCER] event handler failed, processor halted, sequence: {}, last completed: {}",
+                            nextSequence, sequence.get(), e);
+                    break;
+                }
+            }
+        } finally {
+            handler.onShutdown();
+            running.set(false);
+        }
+    }
+}
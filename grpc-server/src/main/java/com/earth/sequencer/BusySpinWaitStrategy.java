@@ -0,0 +1,14 @@
+package com.earth.sequencer;
+
+public final class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public long waitFor(long sequence, ReadableSequence dependent, SequenceBarrier barrier) throws AlertException {
+        long available;
+        while ((available = dependent.get()) < sequence) {
+            barrier.checkAlert();
+            Thread.onSpinWait();
+        }
+        return available;
+    }
+}
@@ -0,0 +1,20 @@
+package com.earth.sequencer;
+
+/**
+ * 事件处理器，由 BatchEventProcessor 在单个线程中调用
+ */
+public interface EventHandler<E> {
+
+    /**
+     * @param event      槽位中的事件，处理结束后槽位会被生产者复用，不要保留引用
+     * @param sequence   事件序号
+     * @param endOfBatch 是否为本批最后一个事件，批量落盘、批量发送等操作在这里进行
+     */
+    void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+
+    default void onStart() {
+    }
+
+    default void onShutdown() {
+    }
+}
@@ -0,0 +1,29 @@
+package com.earth.sequencer;
+
+import java.util.concurrent.locks.LockSupport;
+
+public final class ParkingWaitStrategy implements WaitStrategy {
+
+    private static final int SPIN_TRIES = 200;
+
+    private static final long PARK_NANOS = 50_000L;
+
+    @Override
+    public long waitFor(long sequence, ReadableSequence dependent, SequenceBarrier barrier) throws AlertException {
+        long available;
+        int counter = SPIN_TRIES;
+        while ((available = dependent.get()) < sequence) {
+            barrier.checkAlert();
+            if (counter > 100) {
+                counter--;
+                Thread.onSpinWait();
+            } else if (counter > 0) {
+                counter--;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        return available;
+    }
+}
@@ -0,0 +1,11 @@
+package com.earth.sequencer;
+
+/**
+ * 只读序号
+ * <p>
+ * 屏障和等待策略只读取上游进度，依赖该接口而不是 {@link Sequence}，多个上游的最小值（{@link SequenceGroup}）不需要实现写操作
+ */
+public interface ReadableSequence {
+
+    long get();
+}
@@ -0,0 +1,225 @@
+package com.earth.sequencer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 多生产者环形队列
+ * <p>
+ * 槽位在创建时全部分配好，生产者只修改槽位中的字段，入队路径上没有锁也没有对象分配：
+ * <ol>
+ *     <li>next/tryNext：CAS 推进游标领取序号，序号即全局顺序</li>
+ *     <li>get：取出序号对应的槽位并填充</li>
+ *     <li>publish：设置槽位的可用标记，消费者可见</li>
+ * </ol>
+ * 游标不能超过最慢消费者一圈（gating sequences），队列满时 tryNext 返回 -1，由调用方决定拒绝还是重试
+ * <p>
+ * 可用标记记录槽位被发布时的圈数，消费者据此判断游标之前的槽位是否都已发布，避免慢生产者的空洞被越过
+ */
+public final class RingBuffer<E> {
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final Object[] entries;
+
+    private final int bufferSize;
+
+    private final int indexMask;
+
+    private final int indexShift;
+
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * 已被领取的最大序号
+     */
+    private final Sequence cursor = new Sequence();
+
+    /**
+     * 最慢消费者进度的缓存，避免每次领取都遍历全部消费者
+     */
+    private final Sequence gatingSequenceCache = new Sequence();
+
+    /**
+     * 每个槽位最后一次发布时的圈数
+     */
+    private final int[] availableBuffer;
+
+    private volatile Sequence[] gatingSequences = new Sequence[0];
+
+    private RingBuffer(Supplier<E> factory, int bufferSize, WaitStrategy waitStrategy) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("bufferSize must be a power of 2: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.indexMask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.waitStrategy = waitStrategy;
+        this.entries = new Object[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            entries[i] = factory.get();
+        }
+        this.availableBuffer = new int[bufferSize];
+        Arrays.fill(availableBuffer, -1);
+    }
+
+    public static <E> RingBuffer<E> create(Supplier<E> factory, int bufferSize, WaitStrategy waitStrategy) {
+        return new RingBuffer<>(factory, bufferSize, waitStrategy);
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) entries[(int) sequence & indexMask];
+    }
+
+    /**
+     * 领取一个序号，队列满时自旋等待消费者
+     */
+    public long next() {
+        return next(1);
+    }
+
+    public long next(int n) {
+        checkBatchSize(n);
+        long current;
+        long next;
+        do {
+            current = cursor.get();
+            next = current + n;
+            long wrapPoint = next - bufferSize;
+            long cachedGating = gatingSequenceCache.get();
+            if (wrapPoint > cachedGating || cachedGating > current) {
+                long gating = SequenceGroup.minimum(gatingSequences, current);
+                if (wrapPoint > gating) {
+                    LockSupport.parkNanos(1L);
+                    continue;
+                }
+                gatingSequenceCache.set(gating);
+            } else if (cursor.compareAndSet(current, next)) {
+                break;
+            }
+        } while (true);
+        return next;
+    }
+
+    /**
+     * 尝试领取一个序号，队列满时返回 -1
+     */
+    public long tryNext() {
+        return tryNext(1);
+    }
+
+    /**
+     * 尝试领取连续 n 个序号，返回最后一个序号，剩余容量不足时返回 -1
+     */
+    public long tryNext(int n) {
+        checkBatchSize(n);
+        long current;
+        long next;
+        do {
+            current = cursor.get();
+            next = current + n;
+            if (!hasAvailableCapacity(n, current)) {
+                return -1L;
+            }
+        } while (!cursor.compareAndSet(current, next));
+        return next;
+    }
+
+    public void publish(long sequence) {
+        setAvailable(sequence);
+    }
+
+    /**
+     * 发布 [lo, hi] 区间内的全部序号
+     */
+    public void publish(long lo, long hi) {
+        for (long sequence = lo; sequence <= hi; sequence++) {
+            setAvailable(sequence);
+        }
+    }
+
+    public boolean isAvailable(long sequence) {
+        int index = (int) sequence & indexMask;
+        int flag = (int) (sequence >>> indexShift);
+        return (int) AVAILABLE.getAcquire(availableBuffer, index) == flag;
+    }
+
+    /**
+     * 从 lowerBound 开始，返回连续已发布的最大序号
+     */
+    public long getHighestPublishedSequence(long lowerBound, long availableSequence) {
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            if (!isAvailable(sequence)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    /**
+     * 添加门控序号，生产者不会覆盖这些消费者尚未处理的槽位。应传入最末端的消费者
+     */
+    public synchronized void addGatingSequences(Sequence... sequences) {
+        long cursorValue = cursor.get();
+        Sequence[] current = gatingSequences;
+        Sequence[] updated = Arrays.copyOf(current, current.length + sequences.length);
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i].set(cursorValue);
+            updated[current.length + i] = sequences[i];
+        }
+        gatingSequences = updated;
+    }
+
+    /**
+     * 创建消费者屏障，dependents 为空时等待生产者游标
+     */
+    public SequenceBarrier newBarrier(ReadableSequence... dependents) {
+        return new SequenceBarrier(this, waitStrategy, cursor, dependents);
+    }
+
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * 已领取但最慢消费者还没处理完的事件数
+     */
+    public long backlog() {
+        long produced = cursor.get();
+        return produced - SequenceGroup.minimum(gatingSequences, produced);
+    }
+
+    public long remainingCapacity() {
+        return bufferSize - backlog();
+    }
+
+    private boolean hasAvailableCapacity(int n, long cursorValue) {
+        long wrapPoint = (cursorValue + n) - bufferSize;
+        long cachedGating = gatingSequenceCache.get();
+        if (wrapPoint > cachedGating || cachedGating > cursorValue) {
+            long gating = SequenceGroup.minimum(gatingSequences, cursorValue);
+            gatingSequenceCache.set(gating);
+            return wrapPoint <= gating;
+        }
+        return true;
+    }
+
+    private void setAvailable(long sequence) {
+        int index = (int) sequence & indexMask;
+        AVAILABLE.setRelease(availableBuffer, index, (int) (sequence >>> indexShift));
+    }
+
+    private void checkBatchSize(int n) {
+        if (n < 1 || n > bufferSize) {
+            throw new IllegalArgumentException("n must be > 0 and <= bufferSize: " + n);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.earth.sequencer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+class LhsPadding {
+    protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+class Value extends LhsPadding {
+    protected volatile long value;
+}
+
+class RhsPadding extends Value {
+    protected long p9, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * 序号
+ * <p>
+ * 前后各填充 56 字节，独占一个缓存行，生产者游标与各消费者进度互不产生伪共享
+ */
+public class Sequence extends RhsPadding implements ReadableSequence {
+
+    static final long INITIAL_VALUE = -1L;
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Value.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public Sequence() {
+        this(INITIAL_VALUE);
+    }
+
+    public Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    @Override
+    public long get() {
+        return value;
+    }
+
+    /**
+     * 有序写，只保证之前的写对读到新值的线程可见，比 volatile 写开销小
+     */
+    public void set(long value) {
+        VALUE.setRelease(this, value);
+    }
+
+    public void setVolatile(long value) {
+        this.value = value;
+    }
+
+    public boolean compareAndSet(long expectedValue, long newValue) {
+        return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
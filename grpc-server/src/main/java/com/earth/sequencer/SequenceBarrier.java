@@ -0,0 +1,56 @@
+package com.earth.sequencer;
+
+/**
+ * 消费者屏障
+ * <p>
+ * 消费者通过屏障等待上游：第一组消费者等待生产者游标，后续消费者等待前一组消费者的进度。
+ * 多生产者场景下游标前进不代表中间的槽位都已发布，还需按可用标记截取连续已发布的一段
+ */
+public final class SequenceBarrier {
+
+    private final RingBuffer<?> ringBuffer;
+
+    private final WaitStrategy waitStrategy;
+
+    private final ReadableSequence dependent;
+
+    private volatile boolean alerted;
+
+    SequenceBarrier(RingBuffer<?> ringBuffer, WaitStrategy waitStrategy, ReadableSequence cursor, ReadableSequence[] dependents) {
+        this.ringBuffer = ringBuffer;
+        this.waitStrategy = waitStrategy;
+        if (dependents.length == 0) {
+            this.dependent = cursor;
+        } else if (dependents.length == 1) {
+            this.dependent = dependents[0];
+        } else {
+            this.dependent = new SequenceGroup(dependents);
+        }
+    }
+
+    /**
+     * 等待 sequence 可消费，返回可以连续消费到的最大序号
+     */
+    public long waitFor(long sequence) throws AlertException {
+        checkAlert();
+        long available = waitStrategy.waitFor(sequence, dependent, this);
+        if (available < sequence) {
+            return available;
+        }
+        return ringBuffer.getHighestPublishedSequence(sequence, available);
+    }
+
+    public void alert() {
+        alerted = true;
+    }
+
+    public void clearAlert() {
+        alerted = false;
+    }
+
+    public void checkAlert() throws AlertException {
+        if (alerted) {
+            throw AlertException.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.earth.sequencer;
+
+/**
+ * 一组序号的最小值，用于等待多个上游消费者。只读，进度由各消费者自己推进
+ */
+final class SequenceGroup implements ReadableSequence {
+
+    private final ReadableSequence[] sequences;
+
+    SequenceGroup(ReadableSequence[] sequences) {
+        this.sequences = sequences.clone();
+    }
+
+    static long minimum(ReadableSequence[] sequences, long minimum) {
+        for (ReadableSequence sequence : sequences) {
+            long value = sequence.get();
+            minimum = Math.min(minimum, value);
+        }
+        return minimum;
+    }
+
+    @Override
+    public long get() {
+        return minimum(sequences, Long.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
@@ -0,0 +1,47 @@
+package com.earth.sequencer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 订单排序队列配置
+ */
+@Data
+@ConfigurationProperties(prefix = "order.sequencer")
+public class SequencerProperties {
+
+    /**
+     * 撮合分片数，每个分片占用两个线程（写 WAL、撮合）。币对按哈希分配到分片，部署后不能随意修改
+     */
+    private int shards = 1;
+
+    /**
+     * 每个分片的环形队列槽位数，必须是 2 的幂，满了以后拒绝新订单
+     */
+    private int ringSize = 65536;
+
+    /**
+     * 下单命令对象池最多缓存的空闲命令数，必须是 2 的幂，一般不小于各分片环形队列槽位数之和
+     */
+    private int commandPoolSize = 65536;
+
+    /**
+     * CreateOrders 一次最多提交的订单数，超过时整批拒绝。同一分片的订单一次入队，不能大于 ringSize
+     */
+    private int maxBatchOrders = 1000;
+
+    /**
+     * 消费者等待策略
+     */
+    private WaitStrategy.WaitStrategyType waitStrategy = WaitStrategy.WaitStrategyType.YIELD;
+
+    /**
+     * 执行回报队列槽位数，必须是 2 的幂，满了以后撮合线程等待回报发布线程
+     */
+    private int reportRingSize = 65536;
+
+    /**
+     * 每个回报订阅者最多积压的批数，超过后断开该订阅者
+     */
+    private int subscriberQueueCapacity = 1024;
+}
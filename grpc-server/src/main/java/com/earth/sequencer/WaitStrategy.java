@@ -0,0 +1,48 @@
+package com.earth.sequencer;
+
+/**
+ * 消费者等待上游序号前进的策略，均不使用锁
+ */
+public interface WaitStrategy {
+
+    /**
+     * 等待直到上游序号 >= sequence
+     *
+     * @param sequence  需要等待的序号
+     * @param dependent 上游序号，第一个消费者为生产者游标，后续消费者为前一组消费者的进度
+     * @param barrier   用于检查停止信号
+     * @return 上游当前可用的最大序号，可能大于 sequence
+     */
+    long waitFor(long sequence, ReadableSequence dependent, SequenceBarrier barrier) throws AlertException;
+
+    static WaitStrategy of(WaitStrategyType type) {
+        switch (type) {
+            case BUSY_SPIN:
+                return new BusySpinWaitStrategy();
+            case YIELD:
+                return new YieldingWaitStrategy();
+            case PARK:
+                return new ParkingWaitStrategy();
+            default:
+                throw new IllegalArgumentException("Unsupported wait strategy: " + type);
+        }
+    }
+
+    enum WaitStrategyType {
+
+        /**
+         * 自旋，延迟最低，消费者线程独占一个核
+         */
+        BUSY_SPIN,
+
+        /**
+         * 自旋若干次后 Thread.yield，延迟与 CPU 占用折中
+         */
+        YIELD,
+
+        /**
+         * 自旋若干次后 park 一小段时间，CPU 占用最低
+         */
+        PARK
+    }
+}
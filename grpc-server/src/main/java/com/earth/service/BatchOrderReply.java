@@ -0,0 +1,51 @@
+package com.earth.service;
+
+import com.earth.command.OrderAck;
+import com.earth.engine.OrderReplyListener;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CreateOrders 的回复：收齐一批中每个订单的结果后一次返回
+ * <p>
+ * 一批订单可能分布在多个分片，各分片的写 WAL 线程并发回调，每个结果写入各自的下标；
+ * 最后一个结果到达的线程发送整批回复（计数器的递减保证之前写入的结果对它可见）
+ */
+@Slf4j
+final class BatchOrderReply implements OrderReplyListener {
+
+    private final OrderAck[] acks;
+
+    private final AtomicInteger remaining;
+
+    private final StreamObserver<OrderAck[]> responseObserver;
+
+    BatchOrderReply(int size, StreamObserver<OrderAck[]> responseObserver) {
+        this.acks = new OrderAck[size];
+        this.remaining = new AtomicInteger(size);
+        this.responseObserver = responseObserver;
+    }
+
+    @Override
+    public void onReply(int index, OrderAck ack) {
+        acks[index] = ack;
+        if (remaining.decrementAndGet() == 0) {
+            complete();
+        }
+    }
+
+    /**
+     * 发送整批回复，一批中没有订单时由调用方直接调用
+     */
+    void complete() {
+        try {
+            responseObserver.onNext(acks);
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            // 客户端已经取消
+            log.warn("[ORDER] batch reply failed, orders: {}", acks.length, e);
+        }
+    }
+}
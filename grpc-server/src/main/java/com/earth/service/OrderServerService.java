@@ -2,29 +2,161 @@ package com.earth.service;
 
 
 import com.earth.base.order.*;
+import com.earth.command.OrderAck;
+import com.earth.command.OrderAckBatchMarshaller;
+import com.earth.command.OrderAckMarshaller;
+import com.earth.command.OrderCommand;
+import com.earth.command.OrderCommandBatchMarshaller;
+import com.earth.command.OrderCommandCodec;
+import com.earth.command.OrderCommandMarshaller;
+import com.earth.command.OrderCommandPool;
+import com.earth.command.SessionEvent;
+import com.earth.command.SessionEventMarshaller;
+import com.earth.command.SessionRequest;
+import com.earth.command.SessionRequestMarshaller;
+import com.earth.engine.OrderEngine;
+import com.earth.report.ExecutionReportBus;
+import com.earth.sequencer.SequencerProperties;
+import com.earth.symbol.SymbolInfo;
+import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CreateOrder 不使用生成代码中的 NewOrderRequest marshaller：请求字节由 {@link OrderCommandMarshaller} 直接解析为
+ * {@link OrderCommand}，不创建 NewOrderRequest 及其中的 Decimal、BaseRequest；
+ * 回复由 {@link OrderAckMarshaller} 按预先编码的模板写出，不创建 NewOrderReply。
+ * CreateOrders 同样由 {@link OrderCommandBatchMarshaller}、{@link OrderAckBatchMarshaller} 处理，
+ * OrderSession 由 {@link SessionRequestMarshaller}、{@link SessionEventMarshaller} 处理。其余方法与生成代码一致
+ */
 @Slf4j
 @GrpcService
-public class OrderServerService extends com.earth.base.order.OrderServiceGrpc.OrderServiceImplBase {
+public class OrderServerService implements BindableService, OrderServiceGrpc.AsyncService {
+
+    private final OrderEngine orderEngine;
+
+    private final ExecutionReportBus executionReportBus;
+
+    private final OrderCommandPool commandPool;
+
+    private final int maxBatchOrders;
+
+    private final SessionProperties sessionProperties;
+
+    public OrderServerService(OrderEngine orderEngine, ExecutionReportBus executionReportBus, OrderCommandPool commandPool,
+                              SequencerProperties sequencerProperties, SessionProperties sessionProperties) {
+        this.orderEngine = orderEngine;
+        this.executionReportBus = executionReportBus;
+        this.commandPool = commandPool;
+        this.maxBatchOrders = sequencerProperties.getMaxBatchOrders();
+        this.sessionProperties = sessionProperties;
+    }
+
+    /**
+     * 按生成代码绑定后替换 CreateOrder、CreateOrders、OrderSession 的请求、响应 marshaller，方法名和 schema 不变
+     */
+    @Override
+    public ServerServiceDefinition bindService() {
+        ServerServiceDefinition generated = OrderServiceGrpc.bindService(this);
+        OrderCommandCodec codec = OrderEngine.commandCodec();
+        MethodDescriptor<OrderCommand, OrderAck> createOrder = OrderServiceGrpc.getCreateOrderMethod()
+                .toBuilder(new OrderCommandMarshaller(codec, commandPool), new OrderAckMarshaller())
+                .build();
+        MethodDescriptor<OrderCommand[], OrderAck[]> createOrders = OrderServiceGrpc.getCreateOrdersMethod()
+                .toBuilder(new OrderCommandBatchMarshaller(codec, commandPool, maxBatchOrders), new OrderAckBatchMarshaller())
+                .build();
+        MethodDescriptor<SessionRequest, SessionEvent> orderSession = OrderServiceGrpc.getOrderSessionMethod()
+                .toBuilder(new SessionRequestMarshaller(codec, commandPool), new SessionEventMarshaller())
+                .build();
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        methods.add(ServerMethodDefinition.create(createOrder, ServerCalls.<OrderCommand, OrderAck>asyncUnaryCall(this::createOrder)));
+        methods.add(ServerMethodDefinition.create(createOrders, ServerCalls.<OrderCommand[], OrderAck[]>asyncUnaryCall(this::createOrders)));
+        methods.add(ServerMethodDefinition.create(orderSession, ServerCalls.<SessionRequest, SessionEvent>asyncBidiStreamingCall(this::openSession)));
+        Set<String> replaced = new HashSet<>();
+        methods.forEach(method -> replaced.add(method.getMethodDescriptor().getFullMethodName()));
+        for (ServerMethodDefinition<?, ?> method : generated.getMethods()) {
+            if (!replaced.contains(method.getMethodDescriptor().getFullMethodName())) {
+                methods.add(method);
+            }
+        }
+        ServiceDescriptor generatedService = generated.getServiceDescriptor();
+        ServiceDescriptor.Builder service = ServiceDescriptor.newBuilder(generatedService.getName())
+                .setSchemaDescriptor(generatedService.getSchemaDescriptor());
+        methods.forEach(method -> service.addMethod(method.getMethodDescriptor()));
+        ServerServiceDefinition.Builder definition = ServerServiceDefinition.builder(service.build());
+        methods.forEach(definition::addMethod);
+        return definition.build();
+    }
+
+    public void createOrder(OrderCommand command, StreamObserver<OrderAck> responseObserver) {
+        UnaryOrderReply reply = new UnaryOrderReply(responseObserver);
+
+        SymbolInfo symbol = orderEngine.symbolOf(command.symbolId());
+        Status rejected = orderEngine.validate(command, symbol);
+        if (rejected != null) {
+            command.recycle();
+            reply.onReply(0, OrderAck.rejected(rejected));
+            return;
+        }
+
+        //丢入队列，写入 WAL 落盘后回复，撮合处理完后归还命令
+        orderEngine.publish(command, symbol, reply, 0);
+    }
+
+    /**
+     * 批量下单，每个订单单独校验、单独回复（与请求一一对应），一个订单被拒绝不影响其他订单。
+     * 通过校验的订单按分片一次入队，所有订单都有结果后一次回复
+     */
+    public void createOrders(OrderCommand[] commands, StreamObserver<OrderAck[]> responseObserver) {
+        if (commands == OrderCommandBatchMarshaller.TOO_MANY_ORDERS) {
+            // 解析时已按上限拒绝，没有取出命令
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("too many orders in batch, max: " + maxBatchOrders)
+                    .asRuntimeException());
+            return;
+        }
+        BatchOrderReply reply = new BatchOrderReply(commands.length, responseObserver);
+        if (commands.length == 0) {
+            reply.complete();
+            return;
+        }
+
+        SymbolInfo[] symbols = new SymbolInfo[commands.length];
+        for (int i = 0; i < commands.length; i++) {
+            SymbolInfo symbol = orderEngine.symbolOf(commands[i].symbolId());
+            Status rejected = orderEngine.validate(commands[i], symbol);
+            if (rejected == null) {
+                symbols[i] = symbol;
+            } else {
+                commands[i].recycle();
+                reply.onReply(i, OrderAck.rejected(rejected));
+            }
+        }
+        orderEngine.publish(commands, symbols, reply);
+    }
+
+    /**
+     * 下单会话，见 {@link OrderSession}。与生成代码中的 orderSession 类型不同，不能重名
+     */
+    public StreamObserver<SessionRequest> openSession(StreamObserver<SessionEvent> responseObserver) {
+        return new OrderSession(orderEngine, executionReportBus, (ServerCallStreamObserver<SessionEvent>) responseObserver, sessionProperties);
+    }
 
     @Override
-    public void createOrder(NewOrderRequest request, StreamObserver<NewOrderReply> responseObserver) {
-
-        //写入WAL
-        //丢入队列
-        //上薄
-        //撮合
-        //成交
-        NewOrderReply.Builder builder = NewOrderReply.newBuilder();
-        builder.setCode(200);
-        builder.setMessage("success");
-        builder.setOrderId(123114141L);
-        builder.setCrossAvailable("OK");
-        builder.setStatus(OrderStatusEnum.NEW);
-        responseObserver.onNext(builder.build());
-        responseObserver.onCompleted();
+    public void subscribeExecutionReports(ExecutionReportSubscribeRequest request, StreamObserver<ExecutionReportBatch> responseObserver) {
+        executionReportBus.subscribe(request, responseObserver);
     }
 }
@@ -0,0 +1,234 @@
+package com.earth.service;
+
+import com.earth.base.order.ExecutionReportBatch;
+import com.earth.base.order.ExecutionReportSubscribeRequest;
+import com.earth.command.OrderAck;
+import com.earth.command.OrderCommand;
+import com.earth.command.SessionEvent;
+import com.earth.command.SessionRequest;
+import com.earth.engine.OrderEngine;
+import com.earth.engine.OrderReplyListener;
+import com.earth.report.ExecutionReportBus;
+import com.earth.report.ExecutionReportSink;
+import com.earth.symbol.SymbolInfo;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+
+/**
+ * 一个下单会话（OrderSession 双向流）
+ * <p>
+ * 请求由 gRPC 线程逐个处理，订单校验后入队，写 WAL 线程回调 {@link #onReply}；执行回报由回报发布线程推送（{@link #offer}）。
+ * 两者按到达顺序编号后放入同一个待发送队列，流可写（isReady）时发送，否则等 onReadyHandler 继续发送
+ * <p>
+ * 流控：关闭自动读取请求，开始时读取 maxInFlight 个，之后每发出一个下单回复才读取下一个。
+ * 客户端读得慢时回复积压在队列里，服务端停止读取新请求，HTTP/2 流控再反压到客户端发送，积压的回复不超过 maxInFlight。
+ * 执行回报不能反压撮合线程，积压超过 maxPendingReports 时断开会话（与 SubscribeExecutionReports 一致）
+ * <p>
+ * 客户端结束发送后，等所有订单回复发出再结束会话。会话中途断开时已经入队的订单照常处理，回复丢弃
+ */
+@Slf4j
+final class OrderSession implements StreamObserver<SessionRequest>, OrderReplyListener, ExecutionReportSink {
+
+    private final OrderEngine orderEngine;
+
+    private final ExecutionReportBus executionReportBus;
+
+    private final ServerCallStreamObserver<SessionEvent> observer;
+
+    private final int maxInFlight;
+
+    private final int maxPendingReports;
+
+    private final ArrayDeque<SessionEvent> pending;
+
+    /**
+     * 未回复订单的请求编号，下标即回调序号
+     */
+    private final long[] requestIds;
+
+    /**
+     * 空闲的下标，已读取未回复的请求不超过 maxInFlight，总有空闲下标
+     */
+    private final int[] freeSlots;
+
+    private int freeCount;
+
+    private int pendingReports;
+
+    private long sequence;
+
+    private volatile long accountId;
+
+    private boolean subscribed;
+
+    private boolean halfClosed;
+
+    private boolean closed;
+
+    OrderSession(OrderEngine orderEngine, ExecutionReportBus executionReportBus,
+                 ServerCallStreamObserver<SessionEvent> observer, SessionProperties properties) {
+        this.orderEngine = orderEngine;
+        this.executionReportBus = executionReportBus;
+        this.observer = observer;
+        this.maxInFlight = properties.getMaxInFlight();
+        this.maxPendingReports = properties.getMaxPendingReports();
+        this.pending = new ArrayDeque<>(Math.min(maxInFlight + maxPendingReports, 256));
+        this.requestIds = new long[maxInFlight];
+        this.freeSlots = new int[maxInFlight];
+        for (int i = 0; i < maxInFlight; i++) {
+            freeSlots[i] = i;
+        }
+        this.freeCount = maxInFlight;
+        observer.disableAutoRequest();
+        observer.setOnReadyHandler(this::drain);
+        observer.setOnCancelHandler(this::onCancel);
+        observer.request(maxInFlight);
+    }
+
+    @Override
+    public void onNext(SessionRequest request) {
+        if (request.command() != null) {
+            placeOrder(request.requestId(), request.command());
+        } else if (request.subscribe() != null) {
+            subscribe(request.subscribe());
+        } else {
+            synchronized (this) {
+                if (!closed) {
+                    observer.request(1);
+                }
+            }
+        }
+    }
+
+    private void placeOrder(long requestId, OrderCommand command) {
+        int slot;
+        synchronized (this) {
+            if (closed) {
+                command.recycle();
+                return;
+            }
+            slot = freeSlots[--freeCount];
+            requestIds[slot] = requestId;
+        }
+
+        SymbolInfo symbol = orderEngine.symbolOf(command.symbolId());
+        Status rejected = orderEngine.validate(command, symbol);
+        if (rejected != null) {
+            command.recycle();
+            onReply(slot, OrderAck.rejected(rejected));
+            return;
+        }
+
+        //丢入队列，写入 WAL 落盘后回复，撮合处理完后归还命令
+        orderEngine.publish(command, symbol, this, slot);
+    }
+
+    private void subscribe(ExecutionReportSubscribeRequest request) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (subscribed) {
+                fail(Status.FAILED_PRECONDITION.withDescription("execution reports already subscribed"));
+                return;
+            }
+            subscribed = true;
+            accountId = request.getAccountId();
+            observer.request(1);
+        }
+        executionReportBus.subscribe(this);
+    }
+
+    @Override
+    public synchronized void onReply(int index, OrderAck ack) {
+        long requestId = requestIds[index];
+        freeSlots[freeCount++] = index;
+        if (closed) {
+            return;
+        }
+        pending.addLast(SessionEvent.ack(++sequence, requestId, ack));
+        drainLocked();
+    }
+
+    @Override
+    public long getAccountId() {
+        return accountId;
+    }
+
+    @Override
+    public synchronized boolean offer(ExecutionReportBatch batch) {
+        if (closed) {
+            return false;
+        }
+        if (pendingReports >= maxPendingReports) {
+            log.warn("[ORDER] slow session disconnected, accountId: {}, pending: {}", accountId, pending.size());
+            fail(Status.RESOURCE_EXHAUSTED.withDescription("slow consumer"));
+            return false;
+        }
+        pending.addLast(SessionEvent.reports(++sequence, batch));
+        pendingReports++;
+        drainLocked();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public synchronized void complete() {
+        if (!closed) {
+            closed = true;
+            pending.clear();
+            observer.onCompleted();
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable t) {
+        closed = true;
+        pending.clear();
+    }
+
+    @Override
+    public synchronized void onCompleted() {
+        halfClosed = true;
+        drainLocked();
+    }
+
+    private synchronized void drain() {
+        drainLocked();
+    }
+
+    private void drainLocked() {
+        SessionEvent event;
+        while (!closed && observer.isReady() && (event = pending.pollFirst()) != null) {
+            observer.onNext(event);
+            if (event.isAck()) {
+                observer.request(1);
+            } else {
+                pendingReports--;
+            }
+        }
+        if (halfClosed && !closed && freeCount == maxInFlight && pending.isEmpty()) {
+            closed = true;
+            observer.onCompleted();
+        }
+    }
+
+    private void fail(Status status) {
+        closed = true;
+        pending.clear();
+        observer.onError(status.asRuntimeException());
+    }
+
+    private synchronized void onCancel() {
+        closed = true;
+        pending.clear();
+    }
+}
@@ -0,0 +1,22 @@
+package com.earth.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 下单会话（OrderSession）配置
+ */
+@Data
+@ConfigurationProperties(prefix = "order.session")
+public class SessionProperties {
+
+    /**
+     * 每个会话最多未回复的订单数，也是服务端预先读取的请求数。回复发出后才读取下一个请求，客户端读得慢时自然停止读取
+     */
+    private int maxInFlight = 256;
+
+    /**
+     * 每个会话最多积压的执行回报批数，超过后断开该会话。回报不能反压撮合线程，只能断开读得慢的客户端
+     */
+    private int maxPendingReports = 1024;
+}
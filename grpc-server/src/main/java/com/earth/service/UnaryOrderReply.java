@@ -0,0 +1,27 @@
+package com.earth.service;
+
+import com.earth.command.OrderAck;
+import com.earth.engine.OrderReplyListener;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * CreateOrder 的回复：受理时返回 OrderAck，拒绝时返回 gRPC 错误
+ */
+final class UnaryOrderReply implements OrderReplyListener {
+
+    private final StreamObserver<OrderAck> responseObserver;
+
+    UnaryOrderReply(StreamObserver<OrderAck> responseObserver) {
+        this.responseObserver = responseObserver;
+    }
+
+    @Override
+    public void onReply(int index, OrderAck ack) {
+        if (ack.isRejected()) {
+            responseObserver.onError(ack.failure().asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(ack);
+        responseObserver.onCompleted();
+    }
+}
@@ -0,0 +1,29 @@
+package com.earth.snapshot;
+
+import com.earth.book.BookSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 撮合状态快照：全部订单簿，以及生成快照时已经处理到的 WAL lsn
+ */
+@Getter
+@AllArgsConstructor
+public class EngineSnapshot {
+
+    /**
+     * 快照包含的最后一条 WAL 记录，恢复时从 lastLsn + 1 开始回放
+     */
+    private final long lastLsn;
+
+    private final long lastTradeId;
+
+    /**
+     * 生成快照时的撮合时钟，恢复时作为过期时间轮的起点
+     */
+    private final long lastTimestamp;
+
+    private final List<BookSnapshot> books;
+}
@@ -0,0 +1,32 @@
+package com.earth.snapshot;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 快照配置
+ */
+@Data
+@ConfigurationProperties(prefix = "order.snapshot")
+public class SnapshotProperties {
+
+    /**
+     * 快照目录，每个撮合分片使用其下的 shard-N 子目录
+     */
+    private String dir = "data/snapshot";
+
+    /**
+     * 每撮合多少个订单生成一次快照，同时也是重启时最多需要回放的 WAL 记录数
+     */
+    private long intervalOrders = 1_000_000L;
+
+    /**
+     * 距上次快照超过该秒数且有新订单时生成快照
+     */
+    private long intervalSeconds = 300L;
+
+    /**
+     * 保留的快照个数
+     */
+    private int retained = 2;
+}
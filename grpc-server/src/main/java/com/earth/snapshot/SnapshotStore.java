@@ -0,0 +1,195 @@
+package com.earth.snapshot;
+
+import com.earth.book.BookSnapshot;
+import com.earth.book.OrderBook;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 快照文件
+ * <p>
+ * 文件名为快照的 lastLsn，先写临时文件、fsync 后再改名，改名成功才算快照完成，半截文件不会被读到。格式：
+ * <pre>
+ * | magic(4) | version(4) | lastLsn(8) | lastTradeId(8) | lastTimestamp(8) | bookCount(4) | book * bookCount | crc32c(4) |
+ * </pre>
+ * 只保留最近 retained 个快照
+ */
+@Slf4j
+public class SnapshotStore {
+
+    private static final int MAGIC = 0x4F534E50;
+
+    private static final int VERSION = BookSnapshot.VERSION;
+
+    /**
+     * 可以读取的最早版本，旧版本缺少的字段按默认值处理
+     */
+    private static final int MIN_VERSION = 1;
+
+    /**
+     * 从该版本开始文件头包含 lastTimestamp
+     */
+    private static final int VERSION_TIMESTAMP = 3;
+
+    private static final String SUFFIX = ".snap";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path dir;
+
+    private final int retained;
+
+    public SnapshotStore(Path dir, int retained) throws IOException {
+        this.dir = dir;
+        this.retained = Math.max(retained, 1);
+        Files.createDirectories(dir);
+    }
+
+    /**
+     * 写入快照，返回文件大小
+     */
+    public long write(EngineSnapshot snapshot) throws IOException {
+        Path tmp = dir.resolve(fileName(snapshot.getLastLsn()) + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileOutputStream file = new FileOutputStream(tmp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.getLastLsn());
+            out.writeLong(snapshot.getLastTradeId());
+            out.writeLong(snapshot.getLastTimestamp());
+            out.writeInt(snapshot.getBooks().size());
+            for (BookSnapshot book : snapshot.getBooks()) {
+                book.writeTo(out);
+            }
+            out.flush();
+            // crc 不计入自身
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+            file.getFD().sync();
+        }
+        Path target = dir.resolve(fileName(snapshot.getLastLsn()));
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        deleteOldSnapshots();
+        return Files.size(target);
+    }
+
+    /**
+     * 读取最新的完整快照，全部快照损坏或不存在时返回 null
+     *
+     * @param books 读出的订单簿放入该 map，key=symbol_id
+     */
+    public LoadedSnapshot loadLatest(Map<String, OrderBook> books, int expectedOrdersPerBook) throws IOException {
+        List<Path> files = list();
+        for (int i = files.size() - 1; i >= 0; i--) {
+            Path file = files.get(i);
+            try {
+                LoadedSnapshot loaded = load(file, books, expectedOrdersPerBook);
+                if (loaded != null) {
+                    return loaded;
+                }
+            } catch (IOException e) {
+                log.warn("[SNAPSHOT] read failed, try older one, file: {}", file, e);
+            }
+            books.clear();
+        }
+        return null;
+    }
+
+    private LoadedSnapshot load(Path file, Map<String, OrderBook> books, int expectedOrdersPerBook) throws IOException {
+        long fileSize = Files.size(file);
+        CRC32C crc = new CRC32C();
+        try (InputStream raw = Files.newInputStream(file);
+             BufferedInputStream buffered = new BufferedInputStream(raw, BUFFER_SIZE);
+             DataInputStream in = new DataInputStream(new CheckedInputStream(buffered, crc))) {
+            int magic = in.readInt();
+            int version = in.readInt();
+            if (magic != MAGIC || version < MIN_VERSION || version > VERSION) {
+                log.warn("[SNAPSHOT] unknown format, file: {}", file);
+                return null;
+            }
+            long lastLsn = in.readLong();
+            long lastTradeId = in.readLong();
+            long lastTimestamp = version >= VERSION_TIMESTAMP ? in.readLong() : 0L;
+            int bookCount = in.readInt();
+            for (int i = 0; i < bookCount; i++) {
+                OrderBook book = BookSnapshot.readFrom(in, expectedOrdersPerBook, version);
+                books.put(book.getSymbolId(), book);
+            }
+            int expected = (int) crc.getValue();
+            if (new DataInputStream(buffered).readInt() != expected) {
+                log.warn("[SNAPSHOT] checksum mismatch, file: {}", file);
+                return null;
+            }
+            return new LoadedSnapshot(file, lastLsn, lastTradeId, lastTimestamp, fileSize);
+        }
+    }
+
+    private void deleteOldSnapshots() throws IOException {
+        List<Path> files = list();
+        for (int i = 0; i < files.size() - retained; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private List<Path> list() throws IOException {
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.filter(p -> p.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(SnapshotStore::parseLsn))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private static String fileName(long lastLsn) {
+        return String.format("%020d%s", lastLsn, SUFFIX);
+    }
+
+    private static long parseLsn(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    @Getter
+    public static class LoadedSnapshot {
+
+        private final Path file;
+
+        private final long lastLsn;
+
+        private final long lastTradeId;
+
+        /**
+         * 快照包含的最后一条 WAL 记录的时间，旧版本快照为 0
+         */
+        private final long lastTimestamp;
+
+        private final long fileSize;
+
+        LoadedSnapshot(Path file, long lastLsn, long lastTradeId, long lastTimestamp, long fileSize) {
+            this.file = file;
+            this.lastLsn = lastLsn;
+            this.lastTradeId = lastTradeId;
+            this.lastTimestamp = lastTimestamp;
+            this.fileSize = fileSize;
+        }
+    }
+}
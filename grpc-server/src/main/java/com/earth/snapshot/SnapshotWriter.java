@@ -0,0 +1,78 @@
+package com.earth.snapshot;
+
+import com.earth.wal.OrderWal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 后台写快照
+ * <p>
+ * 撮合线程提交拷贝好的快照后立即返回；上一个快照还没写完时放弃本次提交，等下一个周期。
+ * 快照写完后通知 WAL 可以删除 lastLsn 之前的段
+ */
+@Slf4j
+public class SnapshotWriter implements Closeable {
+
+    private final SnapshotStore store;
+
+    private final OrderWal wal;
+
+    private final AtomicBoolean writing = new AtomicBoolean(false);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SnapshotWriter(SnapshotStore store, OrderWal wal) {
+        this.store = store;
+        this.wal = wal;
+    }
+
+    /**
+     * 是否可以提交新的快照，撮合线程在拷贝订单簿之前先检查，避免无用的拷贝
+     */
+    public boolean isIdle() {
+        return !writing.get();
+    }
+
+    /**
+     * 提交快照，上一个快照还在写时返回 false
+     */
+    public boolean submit(EngineSnapshot snapshot, long copyNanos) {
+        if (!writing.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                long size = store.write(snapshot);
+                wal.retainFrom(snapshot.getLastLsn() + 1);
+                log.info("[SNAPSHOT] written, lastLsn: {}, books: {}, bytes: {}, copy: {}us, write: {}ms",
+                        snapshot.getLastLsn(), snapshot.getBooks().size(), size,
+                        TimeUnit.NANOSECONDS.toMicros(copyNanos), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (Exception e) {
+                log.error("[SNAPSHOT] write failed, lastLsn: {}", snapshot.getLastLsn(), e);
+            } finally {
+                writing.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.earth.symbol;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * 一个币对的规格
+ * <p>
+ * id 是注册表按注册顺序分配的连续整数，只在本进程内有效，不写入 WAL 和快照；
+ * 订单簿、余额风控、手续费率都以 id 为数组下标查找。tickSize、lotSize 已换算为引擎精度的定点 long
+ */
+@Immutable
+public final class SymbolInfo {
+
+    private final int id;
+
+    private final String symbolId;
+
+    private final int priceScale;
+
+    private final int quantityScale;
+
+    private final long tickSize;
+
+    private final long lotSize;
+
+    private final SymbolStatus status;
+
+    /**
+     * 分片路由用的哈希，与 symbol_id 一一对应，不随注册顺序变化
+     */
+    private final int routingHash;
+
+    SymbolInfo(int id, String symbolId, int priceScale, int quantityScale, long tickSize, long lotSize, SymbolStatus status) {
+        this.id = id;
+        this.symbolId = symbolId;
+        this.priceScale = priceScale;
+        this.quantityScale = quantityScale;
+        this.tickSize = tickSize;
+        this.lotSize = lotSize;
+        this.status = status;
+        int hash = symbolId.hashCode();
+        // 打散低位，避免相近的币对名称集中到同一分片
+        this.routingHash = hash ^ (hash >>> 16);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public String symbolId() {
+        return symbolId;
+    }
+
+    public int priceScale() {
+        return priceScale;
+    }
+
+    public int quantityScale() {
+        return quantityScale;
+    }
+
+    public long tickSize() {
+        return tickSize;
+    }
+
+    public long lotSize() {
+        return lotSize;
+    }
+
+    public SymbolStatus status() {
+        return status;
+    }
+
+    public int routingHash() {
+        return routingHash;
+    }
+
+    public boolean isTrading() {
+        return status == SymbolStatus.TRADING;
+    }
+
+    /**
+     * 价格是否为 tickSize 的整数倍，0 表示未给出价格
+     */
+    public boolean isValidPrice(long price) {
+        return price % tickSize == 0L;
+    }
+
+    /**
+     * 数量是否为 lotSize 的整数倍，0 表示未给出数量
+     */
+    public boolean isValidQuantity(long quantity) {
+        return quantity % lotSize == 0L;
+    }
+
+    @Override
+    public String toString() {
+        return symbolId + "#" + id + "(" + status + ")";
+    }
+}
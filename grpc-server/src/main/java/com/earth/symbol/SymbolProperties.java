@@ -0,0 +1,56 @@
+package com.earth.symbol;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 币对规格配置
+ */
+@Data
+@ConfigurationProperties(prefix = "order.symbol")
+public class SymbolProperties {
+
+    /**
+     * 只接受已配置的币对；关闭时未配置的币对在首次下单时按默认规格注册
+     */
+    private boolean strict = false;
+
+    /**
+     * 最多注册的币对数
+     */
+    private int maxSymbols = 4096;
+
+    /**
+     * 币对规格，key=symbol_id
+     */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+
+        /**
+         * 价格小数位数，不超过引擎的价格精度
+         */
+        private int priceScale = 8;
+
+        /**
+         * 数量小数位数，不超过引擎的数量精度
+         */
+        private int quantityScale = 8;
+
+        /**
+         * 价格最小变动单位，为空时取 10^-priceScale
+         */
+        private String tickSize = "";
+
+        /**
+         * 数量最小变动单位，为空时取 10^-quantityScale
+         */
+        private String lotSize = "";
+
+        private SymbolStatus status = SymbolStatus.TRADING;
+    }
+}
@@ -0,0 +1,170 @@
+package com.earth.symbol;
+
+import com.earth.decimal.FixedPoint;
+import com.google.protobuf.ByteString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ObjectUtils;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 币对注册表
+ * <p>
+ * 下单时在 gRPC 线程把 symbol_id 字符串换成连续的 int id（一次哈希查找），之后分片路由、订单簿、余额风控、手续费率
+ * 都按 id 做数组下标访问，不再对字符串求哈希、比较
+ * <p>
+ * id 按注册顺序分配：先是配置中的币对，之后是快照、WAL 回放或下单时遇到的币对。id 不持久化，重启后可能不同；
+ * WAL 和快照中只保存 symbol_id
+ * <p>
+ * 非严格模式下未配置的币对首次下单时按默认规格注册；严格模式下只接受已配置的币对，回放或风控配置中出现的未配置币对
+ * 按 HALTED 注册，保留订单簿但不接受新订单。注册很少发生，按 id 查找的数组写时复制，读取不加锁
+ */
+@Slf4j
+@ThreadSafe
+public class SymbolRegistry {
+
+    private final SymbolProperties properties;
+
+    private final int enginePriceScale;
+
+    private final int engineQuantityScale;
+
+    private final Map<String, SymbolInfo> byName = new ConcurrentHashMap<>();
+
+    /**
+     * 按 symbol_id 的 UTF-8 字节查找，下单请求中的 symbol_id 不解码为 String
+     */
+    private final Map<ByteString, SymbolInfo> byBytes = new ConcurrentHashMap<>();
+
+    private volatile SymbolInfo[] byId = new SymbolInfo[0];
+
+    /**
+     * @param enginePriceScale    引擎价格精度，tickSize 按此换算
+     * @param engineQuantityScale 引擎数量精度，lotSize 按此换算
+     */
+    public SymbolRegistry(SymbolProperties properties, int enginePriceScale, int engineQuantityScale) {
+        this.properties = properties;
+        this.enginePriceScale = enginePriceScale;
+        this.engineQuantityScale = engineQuantityScale;
+        properties.getSpecs().forEach((symbolId, spec) -> add(symbolId, spec));
+        log.info("[SYMBOL] registry initialized, strict: {}, symbols: {}", properties.isStrict(), Arrays.toString(byId));
+    }
+
+    /**
+     * 下单时查找币对，严格模式下未配置、或注册数已满时返回 null
+     */
+    public SymbolInfo lookup(String symbolId) {
+        SymbolInfo symbol = byName.get(symbolId);
+        if (symbol != null || properties.isStrict() || ObjectUtils.isEmpty(symbolId)) {
+            return symbol;
+        }
+        synchronized (this) {
+            symbol = byName.get(symbolId);
+            if (symbol == null && byId.length < properties.getMaxSymbols()) {
+                symbol = add(symbolId, new SymbolProperties.Spec());
+                log.info("[SYMBOL] registered {}", symbol);
+                return symbol;
+            }
+        }
+        if (symbol == null) {
+            log.warn("[SYMBOL] too many symbols, max: {}, reject symbol: {}", properties.getMaxSymbols(), symbolId);
+        }
+        return symbol;
+    }
+
+    /**
+     * 同 {@link #lookup(String)}，symbol_id 为 UTF-8 字节。已注册的币对不解码字符串
+     */
+    public SymbolInfo lookup(ByteString symbolId) {
+        SymbolInfo symbol = byBytes.get(symbolId);
+        return symbol != null ? symbol : lookup(symbolId.toStringUtf8());
+    }
+
+    /**
+     * 同 {@link #register(String)}，symbol_id 为 UTF-8 字节
+     */
+    public SymbolInfo register(ByteString symbolId) {
+        SymbolInfo symbol = byBytes.get(symbolId);
+        return symbol != null ? symbol : register(symbolId.toStringUtf8());
+    }
+
+    /**
+     * 查找币对，不存在时注册。用于快照、WAL 回放和其他配置中出现的币对，严格模式下新注册的币对为 HALTED
+     *
+     * @throws IllegalStateException 注册数已满
+     */
+    public SymbolInfo register(String symbolId) {
+        SymbolInfo symbol = byName.get(symbolId);
+        if (symbol != null) {
+            return symbol;
+        }
+        synchronized (this) {
+            symbol = byName.get(symbolId);
+            if (symbol != null) {
+                return symbol;
+            }
+            if (byId.length >= properties.getMaxSymbols()) {
+                throw new IllegalStateException("too many symbols, max: " + properties.getMaxSymbols() + ", symbol: " + symbolId);
+            }
+            SymbolProperties.Spec spec = new SymbolProperties.Spec();
+            if (properties.isStrict()) {
+                spec.setStatus(SymbolStatus.HALTED);
+            }
+            symbol = add(symbolId, spec);
+            log.info("[SYMBOL] registered {}", symbol);
+            return symbol;
+        }
+    }
+
+    public SymbolInfo get(int id) {
+        return byId[id];
+    }
+
+    /**
+     * 已注册的币对数，id 为 [0, size)
+     */
+    public int size() {
+        return byId.length;
+    }
+
+    private synchronized SymbolInfo add(String symbolId, SymbolProperties.Spec spec) {
+        if (spec.getPriceScale() < 0 || spec.getPriceScale() > enginePriceScale
+                || spec.getQuantityScale() < 0 || spec.getQuantityScale() > engineQuantityScale) {
+            throw new IllegalArgumentException("symbol scale out of range, symbol: " + symbolId);
+        }
+        long tickSize = step(symbolId, spec.getTickSize(), spec.getPriceScale(), enginePriceScale);
+        long lotSize = step(symbolId, spec.getLotSize(), spec.getQuantityScale(), engineQuantityScale);
+        SymbolInfo[] current = byId;
+        SymbolInfo symbol = new SymbolInfo(current.length, symbolId, spec.getPriceScale(), spec.getQuantityScale(), tickSize, lotSize, spec.getStatus());
+        SymbolInfo[] next = Arrays.copyOf(current, current.length + 1);
+        next[symbol.id()] = symbol;
+        byId = next;
+        byName.put(symbolId, symbol);
+        byBytes.put(ByteString.copyFromUtf8(symbolId), symbol);
+        return symbol;
+    }
+
+    /**
+     * 最小变动单位换算为引擎精度的定点 long，未配置时取 10^-scale
+     */
+    private static long step(String symbolId, String size, int scale, int engineScale) {
+        if (ObjectUtils.isEmpty(size)) {
+            return FixedPoint.pow10(engineScale - scale);
+        }
+        long step;
+        try {
+            step = new BigDecimal(size.trim()).setScale(engineScale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException("invalid tick or lot size, symbol: " + symbolId + ", value: " + size, e);
+        }
+        if (step <= 0L || step % FixedPoint.pow10(engineScale - scale) != 0L) {
+            throw new IllegalArgumentException("tick or lot size must be a positive multiple of 10^-" + scale + ", symbol: " + symbolId + ", value: " + size);
+        }
+        return step;
+    }
+}
@@ -0,0 +1,17 @@
+package com.earth.symbol;
+
+/**
+ * 币对交易状态
+ */
+public enum SymbolStatus {
+
+    /**
+     * 正常交易
+     */
+    TRADING,
+
+    /**
+     * 暂停交易，不接受新订单，已有挂单保留
+     */
+    HALTED
+}
@@ -0,0 +1,16 @@
+package com.earth.timer;
+
+/**
+ * 定时器到期回调
+ */
+@FunctionalInterface
+public interface TimeoutListener<T> {
+
+    /**
+     * 回调前定时器已经移除，回调中可以 schedule（包括同一个 id），但不能 cancel 其他定时器
+     *
+     * @param id         schedule 时给出的 id
+     * @param attachment schedule 时给出的附件
+     */
+    void onTimeout(long id, T attachment);
+}
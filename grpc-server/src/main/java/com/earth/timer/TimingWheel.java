@@ -0,0 +1,295 @@
+package com.earth.timer;
+
+import com.earth.collection.LongIntHashMap;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+
+/**
+ * 分层时间轮
+ * <p>
+ * 5 层共 256 + 4 * 64 个槽，第 0 层每槽一个 tick，第 n 层每槽 2^(8 + 6(n-1)) 个 tick；
+ * tick = 100ms 时覆盖约 13 年，更远的到期时间先放在最高层，到时重新计算。
+ * <ul>
+ *     <li>schedule / cancel：按到期 tick 与当前 tick 的差值直接算出槽位，O(1)</li>
+ *     <li>advanceTo：逐 tick 推进，第 0 层转完一圈时把上一层的下一个槽拆分到下层（cascade），每个定时器最多下移 4 次</li>
+ * </ul>
+ * 定时器按列存放在原始类型数组中，每个槽是一个侵入式双向链表，id 到定时器的索引用于撤销；
+ * 只在容量不足时扩容，不为每个定时器分配对象，也不占用线程
+ * <p>
+ * 时间完全由调用方推进（advanceTo），不读系统时钟，相同的调用序列得到相同的到期顺序
+ */
+@NotThreadSafe
+public final class TimingWheel<T> {
+
+    private static final int ROOT_BITS = 8;
+
+    private static final int ROOT_SIZE = 1 << ROOT_BITS;
+
+    private static final int ROOT_MASK = ROOT_SIZE - 1;
+
+    private static final int LEVEL_BITS = 6;
+
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+
+    private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+
+    private static final int LEVELS = 5;
+
+    /**
+     * 超过该 tick 数的到期时间先按该值放入最高层
+     */
+    private static final long MAX_DELAY_TICKS = (1L << (ROOT_BITS + (LEVELS - 1) * LEVEL_BITS)) - 1;
+
+    private static final int NONE = -1;
+
+    private final long tickMillis;
+
+    private final TimeoutListener<T> listener;
+
+    /**
+     * 各槽链表头，第 0 层在前，之后每层 LEVEL_SIZE 个
+     */
+    private final int[] heads = new int[ROOT_SIZE + (LEVELS - 1) * LEVEL_SIZE];
+
+    private final LongIntHashMap index;
+
+    private long[] ids;
+
+    private long[] deadlines;
+
+    private Object[] attachments;
+
+    private int[] slots;
+
+    private int[] prevs;
+
+    private int[] nexts;
+
+    private int freeHead = NONE;
+
+    private int highWater;
+
+    private int size;
+
+    /**
+     * 下一个要处理的 tick，小于 0 表示还没开始
+     */
+    private long nextTick = -1L;
+
+    public TimingWheel(long tickMillis, int expectedTimers, TimeoutListener<T> listener) {
+        if (tickMillis <= 0L) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.listener = listener;
+        int capacity = Math.max(expectedTimers, 16);
+        this.index = new LongIntHashMap(capacity, NONE);
+        this.ids = new long[capacity];
+        this.deadlines = new long[capacity];
+        this.attachments = new Object[capacity];
+        this.slots = new int[capacity];
+        this.prevs = new int[capacity];
+        this.nexts = new int[capacity];
+        Arrays.fill(heads, NONE);
+    }
+
+    /**
+     * 设置起始时间，之后才能 schedule；没有 start 时第一次 advanceTo 同时作为起始时间
+     */
+    public void start(long nowMillis) {
+        if (nextTick < 0L) {
+            nextTick = tickOf(nowMillis) + 1;
+        }
+    }
+
+    public boolean isStarted() {
+        return nextTick >= 0L;
+    }
+
+    /**
+     * 添加定时器，到期时间已过的在下一个 tick 到期
+     *
+     * @return id 已有定时器时返回 false
+     */
+    public boolean schedule(long id, long deadlineMillis, T attachment) {
+        if (nextTick < 0L) {
+            throw new IllegalStateException("timing wheel not started");
+        }
+        if (index.containsKey(id)) {
+            return false;
+        }
+        int timer = allocate();
+        ids[timer] = id;
+        // 向上取整，保证不会早于 deadlineMillis 到期
+        deadlines[timer] = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        attachments[timer] = attachment;
+        link(timer);
+        index.put(id, timer);
+        size++;
+        return true;
+    }
+
+    /**
+     * 撤销定时器
+     *
+     * @return 定时器不存在时返回 false
+     */
+    public boolean cancel(long id) {
+        int timer = index.remove(id);
+        if (timer == NONE) {
+            return false;
+        }
+        unlink(timer);
+        release(timer);
+        return true;
+    }
+
+    /**
+     * 推进到 nowMillis，依次回调全部到期的定时器。时间不会后退，nowMillis 小于已推进到的时间时什么也不做
+     */
+    public void advanceTo(long nowMillis) {
+        long targetTick = tickOf(nowMillis);
+        if (nextTick < 0L || size == 0) {
+            // 没有定时器时直接跳到目标时间
+            nextTick = Math.max(nextTick, targetTick + 1);
+            return;
+        }
+        while (nextTick <= targetTick && size > 0) {
+            int root = (int) (nextTick & ROOT_MASK);
+            if (root == 0) {
+                for (int level = 1; level < LEVELS && cascade(level) == 0; level++) {
+                    // 本层也转完一圈时继续拆分更上一层
+                }
+            }
+            fire(root);
+            nextTick++;
+        }
+        nextTick = Math.max(nextTick, targetTick + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long id) {
+        return index.containsKey(id);
+    }
+
+    private long tickOf(long millis) {
+        return Math.floorDiv(millis, tickMillis);
+    }
+
+    /**
+     * 把 level 层当前槽的定时器重新放入下层，返回该槽在本层的下标
+     */
+    private int cascade(int level) {
+        int slotIndex = (int) ((nextTick >>> (ROOT_BITS + (level - 1) * LEVEL_BITS)) & LEVEL_MASK);
+        int slot = ROOT_SIZE + (level - 1) * LEVEL_SIZE + slotIndex;
+        int timer = heads[slot];
+        heads[slot] = NONE;
+        while (timer != NONE) {
+            int next = nexts[timer];
+            link(timer);
+            timer = next;
+        }
+        return slotIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fire(int slot) {
+        // 回调中新加入的已到期定时器会放到当前槽，循环到槽为空
+        while (heads[slot] != NONE) {
+            int timer = heads[slot];
+            heads[slot] = NONE;
+            while (timer != NONE) {
+                int next = nexts[timer];
+                if (deadlines[timer] > nextTick) {
+                    // 超过最大跨度被截断的定时器，还没到期，重新放入
+                    link(timer);
+                } else {
+                    long id = ids[timer];
+                    T attachment = (T) attachments[timer];
+                    index.remove(id);
+                    release(timer);
+                    listener.onTimeout(id, attachment);
+                }
+                timer = next;
+            }
+        }
+    }
+
+    /**
+     * 按到期 tick 与 nextTick 的差值放入对应层的槽，插入链表头
+     */
+    private void link(int timer) {
+        long expires = deadlines[timer];
+        long delay = expires - nextTick;
+        int slot;
+        if (delay < 0L) {
+            slot = (int) (nextTick & ROOT_MASK);
+        } else if (delay < ROOT_SIZE) {
+            slot = (int) (expires & ROOT_MASK);
+        } else {
+            if (delay > MAX_DELAY_TICKS) {
+                expires = nextTick + MAX_DELAY_TICKS;
+            }
+            int level = 1;
+            while (level < LEVELS - 1 && delay >= 1L << (ROOT_BITS + level * LEVEL_BITS)) {
+                level++;
+            }
+            int slotIndex = (int) ((expires >>> (ROOT_BITS + (level - 1) * LEVEL_BITS)) & LEVEL_MASK);
+            slot = ROOT_SIZE + (level - 1) * LEVEL_SIZE + slotIndex;
+        }
+        int head = heads[slot];
+        slots[timer] = slot;
+        prevs[timer] = NONE;
+        nexts[timer] = head;
+        if (head != NONE) {
+            prevs[head] = timer;
+        }
+        heads[slot] = timer;
+    }
+
+    private void unlink(int timer) {
+        int prev = prevs[timer];
+        int next = nexts[timer];
+        if (prev == NONE) {
+            heads[slots[timer]] = next;
+        } else {
+            nexts[prev] = next;
+        }
+        if (next != NONE) {
+            prevs[next] = prev;
+        }
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int timer = freeHead;
+            freeHead = nexts[timer];
+            return timer;
+        }
+        if (highWater == ids.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void release(int timer) {
+        attachments[timer] = null;
+        nexts[timer] = freeHead;
+        freeHead = timer;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = ids.length << 1;
+        ids = Arrays.copyOf(ids, capacity);
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        attachments = Arrays.copyOf(attachments, capacity);
+        slots = Arrays.copyOf(slots, capacity);
+        prevs = Arrays.copyOf(prevs, capacity);
+        nexts = Arrays.copyOf(nexts, capacity);
+    }
+}
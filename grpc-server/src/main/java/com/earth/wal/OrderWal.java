@@ -0,0 +1,301 @@
+package com.earth.wal;
+
+import com.google.protobuf.MessageLite;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 订单 WAL
+ * <p>
+ * 由一组预分配、mmap 的段文件组成，lsn 从 1 开始连续递增。当前段写满后滚动到新段，新段以其第一条记录的 lsn 命名。
+ * <p>
+ * append 只写内存映射区，force 才真正落盘；调用方攒一批记录后 force 一次（group commit），
+ * 吞吐量取决于每批记录数而不是 fsync 次数
+ * <p>
+ * 后台线程提前写零准备好下一个段文件，滚动时只需重命名 + mmap
+ * <p>
+ * 快照完成后通过 retainFrom 告知之前的记录不再需要，写线程在下一次滚动时删除这些段；
+ * retainWithin 另外要求保留最近一段时间内的记录（重启时重建幂等窗口），两个条件都满足的段才删除
+ * <p>
+ * 只允许一个写线程，回放在启动阶段写入之前完成
+ */
+@Slf4j
+@NotThreadSafe
+public class OrderWal implements Closeable {
+
+    private static final String SPARE_FILE = "spare.wal.tmp";
+
+    private final Path dir;
+
+    private final int segmentSize;
+
+    private final Path spare;
+
+    private final ExecutorService preallocator = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "wal-preallocator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 下一个段文件的预分配任务
+     */
+    private Future<?> spareReady;
+
+    /**
+     * 全部段，按 baseLsn 升序，最后一个为当前写入段
+     */
+    private final List<WalSegment> segments = new ArrayList<>();
+
+    private WalSegment active;
+
+    private long lastLsn;
+
+    /**
+     * 已经落盘的最大 lsn
+     */
+    private volatile long durableLsn;
+
+    /**
+     * 小于该 lsn 的记录可以删除
+     */
+    private volatile long retainFromLsn;
+
+    /**
+     * 最后一条记录时间之前 retainMillis 内的记录不删除，0 表示不按时间保留
+     */
+    private long retainMillis;
+
+    public OrderWal(Path dir, int segmentSize) throws IOException {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.spare = dir.resolve(SPARE_FILE);
+        Files.createDirectories(dir);
+        // 上次未用完的预分配文件，长度不可信，直接删除
+        Files.deleteIfExists(spare);
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(p -> p.getFileName().toString().endsWith(".wal"))
+                    .sorted(Comparator.comparingLong(WalSegment::parseBaseLsn))
+                    .collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            segments.add(WalSegment.open(file, segmentSize));
+        }
+        if (segments.isEmpty()) {
+            segments.add(WalSegment.create(dir, 1L, segmentSize));
+        }
+        active = segments.get(segments.size() - 1);
+        lastLsn = active.getLastLsn();
+        durableLsn = lastLsn;
+        prepareSpare();
+        log.info("[WAL] opened, dir: {}, segments: {}, lastLsn: {}", dir, segments.size(), lastLsn);
+    }
+
+    /**
+     * 追加一条记录，以当前时间作为记录时间，返回分配的 lsn。记录在下一次 force 之后才算落盘
+     */
+    public long append(MessageLite message) throws IOException {
+        return append(message, System.currentTimeMillis());
+    }
+
+    /**
+     * 追加一条记录，返回分配的 lsn。记录在下一次 force 之后才算落盘
+     *
+     * @param timestamp 记录时间（毫秒），回放时原样交还
+     */
+    public long append(MessageLite message, long timestamp) throws IOException {
+        int size = message.getSerializedSize();
+        if (WalSegment.HEADER_SIZE + size > segmentSize) {
+            throw new IOException("wal record too large: " + size);
+        }
+        if (!active.hasRoom(size)) {
+            roll();
+        }
+        long lsn = lastLsn + 1;
+        active.append(lsn, timestamp, message, size);
+        lastLsn = lsn;
+        return lsn;
+    }
+
+    /**
+     * 追加一条已经序列化好的记录，返回分配的 lsn。记录在下一次 force 之后才算落盘
+     *
+     * @param payload   记录内容，[offset, offset + length) 有效
+     * @param timestamp 记录时间（毫秒），回放时原样交还
+     */
+    public long append(byte[] payload, int offset, int length, long timestamp) throws IOException {
+        if (WalSegment.HEADER_SIZE + length > segmentSize) {
+            throw new IOException("wal record too large: " + length);
+        }
+        if (!active.hasRoom(length)) {
+            roll();
+        }
+        long lsn = lastLsn + 1;
+        active.append(lsn, timestamp, payload, offset, length);
+        lastLsn = lsn;
+        return lsn;
+    }
+
+    /**
+     * 落盘全部已追加的记录
+     */
+    public void force() {
+        if (durableLsn == lastLsn) {
+            return;
+        }
+        active.force();
+        durableLsn = lastLsn;
+    }
+
+    /**
+     * 丢弃还没有落盘的记录，lastLsn 退回 durableLsn，返回 durableLsn
+     * <p>
+     * force 失败后调用：未落盘的记录仍留在映射区，不撤销的话之后的 force 或系统回写会把它们写到磁盘，
+     * 重启回放时重建出已经回复失败的订单。滚动时旧段已经落盘，未落盘的记录总在当前段内
+     */
+    public long truncateToDurable() {
+        if (durableLsn == lastLsn) {
+            return durableLsn;
+        }
+        log.warn("[WAL] truncate unflushed records, lsn: {} - {}", durableLsn + 1, lastLsn);
+        active.truncate(durableLsn);
+        lastLsn = durableLsn;
+        try {
+            // 清零的记录头尽量落盘，覆盖可能已经被系统回写的记录
+            active.force();
+        } catch (RuntimeException e) {
+            log.error("[WAL] force after truncate failed, segment: {}", active.getPath(), e);
+        }
+        return durableLsn;
+    }
+
+    /**
+     * 顺序回放 lsn >= fromLsn 的记录
+     */
+    public void replay(long fromLsn, WalRecordConsumer consumer) {
+        for (int i = 0; i < segments.size(); i++) {
+            WalSegment segment = segments.get(i);
+            // 下一段的起点不超过 fromLsn，说明本段全部在 fromLsn 之前
+            if (i + 1 < segments.size() && segments.get(i + 1).getBaseLsn() <= fromLsn) {
+                continue;
+            }
+            segment.forEach(fromLsn, consumer);
+        }
+    }
+
+    public long lastLsn() {
+        return lastLsn;
+    }
+
+    /**
+     * 最后一条记录的 timestamp，当前段为空时为 0
+     */
+    public long lastTimestamp() {
+        return active.getLastTimestamp();
+    }
+
+    public long durableLsn() {
+        return durableLsn;
+    }
+
+    /**
+     * 声明 lsn 之前的记录已经不再需要，可以从任意线程调用，实际删除在写线程滚动段时进行
+     */
+    public void retainFrom(long lsn) {
+        if (lsn > retainFromLsn) {
+            retainFromLsn = lsn;
+        }
+    }
+
+    /**
+     * 保留最近 millis 毫秒内（按记录时间，相对最后一条记录）的段，即使快照已经覆盖。写入之前设置
+     */
+    public void retainWithin(long millis) {
+        this.retainMillis = millis;
+    }
+
+    /**
+     * 第一个包含 timestamp 之后记录的段的起始 lsn，用于只回放最近一段时间的记录；没有这样的段时返回 lastLsn + 1
+     */
+    public long firstLsnSince(long timestamp) {
+        for (WalSegment segment : segments) {
+            if (segment.getLastTimestamp() >= timestamp) {
+                return segment.getBaseLsn();
+            }
+        }
+        return lastLsn + 1;
+    }
+
+    private void roll() throws IOException {
+        // 旧段落盘后不再写入
+        active.force();
+        durableLsn = lastLsn;
+        long lastTimestamp = active.getLastTimestamp();
+        WalSegment next = null;
+        if (spareReady != null && spareReady.isDone()) {
+            try {
+                spareReady.get();
+                next = WalSegment.activate(spare, dir, lastLsn + 1, segmentSize);
+            } catch (Exception e) {
+                log.warn("[WAL] spare segment unavailable, create synchronously", e);
+            }
+        }
+        if (next == null) {
+            // 预分配还没完成，同步创建，本批次延迟会升高
+            next = WalSegment.create(dir, lastLsn + 1, segmentSize);
+        }
+        segments.add(next);
+        active = next;
+        prepareSpare();
+        log.info("[WAL] rolled to new segment {}", next.getPath());
+        deleteObsoleteSegments(lastTimestamp);
+    }
+
+    /**
+     * 删除全部记录都小于 retainFromLsn、且都早于 lastTimestamp - retainMillis 的段，当前写入段不删除
+     */
+    private void deleteObsoleteSegments(long lastTimestamp) {
+        long retainFrom = retainFromLsn;
+        long retainAfter = retainMillis > 0L ? lastTimestamp - retainMillis : Long.MAX_VALUE;
+        while (segments.size() > 1 && segments.get(1).getBaseLsn() <= retainFrom
+                && segments.get(0).getLastTimestamp() < retainAfter) {
+            WalSegment obsolete = segments.remove(0);
+            try {
+                obsolete.delete();
+                log.info("[WAL] deleted obsolete segment {}", obsolete.getPath());
+            } catch (IOException e) {
+                log.warn("[WAL] delete obsolete segment failed {}", obsolete.getPath(), e);
+            }
+        }
+    }
+
+    private void prepareSpare() {
+        spareReady = preallocator.submit(() -> {
+            WalSegment.preallocate(spare, segmentSize);
+            return null;
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        preallocator.shutdownNow();
+        for (WalSegment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+    }
+}
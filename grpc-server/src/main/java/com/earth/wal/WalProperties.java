@@ -0,0 +1,27 @@
+package com.earth.wal;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * WAL 配置
+ */
+@Data
+@ConfigurationProperties(prefix = "order.wal")
+public class WalProperties {
+
+    /**
+     * WAL 目录，每个撮合分片使用其下的 shard-N 子目录
+     */
+    private String dir = "data/wal";
+
+    /**
+     * 成交流水目录
+     */
+    private String tradeJournalDir = "data/trade-journal";
+
+    /**
+     * 单个段文件大小，默认 256MB
+     */
+    private int segmentSizeMb = 256;
+}
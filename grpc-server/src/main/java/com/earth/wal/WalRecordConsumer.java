@@ -0,0 +1,17 @@
+package com.earth.wal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * WAL 记录回放
+ */
+@FunctionalInterface
+public interface WalRecordConsumer {
+
+    /**
+     * @param lsn       记录序号
+     * @param timestamp 写入时给出的记录时间（毫秒）
+     * @param payload   记录内容，只读视图，回调返回后失效
+     */
+    void accept(long lsn, long timestamp, ByteBuffer payload);
+}
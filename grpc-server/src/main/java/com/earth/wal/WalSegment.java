@@ -0,0 +1,284 @@
+package com.earth.wal;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * WAL 段文件
+ * <p>
+ * 创建时按固定大小预分配并写零，整个文件 mmap 到内存，追加写只是内存拷贝，落盘由 force 统一完成。
+ * 预分配保证 force 时不会因为文件扩容而额外刷新文件元数据
+ * <p>
+ * 记录格式：
+ * <pre>
+ * | payloadLength(4) | crc32c(4) | lsn(8) | timestamp(8) | payload(payloadLength) |
+ * </pre>
+ * payloadLength 为 0 表示段内已无记录（预分配区域全为 0）；timestamp 为写入方给出的记录时间（毫秒），回放时原样交还
+ * <p>
+ * 非线程安全，只允许一个写线程
+ */
+@Slf4j
+final class WalSegment implements Closeable {
+
+    static final int HEADER_SIZE = 24;
+
+    private static final int ZERO_FILL_CHUNK = 1024 * 1024;
+
+    @Getter
+    private final Path path;
+
+    /**
+     * 段内第一条记录的 lsn，也是文件名
+     */
+    @Getter
+    private final long baseLsn;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * 写入、校验共用的视图，只在写线程中使用
+     */
+    private final ByteBuffer view;
+
+    /**
+     * 下一条记录的写入位置
+     */
+    @Getter
+    private int writePosition;
+
+    /**
+     * 段内最后一条记录的 lsn，空段为 baseLsn - 1
+     */
+    @Getter
+    private long lastLsn;
+
+    /**
+     * 段内最后一条记录的 timestamp，空段为 0
+     */
+    @Getter
+    private long lastTimestamp;
+
+    private WalSegment(Path path, long baseLsn, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.baseLsn = baseLsn;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.view = buffer.duplicate();
+        this.lastLsn = baseLsn - 1;
+    }
+
+    static String fileName(long baseLsn) {
+        return String.format("%020d.wal", baseLsn);
+    }
+
+    static long parseBaseLsn(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - ".wal".length()));
+    }
+
+    /**
+     * 创建并预分配一个新段
+     */
+    static WalSegment create(Path dir, long baseLsn, int segmentSize) throws IOException {
+        Path path = dir.resolve(fileName(baseLsn));
+        preallocate(path, segmentSize);
+        return map(path, baseLsn, segmentSize);
+    }
+
+    /**
+     * 以预先分配好的空文件作为新段，省去滚动时的写零耗时
+     */
+    static WalSegment activate(Path spare, Path dir, long baseLsn, int segmentSize) throws IOException {
+        Path path = Files.move(spare, dir.resolve(fileName(baseLsn)));
+        return map(path, baseLsn, segmentSize);
+    }
+
+    /**
+     * 创建文件并写零
+     */
+    static void preallocate(Path path, int segmentSize) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            // 真正写入 0 而不是 setLength，避免稀疏文件在写入时才分配磁盘块
+            byte[] zeros = new byte[Math.min(ZERO_FILL_CHUNK, segmentSize)];
+            int written = 0;
+            while (written < segmentSize) {
+                int len = Math.min(zeros.length, segmentSize - written);
+                file.write(zeros, 0, len);
+                written += len;
+            }
+            file.getFD().sync();
+        }
+    }
+
+    /**
+     * 打开已有段，扫描出最后一条完整记录的位置
+     * <p>
+     * crc 校验失败或 lsn 不连续的记录视为未完成写入的残留，从该位置开始覆盖写
+     */
+    static WalSegment open(Path path, int segmentSize) throws IOException {
+        WalSegment segment = map(path, parseBaseLsn(path), segmentSize);
+        segment.recover();
+        return segment;
+    }
+
+    private static WalSegment map(Path path, long baseLsn, int segmentSize) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int size = (int) Math.min(channel.size(), segmentSize);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new WalSegment(path, baseLsn, channel, buffer);
+    }
+
+    private void recover() {
+        int position = 0;
+        long expectedLsn = baseLsn;
+        long timestamp = 0L;
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            int checksum = buffer.getInt(position + 4);
+            long lsn = buffer.getLong(position + 8);
+            if (lsn != expectedLsn || checksum != checksum(position + HEADER_SIZE, length)) {
+                log.warn("[WAL] torn record found, segment: {}, position: {}, lsn: {}", path, position, lsn);
+                break;
+            }
+            timestamp = buffer.getLong(position + 16);
+            position += HEADER_SIZE + length;
+            expectedLsn++;
+        }
+        this.writePosition = position;
+        this.lastLsn = expectedLsn - 1;
+        this.lastTimestamp = timestamp;
+        // 残留的半条记录清零，避免下次恢复时被误读
+        if (position + 4 <= buffer.capacity()) {
+            buffer.putInt(position, 0);
+        }
+    }
+
+    boolean hasRoom(int payloadSize) {
+        return writePosition + HEADER_SIZE + payloadSize <= buffer.capacity();
+    }
+
+    /**
+     * 追加一条记录，调用方需先用 hasRoom 确认空间足够
+     */
+    void append(long lsn, long timestamp, MessageLite message, int payloadSize) throws IOException {
+        int payloadPosition = writePosition + HEADER_SIZE;
+        view.limit(payloadPosition + payloadSize).position(payloadPosition);
+        CodedOutputStream output = CodedOutputStream.newInstance(view);
+        message.writeTo(output);
+        output.flush();
+        complete(lsn, timestamp, payloadPosition, payloadSize);
+    }
+
+    /**
+     * 追加一条已经序列化好的记录，调用方需先用 hasRoom 确认空间足够
+     */
+    void append(long lsn, long timestamp, byte[] payload, int offset, int payloadSize) {
+        int payloadPosition = writePosition + HEADER_SIZE;
+        view.limit(payloadPosition + payloadSize).position(payloadPosition);
+        view.put(payload, offset, payloadSize);
+        complete(lsn, timestamp, payloadPosition, payloadSize);
+    }
+
+    /**
+     * payload 写入后补上记录头
+     */
+    private void complete(long lsn, long timestamp, int payloadPosition, int payloadSize) {
+        buffer.putLong(writePosition + 8, lsn);
+        buffer.putLong(writePosition + 16, timestamp);
+        buffer.putInt(writePosition + 4, checksum(payloadPosition, payloadSize));
+        // 长度最后写，长度非 0 即代表记录完整
+        buffer.putInt(writePosition, payloadSize);
+        writePosition = payloadPosition + payloadSize;
+        lastLsn = lsn;
+        lastTimestamp = timestamp;
+    }
+
+    /**
+     * 丢弃 lsn 之后的记录：逐条清零记录头，写入位置退回到 lsn 之后的第一条记录
+     * <p>
+     * 用于 force 失败时撤销还没有落盘的记录，恢复时扫描到清零的记录头即停止
+     */
+    void truncate(long lsn) {
+        int position = 0;
+        long timestamp = 0L;
+        while (position < writePosition && buffer.getLong(position + 8) <= lsn) {
+            timestamp = buffer.getLong(position + 16);
+            position += HEADER_SIZE + buffer.getInt(position);
+        }
+        int truncatePosition = position;
+        while (position < writePosition) {
+            int length = buffer.getInt(position);
+            // 长度最先清零，与 complete 的写入顺序相反
+            buffer.putInt(position, 0);
+            buffer.putInt(position + 4, 0);
+            buffer.putLong(position + 8, 0L);
+            buffer.putLong(position + 16, 0L);
+            position += HEADER_SIZE + length;
+        }
+        writePosition = truncatePosition;
+        lastLsn = Math.max(lsn, baseLsn - 1);
+        lastTimestamp = timestamp;
+    }
+
+    /**
+     * 将已写入的记录刷到磁盘
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * 顺序读取 lsn >= fromLsn 的记录
+     */
+    void forEach(long fromLsn, WalRecordConsumer consumer) {
+        int position = 0;
+        while (position < writePosition) {
+            int length = buffer.getInt(position);
+            long lsn = buffer.getLong(position + 8);
+            if (lsn >= fromLsn) {
+                ByteBuffer payload = buffer.duplicate();
+                payload.position(position + HEADER_SIZE).limit(position + HEADER_SIZE + length);
+                consumer.accept(lsn, buffer.getLong(position + 16), payload.slice());
+            }
+            position += HEADER_SIZE + length;
+        }
+    }
+
+    private int checksum(int position, int length) {
+        view.limit(position + length).position(position);
+        crc.reset();
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,65 @@
+package com.earth.book;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StopOrderIndexTest {
+
+    @Test
+    public void triggersByPriceThenOrderId() {
+        StopOrderIndex stops = new StopOrderIndex(16);
+        add(stops, 1L, OrderBook.BUY, 110L);
+        add(stops, 2L, OrderBook.BUY, 105L);
+        add(stops, 3L, OrderBook.BUY, 105L);
+        add(stops, 4L, OrderBook.SELL, 90L);
+
+        assertEquals(List.of(2L, 3L), poll(stops, 108L));
+        assertEquals(List.of(1L), poll(stops, 120L));
+        assertEquals(List.of(4L), poll(stops, 90L));
+        assertEquals(0, stops.size());
+    }
+
+    @Test
+    public void removeKeepsHeapOrder() {
+        StopOrderIndex stops = new StopOrderIndex(16);
+        for (long orderId = 1L; orderId <= 20L; orderId++) {
+            add(stops, orderId, OrderBook.BUY, 100L + (orderId * 7L) % 20L);
+        }
+        for (long orderId : new long[]{3L, 10L, 1L, 20L}) {
+            int stop = stops.find(orderId);
+            stops.remove(stop);
+            stops.release(stop);
+        }
+
+        assertEquals(OrderBook.NO_ORDER, stops.find(10L));
+        assertEquals(16, stops.size());
+        List<Long> triggered = poll(stops, 200L);
+        assertEquals(16, triggered.size());
+        long lastPrice = 0L;
+        for (long orderId : triggered) {
+            long triggerPrice = 100L + (orderId * 7L) % 20L;
+            assertTrue(triggerPrice >= lastPrice);
+            lastPrice = triggerPrice;
+        }
+    }
+
+    private static void add(StopOrderIndex stops, long orderId, int side, long triggerPrice) {
+        stops.add(orderId, 1L, 0L, side, 0, 0, triggerPrice, 0L, 1L, 0L, 0L, 0L);
+    }
+
+    private static List<Long> poll(StopOrderIndex stops, long lastPrice) {
+        List<Long> orderIds = new ArrayList<>();
+        int stop;
+        while ((stop = stops.pollTriggered(lastPrice)) != OrderBook.NO_ORDER) {
+            orderIds.add(stops.orderId(stop));
+            assertEquals(stop, stops.find(stops.orderId(stop)));
+            stops.release(stop);
+        }
+        return orderIds;
+    }
+}
@@ -0,0 +1,118 @@
+package com.earth.command;
+
+import com.earth.base.order.NewOrderBatchReply;
+import com.earth.base.order.NewOrderReply;
+import com.earth.base.order.OrderStatusEnum;
+import io.grpc.Status;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link OrderAck} 和 {@link OrderAckBatchMarshaller} 的编码与生成代码对比：字节相同，并且能按 NewOrderReply / NewOrderBatchReply 解析
+ */
+public class OrderAckTest {
+
+    private static final long[] ORDER_IDS = {0L, 1L, 127L, 128L, 1_234_567_890_123L, Long.MAX_VALUE, -1L};
+
+    @Test
+    public void accepted() throws IOException {
+        for (long orderId : ORDER_IDS) {
+            assertEncoded(expected(orderId, 200L, "success", OrderStatusEnum.NEW), OrderAck.accepted(orderId));
+        }
+    }
+
+    @Test
+    public void duplicate() throws IOException {
+        for (long orderId : ORDER_IDS) {
+            assertEncoded(expected(orderId, 200L, "duplicate", OrderStatusEnum.NEW), OrderAck.duplicate(orderId));
+        }
+    }
+
+    @Test
+    public void rejected() throws IOException {
+        assertEncoded(NewOrderReply.newBuilder().setCode(3L).setMessage("invalid price").setStatus(OrderStatusEnum.REJECTED).build(),
+                OrderAck.rejected(Status.INVALID_ARGUMENT.withDescription("invalid price")));
+        // 没有描述时用状态码名称
+        assertEncoded(NewOrderReply.newBuilder().setCode(8L).setMessage("RESOURCE_EXHAUSTED").setStatus(OrderStatusEnum.REJECTED).build(),
+                OrderAck.rejected(Status.RESOURCE_EXHAUSTED));
+        // 超过 127 字节的非 ASCII 描述，长度前缀占两个字节
+        String description = repeat("余额不足", 20);
+        assertEncoded(NewOrderReply.newBuilder().setCode(9L).setMessage(description).setStatus(OrderStatusEnum.REJECTED).build(),
+                OrderAck.rejected(Status.FAILED_PRECONDITION.withDescription(description)));
+    }
+
+    @Test
+    public void batch() throws IOException {
+        List<OrderAck> acks = new ArrayList<>();
+        NewOrderBatchReply.Builder expected = NewOrderBatchReply.newBuilder();
+        for (long orderId : ORDER_IDS) {
+            acks.add(OrderAck.accepted(orderId));
+            expected.addReplies(expected(orderId, 200L, "success", OrderStatusEnum.NEW));
+            acks.add(OrderAck.duplicate(orderId));
+            expected.addReplies(expected(orderId, 200L, "duplicate", OrderStatusEnum.NEW));
+        }
+        String description = repeat("x", 300);
+        acks.add(OrderAck.rejected(Status.INVALID_ARGUMENT.withDescription(description)));
+        expected.addReplies(NewOrderReply.newBuilder().setCode(3L).setMessage(description).setStatus(OrderStatusEnum.REJECTED));
+        acks.add(OrderAck.rejected(Status.UNAVAILABLE));
+        expected.addReplies(NewOrderReply.newBuilder().setCode(14L).setMessage("UNAVAILABLE").setStatus(OrderStatusEnum.REJECTED));
+
+        byte[] bytes = readAll(new OrderAckBatchMarshaller().stream(acks.toArray(new OrderAck[0])));
+        assertArrayEquals(expected.build().toByteArray(), bytes);
+        assertEquals(expected.build(), NewOrderBatchReply.parseFrom(bytes));
+    }
+
+    @Test
+    public void emptyBatch() throws IOException {
+        byte[] bytes = readAll(new OrderAckBatchMarshaller().stream(new OrderAck[0]));
+        assertEquals(0, bytes.length);
+        assertEquals(NewOrderBatchReply.getDefaultInstance(), NewOrderBatchReply.parseFrom(bytes));
+    }
+
+    private static NewOrderReply expected(long orderId, long code, String message, OrderStatusEnum status) {
+        return NewOrderReply.newBuilder()
+                .setOrderId(orderId)
+                .setCode(code)
+                .setMessage(message)
+                .setCrossAvailable("OK")
+                .setStatus(status)
+                .build();
+    }
+
+    /**
+     * encode() 和 {@link OrderAckMarshaller} 的输出都与 builder 的字节相同
+     */
+    private static void assertEncoded(NewOrderReply expected, OrderAck ack) throws IOException {
+        byte[] encoded = ack.encode();
+        assertEquals(expected.getSerializedSize(), ack.serializedSize());
+        assertArrayEquals(expected.toByteArray(), encoded);
+        assertEquals(expected, NewOrderReply.parseFrom(encoded));
+        assertEquals(expected, NewOrderReply.parseFrom(new OrderAckMarshaller().stream(ack)));
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[64];
+        int read;
+        while ((read = stream.read(chunk)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static String repeat(String value, int count) {
+        char[] chars = new char[value.length() * count];
+        for (int i = 0; i < count; i++) {
+            value.getChars(0, value.length(), chars, i * value.length());
+        }
+        return new String(chars);
+    }
+}
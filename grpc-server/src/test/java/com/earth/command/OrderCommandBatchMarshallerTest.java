@@ -0,0 +1,87 @@
+package com.earth.command;
+
+import com.earth.base.common.Decimal;
+import com.earth.base.order.NewOrderBatchRequest;
+import com.earth.base.order.NewOrderRequest;
+import io.grpc.StatusRuntimeException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class OrderCommandBatchMarshallerTest {
+
+    private static final int MAX_ORDERS = 3;
+
+    private final OrderCommandPool pool = new OrderCommandPool(16);
+
+    private final OrderCommandBatchMarshaller marshaller = new OrderCommandBatchMarshaller(new OrderCommandCodec(8, 8, 8), pool, MAX_ORDERS);
+
+    @Test
+    public void parsesUpToMaxOrders() {
+        OrderCommand[] commands = marshaller.parse(new ByteArrayInputStream(batch(MAX_ORDERS).toByteArray()));
+
+        assertEquals(MAX_ORDERS, commands.length);
+        for (int i = 0; i < commands.length; i++) {
+            assertEquals(i + 1L, commands[i].accountId());
+            assertEquals(100_000_000L, commands[i].price());
+        }
+        assertEquals(MAX_ORDERS, pool.misses());
+    }
+
+    /**
+     * 超过上限时不取命令、不解析订单
+     */
+    @Test
+    public void rejectsTooManyOrdersBeforeAcquiring() {
+        byte[] bytes = batch(MAX_ORDERS + 1).toByteArray();
+        // 最后一个订单格式错误也不会被解析
+        bytes[bytes.length - 1] = (byte) 0xFF;
+
+        assertSame(OrderCommandBatchMarshaller.TOO_MANY_ORDERS, marshaller.parse(new ByteArrayInputStream(bytes)));
+        assertEquals(0L, pool.misses());
+    }
+
+    @Test
+    public void truncatedBatchFailsBeforeAcquiring() {
+        byte[] bytes = batch(2).toByteArray();
+        try {
+            marshaller.parse(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+            fail("truncated batch accepted");
+        } catch (StatusRuntimeException expected) {
+            // 数订单时已发现截断
+        }
+        assertEquals(0L, pool.misses());
+    }
+
+    @Test
+    public void malformedOrderRecyclesCommands() {
+        byte[] valid = batch(1).toByteArray();
+        // 第二个订单的长度正确，内容是非法的 wire type
+        byte[] bytes = Arrays.copyOf(valid, valid.length + 4);
+        System.arraycopy(new byte[]{1 << 3 | 2, 2, 1 << 3 | 6, 0}, 0, bytes, valid.length, 4);
+        try {
+            marshaller.parse(new ByteArrayInputStream(bytes));
+            fail("malformed order accepted");
+        } catch (StatusRuntimeException expected) {
+            // 已取出的两个命令全部归还
+        }
+        assertEquals(2L, pool.misses());
+        assertEquals(2, pool.size());
+    }
+
+    private static NewOrderBatchRequest batch(int orders) {
+        NewOrderBatchRequest.Builder batch = NewOrderBatchRequest.newBuilder();
+        for (int i = 0; i < orders; i++) {
+            batch.addOrders(NewOrderRequest.newBuilder()
+                    .setAccountId(i + 1L)
+                    .setSymbolId("BTCUSDT")
+                    .setPrice(Decimal.newBuilder().setUnscaledValue(1L).setScale(0)));
+        }
+        return batch.build();
+    }
+}
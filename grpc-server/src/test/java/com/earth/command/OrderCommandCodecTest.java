@@ -0,0 +1,431 @@
+package com.earth.command;
+
+import com.earth.base.common.BaseRequest;
+import com.earth.base.common.Decimal;
+import com.earth.base.common.OrderSideEnum;
+import com.earth.base.common.OrderTimeInForceEnum;
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.base.order.NewOrderRequest;
+import com.earth.decimal.DecimalCodec;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 与生成代码对比：同一份字节分别用 NewOrderRequest.parseFrom 和 {@link OrderCommandCodec} 解析，字段逐一相同，
+ * 或者两边都拒绝
+ */
+public class OrderCommandCodecTest {
+
+    private static final int SCALE = 8;
+
+    private static final int FROZEN_AMOUNT_FIELD = 33;
+
+    private final OrderCommandCodec codec = new OrderCommandCodec(SCALE, SCALE, SCALE);
+
+    @Test
+    public void everyFieldWithCompactDecimals() throws InvalidProtocolBufferException {
+        NewOrderRequest request = fullRequest()
+                .setPrice(compact(6_512_345L, 2))
+                .setQuantity(compact(15L, 1))
+                .setAmount(compact(-3L, 0))
+                .setTriggerPrice(compact(123_456_789_012L, 10))
+                .build();
+
+        OrderCommand command = assertMatches(request.toByteArray());
+        assertEquals(6_512_345_000_000L, command.price());
+        assertEquals(150_000_000L, command.quantity());
+        assertEquals(-300_000_000L, command.amount());
+        assertEquals(1_234_567_890L, command.triggerPrice());
+        assertEquals(1_700_000_000_000L, command.expireTime());
+        assertTrue(command.isLiquidation());
+        assertTrue(command.isSell());
+    }
+
+    @Test
+    public void everyFieldWithStringDecimals() throws InvalidProtocolBufferException {
+        NewOrderRequest request = fullRequest()
+                .setPrice(Decimal.newBuilder().setStr("65123.45"))
+                .setQuantity(Decimal.newBuilder().setStr("1.5"))
+                .setAmount(Decimal.newBuilder().setStr("-3"))
+                .setTriggerPrice(Decimal.newBuilder().setStr("12.3456789012"))
+                .build();
+
+        OrderCommand command = assertMatches(request.toByteArray());
+        assertEquals(6_512_345_000_000L, command.price());
+        assertEquals(1_234_567_890L, command.triggerPrice());
+    }
+
+    @Test
+    public void invalidDecimals() throws InvalidProtocolBufferException {
+        NewOrderRequest request = fullRequest()
+                .setPrice(Decimal.newBuilder().setStr("1.2.3"))
+                .setQuantity(compact(Long.MAX_VALUE, 0))
+                .setAmount(Decimal.newBuilder().setStr("1e400"))
+                .setTriggerPrice(compact(1L, -30))
+                .build();
+
+        OrderCommand command = assertMatches(request.toByteArray());
+        assertTrue(command.isInvalid(OrderCommand.PRICE));
+        assertTrue(command.isInvalid(OrderCommand.QUANTITY));
+        assertTrue(command.isInvalid(OrderCommand.AMOUNT));
+        assertTrue(command.isInvalid(OrderCommand.TRIGGER_PRICE));
+    }
+
+    @Test
+    public void unknownFieldsOfEveryWireType() throws InvalidProtocolBufferException {
+        Decimal price = compact(101L, 0).toBuilder().setUnknownFields(unknownFields(9)).build();
+        NewOrderRequest request = fullRequest()
+                .setPrice(price)
+                .setQuantity(compact(2L, 0))
+                .setUnknownFields(unknownFields(1_000))
+                .build();
+
+        OrderCommand command = assertMatches(request.toByteArray());
+        assertEquals(10_100_000_000L, command.price());
+    }
+
+    /**
+     * 标量字段以最后一个为准，嵌套的 Decimal 按子字段合并后再换算（与 mergeFrom 相同）
+     */
+    @Test
+    public void repeatedFieldsMergeLikeGeneratedCode() throws InvalidProtocolBufferException {
+        byte[] first = NewOrderRequest.newBuilder()
+                .setAccountId(1L)
+                .setSymbolId("ETHUSDT")
+                .setPrice(compact(5L, 2))
+                .setQuantity(Decimal.newBuilder().setStr("abc"))
+                .build().toByteArray();
+        byte[] second = NewOrderRequest.newBuilder()
+                .setAccountId(2L)
+                .setPrice(Decimal.newBuilder().setStr("1"))
+                .setQuantity(compact(3L, 0))
+                .build().toByteArray();
+
+        OrderCommand command = assertMatches(concat(first, second));
+        assertEquals(2L, command.accountId());
+        assertEquals("ETHUSDT", command.symbolId().toStringUtf8());
+        // 合并后 price = { str: "1", unscaled_value: 5, scale: 2 }，按紧凑形式换算
+        assertEquals(5_000_000L, command.price());
+        // 合并后 quantity 的 str 仍然非法，但紧凑形式优先
+        assertFalse(command.isInvalid(OrderCommand.QUANTITY));
+        assertEquals(300_000_000L, command.quantity());
+    }
+
+    @Test
+    public void randomMergedRequests() throws InvalidProtocolBufferException {
+        Random random = new Random(20261019L);
+        for (int i = 0; i < 2_000; i++) {
+            byte[] bytes = new byte[0];
+            for (int parts = 1 + random.nextInt(3); parts > 0; parts--) {
+                bytes = concat(bytes, randomRequest(random).toByteArray());
+            }
+            assertMatches(bytes);
+        }
+    }
+
+    /**
+     * 每一个截断位置：生成代码能解析的，编解码结果相同；生成代码拒绝的，编解码同样拒绝
+     */
+    @Test
+    public void truncatedInput() {
+        byte[] bytes = fullRequest()
+                .setPrice(compact(6_512_345L, 2))
+                .setQuantity(Decimal.newBuilder().setStr("1.5"))
+                .setUnknownFields(unknownFields(1_000))
+                .build().toByteArray();
+        for (int length = 0; length < bytes.length; length++) {
+            assertMatchesOrBothReject(Arrays.copyOf(bytes, length));
+        }
+    }
+
+    @Test
+    public void malformedInput() {
+        ByteString invalidUtf8 = ByteString.copyFrom(new byte[]{(byte) 0xC3, (byte) 0x28});
+        // client_order_id、symbol_id、sign_nonce（tag 两字节）、price.str 中的非法 UTF-8
+        assertRejected(concat(new byte[]{2 << 3 | 2, 2}, invalidUtf8.toByteArray()));
+        assertRejected(concat(new byte[]{3 << 3 | 2, 2}, invalidUtf8.toByteArray()));
+        assertRejected(concat(new byte[]{(byte) 0x92, 0x01, 2}, invalidUtf8.toByteArray()));
+        assertRejected(concat(new byte[]{7 << 3 | 2, 4, 1 << 3 | 2, 2}, invalidUtf8.toByteArray()));
+        // 非法的 wire type
+        assertRejected(new byte[]{1 << 3 | 6, 0});
+        assertRejected(new byte[]{7 << 3 | 2, 2, 2 << 3 | 7, 0});
+        // 多余的 end group（field 40）
+        assertRejected(new byte[]{(byte) 0xC4, 0x02});
+        assertRejected(new byte[]{7 << 3 | 2, 1, 5 << 3 | 4});
+        // 嵌套长度超出外层
+        assertRejected(new byte[]{7 << 3 | 2, 5, 2 << 3, 1});
+        // 超长的 varint
+        assertRejected(new byte[]{1 << 3, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1});
+    }
+
+    /**
+     * 冻结数额作为 field 33 追加在请求字节之后：按 NewOrderRequest 解析是未知字段，其余字段不变；
+     * 客户端自行带上的 field 33 被覆盖
+     */
+    @Test
+    public void appendedFrozenAmount() throws InvalidProtocolBufferException {
+        NewOrderRequest request = fullRequest()
+                .setPrice(compact(6_512_345L, 2))
+                .setQuantity(compact(15L, 1))
+                .setUnknownFields(UnknownFieldSet.newBuilder()
+                        .addField(FROZEN_AMOUNT_FIELD, UnknownFieldSet.Field.newBuilder().addVarint(999L).build())
+                        .build())
+                .build();
+        byte[] bytes = request.toByteArray();
+
+        for (int spare : new int[]{0, OrderCommand.FROZEN_AMOUNT_MAX_SIZE}) {
+            OrderCommand command = new OrderCommand();
+            codec.parse(Arrays.copyOf(bytes, bytes.length + spare), bytes.length, command);
+            assertEquals(999L, command.frozenAmount());
+            command.frozenAmount(Long.MAX_VALUE);
+            assertEquals(Long.MAX_VALUE, command.frozenAmount());
+
+            byte[] journaled = Arrays.copyOf(command.buffer(), command.length());
+            NewOrderRequest parsed = NewOrderRequest.parseFrom(journaled);
+            assertEquals(Arrays.asList(999L, Long.MAX_VALUE),
+                    parsed.getUnknownFields().getField(FROZEN_AMOUNT_FIELD).getVarintList());
+            assertEquals(withoutUnknownFields(request), withoutUnknownFields(parsed));
+
+            OrderCommand replayed = assertMatches(journaled);
+            assertEquals(Long.MAX_VALUE, replayed.frozenAmount());
+        }
+    }
+
+    private static NewOrderRequest withoutUnknownFields(NewOrderRequest request) {
+        return request.toBuilder().setUnknownFields(UnknownFieldSet.getDefaultInstance()).build();
+    }
+
+    @SuppressWarnings("deprecation")
+    private NewOrderRequest.Builder fullRequest() {
+        return NewOrderRequest.newBuilder()
+                .setAccountId(123_456_789L)
+                .setClientOrderId("client-订单-1")
+                .setSymbolId("BTCUSDT")
+                .setOrderType(OrderTypeEnum.STOP_LIMIT)
+                .setTimeInForce(OrderTimeInForceEnum.GTD)
+                .setSide(OrderSideEnum.SELL)
+                .setExchangeId(301L)
+                .setMakerFeeRate(compact(1L, 3))
+                .setTakerFeeRate(Decimal.newBuilder().setStr("0.002"))
+                .setLeverage(compact(10L, 0))
+                .setIsClose(true)
+                .setIsLiquidationOrder(true)
+                .setOrgId(6_001L)
+                .setSignTime(1_700_000_000L)
+                .setSignNonce("nonce-7f3a")
+                .setSignBroker("broker")
+                .setOriginalPrice(compact(7L, 1))
+                .setExtraFlagValue(1)
+                .setMakerBonusRate(compact(1L, 4))
+                .setOrderSource(3L)
+                .setBaseRequest(BaseRequest.newBuilder()
+                        .setOrganizationId(6_001L)
+                        .setRequestTime(1_700_000_000_123L)
+                        .setInvokeType(BaseRequest.InvokerTypeEnum.AGENT_OF_USER)
+                        .setBrokerUserId(77L)
+                        .setAccountId(123_456_789L))
+                .setDeduction("score")
+                .setIntegralNumExpectFrozen(5L)
+                .setIntegralNumToUsdtRate(Decimal.newBuilder().setStr("0.01"))
+                .setIntegralNumUsed(1L)
+                .setIntegralNumUnfrozen(2L)
+                .setIntegralNumRemain(3L)
+                .setExpireTime(1_700_000_000_000L)
+                .setIsCross(true);
+    }
+
+    private static NewOrderRequest randomRequest(Random random) {
+        NewOrderRequest.Builder builder = NewOrderRequest.newBuilder();
+        if (random.nextBoolean()) {
+            builder.setAccountId(random.nextLong());
+        }
+        if (random.nextBoolean()) {
+            builder.setClientOrderId("c" + random.nextInt(1_000));
+        }
+        if (random.nextBoolean()) {
+            builder.setSymbolId(random.nextBoolean() ? "BTCUSDT" : "ETHUSDT");
+        }
+        if (random.nextBoolean()) {
+            builder.setOrderTypeValue(random.nextInt(12));
+        }
+        if (random.nextBoolean()) {
+            builder.setTimeInForceValue(random.nextInt(6));
+        }
+        if (random.nextBoolean()) {
+            builder.setSideValue(random.nextInt(3));
+        }
+        if (random.nextBoolean()) {
+            builder.setPrice(randomDecimal(random));
+        }
+        if (random.nextBoolean()) {
+            builder.setQuantity(randomDecimal(random));
+        }
+        if (random.nextBoolean()) {
+            builder.setAmount(randomDecimal(random));
+        }
+        if (random.nextBoolean()) {
+            builder.setTriggerPrice(randomDecimal(random));
+        }
+        if (random.nextBoolean()) {
+            builder.setLeverage(randomDecimal(random));
+        }
+        if (random.nextBoolean()) {
+            builder.setIsLiquidationOrder(random.nextBoolean());
+        }
+        if (random.nextBoolean()) {
+            builder.setOrgId(random.nextInt(10_000));
+        }
+        if (random.nextBoolean()) {
+            builder.setSignNonce(Long.toHexString(random.nextLong()));
+        }
+        if (random.nextBoolean()) {
+            builder.setExpireTime(random.nextLong());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 随机只填部分子字段，覆盖紧凑形式、字符串形式、两者混合，以及非法值
+     */
+    private static Decimal randomDecimal(Random random) {
+        Decimal.Builder builder = Decimal.newBuilder();
+        if (random.nextInt(3) == 0) {
+            String[] strs = {"0", "1.5", "-0.00000001", "123456.123456789", "1e3", "abc", "99999999999999999999"};
+            builder.setStr(strs[random.nextInt(strs.length)]);
+        }
+        if (random.nextBoolean()) {
+            builder.setUnscaledValue(random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(1_000_000));
+        }
+        if (random.nextBoolean()) {
+            builder.setScale(random.nextInt(24) - 4);
+        }
+        return builder.build();
+    }
+
+    private static Decimal compact(long unscaled, int scale) {
+        return Decimal.newBuilder().setUnscaledValue(unscaled).setScale(scale).build();
+    }
+
+    private static UnknownFieldSet unknownFields(int fieldNumber) {
+        return UnknownFieldSet.newBuilder()
+                .addField(fieldNumber, UnknownFieldSet.Field.newBuilder().addVarint(-1L).build())
+                .addField(fieldNumber + 1, UnknownFieldSet.Field.newBuilder().addFixed32(7).build())
+                .addField(fieldNumber + 2, UnknownFieldSet.Field.newBuilder().addFixed64(-7L).build())
+                .addField(fieldNumber + 3, UnknownFieldSet.Field.newBuilder().addLengthDelimited(ByteString.copyFromUtf8("x")).build())
+                .addField(fieldNumber + 4, UnknownFieldSet.Field.newBuilder().addGroup(UnknownFieldSet.newBuilder()
+                        .addField(1, UnknownFieldSet.Field.newBuilder().addVarint(1L).build())
+                        .build()).build())
+                .build();
+    }
+
+    /**
+     * 分别从 byte[]（gRPC 路径）和 ByteBuffer（WAL 回放路径）解析，与生成代码逐字段对比
+     */
+    private OrderCommand assertMatches(byte[] bytes) throws InvalidProtocolBufferException {
+        NewOrderRequest request = NewOrderRequest.parseFrom(bytes);
+
+        OrderCommand fromBytes = new OrderCommand();
+        codec.parse(Arrays.copyOf(bytes, bytes.length + OrderCommand.FROZEN_AMOUNT_MAX_SIZE), bytes.length, fromBytes);
+        assertFields(request, fromBytes);
+        assertEquals(bytes.length, fromBytes.length());
+        assertArrayEquals(bytes, Arrays.copyOf(fromBytes.buffer(), fromBytes.length()));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        OrderCommand fromBuffer = new OrderCommand();
+        codec.parse(direct, fromBuffer);
+        assertFields(request, fromBuffer);
+        return fromBytes;
+    }
+
+    private void assertMatchesOrBothReject(byte[] bytes) {
+        NewOrderRequest request;
+        try {
+            request = NewOrderRequest.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            assertRejected(bytes);
+            return;
+        }
+        OrderCommand command = new OrderCommand();
+        try {
+            codec.parse(bytes, bytes.length, command);
+        } catch (InvalidProtocolBufferException e) {
+            throw new AssertionError("codec rejected " + bytes.length + " bytes accepted by NewOrderRequest", e);
+        }
+        assertFields(request, command);
+    }
+
+    private void assertRejected(byte[] bytes) {
+        try {
+            NewOrderRequest.parseFrom(bytes);
+            fail("NewOrderRequest accepted " + Arrays.toString(bytes));
+        } catch (InvalidProtocolBufferException expected) {
+            // 与生成代码一致
+        }
+        try {
+            codec.parse(bytes.clone(), bytes.length, new OrderCommand());
+            fail("codec accepted " + Arrays.toString(bytes));
+        } catch (InvalidProtocolBufferException expected) {
+            // 与生成代码一致
+        }
+        try {
+            codec.parse(ByteBuffer.wrap(bytes), new OrderCommand());
+            fail("codec accepted " + Arrays.toString(bytes));
+        } catch (InvalidProtocolBufferException expected) {
+            // 与生成代码一致
+        }
+    }
+
+    private static void assertFields(NewOrderRequest request, OrderCommand command) {
+        assertEquals(request.getAccountId(), command.accountId());
+        assertEquals(request.getClientOrderIdBytes(), command.clientOrderId());
+        assertEquals(request.getSymbolIdBytes(), command.symbolId());
+        assertEquals(request.getOrderType(), command.orderType());
+        assertEquals(request.getTimeInForce(), command.timeInForce());
+        assertEquals(request.getSide() == OrderSideEnum.SELL, command.isSell());
+        assertDecimal(request.getPrice(), command.price(), command.isInvalid(OrderCommand.PRICE));
+        assertDecimal(request.getQuantity(), command.quantity(), command.isInvalid(OrderCommand.QUANTITY));
+        assertDecimal(request.getAmount(), command.amount(), command.isInvalid(OrderCommand.AMOUNT));
+        assertDecimal(request.getTriggerPrice(), command.triggerPrice(), command.isInvalid(OrderCommand.TRIGGER_PRICE));
+        assertEquals(request.getIsLiquidationOrder(), command.isLiquidation());
+        assertEquals(request.getOrgId(), command.orgId());
+        assertEquals(request.getSignNonceBytes(), command.signNonce());
+        assertEquals(request.getExpireTime(), command.expireTime());
+        UnknownFieldSet.Field frozen = request.getUnknownFields().getField(FROZEN_AMOUNT_FIELD);
+        long expectedFrozen = frozen.getVarintList().isEmpty() ? 0L : frozen.getVarintList().get(frozen.getVarintList().size() - 1);
+        assertEquals(expectedFrozen, command.frozenAmount());
+    }
+
+    private static void assertDecimal(Decimal decimal, long value, boolean invalid) {
+        long expected;
+        try {
+            expected = DecimalCodec.toLong(decimal, SCALE);
+        } catch (ArithmeticException | NumberFormatException e) {
+            assertTrue("expected invalid " + decimal, invalid);
+            assertEquals(0L, value);
+            return;
+        }
+        assertFalse("unexpected invalid " + decimal, invalid);
+        assertEquals(expected, value);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(first.length + second.length);
+        out.write(first, 0, first.length);
+        out.write(second, 0, second.length);
+        return out.toByteArray();
+    }
+}
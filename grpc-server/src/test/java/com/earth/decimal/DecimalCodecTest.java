@@ -0,0 +1,184 @@
+package com.earth.decimal;
+
+import com.earth.base.common.Decimal;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * 与 BigDecimal 的结果逐一对比：值相同，或者抛出同类异常
+ */
+public class DecimalCodecTest {
+
+    @Test
+    public void sign() {
+        assertParse("123.45", 8);
+        assertParse("+123.45", 8);
+        assertParse("-123.45", 8);
+        assertParse("-0", 8);
+        assertParse("-0.000000001", 8);
+        assertParse("+.5", 2);
+        assertParse("-5.", 2);
+        assertEquals(-12345L, DecimalCodec.parse("-123.45", 2));
+    }
+
+    @Test
+    public void truncation() {
+        assertParse("1.123456789999", 8);
+        assertParse("-1.123456789999", 8);
+        assertParse("12.9", 0);
+        assertParse("-12.9", 0);
+        assertParse("0.999999999", 8);
+        assertParse("000000000000000000000001.5", 3);
+        assertEquals(112345678L, DecimalCodec.parse("1.123456789999", 8));
+        assertEquals(-12L, DecimalCodec.parse("-12.9", 0));
+    }
+
+    @Test
+    public void overflow() {
+        assertParse("92233720368.54775807", 8);
+        assertParse("-92233720368.54775808", 8);
+        assertParse("92233720368.54775808", 8);
+        assertParse("-92233720368.54775809", 8);
+        assertParse("9223372036854775807", 0);
+        assertParse("-9223372036854775808", 0);
+        assertParse("99999999999999999999", 0);
+        assertParse("100000000000", 8);
+        assertEquals(Long.MIN_VALUE, DecimalCodec.parse("-92233720368.54775808", 8));
+    }
+
+    @Test
+    public void exponent() {
+        assertParse("1E+3", 8);
+        assertParse("1e3", 2);
+        assertParse("-1.5E-3", 8);
+        assertParse("1.5e-9", 8);
+        assertParse("1E30", 8);
+        assertParse("1E", 8);
+        assertParse("1E+", 8);
+    }
+
+    @Test
+    public void invalidFormat() {
+        assertParse("", 8);
+        assertParse("-", 8);
+        assertParse(".", 8);
+        assertParse("1.2.3", 8);
+        assertParse("1,5", 8);
+        assertParse(" 1", 8);
+        assertParse("+-1", 8);
+        assertParse("1-", 8);
+        assertParse("abc", 8);
+        assertParse("99999999999999999999x", 8);
+    }
+
+    @Test
+    public void randomDecimals() {
+        Random random = new Random(20260101L);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder str = new StringBuilder();
+            int sign = random.nextInt(3);
+            if (sign == 1) {
+                str.append('-');
+            } else if (sign == 2) {
+                str.append('+');
+            }
+            appendDigits(str, random, random.nextInt(13));
+            if (random.nextBoolean()) {
+                str.append('.');
+                appendDigits(str, random, random.nextInt(13));
+            }
+            if (random.nextInt(20) == 0) {
+                str.append('E').append(random.nextInt(21) - 10);
+            }
+            assertParse(str.toString(), random.nextInt(11));
+        }
+    }
+
+    @Test
+    public void toLongMatchesBigDecimal() {
+        long[] unscaledValues = {0L, 1L, -1L, 12345L, -12345L, 999_999_999L, Long.MAX_VALUE, Long.MIN_VALUE};
+        int[] scales = {-20, -11, -3, 0, 2, 8, 10, 18, 19, 30};
+        for (long unscaled : unscaledValues) {
+            for (int scale : scales) {
+                if (unscaled == 0L && scale == 0) {
+                    continue;
+                }
+                Decimal decimal = Decimal.newBuilder().setUnscaledValue(unscaled).setScale(scale).build();
+                assertSame(BigDecimal.valueOf(unscaled, scale), 8, () -> DecimalCodec.toLong(decimal, 8));
+            }
+        }
+    }
+
+    @Test
+    public void toLongFallsBackToStr() {
+        assertEquals(0L, DecimalCodec.toLong(null, 8));
+        assertEquals(0L, DecimalCodec.toLong(Decimal.getDefaultInstance(), 8));
+        assertEquals(-150L, DecimalCodec.toLong(Decimal.newBuilder().setStr("-1.505").build(), 2));
+        // unscaled_value / scale 优先于 str
+        assertEquals(1234L, DecimalCodec.toLong(Decimal.newBuilder().setUnscaledValue(1234L).setScale(2).setStr("9").build(), 2));
+    }
+
+    @Test
+    public void toDecimalRoundTrip() {
+        Decimal decimal = DecimalCodec.toDecimal(-12345L, 2);
+        assertEquals(-12345L, DecimalCodec.toLong(decimal, 2));
+        assertEquals(-123450000L, DecimalCodec.toLong(decimal, 6));
+        assertEquals(0, new BigDecimal("-123.45").compareTo(BigDecimal.valueOf(decimal.getUnscaledValue(), decimal.getScale())));
+    }
+
+    private static void appendDigits(StringBuilder str, Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            str.append((char) ('0' + random.nextInt(10)));
+        }
+    }
+
+    private static void assertParse(String str, int scale) {
+        BigDecimal expected;
+        try {
+            expected = new BigDecimal(str);
+        } catch (NumberFormatException e) {
+            try {
+                long actual = DecimalCodec.parse(str, scale);
+                fail("expected NumberFormatException for \"" + str + "\", got " + actual);
+            } catch (NumberFormatException expectedException) {
+                return;
+            }
+            return;
+        }
+        assertSame(expected, scale, () -> DecimalCodec.parse(str, scale));
+    }
+
+    /**
+     * 期望值为 BigDecimal 放大 10^scale 倍后向零截断，超出 long 范围时期望 ArithmeticException
+     */
+    private static void assertSame(BigDecimal value, int scale, LongCall call) {
+        Long expected;
+        try {
+            expected = value.movePointRight(scale).toBigInteger().longValueExact();
+        } catch (ArithmeticException e) {
+            expected = null;
+        }
+        try {
+            long actual = call.get();
+            if (expected == null) {
+                fail("expected ArithmeticException for " + value + " scale " + scale + ", got " + actual);
+            }
+            assertEquals(value + " scale " + scale, expected.longValue(), actual);
+        } catch (ArithmeticException e) {
+            if (expected != null) {
+                throw new AssertionError("unexpected overflow for " + value + " scale " + scale + ", expected " + expected, e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface LongCall {
+
+        long get();
+    }
+}
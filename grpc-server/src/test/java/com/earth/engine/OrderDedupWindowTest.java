@@ -0,0 +1,73 @@
+package com.earth.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class OrderDedupWindowTest {
+
+    private static final long WINDOW = 1000L;
+
+    @Test
+    public void findsOrderWithinWindow() {
+        OrderDedupWindow window = new OrderDedupWindow(WINDOW, 16);
+        window.put(11L, 101L, 1000L);
+        window.put(12L, 102L, 1500L);
+
+        assertEquals(101L, window.find(11L, 2000L));
+        assertEquals(102L, window.find(12L, 2000L));
+        assertEquals(OrderDedupWindow.NOT_FOUND, window.find(13L, 2000L));
+    }
+
+    @Test
+    public void expiredOrderIsNotFound() {
+        OrderDedupWindow window = new OrderDedupWindow(WINDOW, 16);
+        window.put(11L, 101L, 1000L);
+
+        assertEquals(OrderDedupWindow.NOT_FOUND, window.find(11L, 2001L));
+        // 过期条目在下一次写入时淘汰
+        window.put(12L, 102L, 2001L);
+        assertEquals(1, window.size());
+    }
+
+    @Test
+    public void reusedKeyPointsToNewOrder() {
+        OrderDedupWindow window = new OrderDedupWindow(WINDOW, 16);
+        window.put(11L, 101L, 1000L);
+        window.put(11L, 201L, 2500L);
+
+        assertEquals(201L, window.find(11L, 2600L));
+        // 旧条目淘汰时不能删掉新条目的索引
+        window.put(12L, 102L, 3400L);
+        assertEquals(201L, window.find(11L, 3400L));
+    }
+
+    @Test
+    public void removeKeepsProbeChain() {
+        OrderDedupWindow window = new OrderDedupWindow(WINDOW, 16);
+        for (long key = 1L; key <= 16L; key++) {
+            window.put(key, 100L + key, 1000L);
+        }
+        window.remove(5L);
+
+        assertEquals(OrderDedupWindow.NOT_FOUND, window.find(5L, 1000L));
+        for (long key = 1L; key <= 16L; key++) {
+            if (key != 5L) {
+                assertEquals(100L + key, window.find(key, 1000L));
+            }
+        }
+    }
+
+    @Test
+    public void fullWindowEvictsOldestEarly() {
+        OrderDedupWindow window = new OrderDedupWindow(WINDOW, 16);
+        for (long key = 1L; key <= 17L; key++) {
+            window.put(key, 100L + key, 1000L + key);
+        }
+
+        assertEquals(16, window.size());
+        assertEquals(1L, window.evictedEarly());
+        assertEquals(OrderDedupWindow.NOT_FOUND, window.find(1L, 1100L));
+        assertEquals(117L, window.find(17L, 1100L));
+    }
+}
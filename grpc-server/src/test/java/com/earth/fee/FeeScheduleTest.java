@@ -0,0 +1,91 @@
+package com.earth.fee;
+
+import com.earth.symbol.SymbolProperties;
+import com.earth.symbol.SymbolRegistry;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FeeScheduleTest {
+
+    private static final long DEFAULT_MAKER = FeeSchedule.parseRate("0.001");
+
+    private static final long DEFAULT_TAKER = FeeSchedule.parseRate("0.002");
+
+    @Test
+    public void resolvesByPriority() {
+        SymbolRegistry registry = registry(false, "BTC-USDT");
+        FeeSchedule schedule = FeeSchedule.parse(1L, Arrays.asList(
+                "# org,account,symbol,maker,taker[,bonus]",
+                "*,*,BTC-USDT,0.0008,0.0015",
+                "7,*,*,0.0007,0.0014",
+                "7,*,BTC-USDT,0.0006,0.0013",
+                "*,100,*,0.0005,0.0012",
+                "*,100,BTC-USDT,0.0004,0.0011,0.0006"
+        ), DEFAULT_MAKER, DEFAULT_TAKER, registry);
+        int btc = registry.lookup("BTC-USDT").id();
+
+        assertEquals(FeeSchedule.parseRate("-0.0002"), schedule.makerRate(schedule.resolve(7L, 100L, btc)));
+        assertEquals(FeeSchedule.parseRate("0.0012"), schedule.takerRate(schedule.resolve(7L, 100L, btc + 1)));
+        assertEquals(FeeSchedule.parseRate("0.0013"), schedule.takerRate(schedule.resolve(7L, 200L, btc)));
+        assertEquals(FeeSchedule.parseRate("0.0014"), schedule.takerRate(schedule.resolve(7L, 200L, btc + 1)));
+        assertEquals(FeeSchedule.parseRate("0.0015"), schedule.takerRate(schedule.resolve(8L, 200L, btc)));
+        assertEquals(DEFAULT_TAKER, schedule.takerRate(schedule.resolve(8L, 200L, btc + 1)));
+    }
+
+    @Test
+    public void registersUnknownSymbolsInNonStrictMode() {
+        SymbolRegistry registry = registry(false);
+        FeeSchedule schedule = FeeSchedule.parse(1L, Arrays.asList(
+                "*,*,BTC-USDT,0.0008,0.0015",
+                "*,100,ETH-USDT,0.0004,0.0011"
+        ), DEFAULT_MAKER, DEFAULT_TAKER, registry);
+
+        assertEquals(2, registry.size());
+        assertEquals(FeeSchedule.parseRate("0.0015"), schedule.takerRate(schedule.resolve(1L, 1L, registry.lookup("BTC-USDT").id())));
+        assertEquals(FeeSchedule.parseRate("0.0011"), schedule.takerRate(schedule.resolve(1L, 100L, registry.lookup("ETH-USDT").id())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownSymbolInStrictMode() {
+        FeeSchedule.parse(1L, Collections.singletonList("*,*,BTC-USDT,0.0008,0.0015"), DEFAULT_MAKER, DEFAULT_TAKER, registry(true));
+    }
+
+    @Test
+    public void cacheLoadsScheduleWithUnregisteredSymbols() throws IOException {
+        Path file = Files.createTempFile("fee-schedule", ".csv");
+        try {
+            Files.write(file, Collections.singletonList("*,*,BTC-USDT,0.0008,0.0015"), StandardCharsets.UTF_8);
+            FeeProperties properties = new FeeProperties();
+            properties.setScheduleFile(file.toString());
+            properties.setDefaultMakerRate("0.001");
+            properties.setDefaultTakerRate("0.002");
+            SymbolRegistry registry = registry(false);
+            FeeScheduleCache cache = new FeeScheduleCache(properties, registry);
+
+            assertTrue(cache.reload());
+            FeeSchedule schedule = cache.current();
+            assertEquals(2L, schedule.version());
+            assertEquals(FeeSchedule.parseRate("0.0015"), schedule.takerRate(schedule.resolve(1L, 1L, registry.lookup("BTC-USDT").id())));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static SymbolRegistry registry(boolean strict, String... symbols) {
+        SymbolProperties properties = new SymbolProperties();
+        properties.setStrict(strict);
+        for (String symbol : symbols) {
+            properties.getSpecs().put(symbol, new SymbolProperties.Spec());
+        }
+        return new SymbolRegistry(properties, 8, 8);
+    }
+}
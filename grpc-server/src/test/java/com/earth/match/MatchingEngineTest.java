@@ -0,0 +1,244 @@
+package com.earth.match;
+
+import com.earth.base.common.OrderTimeInForceEnum;
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.base.order.OrderStatusEnum;
+import com.earth.book.OrderBook;
+import com.earth.decimal.DecimalCodec;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MatchingEngineTest {
+
+    private static final int SCALE = 8;
+
+    private final RecordingListener listener = new RecordingListener();
+
+    private final MatchingEngine engine = new MatchingEngine(listener, SCALE, SCALE, SCALE);
+
+    private OrderBook book;
+
+    private long nextOrderId = 100L;
+
+    @Before
+    public void setUp() {
+        book = new OrderBook("BTC-USDT", 16);
+    }
+
+    @Test
+    public void restsUnfilledLimitOrder() {
+        assertEquals(OrderStatusEnum.NEW, limit(1L, OrderBook.BUY, "100", "5"));
+        assertNotEquals(OrderBook.NO_ORDER, book.find(1L));
+        assertEquals(d("5"), listener.remainingQuantity);
+    }
+
+    @Test
+    public void rejectsLimitOrderThatCannotRest() {
+        limit(1L, OrderBook.BUY, "90", "1");
+
+        assertEquals(OrderStatusEnum.REJECTED, limit(1L, OrderBook.BUY, "100", "5"));
+        assertEquals(d("1"), book.remaining(book.find(1L)));
+    }
+
+    @Test
+    public void cancelsRemainderThatCannotRestAfterFills() {
+        limit(1L, OrderBook.SELL, "100", "5");
+        limit(2L, OrderBook.BUY, "90", "1");
+
+        assertEquals(OrderStatusEnum.CANCELED, limit(2L, OrderBook.BUY, "100", "8"));
+        assertEquals(d("5"), listener.executedQuantity);
+        assertEquals(d("500"), listener.executedAmount);
+        assertEquals(d("3"), listener.remainingQuantity);
+        // 簿中仍是原来那笔挂单
+        assertEquals(d("1"), book.remaining(book.find(2L)));
+    }
+
+    @Test
+    public void marketOfBaseFillsAcrossLevels() {
+        rest(OrderBook.SELL, "10", "1");
+        rest(OrderBook.SELL, "11", "2");
+
+        assertEquals(OrderStatusEnum.FILLED, market(OrderBook.BUY, OrderTypeEnum.MARKET_OF_BASE, OrderTimeInForceEnum.IOC, "2.5", "0"));
+        assertEquals(2, listener.trades);
+        assertEquals(d("2.5"), listener.executedQuantity);
+        assertEquals(d("26.5"), listener.executedAmount);
+        assertEquals(d("0.5"), book.bestQuantity(OrderBook.SELL));
+    }
+
+    @Test
+    public void marketOfBaseCancelsRemainderWhenBookRunsOut() {
+        rest(OrderBook.SELL, "10", "1");
+
+        assertEquals(OrderStatusEnum.CANCELED, market(OrderBook.BUY, OrderTypeEnum.MARKET_OF_BASE, OrderTimeInForceEnum.IOC, "3", "0"));
+        assertEquals(d("1"), listener.executedQuantity);
+        assertEquals(d("2"), listener.remainingQuantity);
+        assertEquals(0, book.levels(OrderBook.BUY));
+    }
+
+    @Test
+    public void marketOfBaseStopsAtAmountCap() {
+        rest(OrderBook.SELL, "10", "1");
+        rest(OrderBook.SELL, "11", "2");
+
+        assertEquals(OrderStatusEnum.CANCELED, market(OrderBook.BUY, OrderTypeEnum.MARKET_OF_BASE, OrderTimeInForceEnum.IOC, "2", "15"));
+        assertEquals(d("1.45454545"), listener.executedQuantity);
+        assertTrue(listener.executedAmount <= d("15"));
+    }
+
+    @Test
+    public void marketOfQuoteWithDustIsFilled() {
+        rest(OrderBook.SELL, "3", "10");
+
+        assertEquals(OrderStatusEnum.FILLED, market(OrderBook.BUY, OrderTypeEnum.MARKET_OF_QUOTE, OrderTimeInForceEnum.IOC, "0", "10"));
+        assertEquals(d("3.33333333"), listener.executedQuantity);
+        assertEquals(d("9.99999999"), listener.executedAmount);
+        assertEquals(0L, listener.remainingQuantity);
+    }
+
+    @Test
+    public void marketOfQuoteFokWithDustIsFilled() {
+        rest(OrderBook.SELL, "3", "10");
+
+        assertEquals(OrderStatusEnum.FILLED, market(OrderBook.BUY, OrderTypeEnum.MARKET_OF_QUOTE, OrderTimeInForceEnum.FOK, "0", "10"));
+        assertEquals(d("3.33333333"), listener.executedQuantity);
+    }
+
+    @Test
+    public void marketOfQuoteFokAcrossOrdersAndLevels() {
+        rest(OrderBook.SELL, "3", "1");
+        rest(OrderBook.SELL, "3", "1");
+        rest(OrderBook.SELL, "7", "5");
+
+        assertEquals(OrderStatusEnum.FILLED, market(OrderBook.BUY, OrderTypeEnum.MARKET_OF_QUOTE, OrderTimeInForceEnum.FOK, "0", "10"));
+        assertEquals(3, listener.trades);
+        assertEquals(d("2.57142857"), listener.executedQuantity);
+    }
+
+    @Test
+    public void marketOfQuoteFokCanceledWhenBookShort() {
+        rest(OrderBook.SELL, "3", "1");
+
+        assertEquals(OrderStatusEnum.CANCELED, market(OrderBook.BUY, OrderTypeEnum.MARKET_OF_QUOTE, OrderTimeInForceEnum.FOK, "0", "10"));
+        assertEquals(0, listener.trades);
+        assertEquals(d("1"), book.bestQuantity(OrderBook.SELL));
+    }
+
+    @Test
+    public void marketOfQuoteCanceledWhenBookRunsOut() {
+        rest(OrderBook.SELL, "3", "1");
+
+        assertEquals(OrderStatusEnum.CANCELED, market(OrderBook.BUY, OrderTypeEnum.MARKET_OF_QUOTE, OrderTimeInForceEnum.IOC, "0", "10"));
+        assertEquals(d("1"), listener.executedQuantity);
+        assertEquals(d("3"), listener.executedAmount);
+    }
+
+    @Test
+    public void marketOfQuoteStopsAtQuantityCap() {
+        rest(OrderBook.BUY, "3", "5");
+
+        assertEquals(OrderStatusEnum.CANCELED, market(OrderBook.SELL, OrderTypeEnum.MARKET_OF_QUOTE, OrderTimeInForceEnum.IOC, "2", "10"));
+        assertEquals(d("2"), listener.executedQuantity);
+        assertEquals(d("6"), listener.executedAmount);
+
+        listener.trades = 0;
+        assertEquals(OrderStatusEnum.CANCELED, market(OrderBook.SELL, OrderTypeEnum.MARKET_OF_QUOTE, OrderTimeInForceEnum.FOK, "2", "10"));
+        assertEquals(0, listener.trades);
+    }
+
+    @Test
+    public void iocLimitCancelsRemainder() {
+        rest(OrderBook.SELL, "10", "1");
+
+        assertEquals(OrderStatusEnum.CANCELED, limit(1L, OrderBook.BUY, OrderTimeInForceEnum.IOC, "10", "3"));
+        assertEquals(d("1"), listener.executedQuantity);
+        assertEquals(d("2"), listener.remainingQuantity);
+        assertEquals(OrderBook.NO_ORDER, book.find(1L));
+    }
+
+    @Test
+    public void fokLimitFillsCompletelyOrNotAtAll() {
+        rest(OrderBook.SELL, "10", "1");
+        rest(OrderBook.SELL, "11", "1");
+
+        assertEquals(OrderStatusEnum.CANCELED, limit(1L, OrderBook.BUY, OrderTimeInForceEnum.FOK, "10", "2"));
+        assertEquals(0, listener.trades);
+        assertEquals(OrderStatusEnum.FILLED, limit(2L, OrderBook.BUY, OrderTimeInForceEnum.FOK, "11", "2"));
+        assertEquals(2, listener.trades);
+    }
+
+    @Test
+    public void gtmRestsOnlyWithoutFills() {
+        rest(OrderBook.SELL, "10", "1");
+
+        assertEquals(OrderStatusEnum.CANCELED, limit(1L, OrderBook.BUY, OrderTimeInForceEnum.GTM, "10", "3"));
+        assertEquals(OrderBook.NO_ORDER, book.find(1L));
+        assertEquals(OrderStatusEnum.NEW, limit(2L, OrderBook.BUY, OrderTimeInForceEnum.GTM, "9", "3"));
+        assertNotEquals(OrderBook.NO_ORDER, book.find(2L));
+    }
+
+    @Test
+    public void limitMakerRejectedWhenCrossing() {
+        rest(OrderBook.SELL, "10", "1");
+
+        assertEquals(OrderStatusEnum.REJECTED, order(1L, OrderBook.BUY, OrderTypeEnum.LIMIT_MAKER, OrderTimeInForceEnum.GTC, "10", "1", "0"));
+        assertEquals(0, listener.trades);
+        assertEquals(OrderBook.NO_ORDER, book.find(1L));
+        assertEquals(OrderStatusEnum.NEW, order(2L, OrderBook.BUY, OrderTypeEnum.LIMIT_MAKER, OrderTimeInForceEnum.GTC, "9.99", "1", "0"));
+        assertNotEquals(OrderBook.NO_ORDER, book.find(2L));
+    }
+
+    private void rest(int side, String price, String quantity) {
+        assertEquals(OrderStatusEnum.NEW, limit(nextOrderId++, side, price, quantity));
+    }
+
+    private OrderStatusEnum limit(long orderId, int side, String price, String quantity) {
+        return limit(orderId, side, OrderTimeInForceEnum.GTC, price, quantity);
+    }
+
+    private OrderStatusEnum limit(long orderId, int side, OrderTimeInForceEnum timeInForce, String price, String quantity) {
+        return order(orderId, side, OrderTypeEnum.LIMIT, timeInForce, price, quantity, "0");
+    }
+
+    private OrderStatusEnum market(int side, OrderTypeEnum orderType, OrderTimeInForceEnum timeInForce, String quantity, String amount) {
+        return order(nextOrderId++, side, orderType, timeInForce, "0", quantity, amount);
+    }
+
+    private OrderStatusEnum order(long orderId, int side, OrderTypeEnum orderType, OrderTimeInForceEnum timeInForce,
+                                  String price, String quantity, String amount) {
+        listener.trades = 0;
+        return engine.match(book, orderId, 1L, side, orderType, timeInForce, d(price), d(quantity), d(amount));
+    }
+
+    private static long d(String value) {
+        return DecimalCodec.parse(value, SCALE);
+    }
+
+    private static final class RecordingListener implements MatchListener {
+
+        private int trades;
+
+        private long executedQuantity;
+
+        private long executedAmount;
+
+        private long remainingQuantity;
+
+        @Override
+        public void onTrade(long takerOrderId, long takerAccountId, long makerOrderId, long makerAccountId, long makerOrgId,
+                            int takerSide, long price, long quantity, long makerQuantity, long makerRemaining, boolean makerLocked) {
+            trades++;
+        }
+
+        @Override
+        public void onTakerResult(long orderId, long accountId, OrderStatusEnum status,
+                                  long executedQuantity, long executedAmount, long remainingQuantity) {
+            this.executedQuantity = executedQuantity;
+            this.executedAmount = executedAmount;
+            this.remainingQuantity = remainingQuantity;
+        }
+    }
+}
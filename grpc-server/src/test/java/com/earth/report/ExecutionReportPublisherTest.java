@@ -0,0 +1,140 @@
+package com.earth.report;
+
+import com.earth.base.order.ExecutionReport;
+import com.earth.base.order.ExecutionReportBatch;
+import com.earth.base.order.OrderStatusEnum;
+import com.earth.book.OrderBook;
+import com.earth.wal.OrderWal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public class ExecutionReportPublisherTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private Path dir;
+
+    private OrderWal tradeJournal;
+
+    private final RecordingSink sink = new RecordingSink();
+
+    private ExecutionReportPublisher publisher;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("trade-journal-test");
+        tradeJournal = new OrderWal(dir, SEGMENT_SIZE);
+        publisher = new ExecutionReportPublisher(tradeJournal, new CopyOnWriteArrayList<>(Collections.singletonList(sink)), 8, 8, 8);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        tradeJournal.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void sequenceIsJournalLsn() throws InvalidProtocolBufferException {
+        publisher.onEvent(event(1L, "BTCUSDT"), 0L, false);
+        publisher.onEvent(event(2L, "BTCUSDT"), 1L, true);
+        publisher.onEvent(event(3L, "BTCUSDT"), 2L, true);
+
+        assertEquals(List.of(1L, 2L, 3L), sequences());
+        assertEquals(List.of(1L, 2L, 3L), orderIds());
+        List<long[]> records = new ArrayList<>();
+        tradeJournal.replay(1L, (lsn, timestamp, payload) -> {
+            try {
+                ExecutionReport record = ExecutionReport.parseFrom(payload);
+                records.add(new long[]{lsn, record.getOrderId(), record.getSequence()});
+            } catch (InvalidProtocolBufferException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertEquals(3, records.size());
+        for (long[] record : records) {
+            assertEquals(record[0], record[1]);
+            // 流水记录不含序号，序号即 lsn
+            assertEquals(0L, record[2]);
+        }
+    }
+
+    @Test
+    public void reportNotJournaledIsNotPublished() {
+        StringBuilder symbolId = new StringBuilder();
+        while (symbolId.length() < SEGMENT_SIZE) {
+            symbolId.append("BTCUSDT");
+        }
+        publisher.onEvent(event(1L, "BTCUSDT"), 0L, false);
+        // 超过段大小，追加失败
+        publisher.onEvent(event(2L, symbolId.toString()), 1L, false);
+        publisher.onEvent(event(3L, "BTCUSDT"), 2L, true);
+
+        assertEquals(List.of(1L, 2L), sequences());
+        assertEquals(List.of(1L, 3L), orderIds());
+        assertEquals(2L, tradeJournal.lastLsn());
+    }
+
+    private static ExecutionReportEvent event(long orderId, String symbolId) {
+        ExecutionReportEvent event = new ExecutionReportEvent();
+        event.orderId = orderId;
+        event.accountId = 7L;
+        event.symbolId = symbolId;
+        event.side = OrderBook.BUY;
+        event.status = OrderStatusEnum.NEW;
+        event.leavesQuantity = 100_000_000L;
+        return event;
+    }
+
+    private List<Long> sequences() {
+        List<Long> sequences = new ArrayList<>();
+        sink.batches.forEach(batch -> batch.getReportsList().forEach(report -> sequences.add(report.getSequence())));
+        return sequences;
+    }
+
+    private List<Long> orderIds() {
+        List<Long> orderIds = new ArrayList<>();
+        sink.batches.forEach(batch -> batch.getReportsList().forEach(report -> orderIds.add(report.getOrderId())));
+        return orderIds;
+    }
+
+    private static final class RecordingSink implements ExecutionReportSink {
+
+        private final List<ExecutionReportBatch> batches = new ArrayList<>();
+
+        @Override
+        public long getAccountId() {
+            return 0L;
+        }
+
+        @Override
+        public boolean offer(ExecutionReportBatch batch) {
+            batches.add(batch);
+            return true;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
+        @Override
+        public void complete() {
+        }
+    }
+}
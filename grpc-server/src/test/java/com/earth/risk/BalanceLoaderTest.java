@@ -0,0 +1,111 @@
+package com.earth.risk;
+
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.book.OrderBook;
+import com.earth.symbol.SymbolProperties;
+import com.earth.symbol.SymbolRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+public class BalanceLoaderTest {
+
+    private static final int SCALE = 8;
+
+    private static final long ONE = 100_000_000L;
+
+    private final RiskProperties properties = new RiskProperties();
+
+    private SymbolRegistry symbolRegistry;
+
+    private PreTradeRisk risk;
+
+    private int btc;
+
+    private int usdt;
+
+    private int symbol;
+
+    @Before
+    public void setUp() {
+        properties.setEnabled(true);
+        properties.getSymbols().put("BTCUSDT", "BTC/USDT");
+        symbolRegistry = new SymbolRegistry(new SymbolProperties(), SCALE, SCALE);
+        risk = new PreTradeRisk(properties, symbolRegistry, SCALE, SCALE, SCALE);
+        btc = risk.assetId("BTC");
+        usdt = risk.assetId("USDT");
+        symbol = symbolRegistry.lookup("BTCUSDT").id();
+    }
+
+    @Test
+    public void loadedBalancesAllowOrders() throws IOException {
+        Path file = Files.createTempFile("balances", ".csv");
+        try {
+            Files.write(file, List.of("# account_id,asset,balance", "1,USDT,1000.5", "1,BTC,2", "", "2,USDT,10"), StandardCharsets.UTF_8);
+            properties.setBalanceFile(file.toString());
+            new BalanceLoader(properties, risk, SCALE).load();
+        } finally {
+            Files.delete(file);
+        }
+
+        assertEquals(1000 * ONE + ONE / 2, risk.ledger().available(1L, usdt));
+        assertEquals(2 * ONE, risk.ledger().available(1L, btc));
+        // 买 1 BTC @ 100 USDT
+        assertEquals(100 * ONE, risk.freeze(1L, symbol, OrderBook.BUY, OrderTypeEnum.LIMIT, false, 100 * ONE, ONE, 0L, 0L));
+        assertEquals(PreTradeRisk.INSUFFICIENT_BALANCE,
+                risk.freeze(2L, symbol, OrderBook.BUY, OrderTypeEnum.LIMIT, false, 100 * ONE, ONE, 0L, 0L));
+    }
+
+    @Test
+    public void balanceOffsetsRecoveredFreeze() {
+        // 重启恢复挂单时先冻结，之后加载的总余额抵平
+        risk.ledger().forceFreeze(1L, usdt, 30 * ONE);
+        new BalanceLoader(properties, risk, SCALE).credit(List.of("1,USDT,100"));
+
+        assertEquals(70 * ONE, risk.ledger().available(1L, usdt));
+        assertEquals(30 * ONE, risk.ledger().frozen(1L, usdt));
+    }
+
+    @Test
+    public void rejectsWholeFileOnBadLine() {
+        BalanceLoader loader = new BalanceLoader(properties, risk, SCALE);
+        try {
+            loader.credit(List.of("1,USDT,100", "2,ETH,1"));
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(0L, risk.ledger().available(1L, usdt));
+        }
+        try {
+            loader.credit(List.of("1,USDT,abc"));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            loader.credit(List.of("1,USDT"));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void freezeAllIsDistinctFromInsufficientBalance() {
+        assertNotEquals(PreTradeRisk.ALL, PreTradeRisk.INSUFFICIENT_BALANCE);
+        assertNotEquals(PreTradeRisk.ALL, PreTradeRisk.UNKNOWN_SYMBOL);
+        assertEquals(PreTradeRisk.ALL, risk.requirement(OrderBook.BUY, OrderTypeEnum.MARKET_OF_BASE, 0L, ONE, 0L, 0L));
+
+        // 市价买单冻结全部可用余额，没有余额时才返回余额不足
+        assertEquals(PreTradeRisk.INSUFFICIENT_BALANCE,
+                risk.freeze(1L, symbol, OrderBook.BUY, OrderTypeEnum.MARKET_OF_BASE, false, 0L, ONE, 0L, 0L));
+        risk.ledger().credit(1L, usdt, 50 * ONE);
+        assertEquals(50 * ONE, risk.freeze(1L, symbol, OrderBook.BUY, OrderTypeEnum.MARKET_OF_BASE, false, 0L, ONE, 0L, 0L));
+    }
+}
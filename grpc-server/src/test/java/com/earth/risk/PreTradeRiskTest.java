@@ -0,0 +1,85 @@
+package com.earth.risk;
+
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.book.OrderBook;
+import com.earth.symbol.SymbolProperties;
+import com.earth.symbol.SymbolRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PreTradeRiskTest {
+
+    private static final int SCALE = 8;
+
+    private static final long ONE = 100_000_000L;
+
+    private final RiskProperties properties = new RiskProperties();
+
+    private PreTradeRisk risk;
+
+    private int btc;
+
+    private int usdt;
+
+    private int symbol;
+
+    @Before
+    public void setUp() {
+        properties.setEnabled(true);
+        properties.setStopSlippageBps(500L);
+        properties.getSymbols().put("BTCUSDT", "BTC/USDT");
+        SymbolRegistry symbolRegistry = new SymbolRegistry(new SymbolProperties(), SCALE, SCALE);
+        risk = new PreTradeRisk(properties, symbolRegistry, SCALE, SCALE, SCALE);
+        btc = risk.assetId("BTC");
+        usdt = risk.assetId("USDT");
+        symbol = symbolRegistry.lookup("BTCUSDT").id();
+        risk.ledger().credit(1L, usdt, 10_000 * ONE);
+        risk.ledger().credit(1L, btc, 10 * ONE);
+    }
+
+    @Test
+    public void stopBuyByQuantityFreezesTriggerPricePlusSlippage() {
+        // 2 * 100 * 1.05
+        assertEquals(210 * ONE, risk.freeze(1L, symbol, OrderBook.BUY, OrderTypeEnum.STOP, false, 0L, 2 * ONE, 0L, 100 * ONE));
+        assertEquals(210 * ONE, risk.ledger().frozen(1L, usdt));
+        assertEquals(9_790 * ONE, risk.ledger().available(1L, usdt));
+    }
+
+    @Test
+    public void stopSellByAmountFreezesAtTriggerPriceMinusSlippage() {
+        // 190 / (100 * 0.95)
+        assertEquals(2 * ONE, risk.freeze(1L, symbol, OrderBook.SELL, OrderTypeEnum.STOP, false, 0L, 0L, 190 * ONE, 100 * ONE));
+        assertEquals(2 * ONE, risk.ledger().frozen(1L, btc));
+        // 不能整除时向上取整，冻结的数量按下限价格足够卖出 amount
+        long frozen = risk.freeze(1L, symbol, OrderBook.SELL, OrderTypeEnum.STOP, false, 0L, 0L, 10 * ONE, 3 * ONE);
+        assertTrue(risk.amountOf(3 * ONE - 3 * ONE * 5 / 100, frozen) >= 10 * ONE);
+        assertTrue(risk.amountOf(3 * ONE - 3 * ONE * 5 / 100, frozen - 1L) < 10 * ONE);
+    }
+
+    @Test
+    public void stopWithKnownAmountFreezesExactly() {
+        assertEquals(150 * ONE, risk.freeze(1L, symbol, OrderBook.BUY, OrderTypeEnum.STOP, false, 0L, 0L, 150 * ONE, 100 * ONE));
+        assertEquals(3 * ONE, risk.freeze(1L, symbol, OrderBook.SELL, OrderTypeEnum.STOP, false, 0L, 3 * ONE, 0L, 100 * ONE));
+    }
+
+    @Test
+    public void stopBeyondBalanceIsRejected() {
+        assertEquals(PreTradeRisk.INSUFFICIENT_BALANCE,
+                risk.freeze(1L, symbol, OrderBook.BUY, OrderTypeEnum.STOP, false, 0L, 100 * ONE, 0L, 100 * ONE));
+        assertEquals(0L, risk.ledger().frozen(1L, usdt));
+    }
+
+    @Test
+    public void marketBuyByQuantityStillFreezesAll() {
+        assertEquals(10_000 * ONE, risk.freeze(1L, symbol, OrderBook.BUY, OrderTypeEnum.MARKET_OF_BASE, false, 0L, ONE, 0L, 0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSlippageOfWholePrice() {
+        properties.setStopSlippageBps(10_000L);
+        new PreTradeRisk(properties, new SymbolRegistry(new SymbolProperties(), SCALE, SCALE), SCALE, SCALE, SCALE);
+    }
+}
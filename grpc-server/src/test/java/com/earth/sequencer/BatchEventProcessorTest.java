@@ -0,0 +1,92 @@
+package com.earth.sequencer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BatchEventProcessorTest {
+
+    private final RingBuffer<long[]> ringBuffer = RingBuffer.create(() -> new long[1], 16, new BusySpinWaitStrategy());
+
+    @Test
+    public void completedBatchesAdvanceSequence() throws InterruptedException {
+        RecordingHandler handler = new RecordingHandler(-1L);
+        BatchEventProcessor<long[]> processor = new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(), handler);
+        Thread thread = new Thread(processor);
+        thread.start();
+        publish(4);
+        awaitSequence(processor, 3L);
+
+        processor.halt();
+        thread.join(5_000L);
+        assertEquals(List.of(0L, 1L, 2L, 3L), handler.sequences);
+        assertNull(processor.getFailure());
+        assertTrue(handler.shutdown);
+    }
+
+    @Test
+    public void handlerFailureHaltsWithoutAdvancingBatch() throws InterruptedException {
+        RecordingHandler handler = new RecordingHandler(4L);
+        BatchEventProcessor<long[]> processor = new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(), handler);
+        Thread thread = new Thread(processor);
+        thread.start();
+        publish(3);
+        awaitSequence(processor, 2L);
+        // 第二批 3 ~ 5 在 4 处失败
+        publish(3);
+        thread.join(5_000L);
+
+        assertFalse(thread.isAlive());
+        assertFalse(processor.isRunning());
+        assertTrue(processor.getFailure() instanceof IllegalStateException);
+        assertTrue(handler.shutdown);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), handler.sequences);
+        // 失败所在的整批都不推进，依赖本阶段的下游看不到 3、4
+        assertEquals(2L, processor.getSequence().get());
+    }
+
+    private void publish(int count) {
+        long hi = ringBuffer.next(count);
+        ringBuffer.publish(hi - count + 1, hi);
+    }
+
+    private static void awaitSequence(BatchEventProcessor<?> processor, long sequence) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (processor.getSequence().get() < sequence && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1L);
+        }
+        assertEquals(sequence, processor.getSequence().get());
+    }
+
+    private static final class RecordingHandler implements EventHandler<long[]> {
+
+        private final long failAt;
+
+        private final List<Long> sequences = new ArrayList<>();
+
+        private volatile boolean shutdown;
+
+        private RecordingHandler(long failAt) {
+            this.failAt = failAt;
+        }
+
+        @Override
+        public void onEvent(long[] event, long sequence, boolean endOfBatch) {
+            sequences.add(sequence);
+            if (sequence == failAt) {
+                throw new IllegalStateException("handler failed at " + sequence);
+            }
+        }
+
+        @Override
+        public void onShutdown() {
+            shutdown = true;
+        }
+    }
+}
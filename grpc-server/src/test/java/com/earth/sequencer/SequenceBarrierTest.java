@@ -0,0 +1,41 @@
+package com.earth.sequencer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SequenceBarrierTest {
+
+    @Test
+    public void waitsForSlowestDependent() throws AlertException {
+        RingBuffer<Object> ringBuffer = RingBuffer.create(Object::new, 8, new BusySpinWaitStrategy());
+        ringBuffer.publish(ringBuffer.next(4) - 3, 3L);
+        Sequence fast = new Sequence(3L);
+        Sequence slow = new Sequence(1L);
+        SequenceBarrier barrier = ringBuffer.newBarrier(fast, slow);
+
+        assertEquals(1L, barrier.waitFor(0L));
+
+        slow.set(2L);
+        assertEquals(2L, barrier.waitFor(2L));
+    }
+
+    @Test
+    public void groupIsMinimumOfSequences() {
+        Sequence a = new Sequence(5L);
+        Sequence b = new Sequence(7L);
+        ReadableSequence group = new SequenceGroup(new Sequence[]{a, b});
+
+        assertEquals(5L, group.get());
+        a.set(9L);
+        assertEquals(7L, group.get());
+    }
+
+    @Test(expected = AlertException.class)
+    public void alertInterruptsWait() throws AlertException {
+        RingBuffer<Object> ringBuffer = RingBuffer.create(Object::new, 8, new BusySpinWaitStrategy());
+        SequenceBarrier barrier = ringBuffer.newBarrier(new Sequence(), new Sequence());
+        barrier.alert();
+        barrier.waitFor(0L);
+    }
+}
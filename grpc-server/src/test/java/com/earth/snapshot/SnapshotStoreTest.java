@@ -0,0 +1,179 @@
+package com.earth.snapshot;
+
+import com.earth.base.common.OrderTimeInForceEnum;
+import com.earth.base.common.OrderTypeEnum;
+import com.earth.base.order.OrderStatusEnum;
+import com.earth.book.BookSnapshot;
+import com.earth.book.OrderBook;
+import com.earth.book.StopOrderIndex;
+import com.earth.match.MatchListener;
+import com.earth.match.MatchingEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class SnapshotStoreTest {
+
+    private static final int SCALE = 8;
+
+    private Path dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("snapshot-test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    /**
+     * 前半段订单之后写快照，读回的订单簿与原订单簿继续处理后半段订单，成交和最终状态相同
+     */
+    @Test
+    public void writeLoadReplayMatchesOriginal() throws IOException {
+        List<long[]> orders = randomOrders(new Random(20261019L), 2_000);
+        OrderBook original = new OrderBook("BTCUSDT", 16);
+        List<String> originalTrades = new ArrayList<>();
+        MatchingEngine originalEngine = engine(originalTrades);
+        for (int i = 0; i < 1_000; i++) {
+            apply(originalEngine, original, orders.get(i));
+        }
+        original.lastPrice(original.bestBid());
+        original.stops().add(9_001L, 7L, 3L, OrderBook.BUY, OrderTypeEnum.LIMIT_VALUE, OrderTimeInForceEnum.GTD_VALUE,
+                120L, 121L, 5L, 0L, 1_700_000_000_000L, 605L);
+        original.stops().add(9_002L, 8L, 0L, OrderBook.SELL, OrderTypeEnum.MARKET_OF_QUOTE_VALUE, OrderTimeInForceEnum.IOC_VALUE,
+                80L, 0L, 0L, 500L, 0L, 6L);
+        int resting = original.find(orders.get(999)[0]);
+        if (resting != OrderBook.NO_ORDER) {
+            original.expireAt(resting, 1_700_000_000_000L, true);
+            original.markBalanceLocked(resting);
+            original.orgId(resting, 42L);
+        }
+
+        SnapshotStore store = new SnapshotStore(dir, 2);
+        store.write(new EngineSnapshot(1_000L, 77L, 1_690_000_000_000L, Collections.singletonList(original.snapshot())));
+        Map<String, OrderBook> books = new HashMap<>();
+        SnapshotStore.LoadedSnapshot loaded = store.loadLatest(books, 16);
+
+        assertNotNull(loaded);
+        assertEquals(1_000L, loaded.getLastLsn());
+        assertEquals(77L, loaded.getLastTradeId());
+        assertEquals(1_690_000_000_000L, loaded.getLastTimestamp());
+        OrderBook restored = books.get("BTCUSDT");
+        assertEquals(dump(original), dump(restored));
+
+        List<String> restoredTrades = new ArrayList<>();
+        MatchingEngine restoredEngine = engine(restoredTrades);
+        originalTrades.clear();
+        for (int i = 1_000; i < orders.size(); i++) {
+            apply(originalEngine, original, orders.get(i));
+            apply(restoredEngine, restored, orders.get(i));
+        }
+        assertEquals(originalTrades, restoredTrades);
+        assertEquals(dump(original), dump(restored));
+    }
+
+    @Test
+    public void unmodifiedBookReusesSnapshot() {
+        OrderBook book = new OrderBook("BTCUSDT", 16);
+        book.add(1L, 1L, OrderBook.BUY, 100L, 5L);
+        BookSnapshot first = book.snapshot();
+
+        assertSame(first, book.snapshot());
+        book.add(2L, 1L, OrderBook.BUY, 101L, 5L);
+        book.markModified();
+        BookSnapshot second = book.snapshot();
+        assertNotSame(first, second);
+        // 之前的拷贝不随订单簿变化
+        assertEquals(1, first.size());
+        assertEquals(2, second.size());
+    }
+
+    private static MatchingEngine engine(List<String> trades) {
+        return new MatchingEngine(new MatchListener() {
+            @Override
+            public void onTrade(long takerOrderId, long takerAccountId, long makerOrderId, long makerAccountId, long makerOrgId,
+                                int takerSide, long price, long quantity, long makerQuantity, long makerRemaining, boolean makerLocked) {
+                trades.add(takerOrderId + "/" + makerOrderId + "@" + price + "x" + quantity + " org " + makerOrgId + " locked " + makerLocked);
+            }
+
+            @Override
+            public void onTakerResult(long orderId, long accountId, OrderStatusEnum status,
+                                      long executedQuantity, long executedAmount, long remainingQuantity) {
+            }
+        }, SCALE, SCALE, SCALE);
+    }
+
+    /**
+     * { orderId, side, price, quantity }，price 为 0 的是撤单
+     */
+    private static List<long[]> randomOrders(Random random, int count) {
+        List<long[]> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long orderId = i + 1L;
+            if (i > 10 && random.nextInt(5) == 0) {
+                orders.add(new long[]{1L + random.nextInt(i), 0, 0L, 0L});
+                continue;
+            }
+            int side = random.nextBoolean() ? OrderBook.BUY : OrderBook.SELL;
+            long price = side == OrderBook.BUY ? 90L + random.nextInt(15) : 96L + random.nextInt(15);
+            orders.add(new long[]{orderId, side, price, 1L + random.nextInt(10)});
+        }
+        return orders;
+    }
+
+    private static void apply(MatchingEngine engine, OrderBook book, long[] order) {
+        if (order[2] == 0L) {
+            book.cancel(order[0]);
+            return;
+        }
+        engine.match(book, order[0], order[0] % 7, (int) order[1], OrderTypeEnum.LIMIT, OrderTimeInForceEnum.GTC, order[2], order[3], 0L);
+    }
+
+    /**
+     * 按档位、队列顺序列出全部挂单字段，以及按订单 id 排序的止损单
+     */
+    private static List<String> dump(OrderBook book) {
+        List<String> lines = new ArrayList<>();
+        lines.add("size " + book.size() + " lastPrice " + book.lastPrice());
+        for (int side = OrderBook.BUY; side <= OrderBook.SELL; side++) {
+            for (int depth = 0; depth < book.levels(side); depth++) {
+                lines.add("level " + side + " " + book.levelPrice(side, depth) + " " + book.levelQuantity(side, depth) + " " + book.levelCount(side, depth));
+                for (int order = book.levelHead(side, depth); order != OrderBook.NO_ORDER; order = book.nextOrder(order)) {
+                    lines.add("  " + book.orderId(order) + " " + book.accountId(order) + " " + book.orgId(order) + " " + book.price(order)
+                            + " " + book.quantity(order) + " " + book.remaining(order) + " " + book.expireTime(order)
+                            + " " + book.isDayOrder(order) + " " + book.isBalanceLocked(order));
+                }
+            }
+        }
+        StopOrderIndex stops = book.stops();
+        List<String> stopLines = new ArrayList<>();
+        stops.forEachOrder(stop -> stopLines.add(String.format("stop %020d %d %d %d %d %d %d %d %d %d %d %d", stops.orderId(stop), stops.accountId(stop),
+                stops.orgId(stop), stops.side(stop), stops.orderType(stop), stops.timeInForce(stop), stops.triggerPrice(stop), stops.price(stop),
+                stops.quantity(stop), stops.amount(stop), stops.expireTime(stop), stops.frozen(stop))));
+        Collections.sort(stopLines);
+        lines.addAll(stopLines);
+        return lines;
+    }
+}
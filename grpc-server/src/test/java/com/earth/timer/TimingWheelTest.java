@@ -0,0 +1,127 @@
+package com.earth.timer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelTest {
+
+    private static final long TICK = 100L;
+
+    private final List<Long> fired = new ArrayList<>();
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(TICK, 16, this::onTimeout);
+
+    @Test
+    public void firesAtDeadlineNotBefore() {
+        wheel.start(0L);
+        wheel.schedule(1L, 250L, "a");
+
+        advance(200L);
+        assertTrue(fired.isEmpty());
+        advance(299L);
+        assertTrue(fired.isEmpty());
+        advance(300L);
+        assertFired(1L);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void cascadesThroughEveryLevel() {
+        wheel.start(0L);
+        // 第 0 层 256 个 tick，之后每层乘 64
+        long[] deadlines = {255L * TICK, 256L * TICK, 300L * TICK, 16_384L * TICK, 20_000L * TICK,
+                1_048_576L * TICK, 1_100_000L * TICK, 70_000_000L * TICK};
+        for (int i = 0; i < deadlines.length; i++) {
+            wheel.schedule(i, deadlines[i], "t" + i);
+        }
+        for (int i = 0; i < deadlines.length; i++) {
+            advance(deadlines[i] - 1L);
+            assertEquals("timer " + i + " fired early", i, fired.size());
+            advance(deadlines[i]);
+            assertEquals("timer " + i + " not fired", i + 1, fired.size());
+            assertEquals(i, (long) fired.get(i));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void cascadesAfterLongIdleJump() {
+        wheel.start(0L);
+        wheel.schedule(1L, 1_000_000L, "a");
+        wheel.schedule(2L, 2_000_000L, "b");
+
+        // 一次推进跨过多层
+        advance(1_500_000L);
+        assertFired(1L);
+        advance(2_000_000L);
+        assertFired(1L, 2L);
+    }
+
+    @Test
+    public void pastDeadlineFiresOnNextTick() {
+        wheel.start(1_000L);
+        wheel.schedule(1L, 500L, "a");
+
+        advance(1_099L);
+        assertTrue(fired.isEmpty());
+        advance(1_100L);
+        assertFired(1L);
+    }
+
+    @Test
+    public void canceledTimerDoesNotFire() {
+        wheel.start(0L);
+        wheel.schedule(1L, 300L, "a");
+        wheel.schedule(2L, 30_000L, "b");
+
+        assertTrue(wheel.cancel(1L));
+        assertTrue(wheel.cancel(2L));
+        assertFalse(wheel.cancel(2L));
+        advance(60_000L);
+        assertTrue(fired.isEmpty());
+        // 撤销后同一个 id 可以重新加入
+        assertTrue(wheel.schedule(1L, 60_100L, "a"));
+        assertFalse(wheel.schedule(1L, 60_200L, "a"));
+        advance(60_100L);
+        assertFired(1L);
+    }
+
+    @Test
+    public void rescheduleInCallback() {
+        wheel.start(0L);
+        wheel.schedule(1L, 200L, "again");
+
+        advance(200L);
+        // 回调中加入的已到期定时器在同一次推进中到期
+        assertFired(1L, 2L);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void scheduleBeforeStartFails() {
+        wheel.schedule(1L, 100L, "a");
+    }
+
+    private void onTimeout(long id, String attachment) {
+        fired.add(id);
+        if ("again".equals(attachment)) {
+            wheel.schedule(id + 1L, 0L, "once");
+        }
+    }
+
+    private void advance(long millis) {
+        wheel.advanceTo(millis);
+    }
+
+    private void assertFired(long... ids) {
+        assertEquals(ids.length, fired.size());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], (long) fired.get(i));
+        }
+    }
+}
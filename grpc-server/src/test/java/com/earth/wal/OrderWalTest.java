@@ -0,0 +1,161 @@
+package com.earth.wal;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public class OrderWalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private Path dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("order-wal-test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void truncateDropsUnflushedRecords() throws IOException {
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            append(wal, "a", 1L);
+            append(wal, "b", 2L);
+            wal.force();
+            append(wal, "c", 3L);
+            append(wal, "d", 4L);
+
+            assertEquals(2L, wal.truncateToDurable());
+            assertEquals(2L, wal.lastLsn());
+            assertEquals(2L, wal.lastTimestamp());
+            assertEquals(List.of("a", "b"), payloads(wal));
+
+            // 撤销的位置重新分配给新记录
+            assertEquals(3L, append(wal, "e", 5L));
+            wal.force();
+        }
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            assertEquals(3L, wal.lastLsn());
+            assertEquals(List.of("a", "b", "e"), payloads(wal));
+        }
+    }
+
+    @Test
+    public void truncatedRecordsAreNotRecovered() throws IOException {
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            append(wal, "a", 1L);
+            wal.force();
+            append(wal, "b", 2L);
+            append(wal, "c", 3L);
+            wal.truncateToDurable();
+        }
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            assertEquals(1L, wal.lastLsn());
+            assertEquals(List.of("a"), payloads(wal));
+        }
+    }
+
+    @Test
+    public void truncateKeepsRecordsFlushedByRoll() throws IOException {
+        byte[] large = new byte[SEGMENT_SIZE / 2];
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            wal.append(large, 0, large.length, 1L);
+            // 第二条放不下，滚动时第一条随旧段落盘
+            wal.append(large, 0, large.length, 2L);
+            append(wal, "c", 3L);
+
+            assertEquals(1L, wal.truncateToDurable());
+            assertEquals(1L, wal.lastLsn());
+            assertEquals(2L, append(wal, "d", 4L));
+            wal.force();
+        }
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            assertEquals(2L, wal.lastLsn());
+            assertEquals(4L, wal.lastTimestamp());
+        }
+    }
+
+    @Test
+    public void truncateWithoutUnflushedRecordsIsNoop() throws IOException {
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            assertEquals(0L, wal.truncateToDurable());
+            append(wal, "a", 1L);
+            wal.force();
+
+            assertEquals(1L, wal.truncateToDurable());
+            assertEquals(List.of("a"), payloads(wal));
+        }
+    }
+
+    @Test
+    public void retainsSegmentsWithinWindowAfterSnapshot() throws IOException {
+        byte[] large = new byte[SEGMENT_SIZE / 2];
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            wal.retainWithin(1500L);
+            // 每条记录独占一个段
+            wal.append(large, 0, large.length, 1000L);
+            wal.append(large, 0, large.length, 2000L);
+            wal.append(large, 0, large.length, 3000L);
+            wal.retainFrom(4L);
+            wal.append(large, 0, large.length, 4000L);
+
+            // 快照已经覆盖 1~3，但 lsn 2 仍在 3000 - 1500 之后
+            assertEquals(List.of(2L, 3L, 4L), lsns(wal, 1L));
+            assertEquals(3L, wal.firstLsnSince(2500L));
+            assertEquals(List.of(3L, 4L), lsns(wal, wal.firstLsnSince(2500L)));
+            assertEquals(5L, wal.firstLsnSince(5000L));
+        }
+    }
+
+    @Test
+    public void deletesSegmentsCoveredBySnapshotWithoutWindow() throws IOException {
+        byte[] large = new byte[SEGMENT_SIZE / 2];
+        try (OrderWal wal = new OrderWal(dir, SEGMENT_SIZE)) {
+            wal.append(large, 0, large.length, 1000L);
+            wal.append(large, 0, large.length, 2000L);
+            wal.append(large, 0, large.length, 3000L);
+            wal.retainFrom(4L);
+            wal.append(large, 0, large.length, 4000L);
+
+            assertEquals(List.of(4L), lsns(wal, 1L));
+        }
+    }
+
+    private static List<Long> lsns(OrderWal wal, long fromLsn) {
+        List<Long> lsns = new ArrayList<>();
+        wal.replay(fromLsn, (lsn, timestamp, payload) -> lsns.add(lsn));
+        return lsns;
+    }
+
+    private static long append(OrderWal wal, String payload, long timestamp) throws IOException {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        return wal.append(bytes, 0, bytes.length, timestamp);
+    }
+
+    private static List<String> payloads(OrderWal wal) {
+        List<String> payloads = new ArrayList<>();
+        wal.replay(1L, (lsn, timestamp, payload) -> {
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            payloads.add(new String(bytes, StandardCharsets.UTF_8));
+        });
+        return payloads;
+    }
+}